@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+#
+# Compares bytes on the wire and latency of the polling endpoints with and without
+# compression, over HTTP/1.1 and HTTP/2 cleartext (h2c, prior knowledge):
+#   - bytes: size of the response body as transferred
+#   - avg_ms: mean total request time over REQUESTS sequential requests
+#
+# Usage:
+#   scripts/compression-benchmark.sh [path...]
+#
+# Examples:
+#   scripts/compression-benchmark.sh
+#   scripts/compression-benchmark.sh '/api/wins?limit=500'
+#
+# Requires a curl built with HTTP/2 support. Set BASE_URL and REQUESTS to override the defaults.
+
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+REQUESTS="${REQUESTS:-200}"
+
+if [ "$#" -eq 0 ]; then
+    set -- '/api/jackpots' '/api/wins?limit=100'
+fi
+
+measure() {
+    local path=$1 mode=$2
+    shift 2
+    local bytes total=0 size time
+    for _ in $(seq 1 "$REQUESTS"); do
+        read -r size time < <(curl -s -o /dev/null -w '%{size_download} %{time_total}\n' "$@" "$BASE_URL$path")
+        bytes=$size
+        total=$(awk -v a="$total" -v b="$time" 'BEGIN { print a + b }')
+    done
+    echo "path=$path mode=$mode bytes=$bytes avg_ms=$(awk -v t="$total" -v n="$REQUESTS" 'BEGIN { printf "%.2f", t * 1000 / n }')"
+}
+
+for path in "$@"; do
+    measure "$path" http1-identity --http1.1 -H 'Accept-Encoding: identity'
+    measure "$path" http1-gzip --http1.1 -H 'Accept-Encoding: gzip'
+    measure "$path" h2c-identity --http2-prior-knowledge -H 'Accept-Encoding: identity'
+    measure "$path" h2c-gzip --http2-prior-knowledge -H 'Accept-Encoding: gzip'
+done
@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+#
+# Measures GET /api/jackpots throughput against a running service with wrk:
+#   - plain polling (full body every time)
+#   - gzip polling (Accept-Encoding: gzip)
+#   - conditional polling (If-None-Match with the current ETag, 304 responses)
+#
+# Usage:
+#   scripts/jackpot-list-benchmark.sh
+#
+# Set BASE_URL, DURATION, THREADS and CONNECTIONS to override the defaults.
+# The target for the pre-rendered list is 50k requests/s for plain polling.
+
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+DURATION="${DURATION:-30s}"
+THREADS="${THREADS:-8}"
+CONNECTIONS="${CONNECTIONS:-256}"
+
+command -v wrk > /dev/null || { echo "wrk is required (https://github.com/wg/wrk)" >&2; exit 1; }
+
+etag=$(curl -fsI "$BASE_URL/api/jackpots" | sed -n 's/^[Ee][Tt][Aa][Gg]: *\(.*\)\r$/\1/p')
+
+run() {
+    local name=$1
+    shift
+    local rps
+    rps=$(wrk -t "$THREADS" -c "$CONNECTIONS" -d "$DURATION" "$@" "$BASE_URL/api/jackpots" \
+        | sed -n 's/^Requests\/sec: *//p')
+    echo "mode=$name requests_per_sec=$rps"
+}
+
+run plain
+run gzip -H 'Accept-Encoding: gzip'
+if [ -n "$etag" ]; then
+    run conditional -H "If-None-Match: $etag"
+fi
@@ -0,0 +1,77 @@
+#!/usr/bin/env bash
+#
+# Measures cold-start time of the jackpot service:
+#   - time to the first successful GET /actuator/health (status UP)
+#   - time to the first successful POST /api/bets (a jackpot is created first)
+#   - resident set size of the process once the first bet has been served
+#
+# Usage:
+#   scripts/startup-benchmark.sh [command to start the service...]
+#
+# Examples:
+#   scripts/startup-benchmark.sh java -jar target/jackpot-0.0.1-SNAPSHOT.jar
+#   cd target/application && ../../scripts/startup-benchmark.sh \
+#       java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar jackpot-0.0.1-SNAPSHOT.jar
+#   scripts/startup-benchmark.sh target/jackpot
+#
+# The database from docker-compose.yml must be running. Set RUNS to repeat the measurement.
+
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+RUNS="${RUNS:-1}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+
+if [ "$#" -eq 0 ]; then
+    set -- java -jar target/jackpot-0.0.1-SNAPSHOT.jar
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+wait_for() {
+    local deadline=$(( $(now_ms) + TIMEOUT_SECONDS * 1000 ))
+    until "$@"; do
+        if [ "$(now_ms)" -gt "$deadline" ]; then
+            echo "Timed out after ${TIMEOUT_SECONDS}s" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+}
+
+health_up() {
+    curl -fs "$BASE_URL/actuator/health" 2>/dev/null | grep -q '"status":"UP"'
+}
+
+first_bet() {
+    local jackpot_id
+    jackpot_id=$(curl -fs -X POST "$BASE_URL/api/jackpots" \
+            -H 'Content-Type: application/json' \
+            -d '{"name":"startup-benchmark","winProbability":0.0}' 2>/dev/null \
+        | sed -n 's/.*"id":"\([^"]*\)".*/\1/p') || return 1
+    [ -n "$jackpot_id" ] || return 1
+    curl -fs -o /dev/null -X POST "$BASE_URL/api/bets" \
+        -H 'Content-Type: application/json' \
+        -d "{\"jackpotId\":\"$jackpot_id\",\"playerAlias\":\"startup-benchmark\",\"betAmount\":1}"
+}
+
+for run in $(seq 1 "$RUNS"); do
+    start=$(now_ms)
+    "$@" > "startup-benchmark-$run.log" 2>&1 &
+    pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    wait_for health_up
+    health=$(now_ms)
+    wait_for first_bet
+    bet=$(now_ms)
+    rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+
+    echo "run=$run health_ms=$((health - start)) first_bet_ms=$((bet - start)) rss_mb=$((rss_kb / 1024))"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+done
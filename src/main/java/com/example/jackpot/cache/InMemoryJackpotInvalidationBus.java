@@ -0,0 +1,25 @@
+package com.example.jackpot.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * {@link JackpotInvalidationBus} that delivers synchronously to subscribers in this process.
+ */
+public class InMemoryJackpotInvalidationBus implements JackpotInvalidationBus {
+
+    private final List<Consumer<JackpotInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(JackpotInvalidation invalidation) {
+        for (Consumer<JackpotInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<JackpotInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
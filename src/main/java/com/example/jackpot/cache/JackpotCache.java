@@ -0,0 +1,172 @@
+package com.example.jackpot.cache;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.config.JackpotCacheProperties;
+import com.example.jackpot.dto.JackpotDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * In-process cache of single jackpots in front of the database, kept coherent across nodes
+ * by the {@link JackpotInvalidationBus}.
+ * Every committed change to a jackpot row is broadcast with its new version; each node then
+ * drops older copies and keeps the version as a floor, so a read that loaded the row before
+ * the change can no longer store it. Floors live in the same bounded, expiring map as the
+ * copies, so they are pruned with them. Entries expire after {@code l1-ttl}, which bounds
+ * staleness if a broadcast is lost.
+ * In cluster mode the cache is only active if the bus reaches the other nodes.
+ */
+@Component
+public class JackpotCache {
+
+    private final JackpotInvalidationBus bus;
+    private final boolean enabled;
+    private final Cache<UUID, LocalEntry> local;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+    private final Timer staleness;
+
+    public JackpotCache(JackpotInvalidationBus bus,
+                        JackpotCacheProperties properties,
+                        ClusterProperties clusterProperties,
+                        MeterRegistry meterRegistry) {
+        this.bus = bus;
+        this.enabled = properties.isEnabled() && (!clusterProperties.isEnabled() || bus.isShared());
+        this.local = Caffeine.newBuilder()
+                .maximumSize(properties.getL1MaxEntries())
+                .expireAfterWrite(properties.getL1Ttl())
+                .build();
+        this.hits = lookupCounter(meterRegistry, "l1_hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.invalidations = Counter.builder("jackpot.cache.invalidations")
+                .description("Jackpot invalidations received from the bus")
+                .register(meterRegistry);
+        this.staleness = Timer.builder("jackpot.cache.staleness")
+                .description("Age of jackpot copies served from the cache")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("jackpot.cache.hit.ratio", this, JackpotCache::hitRatio)
+                .description("Share of jackpot lookups answered by this level")
+                .tag("level", "l1")
+                .register(meterRegistry);
+        Gauge.builder("jackpot.cache.size", local, Cache::estimatedSize)
+                .description("Jackpots and version floors held in the in-process cache")
+                .tag("level", "l1")
+                .register(meterRegistry);
+        if (enabled) {
+            bus.subscribe(this::invalidated);
+        }
+    }
+
+    /**
+     * Look a jackpot up in the cache, then through the loader.
+     * A loaded copy is stored unless a newer version is already known.
+     *
+     * @param jackpotId the jackpot ID
+     * @param loader reads the jackpot from the database; returns {@code null} if it does not exist
+     * @return the jackpot, or {@code null} if the loader found none
+     */
+    public JackpotDto get(UUID jackpotId, Function<UUID, VersionedJackpot> loader) {
+        if (!enabled) {
+            VersionedJackpot loaded = loader.apply(jackpotId);
+            return loaded != null ? loaded.getJackpot() : null;
+        }
+        LocalEntry cached = local.getIfPresent(jackpotId);
+        if (cached != null && cached.entry != null) {
+            hits.increment();
+            return served(cached.entry, System.currentTimeMillis());
+        }
+
+        misses.increment();
+        VersionedJackpot entry = loader.apply(jackpotId);
+        if (entry == null) {
+            return null;
+        }
+        long version = entry.getVersion();
+        local.asMap().compute(jackpotId, (id, current) ->
+                current != null && (current.floor > version || current.entry != null && current.entry.getVersion() > version)
+                        ? current
+                        : new LocalEntry(entry, version));
+        return entry.getJackpot();
+    }
+
+    /**
+     * Report a committed change to a jackpot row: broadcasts the new version to every node.
+     *
+     * @param jackpotId the changed jackpot
+     * @param version row version after the change, {@link Long#MAX_VALUE} if it was deleted
+     */
+    public void changed(UUID jackpotId, long version) {
+        if (!enabled) {
+            return;
+        }
+        bus.publish(new JackpotInvalidation(jackpotId, version));
+    }
+
+    /**
+     * @return number of cached copies and version floors
+     */
+    public long size() {
+        local.cleanUp();
+        return local.estimatedSize();
+    }
+
+    private void invalidated(JackpotInvalidation invalidation) {
+        long version = invalidation.getVersion();
+        // Keep a newer copy; otherwise replace it with a floor that rejects copies older than the change
+        local.asMap().compute(invalidation.getJackpotId(), (id, current) -> {
+            if (current != null && current.entry != null && current.entry.getVersion() >= version) {
+                return current;
+            }
+            return new LocalEntry(null, current != null ? Math.max(current.floor, version) : version);
+        });
+        invalidations.increment();
+    }
+
+    private JackpotDto served(VersionedJackpot entry, long now) {
+        staleness.record(Math.max(0, now - entry.getLoadedAtMillis()), TimeUnit.MILLISECONDS);
+        return entry.getJackpot();
+    }
+
+    private double hitRatio() {
+        double lookups = hits.count() + misses.count();
+        return lookups == 0 ? 0 : hits.count() / lookups;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jackpot.cache.gets")
+                .description("Jackpot cache lookups by the level that answered")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A cached copy, or only the floor left by an invalidation.
+     */
+    private static final class LocalEntry {
+
+        private final VersionedJackpot entry;
+
+        /**
+         * Oldest version that may still be stored.
+         */
+        private final long floor;
+
+        private LocalEntry(VersionedJackpot entry, long floor) {
+            this.entry = entry;
+            this.floor = floor;
+        }
+    }
+}
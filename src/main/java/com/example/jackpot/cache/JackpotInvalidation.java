@@ -0,0 +1,19 @@
+package com.example.jackpot.cache;
+
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Broadcast when a jackpot row changed: cached copies older than {@code version} are stale.
+ */
+@Value
+public class JackpotInvalidation {
+
+    UUID jackpotId;
+
+    /**
+     * Row version after the change; {@link Long#MAX_VALUE} for a deleted jackpot.
+     */
+    long version;
+}
@@ -0,0 +1,30 @@
+package com.example.jackpot.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts jackpot invalidations to every node, such as a database table or a pub/sub channel.
+ * Delivery may be lossy; first-level entries also expire after {@code jackpot.cache.l1-ttl}.
+ */
+public interface JackpotInvalidationBus {
+
+    /**
+     * Send an invalidation to all subscribers, including those on this node.
+     *
+     * @param invalidation the changed jackpot and its new version
+     */
+    void publish(JackpotInvalidation invalidation);
+
+    /**
+     * @param listener called for every invalidation published on any node
+     */
+    void subscribe(Consumer<JackpotInvalidation> listener);
+
+    /**
+     * @return whether invalidations reach other nodes; first-level caching is
+     *         disabled in cluster mode unless they do
+     */
+    default boolean isShared() {
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.jackpot.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.jackpot.entity.JackpotInvalidationEntry;
+import com.example.jackpot.repository.JackpotInvalidationRepository;
+
+/**
+ * {@link JackpotInvalidationBus} shared by all nodes through the {@code jackpot_invalidations} table.
+ * Publishing inserts a row in its own transaction, since it runs after the change has committed,
+ * and delivers to subscribers on this node at once. Every node polls for rows newer than the
+ * newest it has seen, re-reading a short window before it so that a row whose insert committed
+ * late is still delivered; invalidations are idempotent, so repeats are harmless. Rows older
+ * than the retention are deleted by the polling nodes.
+ */
+public class JdbcJackpotInvalidationBus implements JackpotInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcJackpotInvalidationBus.class);
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ObjectProvider<JackpotInvalidationRepository> repository;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final Duration rereadWindow;
+    private final Duration retention;
+    private final List<Consumer<JackpotInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile TransactionTemplate transactionTemplate;
+    private LocalDateTime latest = EPOCH;
+    private long lastPruneNanos = System.nanoTime();
+
+    /**
+     * The repository and transaction manager are resolved lazily: the bus is a dependency of the
+     * entity listener, which the entity manager factory behind both needs first.
+     *
+     * @param rereadWindow how far before the newest seen row each poll starts
+     * @param retention how long rows are kept; must exceed the re-read window
+     */
+    public JdbcJackpotInvalidationBus(ObjectProvider<JackpotInvalidationRepository> repository,
+                                      ObjectProvider<PlatformTransactionManager> transactionManager,
+                                      Duration rereadWindow,
+                                      Duration retention) {
+        this.repository = repository;
+        this.transactionManager = transactionManager;
+        this.rereadWindow = rereadWindow;
+        this.retention = retention;
+    }
+
+    @Override
+    public void publish(JackpotInvalidation invalidation) {
+        try {
+            transactionTemplate().executeWithoutResult(status ->
+                    repository.getObject().insert(UUID.randomUUID(), invalidation.getJackpotId(), invalidation.getVersion()));
+        } catch (RuntimeException ex) {
+            // Peers drop their copy once it expires
+            log.warn("Could not share invalidation of jackpot {}", invalidation.getJackpotId(), ex);
+        }
+        deliver(invalidation);
+    }
+
+    @Override
+    public void subscribe(Consumer<JackpotInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    /**
+     * Deliver invalidations published on any node since the last poll, and delete expired rows.
+     *
+     * @return number of rows read
+     */
+    @Scheduled(initialDelayString = "${jackpot.cache.bus-poll-interval:PT0.5S}",
+            fixedDelayString = "${jackpot.cache.bus-poll-interval:PT0.5S}")
+    public synchronized int poll() {
+        List<JackpotInvalidationEntry> rows = repository.getObject().findSince(latest.minus(rereadWindow));
+        for (JackpotInvalidationEntry row : rows) {
+            deliver(new JackpotInvalidation(row.getJackpotId(), row.getVersion()));
+            if (row.getCreatedAt().isAfter(latest)) {
+                latest = row.getCreatedAt();
+            }
+        }
+
+        if (System.nanoTime() - lastPruneNanos >= retention.toNanos() && !latest.equals(EPOCH)) {
+            lastPruneNanos = System.nanoTime();
+            LocalDateTime before = latest.minus(retention);
+            transactionTemplate().executeWithoutResult(status -> repository.getObject().deleteBefore(before));
+        }
+        return rows.size();
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        TransactionTemplate template = transactionTemplate;
+        if (template == null) {
+            template = new TransactionTemplate(transactionManager.getObject());
+            template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transactionTemplate = template;
+        }
+        return template;
+    }
+
+    private void deliver(JackpotInvalidation invalidation) {
+        for (Consumer<JackpotInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.jackpot.cache;
+
+import com.example.jackpot.dto.JackpotDto;
+
+import lombok.Value;
+
+/**
+ * A cached jackpot together with the row version it was read at.
+ */
+@Value
+public class VersionedJackpot {
+
+    JackpotDto jackpot;
+
+    /**
+     * Value of {@link com.example.jackpot.entity.Jackpot#getVersion()} when the row was read.
+     */
+    long version;
+
+    /**
+     * Wall-clock time of the read in epoch milliseconds; comparable across nodes.
+     */
+    long loadedAtMillis;
+}
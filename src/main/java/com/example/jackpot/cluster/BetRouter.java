@@ -0,0 +1,207 @@
+package com.example.jackpot.cluster;
+
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.BetResponse;
+import com.example.jackpot.exception.ErrorResponse;
+import com.example.jackpot.exception.JackpotNotFoundException;
+import com.example.jackpot.exception.ServerBusyException;
+import com.example.jackpot.service.BetResult;
+import com.example.jackpot.service.BetService;
+import com.example.jackpot.service.OwnedJackpotPots;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.net.ConnectException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Routes bets to the node owning their jackpot.
+ * Without cluster mode, or before this node has joined, bets go straight to {@link BetService}.
+ * Bets for jackpots this node owns settle against their {@link OwnedJackpotPots in-memory pot}
+ * unless write-behind is off. Bets for foreign jackpots are forwarded to the owner's internal endpoint, which always
+ * settles locally, so a bet is forwarded at most once even while nodes disagree on membership.
+ */
+@Service
+public class BetRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(BetRouter.class);
+
+    static final String INTERNAL_BETS_PATH = "/internal/jackpots/{jackpotId}/bets";
+
+    private final BetService betService;
+    private final ClusterMembership membership;
+    private final OwnedJackpotPots pots;
+    private final RestClient restClient;
+    private final Counter localBets;
+    private final Counter forwardedBets;
+    private final Counter fallbackBets;
+    private final Counter receivedBets;
+
+    public BetRouter(BetService betService,
+                     ObjectProvider<ClusterMembership> membership,
+                     ObjectProvider<OwnedJackpotPots> pots,
+                     ClusterProperties properties,
+                     RestClient.Builder restClientBuilder,
+                     MeterRegistry meterRegistry) {
+        this.betService = betService;
+        this.membership = membership.getIfAvailable();
+        this.pots = pots.getIfAvailable();
+        if (this.membership != null) {
+            SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+            requestFactory.setConnectTimeout(properties.getForwardConnectTimeout());
+            requestFactory.setReadTimeout(properties.getForwardReadTimeout());
+            this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+        } else {
+            this.restClient = null;
+        }
+        this.localBets = routeCounter(meterRegistry, "local");
+        this.forwardedBets = routeCounter(meterRegistry, "forwarded");
+        this.fallbackBets = routeCounter(meterRegistry, "fallback");
+        this.receivedBets = routeCounter(meterRegistry, "received");
+    }
+
+    /**
+     * Place a bet on the node owning its jackpot.
+     * Local rejections are returned as results; a rejection by a remote owner is still thrown.
+     *
+     * @param request contains jackpot ID, player alias, and bet amount
+     * @return response containing win information and new jackpot size, or the rejection
+     * @throws IllegalArgumentException if the owner node rejects the bet
+     */
+    public BetResult tryPlaceBet(BetRequest request) {
+        ClusterNode owner = owner(request.getJackpotId());
+        if (owner != null && !membership.isSelf(owner)) {
+            List<BetResponse> responses = forward(owner, request.getJackpotId(), List.of(request));
+            if (responses != null) {
+                return BetResult.accepted(responses.get(0));
+            }
+        } else if (owner != null && pots != null) {
+            localBets.increment();
+            return pots.tryPlaceBet(request);
+        }
+        localBets.increment();
+        return betService.tryPlaceBet(request);
+    }
+
+    /**
+     * Place a group of bets on the same jackpot on the node owning it.
+     *
+     * @param jackpotId the jackpot all requests refer to
+     * @param requests bets in submission order
+     * @return one response per request, in the same order
+     * @throws com.example.jackpot.exception.BetRejectedException if jackpot not found or any bet is invalid
+     * @throws IllegalArgumentException if the owner node rejects the bets
+     */
+    public List<BetResponse> placeBets(UUID jackpotId, List<BetRequest> requests) {
+        ClusterNode owner = owner(jackpotId);
+        if (owner != null && !membership.isSelf(owner)) {
+            List<BetResponse> responses = forward(owner, jackpotId, requests);
+            if (responses != null) {
+                return responses;
+            }
+        } else if (owner != null && pots != null) {
+            localBets.increment(requests.size());
+            return pots.placeBets(jackpotId, requests);
+        }
+        localBets.increment(requests.size());
+        return betService.placeBets(jackpotId, requests);
+    }
+
+    /**
+     * Place bets forwarded by a peer. They are settled here even if this node's view
+     * of the ring disagrees, which keeps every bet to a single hop; only bets on jackpots
+     * this node considers its own use the in-memory pot.
+     *
+     * @param jackpotId the jackpot all requests refer to
+     * @param requests bets in submission order
+     * @return one response per request, in the same order
+     * @throws com.example.jackpot.exception.BetRejectedException if jackpot not found or any bet is invalid
+     */
+    public List<BetResponse> placeForwardedBets(UUID jackpotId, List<BetRequest> requests) {
+        receivedBets.increment(requests.size());
+        ClusterNode owner = owner(jackpotId);
+        if (owner != null && pots != null && membership.isSelf(owner)) {
+            return pots.placeBets(jackpotId, requests);
+        }
+        return betService.placeBets(jackpotId, requests);
+    }
+
+    /**
+     * @return owning node, or {@code null} outside cluster mode or before this node has joined
+     */
+    private ClusterNode owner(UUID jackpotId) {
+        if (membership == null || jackpotId == null) {
+            return null;
+        }
+        return membership.owner(jackpotId);
+    }
+
+    /**
+     * @return the owner's responses, or {@code null} if the owner is unreachable and the bets must be placed locally
+     */
+    private List<BetResponse> forward(ClusterNode owner, UUID jackpotId, List<BetRequest> requests) {
+        try {
+            BetResponse[] responses = restClient.post()
+                    .uri(owner.getUrl() + INTERNAL_BETS_PATH, jackpotId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(requests)
+                    .retrieve()
+                    .body(BetResponse[].class);
+            forwardedBets.increment(requests.size());
+            return Arrays.asList(responses);
+        } catch (HttpClientErrorException ex) {
+            String message = errorMessage(ex);
+            if (ex.getStatusCode() == HttpStatus.NOT_FOUND) {
+                throw new JackpotNotFoundException(message);
+            }
+            throw new IllegalArgumentException(message);
+        } catch (HttpServerErrorException.ServiceUnavailable ex) {
+            // The owner shed the bets before reading them; pass its 503 on so the client retries
+            throw new ServerBusyException("Owner node " + owner.getNodeId() + " is busy");
+        } catch (ResourceAccessException ex) {
+            if (!(ex.getCause() instanceof ConnectException)) {
+                // The owner may have applied the bets; retrying locally could apply them twice
+                throw new IllegalStateException("No response from owner node " + owner.getNodeId(), ex);
+            }
+            // Nothing reached the owner; the database is authoritative and the owner's pot
+            // notices the row change, so settling here is safe
+            log.warn("Owner node {} unreachable, placing {} bet(s) on jackpot {} locally",
+                    owner.getNodeId(), requests.size(), jackpotId);
+            fallbackBets.increment(requests.size());
+            return null;
+        }
+    }
+
+    private static String errorMessage(HttpClientErrorException ex) {
+        try {
+            ErrorResponse error = ex.getResponseBodyAs(ErrorResponse.class);
+            if (error != null && error.getMessage() != null) {
+                return error.getMessage();
+            }
+        } catch (RuntimeException ignored) {
+            // Not an ErrorResponse body
+        }
+        return ex.getStatusText();
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("jackpot.cluster.bets")
+                .description("Bets by routing decision")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+}
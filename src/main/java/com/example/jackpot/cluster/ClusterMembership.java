@@ -0,0 +1,152 @@
+package com.example.jackpot.cluster;
+
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.entity.ClusterMember;
+import com.example.jackpot.repository.ClusterMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Maintains this node's entry in the {@code cluster_members} table and the hash ring
+ * derived from all live entries.
+ * The node registers once its web server is listening, refreshes its heartbeat on a
+ * fixed schedule and removes its entry on shutdown. Until registration the ring is
+ * empty and every jackpot is treated as local.
+ */
+@Component
+@ConditionalOnProperty(prefix = "jackpot.cluster", name = "enabled", havingValue = "true")
+public class ClusterMembership implements ApplicationListener<WebServerInitializedEvent>, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterMembership.class);
+
+    private final ClusterMemberRepository memberRepository;
+    private final ClusterProperties properties;
+    private final String nodeId;
+    private final AtomicInteger memberCount = new AtomicInteger();
+
+    private volatile ClusterNode self;
+    private volatile ConsistentHashRing ring;
+
+    public ClusterMembership(ClusterMemberRepository memberRepository,
+                             ClusterProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.properties = properties;
+        this.nodeId = StringUtils.hasText(properties.getNodeId()) ? properties.getNodeId() : UUID.randomUUID().toString();
+        meterRegistry.gauge("jackpot.cluster.members", memberCount);
+    }
+
+    /**
+     * Register this node once the main web server has its port.
+     */
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if (event.getApplicationContext().getServerNamespace() != null) {
+            // Separate management server
+            return;
+        }
+        self = new ClusterNode(nodeId, "http://" + advertisedHost() + ":" + event.getWebServer().getPort());
+        log.info("Joining cluster as {} at {}", nodeId, self.getUrl());
+        heartbeat();
+    }
+
+    /**
+     * Refresh this node's heartbeat and rebuild the ring if membership changed.
+     */
+    @Scheduled(initialDelayString = "${jackpot.cluster.heartbeat-interval:PT5S}",
+            fixedDelayString = "${jackpot.cluster.heartbeat-interval:PT5S}")
+    public void heartbeat() {
+        ClusterNode node = self;
+        if (node == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        memberRepository.save(ClusterMember.builder()
+                .nodeId(node.getNodeId())
+                .url(node.getUrl())
+                .lastHeartbeat(now)
+                .build());
+
+        List<ClusterNode> live = new ArrayList<>();
+        for (ClusterMember member : memberRepository.findByLastHeartbeatAfter(now.minus(properties.getMemberTimeout()))) {
+            live.add(new ClusterNode(member.getNodeId(), member.getUrl()));
+        }
+        if (!live.contains(node)) {
+            live.add(node);
+        }
+
+        ConsistentHashRing current = ring;
+        ConsistentHashRing next = ConsistentHashRing.of(live, properties.getVirtualNodes());
+        if (current == null || !current.getNodes().equals(next.getNodes())) {
+            ring = next;
+            memberCount.set(next.getNodes().size());
+            log.info("Cluster membership changed: {}", next.getNodes().stream().map(ClusterNode::getNodeId).toList());
+        }
+    }
+
+    /**
+     * Find the node owning a jackpot.
+     *
+     * @param jackpotId the jackpot ID
+     * @return owning node, or {@code null} while this node has not joined yet
+     */
+    public ClusterNode owner(UUID jackpotId) {
+        ConsistentHashRing current = ring;
+        return current != null ? current.owner(jackpotId) : null;
+    }
+
+    /**
+     * @param node a cluster node
+     * @return whether the node is this node
+     */
+    public boolean isSelf(ClusterNode node) {
+        return node.getNodeId().equals(nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Leave the cluster so peers rebalance without waiting for the member timeout.
+     */
+    @Override
+    public void destroy() {
+        if (self == null) {
+            return;
+        }
+        try {
+            memberRepository.deleteById(nodeId);
+            log.info("Left cluster as {}", nodeId);
+        } catch (RuntimeException ex) {
+            log.warn("Could not remove cluster membership of {}; peers drop it after the member timeout", nodeId, ex);
+        }
+    }
+
+    private String advertisedHost() {
+        if (StringUtils.hasText(properties.getAdvertisedHost())) {
+            return properties.getAdvertisedHost();
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            throw new IllegalStateException("Cannot determine local host name; set jackpot.cluster.advertised-host", ex);
+        }
+    }
+}
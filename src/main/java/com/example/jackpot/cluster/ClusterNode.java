@@ -0,0 +1,17 @@
+package com.example.jackpot.cluster;
+
+import lombok.Value;
+
+/**
+ * A cluster member as seen by the hash ring.
+ */
+@Value
+public class ClusterNode {
+
+    String nodeId;
+
+    /**
+     * Base URL of the node, e.g. {@code http://jackpot-app-2:8080}.
+     */
+    String url;
+}
@@ -0,0 +1,119 @@
+package com.example.jackpot.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Immutable consistent-hash ring mapping jackpot ids to owning nodes.
+ * Every node is placed on the ring at {@code virtualNodes} points; a jackpot is owned
+ * by the first point clockwise from its hash. Adding or removing a node only moves
+ * the jackpots on the arcs it gains or loses. The ring is identical on every node
+ * that sees the same membership list.
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final ClusterNode[] owners;
+    private final List<ClusterNode> nodes;
+
+    private ConsistentHashRing(long[] points, ClusterNode[] owners, List<ClusterNode> nodes) {
+        this.points = points;
+        this.owners = owners;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Build a ring.
+     *
+     * @param nodes cluster members, in any order
+     * @param virtualNodes points per member
+     * @return ring over the given members
+     * @throws IllegalArgumentException if there are no members or virtualNodes is not positive
+     */
+    public static ConsistentHashRing of(Collection<ClusterNode> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("Hash ring needs at least one node");
+        }
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("Virtual nodes must be positive");
+        }
+        // Sort so point collisions resolve the same way regardless of input order
+        List<ClusterNode> sorted = nodes.stream()
+                .sorted(Comparator.comparing(ClusterNode::getNodeId))
+                .toList();
+
+        TreeMap<Long, ClusterNode> ring = new TreeMap<>();
+        for (ClusterNode node : sorted) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.putIfAbsent(hash(node.getNodeId() + "#" + i), node);
+            }
+        }
+
+        long[] points = new long[ring.size()];
+        ClusterNode[] owners = new ClusterNode[ring.size()];
+        int i = 0;
+        for (Map.Entry<Long, ClusterNode> entry : ring.entrySet()) {
+            points[i] = entry.getKey();
+            owners[i] = entry.getValue();
+            i++;
+        }
+        return new ConsistentHashRing(points, owners, sorted);
+    }
+
+    /**
+     * Find the node owning a jackpot.
+     *
+     * @param jackpotId the jackpot ID
+     * @return owning node
+     */
+    public ClusterNode owner(UUID jackpotId) {
+        long hash = hash(jackpotId);
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0) {
+            index = -index - 1;
+            if (index == points.length) {
+                index = 0;
+            }
+        }
+        return owners[index];
+    }
+
+    /**
+     * @return members on the ring, sorted by node id
+     */
+    public List<ClusterNode> getNodes() {
+        return nodes;
+    }
+
+    static long hash(UUID id) {
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    static long hash(String value) {
+        // 64-bit FNV-1a, then mixed so nearby ids spread over the whole ring
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer.
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
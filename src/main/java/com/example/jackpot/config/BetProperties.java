@@ -0,0 +1,18 @@
+package com.example.jackpot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for bet placement endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.bets")
+public class BetProperties {
+
+    /**
+     * Maximum number of bets accepted by one batch request.
+     */
+    private int batchMaxSize = 1000;
+}
@@ -0,0 +1,73 @@
+package com.example.jackpot.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for multi-node cluster mode.
+ * Each jackpot is owned by one node; bets for foreign jackpots are forwarded to the owner,
+ * which settles them against an in-memory pot and persists them asynchronously.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.cluster")
+public class ClusterProperties {
+
+    /**
+     * Whether cluster mode (membership, ownership and forwarding) is active.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Unique id of this node; a random id is generated when empty.
+     */
+    private String nodeId;
+
+    /**
+     * Host name peers use to reach this node; the local host name when empty.
+     */
+    private String advertisedHost;
+
+    /**
+     * How often this node refreshes its heartbeat and re-reads the membership list.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(5);
+
+    /**
+     * Members without a heartbeat for this long are dropped from the hash ring.
+     */
+    private Duration memberTimeout = Duration.ofSeconds(15);
+
+    /**
+     * Points per member on the consistent-hash ring.
+     */
+    private int virtualNodes = 128;
+
+    /**
+     * Connect timeout for forwarding bets to the owning node.
+     */
+    private Duration forwardConnectTimeout = Duration.ofMillis(500);
+
+    /**
+     * Read timeout for forwarding bets to the owning node.
+     */
+    private Duration forwardReadTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Whether owners settle bets against in-memory pots and persist them with group commits;
+     * when off, every bet locks and updates the jackpot row.
+     */
+    private boolean writeBehind = true;
+
+    /**
+     * Threads persisting owned pots; each pot is flushed by one thread at a time.
+     */
+    private int flushThreads = 2;
+
+    /**
+     * How long a bet waits for its pot to be persisted before it fails.
+     */
+    private Duration flushTimeout = Duration.ofSeconds(5);
+}
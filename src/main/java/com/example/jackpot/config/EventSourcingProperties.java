@@ -0,0 +1,40 @@
+package com.example.jackpot.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for rebuilding jackpot state from the bets/wins event stream.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.event-sourcing")
+public class EventSourcingProperties {
+
+    /**
+     * Whether event-sourced mode is active (rebuild, snapshots, verification).
+     */
+    private boolean enabled = false;
+
+    /**
+     * Whether rebuilt state overwrites stored jackpot state at startup.
+     */
+    private boolean applyOnStartup = false;
+
+    /**
+     * Number of jackpots rebuilt concurrently.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * How often a new snapshot is taken for every jackpot.
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(10);
+
+    /**
+     * How often stored pots are cross-checked against rebuilt state.
+     */
+    private Duration verifyInterval = Duration.ofMinutes(5);
+}
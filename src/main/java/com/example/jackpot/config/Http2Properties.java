@@ -0,0 +1,23 @@
+package com.example.jackpot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * HTTP/2 settings not covered by {@code server.http2.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.http2")
+public class Http2Properties {
+
+    /**
+     * Streams a client may have open at once on one connection.
+     */
+    private int maxConcurrentStreams = 200;
+
+    /**
+     * Streams of one connection processed concurrently; further streams wait for a free slot.
+     */
+    private int maxConcurrentStreamExecution = 32;
+}
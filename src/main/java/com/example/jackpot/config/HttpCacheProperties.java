@@ -0,0 +1,32 @@
+package com.example.jackpot.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for conditional GETs on the jackpot and win read endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.http-cache")
+public class HttpCacheProperties {
+
+    /**
+     * Whether read endpoints send version ETags and answer matching {@code If-None-Match} with 304.
+     * Always off in cluster mode, where changes made on other nodes are not seen locally.
+     */
+    private boolean enabled = true;
+
+    /**
+     * {@code Cache-Control} value used for endpoints without an entry in {@link #cacheControl}.
+     */
+    private String defaultCacheControl = "no-cache";
+
+    /**
+     * {@code Cache-Control} value per endpoint: {@code jackpots}, {@code jackpot} or {@code wins}.
+     */
+    private Map<String, String> cacheControl = new HashMap<>();
+}
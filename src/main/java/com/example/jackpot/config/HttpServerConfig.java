@@ -0,0 +1,28 @@
+package com.example.jackpot.config;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies {@link Http2Properties} to the HTTP/2 upgrade protocol that
+ * {@code server.http2.enabled} adds to the Tomcat connector.
+ * Compression settings are inherited from the connector ({@code server.compression.*}).
+ */
+@Configuration
+public class HttpServerConfig {
+
+    @Bean
+    public TomcatConnectorCustomizer http2ConnectorCustomizer(Http2Properties properties) {
+        return connector -> {
+            for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+                if (protocol instanceof Http2Protocol http2) {
+                    http2.setMaxConcurrentStreams(properties.getMaxConcurrentStreams());
+                    http2.setMaxConcurrentStreamExecution(properties.getMaxConcurrentStreamExecution());
+                }
+            }
+        };
+    }
+}
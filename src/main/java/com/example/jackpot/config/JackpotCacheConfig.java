@@ -0,0 +1,38 @@
+package com.example.jackpot.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.jackpot.cache.InMemoryJackpotInvalidationBus;
+import com.example.jackpot.cache.JackpotInvalidationBus;
+import com.example.jackpot.cache.JdbcJackpotInvalidationBus;
+import com.example.jackpot.repository.JackpotInvalidationRepository;
+
+/**
+ * Invalidation bus of the jackpot cache: through the database in cluster mode, in process otherwise.
+ * A deployment with a message broker may declare its own {@link JackpotInvalidationBus} bean instead.
+ */
+@Configuration
+public class JackpotCacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "jackpot.cluster", name = "enabled", havingValue = "true")
+    public JackpotInvalidationBus jdbcJackpotInvalidationBus(ObjectProvider<JackpotInvalidationRepository> repository,
+                                                             ObjectProvider<PlatformTransactionManager> transactionManager,
+                                                             JackpotCacheProperties properties) {
+        return new JdbcJackpotInvalidationBus(repository, transactionManager,
+                properties.getBusRereadWindow(), properties.getBusRetention());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "jackpot.cluster", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public JackpotInvalidationBus jackpotInvalidationBus() {
+        return new InMemoryJackpotInvalidationBus();
+    }
+}
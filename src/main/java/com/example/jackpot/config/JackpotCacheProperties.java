@@ -0,0 +1,47 @@
+package com.example.jackpot.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for the cache of single jackpots.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.cache")
+public class JackpotCacheProperties {
+
+    /**
+     * Whether {@code GET /api/jackpots/{id}} is served through the cache.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a node keeps its own copy without hearing of a change; bounds staleness
+     * when an invalidation is lost.
+     */
+    private Duration l1Ttl = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of jackpots and version floors in the in-process cache; the least used are evicted.
+     */
+    private int l1MaxEntries = 10_000;
+
+    /**
+     * In cluster mode, how often each node polls the database for invalidations from its peers.
+     */
+    private Duration busPollInterval = Duration.ofMillis(500);
+
+    /**
+     * How far before the newest invalidation seen each poll starts again, so that rows whose
+     * insert committed late are not missed.
+     */
+    private Duration busRereadWindow = Duration.ofSeconds(1);
+
+    /**
+     * How long invalidation rows are kept before they are deleted.
+     */
+    private Duration busRetention = Duration.ofMinutes(1);
+}
@@ -0,0 +1,53 @@
+package com.example.jackpot.config;
+
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.jackpot.entity.JackpotConfig;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * JCache-backed (Caffeine) Hibernate second-level cache for {@link JackpotConfig}.
+ * The region is created here with a size bound and handed to Hibernate together with
+ * its cache manager, so no provider configuration file is needed. Every application
+ * context gets its own cache manager. The query cache stays off: each bet updates the
+ * jackpots table, which would invalidate any cached query over it.
+ */
+@Configuration
+public class JackpotConfigCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager jackpotConfigCacheManager(JackpotConfigCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("jackpot-config-" + UUID.randomUUID()),
+                        JackpotConfigCacheConfig.class.getClassLoader());
+
+        CaffeineConfiguration<Object, Object> region = new CaffeineConfiguration<>();
+        region.setMaximumSize(OptionalLong.of(properties.getMaxEntries()));
+        cacheManager.createCache(JackpotConfig.CACHE_REGION, region);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jackpotConfigCacheCustomizer(JackpotConfigCacheProperties properties,
+                                                                     CacheManager jackpotConfigCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.isEnabled());
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, jackpotConfigCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.jackpot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for the Hibernate second-level cache of jackpot configurations.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.config-cache")
+public class JackpotConfigCacheProperties {
+
+    /**
+     * Whether the second-level cache is enabled; when off, configuration lookups read the jackpots table.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of jackpot configurations held in the cache.
+     */
+    private long maxEntries = 10_000;
+}
@@ -0,0 +1,26 @@
+package com.example.jackpot.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for the in-memory filter of known jackpot ids.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.id-filter")
+public class JackpotIdFilterProperties {
+
+    /**
+     * Whether unknown jackpot ids are rejected without a database lookup.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Minimum time between reloads of the id set triggered by lookups of unknown ids.
+     * Reloads pick up jackpots created by other nodes.
+     */
+    private Duration missRefreshInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,26 @@
+package com.example.jackpot.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for the pre-rendered {@code GET /api/jackpots} response.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.jackpot-list")
+public class JackpotListProperties {
+
+    /**
+     * How long a rendered list may be served after a pot changed; bounds the re-render
+     * rate under heavy bet traffic. Zero re-renders on the first request after every change.
+     */
+    private Duration maxStaleness = Duration.ZERO;
+
+    /**
+     * Lists smaller than this many bytes of JSON are not gzip-compressed.
+     */
+    private int gzipMinSize = 1024;
+}
@@ -0,0 +1,40 @@
+package com.example.jackpot.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for time-bucketed jackpot analytics rollups.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.rollups")
+public class JackpotRollupProperties {
+
+    /**
+     * How often pending deltas are written to {@code jackpot_rollups}.
+     */
+    private Duration flushInterval = Duration.ofSeconds(10);
+
+    /**
+     * How often expired minute and hour buckets are deleted.
+     */
+    private Duration compactInterval = Duration.ofHours(1);
+
+    /**
+     * Minute buckets older than this are deleted; hour buckets still cover them.
+     */
+    private Duration minuteRetention = Duration.ofDays(2);
+
+    /**
+     * Hour buckets older than this are deleted; day buckets still cover them.
+     */
+    private Duration hourRetention = Duration.ofDays(90);
+
+    /**
+     * Largest number of buckets a single query may span.
+     */
+    private int maxBuckets = 5000;
+}
@@ -0,0 +1,25 @@
+package com.example.jackpot.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for the in-memory biggest-wins leaderboard.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.leaderboard")
+public class LeaderboardProperties {
+
+    /**
+     * Wins kept per window and jackpot; also the largest accepted {@code limit}.
+     */
+    private int size = 100;
+
+    /**
+     * In cluster mode, how often wins settled on other nodes are merged in from the database.
+     */
+    private Duration clusterRefreshInterval = Duration.ofSeconds(10);
+}
@@ -0,0 +1,95 @@
+package com.example.jackpot.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+import com.example.jackpot.protocol.BetCodec;
+import com.example.jackpot.ratelimit.AimdLimiter;
+import com.example.jackpot.ratelimit.Bulkhead;
+import com.example.jackpot.ratelimit.ConcurrencyLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Registers the load-shedding filters. Single bets share an adaptive limit driven by their
+ * latency; batches (JSON, NDJSON and binary) take far longer per request, so they get their own
+ * bulkhead instead of feeding that limit. Bets forwarded by peers were already admitted by the
+ * sending node and are mostly single bets, so they get a separate, wider bulkhead. Reads get a
+ * bulkhead too, so bets stalled on a slow database cannot take the request threads reads need,
+ * and the other way round.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "jackpot.load-shedding", name = "enabled", matchIfMissing = true)
+public class LoadSheddingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> betConcurrencyLimitFilter(LoadSheddingProperties properties,
+                                                                                   ObjectMapper objectMapper,
+                                                                                   MeterRegistry meterRegistry) {
+        LoadSheddingProperties.Bets bets = properties.getBets();
+        AimdLimiter limiter = new AimdLimiter(bets.getInitialLimit(), bets.getMinLimit(), bets.getMaxLimit(),
+                bets.getLatencyThreshold().toNanos(), bets.getBackoffRatio());
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter("bets", limiter,
+                request -> HttpMethod.POST.matches(request.getMethod()) && !isBatch(request), objectMapper, meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/bets");
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> batchConcurrencyLimitFilter(LoadSheddingProperties properties,
+                                                                                     ObjectMapper objectMapper,
+                                                                                     MeterRegistry meterRegistry) {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter("batches",
+                new Bulkhead(properties.getBatches().getMaxConcurrent()),
+                request -> HttpMethod.POST.matches(request.getMethod()) && isBatch(request), objectMapper, meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/bets", "/api/bets/*");
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> forwardedConcurrencyLimitFilter(LoadSheddingProperties properties,
+                                                                                         ObjectMapper objectMapper,
+                                                                                         MeterRegistry meterRegistry) {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter("forwarded",
+                new Bulkhead(properties.getForwarded().getMaxConcurrent()),
+                request -> HttpMethod.POST.matches(request.getMethod()), objectMapper, meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/internal/*");
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> readConcurrencyLimitFilter(LoadSheddingProperties properties,
+                                                                                    ObjectMapper objectMapper,
+                                                                                    MeterRegistry meterRegistry) {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter("reads",
+                new Bulkhead(properties.getReads().getMaxConcurrent()),
+                request -> HttpMethod.GET.matches(request.getMethod()), objectMapper, meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/jackpots", "/api/jackpots/*", "/api/wins", "/api/wins/*", "/api/players/*");
+        return registration;
+    }
+
+    /**
+     * @return whether the request may carry more than one bet
+     */
+    private static boolean isBatch(HttpServletRequest request) {
+        if (!"/api/bets".equals(request.getRequestURI().substring(request.getContextPath().length()))) {
+            return true;
+        }
+        String contentType = request.getContentType();
+        return contentType != null
+                && contentType.regionMatches(true, 0, BetCodec.MEDIA_TYPE_VALUE, 0, BetCodec.MEDIA_TYPE_VALUE.length());
+    }
+}
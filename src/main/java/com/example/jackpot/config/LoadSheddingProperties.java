@@ -0,0 +1,97 @@
+package com.example.jackpot.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for load shedding: an adaptive concurrency limit on single bets and fixed
+ * bulkheads for bet batches, bets forwarded by peers and read endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.load-shedding")
+public class LoadSheddingProperties {
+
+    /**
+     * Whether requests over the limits are answered with 503.
+     */
+    private boolean enabled = true;
+
+    private Bets bets = new Bets();
+
+    private Batches batches = new Batches();
+
+    private Forwarded forwarded = new Forwarded();
+
+    private Reads reads = new Reads();
+
+    /**
+     * Adaptive (AIMD) limit on single bets in flight.
+     */
+    @Data
+    public static class Bets {
+
+        /**
+         * Limit at startup.
+         */
+        private int initialLimit = 20;
+
+        /**
+         * Lowest limit after backing off.
+         */
+        private int minLimit = 2;
+
+        /**
+         * Highest limit after growing; also the most request threads single bets can occupy.
+         */
+        private int maxLimit = 100;
+
+        /**
+         * Bets slower than this count as overload and shrink the limit.
+         */
+        private Duration latencyThreshold = Duration.ofMillis(250);
+
+        /**
+         * Factor applied to the limit on overload.
+         */
+        private double backoffRatio = 0.9;
+    }
+
+    /**
+     * Fixed limit on bet batches in flight: batch and binary requests to {@code /api/bets}.
+     */
+    @Data
+    public static class Batches {
+
+        /**
+         * Maximum concurrent batch requests.
+         */
+        private int maxConcurrent = 8;
+    }
+
+    /**
+     * Fixed limit on requests in flight from peers to {@code /internal}, in cluster mode.
+     */
+    @Data
+    public static class Forwarded {
+
+        /**
+         * Maximum concurrent forwarded requests.
+         */
+        private int maxConcurrent = 100;
+    }
+
+    /**
+     * Fixed limit on GET requests to jackpots, wins and player statistics in flight.
+     */
+    @Data
+    public static class Reads {
+
+        /**
+         * Maximum concurrent read requests.
+         */
+        private int maxConcurrent = 80;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.jackpot.config;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.BetResponse;
+import com.example.jackpot.dto.CreateJackpotRequest;
+import com.example.jackpot.dto.JackpotDto;
+import com.example.jackpot.dto.JackpotRollupDto;
+import com.example.jackpot.dto.PlayerStatsDto;
+import com.example.jackpot.dto.PlayerStatsRebuildResponse;
+import com.example.jackpot.dto.TopWinDto;
+import com.example.jackpot.dto.WinDto;
+import com.example.jackpot.dto.WinNotification;
+import com.example.jackpot.entity.Bet;
+import com.example.jackpot.entity.ClusterMember;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.entity.JackpotConfig;
+import com.example.jackpot.entity.JackpotCounters;
+import com.example.jackpot.entity.JackpotInvalidationEntry;
+import com.example.jackpot.entity.JackpotRollup;
+import com.example.jackpot.entity.JackpotSnapshot;
+import com.example.jackpot.entity.PlayerStats;
+import com.example.jackpot.entity.Win;
+import com.example.jackpot.entity.WinOutboxEntry;
+import com.example.jackpot.exception.ErrorResponse;
+import com.example.jackpot.exception.GlobalExceptionHandler;
+import com.example.jackpot.repository.BetRepository;
+import com.example.jackpot.repository.ClusterMemberRepository;
+import com.example.jackpot.repository.JackpotConfigRepository;
+import com.example.jackpot.repository.JackpotCountersRepository;
+import com.example.jackpot.repository.JackpotInvalidationRepository;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.repository.JackpotRollupRepository;
+import com.example.jackpot.repository.JackpotSnapshotRepository;
+import com.example.jackpot.repository.PlayerStatsRepository;
+import com.example.jackpot.repository.WinOutboxRepository;
+import com.example.jackpot.repository.WinRepository;
+import com.example.jackpot.service.JackpotChangeListener;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Contact;
+import io.swagger.v3.oas.models.info.Info;
+
+/**
+ * GraalVM native-image hints that Spring AOT cannot infer on its own.
+ * Spring AOT already covers beans, JPA managed types and Spring Data repository proxies;
+ * these hints add reflective access used by Jackson, Hibernate and springdoc at runtime,
+ * and the JDK proxies created by the statement-timing DataSource.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.JackpotRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class JackpotRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Lombok-generated accessors and constructors are accessed reflectively by Hibernate
+            for (Class<?> entity : new Class<?>[] {Jackpot.class, JackpotConfig.class, JackpotCounters.class, Bet.class,
+                    Win.class, JackpotSnapshot.class, ClusterMember.class, PlayerStats.class, JackpotRollup.class,
+                    WinOutboxEntry.class, JackpotInvalidationEntry.class}) {
+                hints.reflection().registerType(entity, MemberCategory.values());
+            }
+
+            // JPA callbacks are invoked reflectively on the entity listener
+            hints.reflection().registerType(JackpotChangeListener.class,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+
+            // Request/response bodies bound by Jackson and introspected by springdoc
+            for (Class<?> dto : new Class<?>[] {BetRequest.class, BetResponse.class, CreateJackpotRequest.class,
+                    JackpotDto.class, WinDto.class, PlayerStatsDto.class, PlayerStatsRebuildResponse.class,
+                    TopWinDto.class, JackpotRollupDto.class, ErrorResponse.class, WinNotification.class}) {
+                hints.reflection().registerType(dto,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+
+            // @Query and @Param metadata on repository methods, and @ExceptionHandler methods
+            for (Class<?> type : new Class<?>[] {JackpotRepository.class, BetRepository.class, WinRepository.class,
+                    JackpotSnapshotRepository.class, ClusterMemberRepository.class, PlayerStatsRepository.class,
+                    JackpotRollupRepository.class, WinOutboxRepository.class, JackpotConfigRepository.class,
+                    JackpotCountersRepository.class, JackpotInvalidationRepository.class, GlobalExceptionHandler.class}) {
+                hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            // OpenAPI metadata from OpenApiConfig, serialized by Jackson
+            for (Class<?> model : new Class<?>[] {OpenAPI.class, Info.class, Contact.class}) {
+                hints.reflection().registerType(model,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            // Proxies created by TimedDataSource
+            hints.proxies().registerJdkProxy(Connection.class);
+            hints.proxies().registerJdkProxy(Statement.class);
+            hints.proxies().registerJdkProxy(PreparedStatement.class);
+            hints.proxies().registerJdkProxy(CallableStatement.class);
+
+            // JCache provider looked up by class name, and its default configuration
+            hints.reflection().registerType(CaffeineCachingProvider.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.resources().registerPattern("reference.conf");
+
+            hints.resources().registerPattern("logback-spring.xml");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.jackpot.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for the pre-aggregated player statistics.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.player-stats")
+public class PlayerStatsProperties {
+
+    /**
+     * How often pending per-player deltas are written to {@code player_stats}.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Number of jackpots aggregated concurrently by a rebuild.
+     */
+    private int rebuildParallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Players written per transaction by a rebuild.
+     */
+    private int rebuildChunkSize = 500;
+}
@@ -0,0 +1,64 @@
+package com.example.jackpot.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration for bet admission control.
+ * Bets are limited per player alias and per jackpot before any database work.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether bet endpoints enforce the limits below.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Limit per player alias.
+     */
+    private Limit player = new Limit(20, 40);
+
+    /**
+     * Default limit per jackpot.
+     */
+    private Limit jackpot = new Limit(2000, 4000);
+
+    /**
+     * Per-jackpot limits replacing the default jackpot limit, keyed by jackpot id.
+     */
+    private Map<UUID, Limit> jackpotOverrides = new HashMap<>();
+
+    /**
+     * Maximum number of tracked keys per limiter; beyond it the least used buckets are evicted.
+     */
+    private int maxKeys = 100_000;
+
+    /**
+     * Sustained rate with a burst allowance.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /**
+         * Sustained permits per second.
+         */
+        private double rate;
+
+        /**
+         * Permits available at once after an idle period.
+         */
+        private int burst;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.jackpot.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (snapshots, verification, flushes).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
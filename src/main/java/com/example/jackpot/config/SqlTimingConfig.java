@@ -0,0 +1,42 @@
+package com.example.jackpot.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.jackpot.sql.SqlStatementTimer;
+import com.example.jackpot.sql.TimedDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wraps the application DataSource with statement timing.
+ * Replaces {@code spring.jpa.show-sql}: instead of echoing every statement
+ * synchronously, only slow statements are logged and all latencies feed
+ * the {@code jackpot.sql.statement} histograms.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "jackpot.sql", name = "timing-enabled", matchIfMissing = true)
+public class SqlTimingConfig {
+
+    @Bean
+    public static BeanPostProcessor timedDataSourcePostProcessor(ObjectProvider<SqlTimingProperties> properties,
+                                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof TimedDataSource) {
+                    return bean;
+                }
+                SqlTimingProperties props = properties.getObject();
+                MeterRegistry registry = props.isHistogramsEnabled() ? meterRegistry.getIfAvailable() : null;
+                SqlStatementTimer timer = new SqlStatementTimer(registry, props.getSlowQueryThreshold().toNanos());
+                return new TimedDataSource(dataSource, timer);
+            }
+        };
+    }
+}
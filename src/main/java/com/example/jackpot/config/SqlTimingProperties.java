@@ -0,0 +1,30 @@
+package com.example.jackpot.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for JDBC statement timing and the slow-query log.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.sql")
+public class SqlTimingProperties {
+
+    /**
+     * Whether the DataSource is wrapped with statement timing at all.
+     */
+    private boolean timingEnabled = true;
+
+    /**
+     * Statements running at least this long are written to the slow-query log.
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+    /**
+     * Whether per-statement-type latency histograms are published to the meter registry.
+     */
+    private boolean histogramsEnabled = true;
+}
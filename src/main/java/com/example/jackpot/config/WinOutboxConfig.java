@@ -0,0 +1,42 @@
+package com.example.jackpot.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import com.example.jackpot.outbox.LogWinNotificationSink;
+import com.example.jackpot.outbox.QueueWinNotificationSink;
+import com.example.jackpot.outbox.WebhookWinNotificationSink;
+
+/**
+ * Declares the built-in win notification sinks selected by {@link WinOutboxProperties}.
+ * Any other {@link com.example.jackpot.outbox.WinNotificationSink} bean is relayed to as well.
+ */
+@Configuration
+public class WinOutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jackpot.win-outbox.log", name = "enabled", matchIfMissing = true)
+    public LogWinNotificationSink logWinNotificationSink() {
+        return new LogWinNotificationSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jackpot.win-outbox.queue", name = "enabled")
+    public QueueWinNotificationSink queueWinNotificationSink(WinOutboxProperties properties) {
+        return new QueueWinNotificationSink(properties.getQueue().getCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jackpot.win-outbox.webhook", name = "url")
+    public WebhookWinNotificationSink webhookWinNotificationSink(WinOutboxProperties properties,
+                                                                 RestClient.Builder restClientBuilder) {
+        WinOutboxProperties.Webhook webhook = properties.getWebhook();
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(webhook.getConnectTimeout());
+        requestFactory.setReadTimeout(webhook.getReadTimeout());
+        return new WebhookWinNotificationSink(restClientBuilder.requestFactory(requestFactory).build(), webhook.getUrl());
+    }
+}
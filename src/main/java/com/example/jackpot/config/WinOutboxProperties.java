@@ -0,0 +1,84 @@
+package com.example.jackpot.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for the win notification outbox and its relay.
+ */
+@Data
+@ConfigurationProperties(prefix = "jackpot.win-outbox")
+public class WinOutboxProperties {
+
+    /**
+     * Whether wins are written to the outbox and relayed to the sinks.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay between relay runs; each run drains all due entries in batches.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Entries published per sink call.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Failed attempts after which an entry is left in the table and no longer retried.
+     */
+    private int maxAttempts = 20;
+
+    /**
+     * Delay before the first retry; doubled on every further failure.
+     */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    /**
+     * Upper bound for the retry delay.
+     */
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    private Log log = new Log();
+
+    private Queue queue = new Queue();
+
+    private Webhook webhook = new Webhook();
+
+    /**
+     * Sink writing notifications to the {@code jackpot.wins} logger.
+     */
+    @Data
+    public static class Log {
+
+        private boolean enabled = true;
+    }
+
+    /**
+     * Bounded in-process queue sink.
+     */
+    @Data
+    public static class Queue {
+
+        private boolean enabled = false;
+
+        private int capacity = 10_000;
+    }
+
+    /**
+     * HTTP webhook sink; active when a URL is set.
+     */
+    @Data
+    public static class Webhook {
+
+        private String url;
+
+        private Duration connectTimeout = Duration.ofSeconds(1);
+
+        private Duration readTimeout = Duration.ofSeconds(5);
+    }
+}
@@ -1,5 +1,12 @@
 package com.example.jackpot.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -8,11 +15,20 @@ import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
 
+import com.example.jackpot.cluster.BetRouter;
 import com.example.jackpot.dto.BetRequest;
 import com.example.jackpot.dto.BetResponse;
-import com.example.jackpot.service.BetService;
+import com.example.jackpot.exception.ErrorResponse;
+import com.example.jackpot.protocol.BetCodec;
+import com.example.jackpot.ratelimit.BetRateLimiter;
+import com.example.jackpot.service.BetBatchService;
+import com.example.jackpot.service.BetResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -21,7 +37,8 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * REST Controller for Bet operations.
- * Provides endpoints for placing bets on jackpots.
+ * Provides endpoints for placing bets on jackpots. Every endpoint passes the bets through
+ * {@link BetRateLimiter} before any database work.
  */
 @RestController
 @RequestMapping("/api/bets")
@@ -29,22 +46,110 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Bets", description = "Bet placement endpoints")
 public class BetController {
 
-    private final BetService betService;
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final BetRouter betRouter;
+    private final BetBatchService betBatchService;
+    private final BetRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
 
     /**
      * Place a bet on a jackpot.
+     * Rejected bets are answered from the result without going through exception handling.
      *
      * @param request contains jackpot ID, player alias, and bet amount
-     * @return bet response with win information
+     * @return bet response with win information, or 400 with the rejection
      */
     @PostMapping
     @Operation(summary = "Place a bet", description = "Places a bet on a jackpot and determines if the jackpot is won")
     @ApiResponse(responseCode = "200", description = "Bet placed successfully",
             content = @Content(schema = @Schema(implementation = BetResponse.class)))
-    @ApiResponse(responseCode = "400", description = "Invalid bet request")
-    @ApiResponse(responseCode = "404", description = "Jackpot not found")
-    public ResponseEntity<BetResponse> placeBet(@Valid @RequestBody BetRequest request) {
-        BetResponse response = betService.placeBet(request);
-        return ResponseEntity.ok(response);
+    @ApiResponse(responseCode = "400", description = "Invalid bet request or jackpot not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "429", description = "Player or jackpot bet rate limit exceeded; see Retry-After",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<?> placeBet(@Valid @RequestBody BetRequest request) {
+        rateLimiter.acquire(request);
+        BetResult result = betRouter.tryPlaceBet(request);
+        if (!result.isAccepted()) {
+            return ResponseEntity.badRequest().body(ErrorResponse.of(HttpStatus.BAD_REQUEST, result.rejectionMessage()));
+        }
+        return ResponseEntity.ok(result.getResponse());
+    }
+
+    /**
+     * Place one or more bets encoded in the binary bet format.
+     * Bets go through the batch path, so they are validated with the same rules as JSON bets.
+     *
+     * @param body request frames, see {@link BetCodec}
+     * @return one result per frame, in the same order, in the binary bet format;
+     *         207 if some bets were not placed
+     */
+    @PostMapping(consumes = BetCodec.MEDIA_TYPE_VALUE)
+    @Operation(hidden = true)
+    public ResponseEntity<byte[]> placeBetsBinary(@RequestBody byte[] body) {
+        List<BetRequest> requests = BetCodec.decodeRequests(body);
+        rateLimiter.acquire(requests);
+        List<BetResponse> responses = betBatchService.placeBets(requests);
+        return ResponseEntity.status(batchStatus(responses))
+                .contentType(BetCodec.MEDIA_TYPE)
+                .body(BetCodec.encodeResponses(responses));
+    }
+
+    /**
+     * Place a batch of bets given as a JSON array.
+     *
+     * @param requests bets in submission order
+     * @return one bet response per request, in the same order; 207 if some bets were not placed
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Place a batch of bets",
+            description = "Places bets grouped per jackpot, one transaction per jackpot, preserving order within each jackpot. "
+                    + "Also accepts an NDJSON stream with content type " + APPLICATION_NDJSON_VALUE)
+    @ApiResponse(responseCode = "200", description = "Bets placed successfully",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BetResponse.class))))
+    @ApiResponse(responseCode = "207", description = "Some jackpots' bets were placed; the others carry an error and can be resubmitted alone",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BetResponse.class))))
+    @ApiResponse(responseCode = "400", description = "Invalid bet in batch or jackpot not found")
+    @ApiResponse(responseCode = "429", description = "Player or jackpot bet rate limit exceeded; see Retry-After")
+    public ResponseEntity<List<BetResponse>> placeBets(@RequestBody List<BetRequest> requests) {
+        rateLimiter.acquire(requests);
+        return batch(betBatchService.placeBets(requests));
+    }
+
+    /**
+     * Place a batch of bets given as newline-delimited JSON.
+     *
+     * @param body one bet request JSON object per line
+     * @return one bet response per request, in the same order; 207 if some bets were not placed
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/batch", consumes = APPLICATION_NDJSON_VALUE)
+    @Operation(hidden = true)
+    public ResponseEntity<List<BetResponse>> placeBetsNdjson(InputStream body) throws IOException {
+        List<BetRequest> requests = new ArrayList<>();
+        try (MappingIterator<BetRequest> lines = objectMapper.readerFor(BetRequest.class).readValues(body)) {
+            while (lines.hasNextValue()) {
+                requests.add(lines.nextValue());
+            }
+        } catch (JsonProcessingException ex) {
+            String line = ex.getLocation() != null ? " at line " + ex.getLocation().getLineNr() : "";
+            throw new IllegalArgumentException("Malformed NDJSON bet" + line);
+        }
+        rateLimiter.acquire(requests);
+        return batch(betBatchService.placeBets(requests));
+    }
+
+    private static ResponseEntity<List<BetResponse>> batch(List<BetResponse> responses) {
+        return ResponseEntity.status(batchStatus(responses)).body(responses);
+    }
+
+    private static HttpStatus batchStatus(List<BetResponse> responses) {
+        for (BetResponse response : responses) {
+            if (response.getError() != null) {
+                return HttpStatus.MULTI_STATUS;
+            }
+        }
+        return HttpStatus.OK;
     }
 }
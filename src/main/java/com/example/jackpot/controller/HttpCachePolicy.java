@@ -0,0 +1,201 @@
+package com.example.jackpot.controller;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.config.HttpCacheProperties;
+import com.example.jackpot.service.RenderedJson;
+
+/**
+ * Conditional GET handling for read endpoints.
+ * The ETag is derived from a change counter, so a matching {@code If-None-Match}
+ * is answered with 304 before the body is loaded.
+ */
+@Component
+public class HttpCachePolicy {
+
+    public static final String JACKPOTS = "jackpots";
+    public static final String JACKPOT = "jackpot";
+    public static final String WINS = "wins";
+
+    private final HttpCacheProperties properties;
+    private final boolean enabled;
+
+    public HttpCachePolicy(HttpCacheProperties properties, ClusterProperties clusterProperties) {
+        this.properties = properties;
+        this.enabled = properties.isEnabled() && !clusterProperties.isEnabled();
+    }
+
+    /**
+     * Answer a GET, or 304 if the client already holds the current version.
+     *
+     * @param request the current request
+     * @param endpoint endpoint key for the {@code Cache-Control} lookup
+     * @param version current version of the resource
+     * @param body loads the body; only called when it is sent
+     * @return 200 with body, or 304 without
+     */
+    public <T> ResponseEntity<T> get(WebRequest request, String endpoint, String version, Supplier<T> body) {
+        if (!enabled) {
+            return ResponseEntity.ok(body.get());
+        }
+        String cacheControl = cacheControl(endpoint);
+        if (isCurrent(request, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(new ETag(version, true).formattedTag())
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(new ETag(version, true).formattedTag())
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                .body(body.get());
+    }
+
+    /**
+     * Answer a GET with a pre-rendered JSON body, or 304 if the client already holds its version.
+     * The gzip body is sent to clients that accept it.
+     *
+     * @param request the current request
+     * @param endpoint endpoint key for the {@code Cache-Control} lookup
+     * @param rendered the body
+     * @return 200 with body, or 304 without
+     */
+    public ResponseEntity<byte[]> getRendered(WebRequest request, String endpoint, RenderedJson rendered) {
+        boolean cached = enabled && rendered.getVersion() != null;
+        boolean current = cached && isCurrent(request, rendered.getVersion());
+
+        ResponseEntity.BodyBuilder response = current ? ResponseEntity.status(HttpStatus.NOT_MODIFIED) : ResponseEntity.ok();
+        response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (cached) {
+            response.eTag(new ETag(rendered.getVersion(), true).formattedTag())
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl(endpoint));
+        }
+        if (current) {
+            return response.build();
+        }
+        response.contentType(MediaType.APPLICATION_JSON);
+        if (rendered.getGzip() != null && acceptsGzip(request)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(rendered.getGzip());
+        }
+        return response.body(rendered.getJson());
+    }
+
+    private String cacheControl(String endpoint) {
+        return properties.getCacheControl().getOrDefault(endpoint, properties.getDefaultCacheControl());
+    }
+
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptsGzip(acceptEncoding);
+    }
+
+    /**
+     * Scans the header in place, without splitting or regular expressions, since it runs on
+     * every cacheable read.
+     *
+     * @param acceptEncoding value of {@code Accept-Encoding}
+     * @return whether {@code gzip} or {@code *} is listed without {@code q=0}
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        int length = acceptEncoding.length();
+        int start = 0;
+        while (start < length) {
+            int end = indexOf(acceptEncoding, ',', start, length);
+            int parameters = indexOf(acceptEncoding, ';', start, end);
+            if (isGzipOrAny(acceptEncoding, start, parameters) && !hasZeroQuality(acceptEncoding, parameters, end)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static boolean isGzipOrAny(String value, int from, int to) {
+        from = skipSpaces(value, from, to);
+        to = trimSpaces(value, from, to);
+        int length = to - from;
+        return length == 4 && value.regionMatches(true, from, "gzip", 0, 4)
+                || length == 1 && value.charAt(from) == '*';
+    }
+
+    /**
+     * @param from index of the first {@code ;}, or {@code to} if the coding has no parameters
+     */
+    private static boolean hasZeroQuality(String value, int from, int to) {
+        while (from < to) {
+            int next = indexOf(value, ';', from + 1, to);
+            int i = skipSpaces(value, from + 1, next);
+            if (i < next && (value.charAt(i) == 'q' || value.charAt(i) == 'Q')) {
+                i = skipSpaces(value, i + 1, next);
+                if (i < next && value.charAt(i) == '=') {
+                    int valueStart = skipSpaces(value, i + 1, next);
+                    return isZero(value, valueStart, trimSpaces(value, valueStart, next));
+                }
+            }
+            from = next;
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the qvalue is {@code 0}, optionally followed by a point and zeros
+     */
+    private static boolean isZero(String value, int from, int to) {
+        if (from == to || value.charAt(from) != '0') {
+            return false;
+        }
+        if (from + 1 < to && value.charAt(from + 1) != '.') {
+            return false;
+        }
+        for (int i = from + 2; i < to; i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(String value, char c, int from, int to) {
+        int index = value.indexOf(c, from);
+        return index < 0 || index > to ? to : index;
+    }
+
+    private static int skipSpaces(String value, int from, int to) {
+        while (from < to && (value.charAt(from) == ' ' || value.charAt(from) == '\t')) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimSpaces(String value, int from, int to) {
+        while (to > from && (value.charAt(to - 1) == ' ' || value.charAt(to - 1) == '\t')) {
+            to--;
+        }
+        return to;
+    }
+
+    /**
+     * Weak comparison, as required for {@code If-None-Match}.
+     */
+    private static boolean isCurrent(WebRequest request, String version) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (ETag candidate : ETag.parse(ifNoneMatch)) {
+            if (candidate.isWildcard() || candidate.tag().equals(version)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.jackpot.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.jackpot.cluster.BetRouter;
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.BetResponse;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Node-to-node endpoint receiving bets forwarded by peers in cluster mode.
+ * Bets are always settled locally and never forwarded again.
+ * Not part of the public API; keep {@code /internal/**} off the external load balancer.
+ */
+@RestController
+@RequestMapping("/internal")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jackpot.cluster", name = "enabled", havingValue = "true")
+@Hidden
+public class InternalBetController {
+
+    private final BetRouter betRouter;
+
+    /**
+     * Place bets forwarded by the node that received them.
+     *
+     * @param jackpotId the jackpot all requests refer to
+     * @param requests bets in submission order, already validated by the receiving node
+     * @return one bet response per request, in the same order
+     */
+    @PostMapping("/jackpots/{jackpotId}/bets")
+    public ResponseEntity<List<BetResponse>> placeForwardedBets(@PathVariable UUID jackpotId,
+                                                                @RequestBody List<BetRequest> requests) {
+        return ResponseEntity.ok(betRouter.placeForwardedBets(jackpotId, requests));
+    }
+}
@@ -1,22 +1,33 @@
 package com.example.jackpot.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.jackpot.dto.CreateJackpotRequest;
 import com.example.jackpot.dto.JackpotDto;
+import com.example.jackpot.dto.JackpotRollupDto;
+import com.example.jackpot.entity.RollupGranularity;
+import com.example.jackpot.service.JackpotChangeTracker;
+import com.example.jackpot.service.JackpotListSnapshot;
+import com.example.jackpot.service.JackpotRollupService;
 import com.example.jackpot.service.JackpotService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -35,6 +46,10 @@ import lombok.RequiredArgsConstructor;
 public class JackpotController {
 
     private final JackpotService jackpotService;
+    private final JackpotRollupService jackpotRollupService;
+    private final JackpotChangeTracker changeTracker;
+    private final JackpotListSnapshot jackpotListSnapshot;
+    private final HttpCachePolicy httpCachePolicy;
 
     /**
      * Create a new jackpot.
@@ -53,31 +68,66 @@ public class JackpotController {
 
     /**
      * Get all jackpots.
+     * Served from a pre-rendered snapshot, gzip-compressed for clients that accept it.
+     * Sends a version ETag; a request whose {@code If-None-Match} is current gets 304.
      *
-     * @return list of all jackpots
+     * @param request the current request
+     * @return list of all jackpots as JSON
      */
     @GetMapping
     @Operation(summary = "Get all jackpots", description = "Retrieves all available jackpots with their current state")
     @ApiResponse(responseCode = "200", description = "List of jackpots retrieved successfully",
-            content = @Content(schema = @Schema(implementation = JackpotDto.class)))
-    public ResponseEntity<List<JackpotDto>> getAllJackpots() {
-        List<JackpotDto> jackpots = jackpotService.getAllJackpots();
-        return ResponseEntity.ok(jackpots);
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = JackpotDto.class))))
+    @ApiResponse(responseCode = "304", description = "Jackpots unchanged since the given ETag")
+    public ResponseEntity<byte[]> getAllJackpots(WebRequest request) {
+        return httpCachePolicy.getRendered(request, HttpCachePolicy.JACKPOTS, jackpotListSnapshot.current());
     }
 
     /**
      * Get a specific jackpot by ID.
+     * Sends a version ETag; a request whose {@code If-None-Match} is current gets 304.
      *
      * @param jackpotId the jackpot ID
+     * @param request the current request
      * @return jackpot with the specified ID
      */
     @GetMapping("/{jackpotId}")
     @Operation(summary = "Get jackpot by ID", description = "Retrieves a specific jackpot by its ID")
     @ApiResponse(responseCode = "200", description = "Jackpot retrieved successfully",
             content = @Content(schema = @Schema(implementation = JackpotDto.class)))
+    @ApiResponse(responseCode = "304", description = "Jackpot unchanged since the given ETag")
+    @ApiResponse(responseCode = "404", description = "Jackpot not found")
+    public ResponseEntity<JackpotDto> getJackpot(@PathVariable UUID jackpotId, WebRequest request) {
+        return httpCachePolicy.get(request, HttpCachePolicy.JACKPOT, changeTracker.jackpotTag(jackpotId),
+                () -> jackpotService.getJackpotById(jackpotId));
+    }
+
+    /**
+     * Get time-bucketed analytics of a jackpot.
+     *
+     * @param jackpotId the jackpot ID
+     * @param from inclusive start of the range (default: 24 hours before {@code to})
+     * @param to exclusive end of the range (default: now)
+     * @param granularity minute, hour or day (default: hour)
+     * @return non-empty buckets in time order
+     */
+    @GetMapping("/{jackpotId}/stats")
+    @Operation(summary = "Get jackpot analytics",
+            description = "Retrieves bets per minute, turnover and win rate of a jackpot per minute, hour or day bucket")
+    @ApiResponse(responseCode = "200", description = "Analytics retrieved successfully",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = JackpotRollupDto.class))))
+    @ApiResponse(responseCode = "400", description = "Invalid range or granularity")
     @ApiResponse(responseCode = "404", description = "Jackpot not found")
-    public ResponseEntity<JackpotDto> getJackpot(@PathVariable UUID jackpotId) {
-        JackpotDto jackpot = jackpotService.getJackpotById(jackpotId);
-        return ResponseEntity.ok(jackpot);
+    public ResponseEntity<List<JackpotRollupDto>> getJackpotStats(
+            @PathVariable UUID jackpotId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "granularity", defaultValue = "hour") String granularity) {
+
+        if (to == null) to = LocalDateTime.now();
+        if (from == null) from = to.minusDays(1);
+
+        return ResponseEntity.ok(jackpotRollupService.getRollups(jackpotId, from, to, RollupGranularity.from(granularity)));
     }
 }
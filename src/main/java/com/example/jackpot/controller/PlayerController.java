@@ -0,0 +1,40 @@
+package com.example.jackpot.controller;
+
+import com.example.jackpot.dto.PlayerStatsDto;
+import com.example.jackpot.service.PlayerStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for player statistics.
+ * Provides lifetime totals per player from the pre-aggregated player_stats table.
+ */
+@RestController
+@RequestMapping("/api/players")
+@RequiredArgsConstructor
+@Tag(name = "Players", description = "Player statistics endpoints")
+public class PlayerController {
+
+    private final PlayerStatsService playerStatsService;
+
+    /**
+     * Get lifetime statistics of a player.
+     *
+     * @param alias the player alias
+     * @return bets placed, amount wagered, wins and amount won
+     */
+    @GetMapping("/{alias}/stats")
+    @Operation(summary = "Get player statistics", description = "Retrieves lifetime bet and win totals of a player")
+    @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+            content = @Content(schema = @Schema(implementation = PlayerStatsDto.class)))
+    @ApiResponse(responseCode = "404", description = "No bets recorded for the player")
+    public ResponseEntity<PlayerStatsDto> getStats(@PathVariable String alias) {
+        return ResponseEntity.ok(playerStatsService.getStats(alias));
+    }
+}
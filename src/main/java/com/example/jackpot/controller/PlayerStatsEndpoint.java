@@ -0,0 +1,40 @@
+package com.example.jackpot.controller;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.example.jackpot.dto.PlayerStatsRebuildResponse;
+import com.example.jackpot.exception.PlayerStatsRebuildInProgressException;
+import com.example.jackpot.service.PlayerStatsRebuilder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Operator endpoint rebuilding {@code player_stats} from history: {@code POST /actuator/playerstats}.
+ * Not exposed by default; add {@code playerstats} to {@code management.endpoints.web.exposure.include},
+ * preferably with {@code management.server.port} set to a port that is not publicly reachable.
+ */
+@Component
+@Endpoint(id = "playerstats")
+@RequiredArgsConstructor
+public class PlayerStatsEndpoint {
+
+    private final PlayerStatsRebuilder playerStatsRebuilder;
+
+    /**
+     * Recompute all player statistics from the bets and wins history.
+     *
+     * @return number of players recomputed and elapsed time, or 409 if a rebuild is already running
+     */
+    @WriteOperation
+    public WebEndpointResponse<PlayerStatsRebuildResponse> rebuild() {
+        try {
+            return new WebEndpointResponse<>(playerStatsRebuilder.rebuild());
+        } catch (PlayerStatsRebuildInProgressException ex) {
+            return new WebEndpointResponse<>(HttpStatus.CONFLICT.value());
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.jackpot.controller;
 
+import com.example.jackpot.dto.TopWinDto;
 import com.example.jackpot.dto.WinDto;
+import com.example.jackpot.service.JackpotChangeTracker;
+import com.example.jackpot.service.LeaderboardWindow;
+import com.example.jackpot.service.WinLeaderboard;
 import com.example.jackpot.service.WinService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,6 +15,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -25,33 +31,65 @@ import java.util.UUID;
 public class WinController {
 
     private final WinService winService;
+    private final WinLeaderboard winLeaderboard;
+    private final JackpotChangeTracker changeTracker;
+    private final HttpCachePolicy httpCachePolicy;
     private static final int DEFAULT_LIMIT = 10;
     private static final int DEFAULT_OFFSET = 0;
 
     /**
      * Get wins with pagination and filtering support.
+     * Sends a version ETag; a request whose {@code If-None-Match} is current gets 304.
      *
      * @param limit maximum number of wins to return (default: 10)
      * @param offset page offset (0-based, default: 0)
      * @param playerAlias optional filter by player alias
      * @param jackpotId optional filter by jackpot ID
+     * @param request the current request
      * @return list of wins
      */
     @GetMapping
     @Operation(summary = "Get wins", description = "Retrieves all recorded wins with pagination and filtering support")
     @ApiResponse(responseCode = "200", description = "Wins retrieved successfully",
             content = @Content(schema = @Schema(implementation = WinDto.class)))
+    @ApiResponse(responseCode = "304", description = "No wins since the given ETag")
     public ResponseEntity<List<WinDto>> getWins(
             @RequestParam(value = "limit", defaultValue = DEFAULT_LIMIT + "") int limit,
             @RequestParam(value = "offset", defaultValue = DEFAULT_OFFSET + "") int offset,
             @RequestParam(value = "playerAlias", required = false) String playerAlias,
-            @RequestParam(value = "jackpotId", required = false) UUID jackpotId) {
+            @RequestParam(value = "jackpotId", required = false) UUID jackpotId,
+            WebRequest request) {
         
         // Validate parameters
         if (limit <= 0) limit = DEFAULT_LIMIT;
         if (offset < 0) offset = DEFAULT_OFFSET;
 
-        List<WinDto> wins = winService.getWins(limit, offset, playerAlias, jackpotId);
-        return ResponseEntity.ok(wins);
+        int pageLimit = limit;
+        int pageOffset = offset;
+        return httpCachePolicy.get(request, HttpCachePolicy.WINS, changeTracker.winsTag(),
+                () -> winService.getWins(pageLimit, pageOffset, playerAlias, jackpotId));
+    }
+
+    /**
+     * Get the biggest wins of a time window from the in-memory leaderboard.
+     *
+     * @param window day, week or all (default: day)
+     * @param jackpotId optional filter by jackpot ID
+     * @param limit maximum number of wins to return (default: 10)
+     * @return wins, biggest first
+     */
+    @GetMapping("/top")
+    @Operation(summary = "Get biggest wins", description = "Retrieves the biggest wins of today, the last seven days or all time")
+    @ApiResponse(responseCode = "200", description = "Leaderboard retrieved successfully",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TopWinDto.class))))
+    @ApiResponse(responseCode = "400", description = "Unknown window")
+    public ResponseEntity<List<TopWinDto>> getTopWins(
+            @RequestParam(value = "window", defaultValue = "day") String window,
+            @RequestParam(value = "jackpotId", required = false) UUID jackpotId,
+            @RequestParam(value = "limit", defaultValue = DEFAULT_LIMIT + "") int limit) {
+
+        if (limit <= 0) limit = DEFAULT_LIMIT;
+
+        return ResponseEntity.ok(winLeaderboard.top(LeaderboardWindow.from(window), jackpotId, limit));
     }
 }
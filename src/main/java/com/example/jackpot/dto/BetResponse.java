@@ -2,6 +2,8 @@ package com.example.jackpot.dto;
 
 import java.math.BigDecimal;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,7 +12,8 @@ import lombok.NoArgsConstructor;
 
 /**
  * DTO for bet response.
- * Contains bet result and jackpot information after the bet.
+ * Contains bet result and jackpot information after the bet, or in a batch the reason
+ * the bet was not placed.
  */
 @Data
 @NoArgsConstructor
@@ -30,4 +33,9 @@ public class BetResponse {
 
     @Schema(description = "Message about the bet result", example = "Better luck next time!")
     private String message;
+
+    @Schema(description = "Why the bet was not placed; only set in a batch where bets on other jackpots were placed, "
+            + "so only the bets carrying an error are resubmitted", example = "Jackpot not found with ID: 3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
 }
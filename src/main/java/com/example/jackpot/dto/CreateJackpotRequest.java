@@ -1,8 +1,11 @@
 package com.example.jackpot.dto;
 
+import java.math.BigDecimal;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -29,4 +32,23 @@ public class CreateJackpotRequest {
     @DecimalMin(value = "0.0", inclusive = true, message = "winProbability must be >= 0.0")
     @DecimalMax(value = "1.0", inclusive = true, message = "winProbability must be <= 1.0")
     private Double winProbability;
+
+    @Schema(description = "Share of each bet added to the pot (0.0 - 1.0, default 1.0)", example = "0.05")
+    @DecimalMin(value = "0.0", inclusive = true, message = "contributionRate must be >= 0.0")
+    @DecimalMax(value = "1.0", inclusive = true, message = "contributionRate must be <= 1.0")
+    @Digits(integer = 1, fraction = 4, message = "contributionRate must have at most 4 decimal places")
+    private BigDecimal contributionRate;
+
+    @Schema(description = "Pot size the jackpot starts at and resets to after a win (default 0)", example = "1000.00")
+    @DecimalMin(value = "0.0", inclusive = true, message = "seedAmount must be >= 0.0")
+    private BigDecimal seedAmount;
+
+    @Schema(description = "Maximum pot size; contributions above it are not added (default: no cap)", example = "50000.00")
+    @DecimalMin(value = "0.01", inclusive = true, message = "maxSize must be > 0")
+    private BigDecimal maxSize;
+
+    @Schema(description = "Pot size at which the jackpot must drop; win probability rises towards it (default: flat probability)",
+            example = "20000.00")
+    @DecimalMin(value = "0.01", inclusive = true, message = "mustDropBy must be > 0")
+    private BigDecimal mustDropBy;
 }
@@ -27,6 +27,18 @@ public class JackpotDto {
     @Schema(description = "Jackpot name", example = "Super Jackpot")
     private String name;
 
+    @Schema(description = "Share of each bet added to the pot", example = "0.05")
+    private BigDecimal contributionRate;
+
+    @Schema(description = "Pot size after a win", example = "1000.00")
+    private BigDecimal seedAmount;
+
+    @Schema(description = "Maximum pot size (null if uncapped)", example = "50000.00")
+    private BigDecimal maxSize;
+
+    @Schema(description = "Pot size at which the jackpot must drop (null if flat probability)", example = "20000.00")
+    private BigDecimal mustDropBy;
+
     @Schema(description = "Current jackpot size", example = "150.50")
     private BigDecimal currentSize;
 
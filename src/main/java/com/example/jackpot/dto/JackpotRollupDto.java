@@ -0,0 +1,45 @@
+package com.example.jackpot.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one analytics bucket of a jackpot.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Jackpot analytics for one time bucket")
+public class JackpotRollupDto {
+
+    @Schema(description = "Start of the bucket", example = "2025-12-28T10:00:00")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "Number of bets", example = "1200")
+    private long betCount;
+
+    @Schema(description = "Bets per minute over the bucket", example = "20.0")
+    private double betsPerMinute;
+
+    @Schema(description = "Total amount wagered", example = "15000.00")
+    private BigDecimal turnover;
+
+    @Schema(description = "Total amount added to the pot", example = "1500.00")
+    private BigDecimal contributions;
+
+    @Schema(description = "Number of wins", example = "1")
+    private long winCount;
+
+    @Schema(description = "Wins per bet", example = "0.00083")
+    private double winRate;
+
+    @Schema(description = "Total amount paid out", example = "4200.00")
+    private BigDecimal payouts;
+}
@@ -0,0 +1,36 @@
+package com.example.jackpot.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for per-player statistics.
+ * Contains lifetime totals over all jackpots.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Player statistics")
+public class PlayerStatsDto {
+
+    @Schema(description = "Player alias", example = "player123")
+    private String playerAlias;
+
+    @Schema(description = "Number of bets placed", example = "42")
+    private long betCount;
+
+    @Schema(description = "Total amount wagered", example = "1250.00")
+    private BigDecimal totalWagered;
+
+    @Schema(description = "Number of jackpot wins", example = "1")
+    private long winCount;
+
+    @Schema(description = "Total amount won", example = "980.00")
+    private BigDecimal totalWon;
+}
@@ -0,0 +1,24 @@
+package com.example.jackpot.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of a player statistics rebuild.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Player statistics rebuild result")
+public class PlayerStatsRebuildResponse {
+
+    @Schema(description = "Number of players recomputed", example = "1500")
+    private int players;
+
+    @Schema(description = "Rebuild duration in milliseconds", example = "320")
+    private long durationMs;
+}
@@ -0,0 +1,38 @@
+package com.example.jackpot.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for a leaderboard entry.
+ * Contains one of the biggest wins in a time window.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Leaderboard win")
+public class TopWinDto {
+
+    @Schema(description = "Win ID")
+    private UUID winId;
+
+    @Schema(description = "Jackpot ID")
+    private UUID jackpotId;
+
+    @Schema(description = "Player alias", example = "player123")
+    private String playerAlias;
+
+    @Schema(description = "Win amount", example = "5000.00")
+    private BigDecimal winAmount;
+
+    @Schema(description = "Win timestamp", example = "2025-12-28T10:30:00")
+    private LocalDateTime timestamp;
+}
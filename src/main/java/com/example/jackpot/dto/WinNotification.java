@@ -0,0 +1,33 @@
+package com.example.jackpot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for a win notification published to downstream systems.
+ * Delivery is at least once; consumers deduplicate by {@code id}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WinNotification {
+
+    private UUID id;
+
+    private UUID winId;
+
+    private UUID jackpotId;
+
+    private String playerAlias;
+
+    private BigDecimal winAmount;
+
+    private LocalDateTime wonAt;
+}
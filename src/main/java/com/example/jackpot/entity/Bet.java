@@ -15,7 +15,10 @@ import java.util.UUID;
  * Every bet is recorded in the database for auditing and replay purposes.
  */
 @Entity
-@Table(name = "bets")
+@Table(name = "bets", indexes = {
+        @Index(name = "idx_bets_jackpot_created", columnList = "jackpot_id, created_at"),
+        @Index(name = "idx_bets_jackpot_sequence", columnList = "jackpot_id, bet_sequence")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +39,20 @@ public class Bet {
     @Column(nullable = false)
     private BigDecimal betAmount;
 
+    /**
+     * Amount actually added to the pot (after contribution rate and cap).
+     * Null for bets recorded before contributions were tracked, which contributed in full.
+     */
+    @Column
+    private BigDecimal contribution;
+
+    /**
+     * Position of the bet among the bets of its jackpot, assigned while the jackpot row is
+     * locked, so it follows settlement order. Null for bets recorded before sequences existed.
+     */
+    @Column(name = "bet_sequence", updatable = false)
+    private Long betSequence;
+
     @Column(nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
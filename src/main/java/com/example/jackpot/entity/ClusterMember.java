@@ -0,0 +1,32 @@
+package com.example.jackpot.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a live application node in cluster mode.
+ * Each node upserts its own row on every heartbeat; rows with a stale heartbeat are ignored.
+ */
+@Entity
+@Table(name = "cluster_members")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterMember {
+
+    @Id
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private String url;
+
+    @Column(name = "last_heartbeat", nullable = false)
+    private LocalDateTime lastHeartbeat;
+}
@@ -1,5 +1,6 @@
 package com.example.jackpot.entity;
 
+import com.example.jackpot.service.JackpotChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,8 +14,11 @@ import java.util.UUID;
 /**
  * Jackpot entity representing a jackpot in the system.
  * Each jackpot has a win probability and tracks its current size and win count.
+ * Contribution rate, seed and cap columns are nullable so rows created before they
+ * existed keep the original behavior (100% contribution, reset to zero, no cap).
  */
 @Entity
+@EntityListeners(JackpotChangeListener.class)
 @Table(name = "jackpots")
 @Data
 @NoArgsConstructor
@@ -32,6 +36,24 @@ public class Jackpot {
     @Column(nullable = false)
     private Double winProbability;
 
+    @Column(precision = 5, scale = 4)
+    @Builder.Default
+    private BigDecimal contributionRate = BigDecimal.ONE;
+
+    @Column
+    @Builder.Default
+    private BigDecimal seedAmount = BigDecimal.ZERO;
+
+    @Column
+    private BigDecimal maxSize;
+
+    /**
+     * Pot size at which the jackpot is certain to drop; win probability rises towards it.
+     * Null for a flat win probability.
+     */
+    @Column
+    private BigDecimal mustDropBy;
+
     @Column(nullable = false)
     @Builder.Default
     private BigDecimal currentSize = BigDecimal.ZERO;
@@ -46,4 +68,18 @@ public class Jackpot {
     @Column(nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    /**
+     * Incremented on every update of the row; cached copies carry it so an older copy
+     * never replaces a newer one. Not an optimistic-lock version: concurrent writers are
+     * not rejected. Null on rows written before the column existed.
+     */
+    @Column
+    @Builder.Default
+    private Long version = 0L;
+
+    @PreUpdate
+    void incrementVersion() {
+        version = version != null ? version + 1 : 1;
+    }
 }
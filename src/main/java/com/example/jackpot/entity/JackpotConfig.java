@@ -0,0 +1,62 @@
+package com.example.jackpot.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only view of the configuration columns of a {@link Jackpot} row.
+ * Configuration is never changed after a jackpot is created, so this view is held in the
+ * {@value #CACHE_REGION} second-level cache region and looked up without a database read;
+ * the pot and win counters, which every bet writes, are mapped on {@link JackpotCounters}.
+ * Column definitions mirror {@link Jackpot} since both entities map the same table.
+ */
+@Entity
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = JackpotConfig.CACHE_REGION)
+@Table(name = "jackpots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class JackpotConfig {
+
+    /**
+     * Second-level cache region of jackpot configurations.
+     */
+    public static final String CACHE_REGION = "jackpot-config";
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private Double winProbability;
+
+    @Column(precision = 5, scale = 4)
+    private BigDecimal contributionRate;
+
+    @Column
+    private BigDecimal seedAmount;
+
+    @Column
+    private BigDecimal maxSize;
+
+    @Column
+    private BigDecimal mustDropBy;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
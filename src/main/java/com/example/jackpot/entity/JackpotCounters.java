@@ -0,0 +1,68 @@
+package com.example.jackpot.entity;
+
+import com.example.jackpot.service.JackpotChangeListener;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The pot and win counters of a {@link Jackpot} row, the only columns a bet writes.
+ * The bet path locks and updates the row through this entity, so it neither reads nor
+ * writes the configuration columns, which come from {@link JackpotConfig}.
+ * Column definitions mirror {@link Jackpot} since both entities map the same table.
+ */
+@Entity
+@EntityListeners(JackpotChangeListener.class)
+@Table(name = "jackpots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JackpotCounters {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private BigDecimal currentSize;
+
+    @Column(nullable = false)
+    private Integer winCount;
+
+    @Column
+    private LocalDateTime lastWinTimestamp;
+
+    /**
+     * {@link Bet#getBetSequence() Sequence} of the last bet settled on the jackpot. Only the bet
+     * path writes it, so {@link Jackpot} does not map it. Null before the first sequenced bet.
+     */
+    @Column(name = "bet_sequence")
+    private Long betSequence;
+
+    /**
+     * Row version shared with {@link Jackpot#getVersion()}.
+     */
+    @Column
+    private Long version;
+
+    /**
+     * Assign the next bet sequence.
+     *
+     * @return sequence of the new bet
+     */
+    public long nextBetSequence() {
+        betSequence = (betSequence != null ? betSequence : 0L) + 1;
+        return betSequence;
+    }
+
+    @PreUpdate
+    void incrementVersion() {
+        version = version != null ? version + 1 : 1;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.jackpot.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A committed jackpot row change, published to the other nodes' caches through the database.
+ * Rows are polled by every node and deleted once older than the retention.
+ */
+@Entity
+@Table(name = "jackpot_invalidations", indexes = @Index(name = "idx_jackpot_invalidations_created", columnList = "created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JackpotInvalidationEntry {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "jackpot_id", nullable = false)
+    private UUID jackpotId;
+
+    /**
+     * Row version after the change; {@link Long#MAX_VALUE} for a deleted jackpot.
+     */
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Database time of the insert, so that nodes with different clocks agree on the order.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
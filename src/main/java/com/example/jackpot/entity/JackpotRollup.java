@@ -0,0 +1,61 @@
+package com.example.jackpot.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Pre-aggregated bet and win totals of one jackpot over one time bucket.
+ * Minute, hour and day buckets are maintained side by side; old minute and hour
+ * buckets are deleted once covered by coarser ones.
+ */
+@Entity
+@Table(name = "jackpot_rollups", uniqueConstraints = @UniqueConstraint(name = "uk_rollups_jackpot_granularity_bucket",
+        columnNames = {"jackpot_id", "granularity", "bucket_start"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JackpotRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "jackpot_id", nullable = false)
+    private UUID jackpotId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private Long betCount;
+
+    /**
+     * Total amount wagered.
+     */
+    @Column(nullable = false)
+    private BigDecimal turnover;
+
+    /**
+     * Total amount added to the pot.
+     */
+    @Column(nullable = false)
+    private BigDecimal contributions;
+
+    @Column(nullable = false)
+    private Long winCount;
+
+    @Column(nullable = false)
+    private BigDecimal payouts;
+}
@@ -0,0 +1,54 @@
+package com.example.jackpot.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Snapshot of a jackpot's state derived from the bets/wins event stream.
+ * A rebuild starts from the latest snapshot and replays only bets after {@code betSequence}.
+ */
+@Entity
+@Table(name = "jackpot_snapshots", indexes = @Index(name = "idx_snapshots_jackpot_as_of", columnList = "jackpot_id, as_of"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JackpotSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "jackpot_id", nullable = false)
+    private UUID jackpotId;
+
+    @Column(nullable = false)
+    private BigDecimal currentSize;
+
+    @Column(nullable = false)
+    private Integer winCount;
+
+    @Column
+    private LocalDateTime lastWinTimestamp;
+
+    @Column(name = "as_of", nullable = false)
+    private LocalDateTime asOf;
+
+    /**
+     * Sequence of the last bet the snapshot includes. Null for snapshots taken before bets
+     * were sequenced; those are not used.
+     */
+    @Column(name = "bet_sequence")
+    private Long betSequence;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,47 @@
+package com.example.jackpot.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated per-player totals over all bets and wins.
+ * Maintained incrementally from the bet stream; can be recomputed from history.
+ */
+@Entity
+@Table(name = "player_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlayerStats {
+
+    @Id
+    @Column(name = "player_alias")
+    private String playerAlias;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long betCount = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private BigDecimal totalWagered = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long winCount = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private BigDecimal totalWon = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
@@ -0,0 +1,50 @@
+package com.example.jackpot.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * Bucket size of jackpot analytics rollups.
+ */
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES, 1),
+    HOUR(ChronoUnit.HOURS, 60),
+    DAY(ChronoUnit.DAYS, 24 * 60);
+
+    private final ChronoUnit unit;
+    private final int minutes;
+
+    RollupGranularity(ChronoUnit unit, int minutes) {
+        this.unit = unit;
+        this.minutes = minutes;
+    }
+
+    /**
+     * @param timestamp a point in time
+     * @return start of the bucket containing it
+     */
+    public LocalDateTime bucketStart(LocalDateTime timestamp) {
+        return timestamp.truncatedTo(unit);
+    }
+
+    /**
+     * @return bucket length in minutes
+     */
+    public int getMinutes() {
+        return minutes;
+    }
+
+    /**
+     * @param value granularity name, case-insensitive ({@code minute}, {@code hour} or {@code day})
+     * @return granularity
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static RollupGranularity from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new IllegalArgumentException("Granularity must be one of minute, hour, day");
+        }
+    }
+}
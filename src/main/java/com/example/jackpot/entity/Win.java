@@ -1,5 +1,6 @@
 package com.example.jackpot.entity;
 
+import com.example.jackpot.service.JackpotChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,7 +16,11 @@ import java.util.UUID;
  * Records the winner, the amount won, and the timestamp of the win.
  */
 @Entity
-@Table(name = "wins")
+@EntityListeners(JackpotChangeListener.class)
+@Table(name = "wins", indexes = {
+        @Index(name = "idx_wins_jackpot_timestamp", columnList = "jackpot_id, timestamp"),
+        @Index(name = "idx_wins_jackpot_amount", columnList = "jackpot_id, win_amount")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +41,13 @@ public class Win {
     @Column(nullable = false)
     private BigDecimal winAmount;
 
+    /**
+     * {@link Bet#getBetSequence() Sequence} of the winning bet. Null for wins recorded before
+     * sequences existed.
+     */
+    @Column(name = "bet_sequence", updatable = false)
+    private Long betSequence;
+
     @Column(nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime timestamp = LocalDateTime.now();
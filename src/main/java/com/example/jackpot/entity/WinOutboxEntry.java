@@ -0,0 +1,54 @@
+package com.example.jackpot.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Pending notification of a win, written in the transaction that inserts the win.
+ * Carries a copy of the win so the relay never joins back to {@code wins}; deleted once
+ * every sink has accepted it.
+ */
+@Entity
+@Table(name = "win_outbox", indexes = @Index(name = "idx_win_outbox_next_attempt", columnList = "next_attempt_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WinOutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "win_id", nullable = false)
+    private UUID winId;
+
+    @Column(name = "jackpot_id", nullable = false)
+    private UUID jackpotId;
+
+    @Column(nullable = false)
+    private String playerAlias;
+
+    @Column(nullable = false)
+    private BigDecimal winAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime wonAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column
+    private String lastError;
+}
@@ -0,0 +1,18 @@
+package com.example.jackpot.event;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published by {@code BetService} once per bet transaction (one bet, or one batch group).
+ * Listeners should use {@code @TransactionalEventListener} so they only see committed bets.
+ */
+@Value
+public class BetsPlacedEvent {
+
+    /**
+     * Settled bets in settlement order.
+     */
+    List<PlacedBet> bets;
+}
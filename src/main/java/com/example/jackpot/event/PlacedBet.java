@@ -0,0 +1,74 @@
+package com.example.jackpot.event;
+
+import com.example.jackpot.dto.BetResponse;
+import com.example.jackpot.entity.Bet;
+import com.example.jackpot.entity.Win;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outcome of one settled bet, as seen by downstream read models.
+ */
+@Value
+@Builder
+public class PlacedBet {
+
+    UUID jackpotId;
+
+    /**
+     * {@link Bet#getBetSequence() Sequence} of the bet on its jackpot.
+     */
+    Long betSequence;
+
+    String playerAlias;
+    BigDecimal betAmount;
+
+    /**
+     * Amount actually added to the pot.
+     */
+    BigDecimal contribution;
+
+    boolean won;
+
+    /**
+     * Pot paid out, zero if the bet did not win.
+     */
+    BigDecimal winAmount;
+
+    LocalDateTime timestamp;
+
+    /**
+     * Id of the recorded win, {@code null} if the bet did not win.
+     */
+    UUID winId;
+
+    /**
+     * Time of the recorded win, {@code null} if the bet did not win.
+     */
+    LocalDateTime winTimestamp;
+
+    /**
+     * @param bet the persisted bet
+     * @param response the settlement result returned to the player
+     * @param win the persisted win, or {@code null}
+     * @return placed bet
+     */
+    public static PlacedBet of(Bet bet, BetResponse response, Win win) {
+        return PlacedBet.builder()
+                .jackpotId(bet.getJackpot().getId())
+                .betSequence(bet.getBetSequence())
+                .playerAlias(bet.getPlayerAlias())
+                .betAmount(bet.getBetAmount())
+                .contribution(bet.getContribution())
+                .won(Boolean.TRUE.equals(response.getWon()))
+                .winAmount(response.getWinAmount())
+                .timestamp(bet.getCreatedAt())
+                .winId(win != null ? win.getId() : null)
+                .winTimestamp(win != null ? win.getTimestamp() : null)
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.jackpot.exception;
+
+/**
+ * Thrown when a bet is rejected for an expected business reason (unknown jackpot, invalid amount);
+ * answered with 400. Carries no stack trace and no suppressed exceptions: the reason is fully
+ * described by the message, rejections can arrive at request rate, and one instance may be shared
+ * between requests.
+ */
+public class BetRejectedException extends RuntimeException {
+
+    public BetRejectedException(String message) {
+        super(message, null, false, false);
+    }
+}
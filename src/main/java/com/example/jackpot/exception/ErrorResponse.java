@@ -1,5 +1,7 @@
 package com.example.jackpot.exception;
 
+import org.springframework.http.HttpStatus;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,4 +29,13 @@ public class ErrorResponse {
 
     @Schema(description = "Timestamp of the error", example = "2025-12-28T10:30:00")
     private String timestamp;
+
+    /**
+     * @param status HTTP status
+     * @param message error message
+     * @return error response stamped with the current time (second precision)
+     */
+    public static ErrorResponse of(HttpStatus status, String message) {
+        return new ErrorResponse(status.value(), message, status.name(), ErrorTimestamp.now());
+    }
 }
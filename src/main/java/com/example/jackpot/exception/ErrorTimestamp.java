@@ -0,0 +1,38 @@
+package com.example.jackpot.exception;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import lombok.Value;
+
+/**
+ * Formats error timestamps to the second, reusing the formatted text within the same second.
+ */
+final class ErrorTimestamp {
+
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private static volatile Formatted last = new Formatted(Long.MIN_VALUE, "");
+
+    private ErrorTimestamp() {
+    }
+
+    /**
+     * @return the current local time, e.g. {@code 2025-12-28T10:30:00}
+     */
+    static String now() {
+        long second = Math.floorDiv(System.currentTimeMillis(), 1000);
+        Formatted formatted = last;
+        if (formatted.second != second) {
+            formatted = new Formatted(second, LocalDateTime.now().withNano(0).format(formatter));
+            last = formatted;
+        }
+        return formatted.text;
+    }
+
+    @Value
+    private static class Formatted {
+        long second;
+        String text;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.jackpot.exception;
+
+/**
+ * Thrown when no statistics exist for a player alias.
+ */
+public class PlayerNotFoundException extends RuntimeException {
+    public PlayerNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.jackpot.exception;
+
+/**
+ * Thrown when a player statistics rebuild is requested while another one is running.
+ */
+public class PlayerStatsRebuildInProgressException extends RuntimeException {
+    public PlayerStatsRebuildInProgressException(String message) {
+        super(message);
+    }
+}
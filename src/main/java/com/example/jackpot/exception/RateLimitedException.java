@@ -0,0 +1,29 @@
+package com.example.jackpot.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request exceeds an admission limit; answered with 429 and {@code Retry-After}.
+ * Carries no stack trace: it is expected under load and arrives at request rate.
+ */
+public class RateLimitedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return time after which the request would be admitted
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
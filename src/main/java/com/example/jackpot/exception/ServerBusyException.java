@@ -0,0 +1,13 @@
+package com.example.jackpot.exception;
+
+/**
+ * Thrown when a peer node sheds a forwarded request; answered with the same 503 and
+ * {@code Retry-After: 1} as a request shed on this node.
+ * Carries no stack trace: it is expected under load and arrives at request rate.
+ */
+public class ServerBusyException extends RuntimeException {
+
+    public ServerBusyException(String message) {
+        super(message, null, false, false);
+    }
+}
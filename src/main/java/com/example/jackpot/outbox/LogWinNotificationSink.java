@@ -0,0 +1,30 @@
+package com.example.jackpot.outbox;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.jackpot.dto.WinNotification;
+
+/**
+ * Writes each notification to the {@code jackpot.wins} logger.
+ */
+public class LogWinNotificationSink implements WinNotificationSink {
+
+    private static final Logger winLog = LoggerFactory.getLogger("jackpot.wins");
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void publish(List<WinNotification> notifications) {
+        for (WinNotification notification : notifications) {
+            winLog.info("win id={} win_id={} jackpot_id={} player={} amount={} won_at={}",
+                    notification.getId(), notification.getWinId(), notification.getJackpotId(),
+                    notification.getPlayerAlias(), notification.getWinAmount(), notification.getWonAt());
+        }
+    }
+}
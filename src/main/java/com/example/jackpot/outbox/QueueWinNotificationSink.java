@@ -0,0 +1,49 @@
+package com.example.jackpot.outbox;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.example.jackpot.dto.WinNotification;
+
+/**
+ * Bounded in-process queue for consumers in the same JVM (e.g. lobby broadcasts).
+ * A batch that does not fit is refused as a whole and retried by the relay.
+ */
+public class QueueWinNotificationSink implements WinNotificationSink {
+
+    private final BlockingQueue<WinNotification> queue;
+
+    /**
+     * @param capacity maximum queued notifications
+     */
+    public QueueWinNotificationSink(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public String name() {
+        return "queue";
+    }
+
+    @Override
+    public synchronized void publish(List<WinNotification> notifications) {
+        if (queue.remainingCapacity() < notifications.size()) {
+            throw new IllegalStateException("Win notification queue is full");
+        }
+        queue.addAll(notifications);
+    }
+
+    /**
+     * Take the next notification, waiting up to the timeout.
+     *
+     * @param timeout maximum wait
+     * @param unit unit of the timeout
+     * @return the notification, or {@code null} if none arrived in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public WinNotification poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.jackpot.outbox;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import com.example.jackpot.dto.WinNotification;
+
+/**
+ * POSTs each batch as a JSON array to a webhook. Any non-2xx answer fails the batch.
+ */
+public class WebhookWinNotificationSink implements WinNotificationSink {
+
+    private final RestClient restClient;
+    private final String url;
+
+    /**
+     * @param restClient client configured with the webhook timeouts
+     * @param url webhook URL
+     */
+    public WebhookWinNotificationSink(RestClient restClient, String url) {
+        this.restClient = restClient;
+        this.url = url;
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void publish(List<WinNotification> notifications) {
+        restClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(notifications)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.jackpot.outbox;
+
+import java.util.List;
+
+import com.example.jackpot.dto.WinNotification;
+
+/**
+ * Destination for win notifications. Every {@code WinNotificationSink} bean receives every batch.
+ */
+public interface WinNotificationSink {
+
+    /**
+     * @return name used in logs and metrics
+     */
+    String name();
+
+    /**
+     * Publish a batch. Throwing fails the whole batch, which is retried later for every sink,
+     * so a sink may see a notification more than once.
+     *
+     * @param notifications notifications in win order
+     * @throws Exception if the batch was not accepted
+     */
+    void publish(List<WinNotification> notifications) throws Exception;
+}
@@ -0,0 +1,56 @@
+package com.example.jackpot.outbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.jackpot.config.WinOutboxProperties;
+import com.example.jackpot.entity.Win;
+import com.example.jackpot.entity.WinOutboxEntry;
+import com.example.jackpot.repository.WinOutboxRepository;
+
+/**
+ * Records wins for asynchronous notification. Must run inside the transaction that inserts
+ * the wins, so a win and its notification commit or roll back together; the bet itself only
+ * pays for one more batched insert.
+ */
+@Component
+public class WinOutbox {
+
+    private final WinOutboxRepository outboxRepository;
+    private final boolean enabled;
+
+    public WinOutbox(WinOutboxRepository outboxRepository, WinOutboxProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.enabled = properties.isEnabled();
+    }
+
+    /**
+     * Add an outbox entry per win.
+     *
+     * @param wins wins saved in the current transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(List<Win> wins) {
+        if (!enabled || wins.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<WinOutboxEntry> entries = new ArrayList<>(wins.size());
+        for (Win win : wins) {
+            entries.add(WinOutboxEntry.builder()
+                    .winId(win.getId())
+                    .jackpotId(win.getJackpot().getId())
+                    .playerAlias(win.getPlayerAlias())
+                    .winAmount(win.getWinAmount())
+                    .wonAt(win.getTimestamp())
+                    .nextAttemptAt(now)
+                    .build());
+        }
+        outboxRepository.saveAll(entries);
+    }
+}
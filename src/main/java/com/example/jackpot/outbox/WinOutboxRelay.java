@@ -0,0 +1,163 @@
+package com.example.jackpot.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.jackpot.config.WinOutboxProperties;
+import com.example.jackpot.dto.WinNotification;
+import com.example.jackpot.entity.WinOutboxEntry;
+import com.example.jackpot.repository.WinOutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes due outbox entries to every {@link WinNotificationSink} in batches, off the bet path.
+ * A batch is deleted once all sinks accepted it; otherwise each entry is retried with exponential
+ * backoff until {@code max-attempts}. Each batch is claimed with {@code FOR UPDATE SKIP LOCKED}
+ * and published inside that transaction, so in cluster mode every node relays but no two relay the
+ * same entry at once. Delivery is still at least once: a retried batch is sent to every sink again,
+ * and a batch published just before its transaction fails is published again, so consumers
+ * deduplicate by notification id.
+ */
+@Component
+public class WinOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(WinOutboxRelay.class);
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final WinOutboxRepository outboxRepository;
+    private final List<WinNotificationSink> sinks;
+    private final WinOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter published;
+    private final Counter failedBatches;
+    private final Timer lag;
+
+    public WinOutboxRelay(WinOutboxRepository outboxRepository,
+                          List<WinNotificationSink> sinks,
+                          WinOutboxProperties properties,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.sinks = sinks;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.published = Counter.builder("jackpot.outbox.published")
+                .description("Win notifications accepted by all sinks")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("jackpot.outbox.failures")
+                .description("Win notification batches refused by a sink")
+                .register(meterRegistry);
+        this.lag = Timer.builder("jackpot.outbox.lag")
+                .description("Time from win to notification")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Relay all due entries, stopping at the first failed batch.
+     *
+     * @return number of notifications published
+     */
+    @Scheduled(initialDelayString = "${jackpot.win-outbox.poll-interval:PT1S}",
+            fixedDelayString = "${jackpot.win-outbox.poll-interval:PT1S}")
+    public int relay() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        int total = 0;
+        while (true) {
+            Integer relayed = transactionTemplate.execute(status -> relayBatch());
+            if (relayed == null || relayed <= 0) {
+                return total;
+            }
+            total += relayed;
+            if (relayed < properties.getBatchSize()) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * @return entries published, 0 if none were due, -1 if a sink refused the batch
+     */
+    private int relayBatch() {
+        List<WinOutboxEntry> due = outboxRepository.claimDue(LocalDateTime.now(), properties.getMaxAttempts(),
+                properties.getBatchSize());
+        if (due.isEmpty()) {
+            return 0;
+        }
+        return publish(due) ? due.size() : -1;
+    }
+
+    private boolean publish(List<WinOutboxEntry> entries) {
+        List<WinNotification> notifications = entries.stream().map(WinOutboxRelay::toNotification).toList();
+        for (WinNotificationSink sink : sinks) {
+            try {
+                sink.publish(notifications);
+            } catch (Exception ex) {
+                failedBatches.increment();
+                log.warn("Win notification sink {} refused {} notifications: {}", sink.name(), entries.size(), ex.toString());
+                scheduleRetry(entries, sink.name() + ": " + ex);
+                return false;
+            }
+        }
+        outboxRepository.deleteAllInBatch(entries);
+        published.increment(entries.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (WinOutboxEntry entry : entries) {
+            lag.record(Duration.between(entry.getWonAt(), now).toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return true;
+    }
+
+    private void scheduleRetry(List<WinOutboxEntry> entries, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        String lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        for (WinOutboxEntry entry : entries) {
+            int attempts = entry.getAttempts() + 1;
+            entry.setAttempts(attempts);
+            entry.setNextAttemptAt(now.plus(backoff(attempts)));
+            entry.setLastError(lastError);
+            if (attempts >= properties.getMaxAttempts()) {
+                log.error("Giving up on win notification {} for win {} after {} attempts",
+                        entry.getId(), entry.getWinId(), attempts);
+            }
+        }
+        outboxRepository.saveAll(entries);
+    }
+
+    /**
+     * @param attempts failed attempts so far, at least 1
+     * @return delay before the next attempt
+     */
+    Duration backoff(int attempts) {
+        Duration max = properties.getMaxBackoff();
+        Duration delay = properties.getInitialBackoff();
+        for (int i = 1; i < attempts && delay.compareTo(max) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    private static WinNotification toNotification(WinOutboxEntry entry) {
+        return WinNotification.builder()
+                .id(entry.getId())
+                .winId(entry.getWinId())
+                .jackpotId(entry.getJackpotId())
+                .playerAlias(entry.getPlayerAlias())
+                .winAmount(entry.getWinAmount())
+                .wonAt(entry.getWonAt())
+                .build();
+    }
+}
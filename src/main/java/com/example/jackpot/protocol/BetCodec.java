@@ -0,0 +1,189 @@
+package com.example.jackpot.protocol;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.BetResponse;
+
+/**
+ * Compact binary encoding of bets, an alternative to JSON for high-rate clients.
+ * All integers are big-endian; amounts are sent as unscaled value and scale.
+ *
+ * <pre>
+ * request  = version:u8 frame+
+ * frame    = length:u16 jackpotId:16 amountUnscaled:i64 amountScale:u8 playerAlias:utf8
+ *            (length counts the bytes after the length field)
+ * response = version:u8 result*
+ * result   = flags:u8 winUnscaled:i64 winScale:u8 potUnscaled:i64 potScale:u8
+ *            (flags bit 0: won, bit 1: not placed; one result per frame, in order)
+ * </pre>
+ *
+ * Frames decode straight into {@link BetRequest}: UUIDs and amounts are built
+ * from their binary parts, without any text parsing. Bean validation is left to
+ * the caller so the JSON and binary paths share the same rules.
+ */
+public final class BetCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-jackpot-bet";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+    public static final byte VERSION = 1;
+
+    /**
+     * Bytes of a frame before the player alias.
+     */
+    static final int FRAME_HEADER_LENGTH = 16 + 8 + 1;
+    static final int RESULT_LENGTH = 1 + 9 + 9;
+
+    private static final int FLAG_WON = 1;
+    private static final int FLAG_NOT_PLACED = 2;
+    private static final String NOT_PLACED = "Bet not placed";
+    private static final BigInteger MAX_UNSCALED = BigInteger.valueOf(Long.MAX_VALUE);
+    private static final BigInteger MIN_UNSCALED = BigInteger.valueOf(Long.MIN_VALUE);
+
+    private BetCodec() {
+    }
+
+    /**
+     * Decode a request body.
+     *
+     * @param body request body
+     * @return one bet request per frame, in order
+     * @throws IllegalArgumentException if the body is empty, of another version, or truncated
+     */
+    public static List<BetRequest> decodeRequests(byte[] body) {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        checkVersion(buffer);
+        List<BetRequest> requests = new ArrayList<>();
+        try {
+            while (buffer.hasRemaining()) {
+                int length = Short.toUnsignedInt(buffer.getShort());
+                if (length < FRAME_HEADER_LENGTH || length > buffer.remaining()) {
+                    throw malformed(requests.size(), "invalid frame length " + length);
+                }
+                UUID jackpotId = new UUID(buffer.getLong(), buffer.getLong());
+                long unscaled = buffer.getLong();
+                int scale = Byte.toUnsignedInt(buffer.get());
+                int aliasLength = length - FRAME_HEADER_LENGTH;
+                String playerAlias = new String(body, buffer.position(), aliasLength, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + aliasLength);
+
+                requests.add(new BetRequest(jackpotId, playerAlias, BigDecimal.valueOf(unscaled, scale)));
+            }
+        } catch (BufferUnderflowException ex) {
+            throw malformed(requests.size(), "truncated frame");
+        }
+        return requests;
+    }
+
+    /**
+     * Encode a request body.
+     *
+     * @param requests bets to send
+     * @return request body
+     * @throws IllegalArgumentException if an amount does not fit the wire format
+     */
+    public static byte[] encodeRequests(List<BetRequest> requests) {
+        List<byte[]> aliases = new ArrayList<>(requests.size());
+        int size = 1;
+        for (BetRequest request : requests) {
+            byte[] alias = request.getPlayerAlias().getBytes(StandardCharsets.UTF_8);
+            if (FRAME_HEADER_LENGTH + alias.length > 0xFFFF) {
+                throw new IllegalArgumentException("playerAlias is too long");
+            }
+            aliases.add(alias);
+            size += 2 + FRAME_HEADER_LENGTH + alias.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(VERSION);
+        for (int i = 0; i < requests.size(); i++) {
+            BetRequest request = requests.get(i);
+            byte[] alias = aliases.get(i);
+            buffer.putShort((short) (FRAME_HEADER_LENGTH + alias.length));
+            buffer.putLong(request.getJackpotId().getMostSignificantBits());
+            buffer.putLong(request.getJackpotId().getLeastSignificantBits());
+            putAmount(buffer, request.getBetAmount());
+            buffer.put(alias);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Encode a response body.
+     *
+     * @param responses bet results, in frame order
+     * @return response body
+     */
+    public static byte[] encodeResponses(List<BetResponse> responses) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + responses.size() * RESULT_LENGTH);
+        buffer.put(VERSION);
+        for (BetResponse response : responses) {
+            int flags = (Boolean.TRUE.equals(response.getWon()) ? FLAG_WON : 0)
+                    | (response.getError() != null ? FLAG_NOT_PLACED : 0);
+            buffer.put((byte) flags);
+            putAmount(buffer, response.getWinAmount() != null ? response.getWinAmount() : BigDecimal.ZERO);
+            putAmount(buffer, response.getNewJackpotSize() != null ? response.getNewJackpotSize() : BigDecimal.ZERO);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decode a response body. The message is not transmitted and is left empty; a bet that
+     * was not placed gets a generic error.
+     *
+     * @param body response body
+     * @return one bet response per result, in order
+     * @throws IllegalArgumentException if the body is empty, of another version, or truncated
+     */
+    public static List<BetResponse> decodeResponses(byte[] body) {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        checkVersion(buffer);
+        if (buffer.remaining() % RESULT_LENGTH != 0) {
+            throw malformed(buffer.remaining() / RESULT_LENGTH, "truncated result");
+        }
+        List<BetResponse> responses = new ArrayList<>(buffer.remaining() / RESULT_LENGTH);
+        while (buffer.hasRemaining()) {
+            int flags = buffer.get();
+            BigDecimal winAmount = BigDecimal.valueOf(buffer.getLong(), Byte.toUnsignedInt(buffer.get()));
+            BigDecimal newJackpotSize = BigDecimal.valueOf(buffer.getLong(), Byte.toUnsignedInt(buffer.get()));
+            responses.add(new BetResponse((flags & FLAG_WON) != 0, winAmount, newJackpotSize, null,
+                    (flags & FLAG_NOT_PLACED) != 0 ? NOT_PLACED : null));
+        }
+        return responses;
+    }
+
+    private static void checkVersion(ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Malformed binary bet: empty body");
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Malformed binary bet: unsupported version " + version);
+        }
+    }
+
+    private static void putAmount(ByteBuffer buffer, BigDecimal amount) {
+        if (amount.scale() < 0) {
+            amount = amount.setScale(0);
+        }
+        BigInteger unscaled = amount.unscaledValue();
+        if (amount.scale() > 0xFF || unscaled.compareTo(MAX_UNSCALED) > 0 || unscaled.compareTo(MIN_UNSCALED) < 0) {
+            throw new IllegalArgumentException("Amount " + amount.toPlainString() + " does not fit the binary bet format");
+        }
+        buffer.putLong(unscaled.longValue());
+        buffer.put((byte) amount.scale());
+    }
+
+    private static IllegalArgumentException malformed(int frame, String reason) {
+        return new IllegalArgumentException("Malformed binary bet at frame " + frame + ": " + reason);
+    }
+}
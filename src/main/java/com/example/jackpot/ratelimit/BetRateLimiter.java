@@ -0,0 +1,154 @@
+package com.example.jackpot.ratelimit;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.example.jackpot.config.RateLimitProperties;
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.exception.RateLimitedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Admission control for bet endpoints: one token bucket per player alias and one per jackpot,
+ * checked before any database work. Every bet takes one permit from its player's and its
+ * jackpot's bucket, whether it arrives alone or in a batch, so batching does not raise the
+ * rate a player can bet at. Permits taken before a refusal are not returned.
+ * Limits are enforced per node; in cluster mode they apply on the node that received the bet.
+ */
+@Component
+public class BetRateLimiter {
+
+    private final boolean enabled;
+    private final RateLimit playerLimit;
+    private final RateLimit jackpotLimit;
+    private final Map<UUID, RateLimit> jackpotOverrides;
+    private final TokenBucketLimiter<String> players;
+    private final TokenBucketLimiter<UUID> jackpots;
+    private final Counter playerLimited;
+    private final Counter jackpotLimited;
+
+    public BetRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.playerLimit = toRateLimit(properties.getPlayer());
+        this.jackpotLimit = toRateLimit(properties.getJackpot());
+        this.jackpotOverrides = properties.getJackpotOverrides().entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> toRateLimit(e.getValue())));
+        Duration idleExpiry = Duration.ofNanos(Stream.concat(Stream.of(playerLimit, jackpotLimit),
+                        jackpotOverrides.values().stream())
+                .mapToLong(RateLimit::getToleranceNanos)
+                .max()
+                .orElseThrow());
+        this.players = new TokenBucketLimiter<>(properties.getMaxKeys(), idleExpiry);
+        this.jackpots = new TokenBucketLimiter<>(properties.getMaxKeys(), idleExpiry);
+        this.playerLimited = limitedCounter(meterRegistry, "player");
+        this.jackpotLimited = limitedCounter(meterRegistry, "jackpot");
+        keysGauge(meterRegistry, "player", players);
+        keysGauge(meterRegistry, "jackpot", jackpots);
+    }
+
+    /**
+     * Admit a single bet.
+     *
+     * @param request the bet
+     * @throws RateLimitedException if the player or jackpot is over its limit
+     */
+    public void acquire(BetRequest request) {
+        if (!enabled) {
+            return;
+        }
+        acquirePlayer(request.getPlayerAlias(), 1);
+        acquireJackpot(request.getJackpotId(), 1);
+    }
+
+    /**
+     * Admit a batch of bets, taking as many permits from each player and jackpot as the batch
+     * holds bets for it. Entries without a player or jackpot are left to validation.
+     *
+     * @param requests the bets
+     * @throws RateLimitedException if any player or jackpot in the batch is over its limit
+     * @throws IllegalArgumentException if the batch alone holds more bets for a player or jackpot
+     *         than its burst, which no wait would admit
+     */
+    public void acquire(Collection<BetRequest> requests) {
+        if (!enabled || requests == null) {
+            return;
+        }
+        Map<String, Integer> perPlayer = count(requests, BetRequest::getPlayerAlias);
+        Map<UUID, Integer> perJackpot = count(requests, BetRequest::getJackpotId);
+        perPlayer.forEach((playerAlias, bets) -> checkBurst(bets, playerLimit, "player " + playerAlias));
+        perJackpot.forEach((jackpotId, bets) ->
+                checkBurst(bets, jackpotOverrides.getOrDefault(jackpotId, jackpotLimit), "jackpot " + jackpotId));
+        perPlayer.forEach(this::acquirePlayer);
+        perJackpot.forEach(this::acquireJackpot);
+    }
+
+    private void acquirePlayer(String playerAlias, int bets) {
+        if (playerAlias == null) {
+            return;
+        }
+        long wait = players.tryAcquire(playerAlias, playerLimit, bets);
+        if (wait > 0) {
+            playerLimited.increment();
+            throw new RateLimitedException("Bet rate limit exceeded for player " + playerAlias, Duration.ofNanos(wait));
+        }
+    }
+
+    private void acquireJackpot(UUID jackpotId, int bets) {
+        if (jackpotId == null) {
+            return;
+        }
+        long wait = jackpots.tryAcquire(jackpotId, jackpotOverrides.getOrDefault(jackpotId, jackpotLimit), bets);
+        if (wait > 0) {
+            jackpotLimited.increment();
+            throw new RateLimitedException("Bet rate limit exceeded for jackpot " + jackpotId, Duration.ofNanos(wait));
+        }
+    }
+
+    private static void checkBurst(int bets, RateLimit limit, String key) {
+        long burst = limit.getToleranceNanos() / limit.getIntervalNanos();
+        if (bets > burst) {
+            throw new IllegalArgumentException("Batch holds " + bets + " bets for " + key
+                    + ", more than the " + burst + " admitted at once");
+        }
+    }
+
+    private static <T> Map<T, Integer> count(Collection<BetRequest> requests, Function<BetRequest, T> key) {
+        Map<T, Integer> counts = new HashMap<>();
+        for (BetRequest request : requests) {
+            T value = request != null ? key.apply(request) : null;
+            if (value != null) {
+                counts.merge(value, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static RateLimit toRateLimit(RateLimitProperties.Limit limit) {
+        return RateLimit.of(limit.getRate(), limit.getBurst());
+    }
+
+    private static Counter limitedCounter(MeterRegistry meterRegistry, String limit) {
+        return Counter.builder("jackpot.ratelimit.rejected")
+                .description("Bet requests refused by admission control")
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+
+    private static void keysGauge(MeterRegistry meterRegistry, String limit, TokenBucketLimiter<?> limiter) {
+        Gauge.builder("jackpot.ratelimit.keys", limiter, TokenBucketLimiter::size)
+                .description("Token buckets tracked by admission control")
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.jackpot.ratelimit;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Fixed concurrency limit, so one group of endpoints cannot occupy more request threads than
+ * it was given.
+ */
+public class Bulkhead implements ConcurrencyLimiter {
+
+    private final int limit;
+    private final Semaphore permits;
+
+    /**
+     * @param limit maximum calls in flight
+     */
+    public Bulkhead(int limit) {
+        this.limit = limit;
+        this.permits = new Semaphore(limit);
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    @Override
+    public void release(long latencyNanos, boolean failed) {
+        permits.release();
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public int getInFlight() {
+        return limit - permits.availablePermits();
+    }
+}
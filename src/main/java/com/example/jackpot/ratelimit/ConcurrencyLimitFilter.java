@@ -0,0 +1,94 @@
+package com.example.jackpot.ratelimit;
+
+import java.io.IOException;
+import java.util.function.Predicate;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.jackpot.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet filter admitting one group of endpoints through a {@link ConcurrencyLimiter}.
+ * Requests that find no free slot are answered with 503 and {@code Retry-After: 1} before the
+ * body is read; admitted requests report their latency and whether they ended in a 5xx. A 503
+ * only ever passes on a peer node's shed response, so it does not count as a failure here.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimiter limiter;
+    private final Predicate<HttpServletRequest> applies;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    /**
+     * @param group group name used as the metric tag
+     * @param limiter limiter of the group
+     * @param applies which requests to the mapped URLs belong to the group
+     * @param objectMapper mapper for the error body
+     * @param meterRegistry registry for the group's gauges and counter
+     */
+    public ConcurrencyLimitFilter(String group, ConcurrencyLimiter limiter, Predicate<HttpServletRequest> applies,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.applies = applies;
+        this.objectMapper = objectMapper;
+        this.rejected = Counter.builder("jackpot.concurrency.rejected")
+                .description("Requests shed because their group was at its concurrency limit")
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("jackpot.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                .description("Current concurrency limit")
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("jackpot.concurrency.in.flight", limiter, ConcurrencyLimiter::getInFlight)
+                .description("Requests in flight")
+                .tag("group", group)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the limiter of this filter's group
+     */
+    public ConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !applies.test(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE, "Server busy, retry later"));
+            return;
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500 && response.getStatus() != HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.jackpot.ratelimit;
+
+/**
+ * Caps the number of requests in flight. Callers that acquired a slot must release it.
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * Take a slot without waiting.
+     *
+     * @return whether a slot was free
+     */
+    boolean tryAcquire();
+
+    /**
+     * Return a slot and report how the call went.
+     *
+     * @param latencyNanos time the call held the slot
+     * @param failed whether the call failed on the server side
+     */
+    void release(long latencyNanos, boolean failed);
+
+    /**
+     * @return current maximum number of calls in flight
+     */
+    int getLimit();
+
+    /**
+     * @return calls currently in flight
+     */
+    int getInFlight();
+}
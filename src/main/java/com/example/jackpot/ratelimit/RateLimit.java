@@ -0,0 +1,28 @@
+package com.example.jackpot.ratelimit;
+
+import lombok.Value;
+
+/**
+ * A token bucket limit in the form used by {@link TokenBucketLimiter}: the time one permit
+ * takes to refill and how far ahead of the clock a bucket may be booked (the burst).
+ */
+@Value
+public class RateLimit {
+
+    long intervalNanos;
+    long toleranceNanos;
+
+    /**
+     * @param ratePerSecond sustained permits per second
+     * @param burst permits available at once after an idle period
+     * @return the limit
+     * @throws IllegalArgumentException if rate or burst is not positive
+     */
+    public static RateLimit of(double ratePerSecond, int burst) {
+        if (!(ratePerSecond > 0) || burst <= 0) {
+            throw new IllegalArgumentException("Rate limit needs a positive rate and burst");
+        }
+        long interval = Math.max(1, Math.round(1_000_000_000d / ratePerSecond));
+        return new RateLimit(interval, interval * burst);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.jackpot.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Lock-free keyed token bucket limiter.
+ * Each bucket is a single {@link AtomicLong} holding the time at which it will be full again
+ * (the generic cell rate algorithm): taking n permits books n refill intervals ahead, and is
+ * refused if that would book more than the burst ahead of now. One CAS per admitted call,
+ * no allocation for known keys, and no timer per bucket.
+ * A bucket that has refilled completely behaves exactly like a missing one, so buckets are held
+ * in a size-bounded Caffeine cache and expire once idle for longer than any limit takes to refill.
+ * Expiry and eviction are amortized by the cache, never a sweep over all keys on the calling
+ * thread. When more than {@code maxKeys} keys are active, the cache keeps the frequently used
+ * ones; an evicted key starts again with a full burst.
+ *
+ * @param <K> key type
+ */
+public class TokenBucketLimiter<K> {
+
+    private final Cache<K, AtomicLong> buckets;
+    private final LongSupplier clock;
+
+    /**
+     * @param maxKeys maximum number of tracked keys
+     * @param idleExpiry how long an unused bucket is kept; at least the longest time a bucket takes to refill
+     */
+    public TokenBucketLimiter(long maxKeys, Duration idleExpiry) {
+        this(maxKeys, idleExpiry, System::nanoTime);
+    }
+
+    TokenBucketLimiter(long maxKeys, Duration idleExpiry, LongSupplier clock) {
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpiry)
+                .ticker(clock::getAsLong)
+                .build();
+    }
+
+    /**
+     * Take permits from a key's bucket.
+     *
+     * @param key bucket key
+     * @param limit limit of the bucket
+     * @param permits permits to take
+     * @return 0 if the permits were taken, otherwise nanoseconds until they would be available
+     */
+    public long tryAcquire(K key, RateLimit limit, int permits) {
+        long now = clock.getAsLong();
+        AtomicLong bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            bucket = buckets.get(key, k -> new AtomicLong(now));
+        }
+        long cost = limit.getIntervalNanos() * permits;
+        while (true) {
+            long full = bucket.get();
+            long booked = Math.max(full - now, 0) + cost;
+            long wait = booked - limit.getToleranceNanos();
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(full, now + booked)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Run pending expiry and eviction now rather than on the next accesses.
+     */
+    public void cleanUp() {
+        buckets.cleanUp();
+    }
+
+    /**
+     * @return approximate number of tracked keys
+     */
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
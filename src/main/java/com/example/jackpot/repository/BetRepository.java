@@ -2,8 +2,12 @@ package com.example.jackpot.repository;
 
 import com.example.jackpot.entity.Bet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -12,4 +16,45 @@ import java.util.UUID;
  */
 @Repository
 public interface BetRepository extends JpaRepository<Bet, UUID> {
+
+    /**
+     * Sum the pot contributions of bets placed on a jackpot within a range of bet sequences.
+     * Bets recorded before contributions were tracked count with their full amount.
+     * Uses the (jackpot_id, bet_sequence) index.
+     *
+     * @param jackpotId the jackpot ID
+     * @param after exclusive lower bound on bet sequence
+     * @param upTo inclusive upper bound on bet sequence
+     * @return total contribution, zero if there are no bets
+     */
+    @Query("SELECT COALESCE(SUM(COALESCE(b.contribution, b.betAmount)), 0) FROM Bet b WHERE b.jackpot.id = :jackpotId " +
+           "AND b.betSequence > :after AND b.betSequence <= :upTo")
+    BigDecimal sumContributionBetween(
+        @Param("jackpotId") UUID jackpotId,
+        @Param("after") long after,
+        @Param("upTo") long upTo
+    );
+
+    /**
+     * Aggregate bet count and amount wagered per player on one jackpot, up to a bet sequence.
+     * Bets recorded before sequences existed are included.
+     * Uses the (jackpot_id, bet_sequence) index, so jackpots can be aggregated in parallel.
+     *
+     * @param jackpotId the jackpot ID
+     * @param upTo inclusive upper bound on bet sequence
+     * @return one row per player who bet on the jackpot
+     */
+    @Query("SELECT b.playerAlias AS playerAlias, COUNT(b) AS count, SUM(b.betAmount) AS amount " +
+           "FROM Bet b WHERE b.jackpot.id = :jackpotId AND (b.betSequence IS NULL OR b.betSequence <= :upTo) " +
+           "GROUP BY b.playerAlias")
+    List<PlayerTotals> sumByPlayer(@Param("jackpotId") UUID jackpotId, @Param("upTo") long upTo);
+
+    /**
+     * Check whether a jackpot has bets recorded before sequences existed, which rebuilds cannot replay.
+     *
+     * @param jackpotId the jackpot ID
+     * @return true if at least one of its bets has no sequence
+     */
+    @Query("SELECT COUNT(b) > 0 FROM Bet b WHERE b.jackpot.id = :jackpotId AND b.betSequence IS NULL")
+    boolean existsUnsequenced(@Param("jackpotId") UUID jackpotId);
 }
@@ -0,0 +1,24 @@
+package com.example.jackpot.repository;
+
+import com.example.jackpot.entity.ClusterMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for ClusterMember entity.
+ * Provides database operations for cluster membership.
+ */
+@Repository
+public interface ClusterMemberRepository extends JpaRepository<ClusterMember, String> {
+
+    /**
+     * Find members whose heartbeat is more recent than the given time.
+     *
+     * @param since oldest heartbeat still considered alive
+     * @return live members
+     */
+    List<ClusterMember> findByLastHeartbeatAfter(LocalDateTime since);
+}
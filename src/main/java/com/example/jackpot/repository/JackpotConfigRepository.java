@@ -0,0 +1,25 @@
+package com.example.jackpot.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import com.example.jackpot.entity.JackpotConfig;
+
+/**
+ * Read-only repository for jackpot configurations.
+ * {@link #findById} is served from the second-level cache once a jackpot has been loaded;
+ * jackpots are created and updated through {@link JackpotRepository}.
+ */
+@Repository
+public interface JackpotConfigRepository extends org.springframework.data.repository.Repository<JackpotConfig, UUID> {
+
+    /**
+     * Find a jackpot's configuration.
+     *
+     * @param id the jackpot ID
+     * @return the configuration, if the jackpot exists
+     */
+    Optional<JackpotConfig> findById(UUID id);
+}
@@ -0,0 +1,42 @@
+package com.example.jackpot.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.jackpot.entity.JackpotCounters;
+
+/**
+ * Repository for the pot and win counters of jackpots, as written by the bet path.
+ */
+@Repository
+public interface JackpotCountersRepository extends JpaRepository<JackpotCounters, UUID> {
+
+    /**
+     * Load a jackpot's counters and lock its row until the transaction ends.
+     * Bets on the same jackpot settle one after another, so no contribution or win is lost to a
+     * concurrent read-modify-write of the pot. Only the counter columns are selected. Native
+     * {@code FOR UPDATE} rather than {@code @Lock(PESSIMISTIC_WRITE)}, which the PostgreSQL
+     * dialect renders as {@code FOR NO KEY UPDATE} and H2 does not accept.
+     *
+     * @param id the jackpot ID
+     * @return the locked counters, if the jackpot exists
+     */
+    @Query(value = "SELECT id, current_size, win_count, last_win_timestamp, bet_sequence, version FROM jackpots"
+            + " WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<JackpotCounters> findForUpdate(@Param("id") UUID id);
+
+    /**
+     * Read the sequence of the last bet settled on a jackpot, without locking its row.
+     * Every bet up to it has committed, since the row is written in the same transaction.
+     *
+     * @param id the jackpot ID
+     * @return the bet sequence, zero before the first bet; empty if the jackpot does not exist
+     */
+    @Query("SELECT COALESCE(c.betSequence, 0) FROM JackpotCounters c WHERE c.id = :id")
+    Optional<Long> findBetSequence(@Param("id") UUID id);
+}
@@ -0,0 +1,47 @@
+package com.example.jackpot.repository;
+
+import com.example.jackpot.entity.JackpotInvalidationEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for JackpotInvalidationEntry entity.
+ * Provides database operations for the shared jackpot invalidation bus.
+ */
+@Repository
+public interface JackpotInvalidationRepository extends JpaRepository<JackpotInvalidationEntry, UUID> {
+
+    /**
+     * Record an invalidation stamped with the database's clock.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO jackpot_invalidations (id, jackpot_id, version, created_at)" +
+                   " VALUES (:id, :jackpotId, :version, LOCALTIMESTAMP)", nativeQuery = true)
+    void insert(@Param("id") UUID id, @Param("jackpotId") UUID jackpotId, @Param("version") long version);
+
+    /**
+     * Find invalidations recorded after a point in database time, oldest first.
+     *
+     * @param since exclusive lower bound
+     * @return invalidations
+     */
+    @Query("SELECT i FROM JackpotInvalidationEntry i WHERE i.createdAt > :since ORDER BY i.createdAt")
+    List<JackpotInvalidationEntry> findSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Delete invalidations recorded before a point in database time.
+     *
+     * @param before exclusive upper bound
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM JackpotInvalidationEntry i WHERE i.createdAt < :before")
+    int deleteBefore(@Param("before") LocalDateTime before);
+}
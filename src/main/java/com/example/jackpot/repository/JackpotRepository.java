@@ -1,8 +1,10 @@
 package com.example.jackpot.repository;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.example.jackpot.entity.Jackpot;
@@ -13,4 +15,12 @@ import com.example.jackpot.entity.Jackpot;
  */
 @Repository
 public interface JackpotRepository extends JpaRepository<Jackpot, UUID> {
+
+    /**
+     * Find the IDs of all jackpots without loading the entities.
+     *
+     * @return all jackpot IDs
+     */
+    @Query("SELECT j.id FROM Jackpot j")
+    List<UUID> findAllIds();
 }
@@ -0,0 +1,76 @@
+package com.example.jackpot.repository;
+
+import com.example.jackpot.entity.JackpotRollup;
+import com.example.jackpot.entity.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for JackpotRollup entity.
+ * Provides database operations for time-bucketed jackpot analytics.
+ */
+@Repository
+public interface JackpotRollupRepository extends JpaRepository<JackpotRollup, UUID> {
+
+    /**
+     * Add a delta to a bucket in place, so concurrent writers never overwrite each other.
+     *
+     * @return number of rows updated, zero if the bucket has no row yet
+     */
+    @Modifying
+    @Query("UPDATE JackpotRollup r SET r.betCount = r.betCount + :betCount, r.turnover = r.turnover + :turnover, " +
+           "r.contributions = r.contributions + :contributions, r.winCount = r.winCount + :winCount, " +
+           "r.payouts = r.payouts + :payouts " +
+           "WHERE r.jackpotId = :jackpotId AND r.granularity = :granularity AND r.bucketStart = :bucketStart")
+    int addDelta(
+        @Param("jackpotId") UUID jackpotId,
+        @Param("granularity") RollupGranularity granularity,
+        @Param("bucketStart") LocalDateTime bucketStart,
+        @Param("betCount") long betCount,
+        @Param("turnover") BigDecimal turnover,
+        @Param("contributions") BigDecimal contributions,
+        @Param("winCount") long winCount,
+        @Param("payouts") BigDecimal payouts
+    );
+
+    /**
+     * Find the buckets of a jackpot within a time range, served by the unique
+     * (jackpot_id, granularity, bucket_start) index.
+     *
+     * @param jackpotId the jackpot ID
+     * @param granularity bucket size
+     * @param from inclusive lower bound on bucket start
+     * @param to exclusive upper bound on bucket start
+     * @return non-empty buckets in time order
+     */
+    @Query("SELECT r FROM JackpotRollup r WHERE r.jackpotId = :jackpotId AND r.granularity = :granularity " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<JackpotRollup> findRange(
+        @Param("jackpotId") UUID jackpotId,
+        @Param("granularity") RollupGranularity granularity,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Delete buckets of one granularity older than a cutoff.
+     *
+     * @param granularity bucket size
+     * @param cutoff exclusive upper bound on bucket start
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM JackpotRollup r WHERE r.granularity = :granularity AND r.bucketStart < :cutoff")
+    int deleteOlderThan(
+        @Param("granularity") RollupGranularity granularity,
+        @Param("cutoff") LocalDateTime cutoff
+    );
+}
@@ -0,0 +1,24 @@
+package com.example.jackpot.repository;
+
+import com.example.jackpot.entity.JackpotSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for JackpotSnapshot entity.
+ * Provides database operations for event-sourcing snapshots.
+ */
+@Repository
+public interface JackpotSnapshotRepository extends JpaRepository<JackpotSnapshot, UUID> {
+
+    /**
+     * Find the most recent snapshot of a jackpot.
+     *
+     * @param jackpotId the jackpot ID
+     * @return latest snapshot, if any
+     */
+    Optional<JackpotSnapshot> findFirstByJackpotIdOrderByAsOfDesc(UUID jackpotId);
+}
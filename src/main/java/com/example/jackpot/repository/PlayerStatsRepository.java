@@ -0,0 +1,43 @@
+package com.example.jackpot.repository;
+
+import com.example.jackpot.entity.PlayerStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for PlayerStats entity.
+ * Provides database operations for pre-aggregated player statistics.
+ */
+@Repository
+public interface PlayerStatsRepository extends JpaRepository<PlayerStats, String> {
+
+    /**
+     * Add a delta to a player's totals in place, so concurrent writers never overwrite each other.
+     *
+     * @param playerAlias the player alias
+     * @param betCount bets to add
+     * @param wagered amount wagered to add
+     * @param winCount wins to add
+     * @param won amount won to add
+     * @param updatedAt update time
+     * @return number of rows updated, zero if the player has no row yet
+     */
+    @Modifying
+    @Query("UPDATE PlayerStats s SET s.betCount = s.betCount + :betCount, s.totalWagered = s.totalWagered + :wagered, " +
+           "s.winCount = s.winCount + :winCount, s.totalWon = s.totalWon + :won, s.updatedAt = :updatedAt " +
+           "WHERE s.playerAlias = :playerAlias")
+    int addDelta(
+        @Param("playerAlias") String playerAlias,
+        @Param("betCount") long betCount,
+        @Param("wagered") BigDecimal wagered,
+        @Param("winCount") long winCount,
+        @Param("won") BigDecimal won,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+}
@@ -0,0 +1,15 @@
+package com.example.jackpot.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-player count and amount aggregated from bets or wins.
+ */
+public interface PlayerTotals {
+
+    String getPlayerAlias();
+
+    long getCount();
+
+    BigDecimal getAmount();
+}
@@ -0,0 +1,36 @@
+package com.example.jackpot.repository;
+
+import com.example.jackpot.entity.WinOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for WinOutboxEntry entity.
+ * Provides database operations for the win notification outbox.
+ */
+@Repository
+public interface WinOutboxRepository extends JpaRepository<WinOutboxEntry, UUID> {
+
+    /**
+     * Claim notifications due for delivery, oldest win first: the rows stay locked until the
+     * transaction ends, and rows another transaction has locked are skipped, so concurrent
+     * relays (one per node in cluster mode) never publish the same entry at the same time.
+     * Must run in a transaction.
+     *
+     * @param now current time
+     * @param maxAttempts entries with this many failed attempts are no longer retried
+     * @param limit batch size
+     * @return due entries not claimed by another relay
+     */
+    @Query(value = "SELECT * FROM win_outbox WHERE next_attempt_at <= :now AND attempts < :maxAttempts"
+            + " ORDER BY won_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<WinOutboxEntry> claimDue(@Param("now") LocalDateTime now,
+                                  @Param("maxAttempts") int maxAttempts,
+                                  @Param("limit") int limit);
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -41,4 +43,77 @@ public interface WinRepository extends JpaRepository<Win, UUID> {
         @Param("jackpotId") UUID jackpotId,
         Pageable pageable
     );
+
+    /**
+     * Count the wins of a jackpot within a range of winning bet sequences.
+     *
+     * @param jackpotId the jackpot ID
+     * @param after exclusive lower bound on the winning bet's sequence
+     * @param upTo inclusive upper bound on the winning bet's sequence
+     * @return number of wins
+     */
+    @Query("SELECT COUNT(w) FROM Win w WHERE w.jackpot.id = :jackpotId " +
+           "AND w.betSequence > :after AND w.betSequence <= :upTo")
+    long countBetween(
+        @Param("jackpotId") UUID jackpotId,
+        @Param("after") long after,
+        @Param("upTo") long upTo
+    );
+
+    /**
+     * Find the wins of a jackpot within a range of winning bet sequences, latest first.
+     *
+     * @param jackpotId the jackpot ID
+     * @param after exclusive lower bound on the winning bet's sequence
+     * @param upTo inclusive upper bound on the winning bet's sequence
+     * @param pageable page of wins to return
+     * @return wins by descending bet sequence
+     */
+    @Query("SELECT w FROM Win w WHERE w.jackpot.id = :jackpotId " +
+           "AND w.betSequence > :after AND w.betSequence <= :upTo ORDER BY w.betSequence DESC")
+    List<Win> findLatestBetween(
+        @Param("jackpotId") UUID jackpotId,
+        @Param("after") long after,
+        @Param("upTo") long upTo,
+        Pageable pageable
+    );
+
+    /**
+     * Aggregate win count and amount won per player on one jackpot, up to a winning bet sequence.
+     * Wins recorded before sequences existed are included.
+     *
+     * @param jackpotId the jackpot ID
+     * @param upTo inclusive upper bound on the winning bet's sequence
+     * @return one row per player who won the jackpot
+     */
+    @Query("SELECT w.playerAlias AS playerAlias, COUNT(w) AS count, SUM(w.winAmount) AS amount " +
+           "FROM Win w WHERE w.jackpot.id = :jackpotId AND (w.betSequence IS NULL OR w.betSequence <= :upTo) " +
+           "GROUP BY w.playerAlias")
+    List<PlayerTotals> sumByPlayer(@Param("jackpotId") UUID jackpotId, @Param("upTo") long upTo);
+
+    /**
+     * Find the biggest wins of a jackpot.
+     *
+     * @param jackpotId the jackpot ID
+     * @param pageable number of wins to return
+     * @return wins by descending amount
+     */
+    @Query("SELECT w FROM Win w WHERE w.jackpot.id = :jackpotId ORDER BY w.winAmount DESC, w.timestamp ASC")
+    List<Win> findBiggest(@Param("jackpotId") UUID jackpotId, Pageable pageable);
+
+    /**
+     * Find the biggest wins of a jackpot in a time range.
+     *
+     * @param jackpotId the jackpot ID
+     * @param from inclusive lower bound on win time
+     * @param to exclusive upper bound on win time
+     * @param pageable number of wins to return
+     * @return wins by descending amount
+     */
+    @Query("SELECT w FROM Win w WHERE w.jackpot.id = :jackpotId AND w.timestamp >= :from AND w.timestamp < :to " +
+           "ORDER BY w.winAmount DESC, w.timestamp ASC")
+    List<Win> findBiggestBetween(@Param("jackpotId") UUID jackpotId,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to,
+                                 Pageable pageable);
 }
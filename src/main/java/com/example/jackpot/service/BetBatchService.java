@@ -0,0 +1,133 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.cluster.BetRouter;
+import com.example.jackpot.config.BetProperties;
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.BetResponse;
+import com.example.jackpot.repository.JackpotConfigRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service layer for batched bet submission.
+ * Groups a batch by jackpot and hands each group to {@link BetRouter#placeBets}
+ * (settled on the owning node by {@link BetService#placeBets} or its in-memory pot), so every group
+ * costs one transaction, one jackpot update and batched inserts.
+ * Not transactional itself: each group commits independently, and a group that fails after
+ * another was placed is reported per bet instead of failing the batch, so a client never
+ * resubmits bets that were already placed.
+ */
+@Service
+@RequiredArgsConstructor
+public class BetBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(BetBatchService.class);
+
+    private final BetRouter betRouter;
+    private final JackpotConfigRepository configRepository;
+    private final JackpotIdFilter idFilter;
+    private final Validator validator;
+    private final BetProperties betProperties;
+
+    /**
+     * Place a batch of bets.
+     * The whole batch is validated and every referenced jackpot is checked before
+     * any group is placed, so an invalid batch is rejected without partial writes.
+     * If placing a group fails, the other groups are still placed and the failed group's
+     * responses carry only an {@link BetResponse#getError() error}; the failure is thrown
+     * only if no group was placed.
+     *
+     * @param requests bets in submission order
+     * @return one response per request, in submission order
+     * @throws IllegalArgumentException if the batch is empty, too large, invalid, or references an unknown jackpot
+     * @throws RuntimeException the first group's failure, if every group failed
+     */
+    public List<BetResponse> placeBets(List<BetRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one bet");
+        }
+        if (requests.size() > betProperties.getBatchMaxSize()) {
+            throw new IllegalArgumentException("Batch must not contain more than " + betProperties.getBatchMaxSize() + " bets");
+        }
+
+        // Group request positions by jackpot, keeping first-seen jackpot order and per-jackpot bet order
+        Map<UUID, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BetRequest request = requests.get(i);
+            validate(request, i);
+            groups.computeIfAbsent(request.getJackpotId(), id -> new ArrayList<>()).add(i);
+        }
+
+        // Ids the filter knows to be unknown are rejected without querying; the rest are
+        // confirmed from the cached jackpot configurations
+        for (UUID jackpotId : groups.keySet()) {
+            if (!idFilter.mightExist(jackpotId)) {
+                throw new IllegalArgumentException("Jackpot not found with ID: " + jackpotId);
+            }
+        }
+        for (UUID jackpotId : groups.keySet()) {
+            if (configRepository.findById(jackpotId).isEmpty()) {
+                throw new IllegalArgumentException("Jackpot not found with ID: " + jackpotId);
+            }
+        }
+
+        BetResponse[] responses = new BetResponse[requests.size()];
+        RuntimeException firstFailure = null;
+        int placedGroups = 0;
+        for (Map.Entry<UUID, List<Integer>> group : groups.entrySet()) {
+            List<Integer> positions = group.getValue();
+            List<BetRequest> groupRequests = new ArrayList<>(positions.size());
+            for (int position : positions) {
+                groupRequests.add(requests.get(position));
+            }
+
+            try {
+                List<BetResponse> groupResponses = betRouter.placeBets(group.getKey(), groupRequests);
+                for (int i = 0; i < positions.size(); i++) {
+                    responses[positions.get(i)] = groupResponses.get(i);
+                }
+                placedGroups++;
+            } catch (RuntimeException ex) {
+                log.warn("Failed to place {} bet(s) of a batch on jackpot {}: {}", positions.size(), group.getKey(), ex.getMessage());
+                if (firstFailure == null) {
+                    firstFailure = ex;
+                }
+                BetResponse failed = BetResponse.builder().error(errorMessage(ex)).build();
+                for (int position : positions) {
+                    responses[position] = failed;
+                }
+            }
+        }
+        if (placedGroups == 0) {
+            throw firstFailure;
+        }
+        return Arrays.asList(responses);
+    }
+
+    private static String errorMessage(RuntimeException ex) {
+        return ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+    }
+
+    private void validate(BetRequest request, int index) {
+        if (request == null) {
+            throw new IllegalArgumentException("bets[" + index + "]: bet is required");
+        }
+        Set<ConstraintViolation<BetRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<BetRequest> violation = violations.iterator().next();
+            throw new IllegalArgumentException("bets[" + index + "]." + violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+    }
+}
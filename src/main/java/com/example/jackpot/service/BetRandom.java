@@ -0,0 +1,22 @@
+package com.example.jackpot.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Source of the random numbers that decide wins.
+ * Draws from {@link ThreadLocalRandom}; there is deliberately no way to seed it, so outcomes
+ * cannot be predicted or replayed from configuration. Simulations substitute a seeded source
+ * from test sources.
+ */
+@Component
+public class BetRandom {
+
+    /**
+     * @return the next 64 random bits
+     */
+    public long nextLong() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+}
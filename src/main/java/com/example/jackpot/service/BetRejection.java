@@ -0,0 +1,42 @@
+package com.example.jackpot.service;
+
+import java.util.UUID;
+
+import com.example.jackpot.exception.BetRejectedException;
+
+/**
+ * Expected reasons for the bet engine to turn a bet down.
+ */
+public enum BetRejection {
+
+    INVALID_AMOUNT("Bet amount must be positive"),
+    UNKNOWN_JACKPOT("Jackpot not found with ID: ");
+
+    /**
+     * Shared instance for the rejection whose message does not depend on the bet.
+     */
+    private static final BetRejectedException INVALID_AMOUNT_EXCEPTION =
+            new BetRejectedException(INVALID_AMOUNT.message);
+
+    private final String message;
+
+    BetRejection(String message) {
+        this.message = message;
+    }
+
+    /**
+     * @param jackpotId the jackpot the bet referred to
+     * @return client-facing message
+     */
+    public String message(UUID jackpotId) {
+        return this == UNKNOWN_JACKPOT ? message + jackpotId : message;
+    }
+
+    /**
+     * @param jackpotId the jackpot the bet referred to
+     * @return stackless exception for callers that signal rejections by throwing
+     */
+    public BetRejectedException exception(UUID jackpotId) {
+        return this == INVALID_AMOUNT ? INVALID_AMOUNT_EXCEPTION : new BetRejectedException(message(jackpotId));
+    }
+}
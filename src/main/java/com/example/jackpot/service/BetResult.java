@@ -0,0 +1,51 @@
+package com.example.jackpot.service;
+
+import java.util.UUID;
+
+import com.example.jackpot.dto.BetResponse;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Outcome of placing a single bet: either a response or the reason it was rejected.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BetResult {
+
+    BetResponse response;
+    BetRejection rejection;
+    UUID jackpotId;
+
+    public static BetResult accepted(BetResponse response) {
+        return new BetResult(response, null, null);
+    }
+
+    public static BetResult rejected(BetRejection rejection, UUID jackpotId) {
+        return new BetResult(null, rejection, jackpotId);
+    }
+
+    public boolean isAccepted() {
+        return rejection == null;
+    }
+
+    /**
+     * @return message describing the rejection
+     */
+    public String rejectionMessage() {
+        return rejection.message(jackpotId);
+    }
+
+    /**
+     * @return the response
+     * @throws com.example.jackpot.exception.BetRejectedException if the bet was rejected
+     */
+    public BetResponse orElseThrow() {
+        if (rejection != null) {
+            throw rejection.exception(jackpotId);
+        }
+        return response;
+    }
+}
@@ -4,21 +4,34 @@ import com.example.jackpot.dto.BetRequest;
 import com.example.jackpot.dto.BetResponse;
 import com.example.jackpot.entity.Bet;
 import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.entity.JackpotCounters;
 import com.example.jackpot.entity.Win;
+import com.example.jackpot.event.BetsPlacedEvent;
+import com.example.jackpot.event.PlacedBet;
+import com.example.jackpot.outbox.WinOutbox;
 import com.example.jackpot.repository.BetRepository;
+import com.example.jackpot.repository.JackpotCountersRepository;
 import com.example.jackpot.repository.JackpotRepository;
 import com.example.jackpot.repository.WinRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Service layer for Bet operations.
  * Handles business logic related to placing bets and determining wins.
+ * The jackpot row is locked for the whole transaction, so bets on one jackpot settle in turn;
+ * only its counter columns are read and written, and settlement parameters come from the
+ * {@link JackpotDescriptorCache}.
+ * Every transaction publishes a {@link BetsPlacedEvent} for read models maintained off the bet path,
+ * and records its wins in the {@link WinOutbox} for downstream notification.
  */
 @Service
 @RequiredArgsConstructor
@@ -27,40 +40,151 @@ public class BetService {
 
     private final BetRepository betRepository;
     private final JackpotRepository jackpotRepository;
+    private final JackpotCountersRepository countersRepository;
     private final WinRepository winRepository;
-    private final Random random = new Random();
+    private final JackpotDescriptorCache descriptorCache;
+    private final BetRandom random;
+    private final JackpotIdFilter idFilter;
+    private final WinOutbox winOutbox;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Place a bet on a jackpot.
      *
      * @param request contains jackpot ID, player alias, and bet amount
      * @return response containing win information and new jackpot size
-     * @throws IllegalArgumentException if jackpot not found or invalid bet
+     * @throws com.example.jackpot.exception.BetRejectedException if jackpot not found or invalid bet
      */
     public BetResponse placeBet(BetRequest request) {
+        return tryPlaceBet(request).orElseThrow();
+    }
+
+    /**
+     * Place a bet on a jackpot, reporting an unknown jackpot or invalid amount as a
+     * rejected result rather than an exception.
+     *
+     * @param request contains jackpot ID, player alias, and bet amount
+     * @return response containing win information and new jackpot size, or the rejection
+     */
+    public BetResult tryPlaceBet(BetRequest request) {
         // Validate input
-        if (request.getBetAmount() == null || request.getBetAmount().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("Bet amount must be positive");
+        if (!isValidBetAmount(request.getBetAmount())) {
+            return BetResult.rejected(BetRejection.INVALID_AMOUNT, request.getJackpotId());
+        }
+
+        // Get and lock jackpot counters, skipping the lookup for ids known not to exist
+        UUID jackpotId = request.getJackpotId();
+        JackpotCounters counters = idFilter.mightExist(jackpotId)
+                ? countersRepository.findForUpdate(jackpotId).orElse(null)
+                : null;
+        JackpotDescriptor descriptor = counters != null ? descriptorCache.get(jackpotId) : null;
+        if (descriptor == null) {
+            return BetResult.rejected(BetRejection.UNKNOWN_JACKPOT, jackpotId);
+        }
+
+        Jackpot jackpot = jackpotRepository.getReferenceById(jackpotId);
+        List<Bet> bets = new ArrayList<>(1);
+        List<Win> wins = new ArrayList<>(1);
+        BetResponse response = settle(jackpot, counters, descriptor, request, bets, wins);
+
+        betRepository.save(bets.get(0));
+        if (!wins.isEmpty()) {
+            winRepository.save(wins.get(0));
+            winOutbox.record(wins);
+        }
+
+        // Save updated counters
+        countersRepository.save(counters);
+
+        Win win = wins.isEmpty() ? null : wins.get(0);
+        eventPublisher.publishEvent(new BetsPlacedEvent(List.of(PlacedBet.of(bets.get(0), response, win))));
+        return BetResult.accepted(response);
+    }
+
+    /**
+     * Place a group of bets on the same jackpot in one transaction.
+     * Bets are settled in order against the in-memory pot; bets and wins are
+     * inserted as batches and the jackpot row is written once.
+     *
+     * @param jackpotId the jackpot all requests refer to
+     * @param requests bets in submission order
+     * @return one response per request, in the same order
+     * @throws com.example.jackpot.exception.BetRejectedException if jackpot not found or any bet is invalid
+     */
+    public List<BetResponse> placeBets(UUID jackpotId, List<BetRequest> requests) {
+        for (BetRequest request : requests) {
+            validateBetAmount(request.getBetAmount());
+        }
+
+        JackpotCounters counters = findCounters(jackpotId);
+        JackpotDescriptor descriptor = descriptorCache.get(jackpotId);
+        if (descriptor == null) {
+            throw BetRejection.UNKNOWN_JACKPOT.exception(jackpotId);
         }
+        Jackpot jackpot = jackpotRepository.getReferenceById(jackpotId);
 
-        // Get jackpot
-        Jackpot jackpot = jackpotRepository.findById(request.getJackpotId())
-                .orElseThrow(() -> new IllegalArgumentException("Jackpot not found with ID: " + request.getJackpotId()));
+        List<Bet> bets = new ArrayList<>(requests.size());
+        List<Win> wins = new ArrayList<>();
+        List<BetResponse> responses = new ArrayList<>(requests.size());
+        for (BetRequest request : requests) {
+            responses.add(settle(jackpot, counters, descriptor, request, bets, wins));
+        }
+
+        betRepository.saveAll(bets);
+        if (!wins.isEmpty()) {
+            winRepository.saveAll(wins);
+            winOutbox.record(wins);
+        }
+        countersRepository.save(counters);
+
+        List<PlacedBet> placed = new ArrayList<>(bets.size());
+        int winIndex = 0;
+        for (int i = 0; i < bets.size(); i++) {
+            BetResponse response = responses.get(i);
+            Win win = Boolean.TRUE.equals(response.getWon()) ? wins.get(winIndex++) : null;
+            placed.add(PlacedBet.of(bets.get(i), response, win));
+        }
+        eventPublisher.publishEvent(new BetsPlacedEvent(placed));
+        return responses;
+    }
 
-        // Create and save bet
-        Bet bet = Bet.builder()
+    /**
+     * Apply one bet to already loaded jackpot counters.
+     * The new bet and any win are appended to the given lists for the caller to persist.
+     *
+     * @param jackpot reference the bet and win rows point to, or {@code null} if the caller sets it before persisting
+     * @param counters pot and win counters to update in memory
+     * @param descriptor precomputed settlement parameters of the jackpot
+     * @param request the bet
+     * @param bets collects the bet to insert
+     * @param wins collects the win to insert, if any
+     * @return bet response
+     */
+    BetResponse settle(Jackpot jackpot, JackpotCounters counters, JackpotDescriptor descriptor,
+                       BetRequest request, List<Bet> bets, List<Win> wins) {
+        // Add the bet's contribution to jackpot, up to the cap
+        BigDecimal previousSize = counters.getCurrentSize();
+        BigDecimal contribution = descriptor.contribution(request.getBetAmount());
+        BigDecimal newSize = previousSize.add(contribution);
+        if (descriptor.exceedsCap(newSize)) {
+            // A pot already above the cap is left as is rather than reduced
+            newSize = previousSize.max(descriptor.getMaxSize());
+            contribution = newSize.subtract(previousSize);
+        }
+        counters.setCurrentSize(newSize);
+        long betSequence = counters.nextBetSequence();
+
+        // Create bet
+        bets.add(Bet.builder()
                 .jackpot(jackpot)
                 .playerAlias(request.getPlayerAlias())
                 .betAmount(request.getBetAmount())
-                .build();
-        betRepository.save(bet);
-
-        // Add bet amount to jackpot
-        BigDecimal newSize = jackpot.getCurrentSize().add(request.getBetAmount());
-        jackpot.setCurrentSize(newSize);
+                .contribution(contribution)
+                .betSequence(betSequence)
+                .build());
 
         // Determine if jackpot is won
-        boolean isWon = determineWin(jackpot.getWinProbability());
+        boolean isWon = descriptor.isWin(random.nextLong(), newSize);
 
         BetResponse response = new BetResponse();
         response.setWon(isWon);
@@ -68,17 +192,17 @@ public class BetService {
 
         if (isWon) {
             // Create win record
-            Win win = Win.builder()
+            wins.add(Win.builder()
                     .jackpot(jackpot)
                     .playerAlias(request.getPlayerAlias())
                     .winAmount(newSize)
-                    .build();
-            winRepository.save(win);
+                    .betSequence(betSequence)
+                    .build());
 
-            // Update jackpot
-            jackpot.setCurrentSize(BigDecimal.ZERO);
-            jackpot.setWinCount(jackpot.getWinCount() + 1);
-            jackpot.setLastWinTimestamp(LocalDateTime.now());
+            // Reset jackpot to its seed
+            counters.setCurrentSize(descriptor.getSeedAmount());
+            counters.setWinCount(counters.getWinCount() + 1);
+            counters.setLastWinTimestamp(LocalDateTime.now());
 
             response.setWinAmount(newSize);
             response.setMessage("Congratulations! You won!");
@@ -87,19 +211,24 @@ public class BetService {
             response.setMessage("Better luck next time!");
         }
 
-        // Save updated jackpot
-        jackpotRepository.save(jackpot);
-
         return response;
     }
 
-    /**
-     * Determine if a jackpot is won based on win probability.
-     *
-     * @param winProbability probability of winning (0.0 - 1.0)
-     * @return true if jackpot is won, false otherwise
-     */
-    private boolean determineWin(Double winProbability) {
-        return random.nextDouble() < winProbability;
+    static boolean isValidBetAmount(BigDecimal betAmount) {
+        return betAmount != null && betAmount.signum() > 0;
+    }
+
+    private void validateBetAmount(BigDecimal betAmount) {
+        if (!isValidBetAmount(betAmount)) {
+            throw BetRejection.INVALID_AMOUNT.exception(null);
+        }
+    }
+
+    private JackpotCounters findCounters(UUID jackpotId) {
+        if (!idFilter.mightExist(jackpotId)) {
+            throw BetRejection.UNKNOWN_JACKPOT.exception(jackpotId);
+        }
+        return countersRepository.findForUpdate(jackpotId)
+                .orElseThrow(() -> BetRejection.UNKNOWN_JACKPOT.exception(jackpotId));
     }
 }
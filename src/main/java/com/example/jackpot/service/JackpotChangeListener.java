@@ -0,0 +1,66 @@
+package com.example.jackpot.service;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.example.jackpot.cache.JackpotCache;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.entity.JackpotCounters;
+import com.example.jackpot.entity.Win;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JPA entity listener on {@link Jackpot}, {@link JackpotCounters} and {@link Win} that reports every written
+ * row to the {@link JackpotChangeTracker}, changed jackpots to the {@link JackpotCache}
+ * after commit, and inserted or deleted jackpots to the {@link JackpotIdFilter},
+ * whichever code path wrote them.
+ * Bulk JPQL updates bypass entity callbacks and must report their changes themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class JackpotChangeListener {
+
+    private final JackpotChangeTracker changeTracker;
+    private final JackpotIdFilter idFilter;
+    private final JackpotCache jackpotCache;
+
+    @PostPersist
+    void rowInserted(Object entity) {
+        if (entity instanceof Jackpot jackpot) {
+            idFilter.added(jackpot.getId());
+        }
+        rowChanged(entity);
+    }
+
+    @PostRemove
+    void rowRemoved(Object entity) {
+        if (entity instanceof Jackpot jackpot) {
+            idFilter.removed(jackpot.getId());
+            UUID jackpotId = jackpot.getId();
+            AfterCommit.run(() -> jackpotCache.changed(jackpotId, Long.MAX_VALUE));
+        }
+        rowChanged(entity);
+    }
+
+    @PostUpdate
+    void rowChanged(Object entity) {
+        if (entity instanceof Jackpot jackpot) {
+            jackpotChanged(jackpot.getId(), jackpot.getVersion());
+        } else if (entity instanceof JackpotCounters counters) {
+            jackpotChanged(counters.getId(), counters.getVersion());
+        } else if (entity instanceof Win) {
+            changeTracker.winsChanged();
+        }
+    }
+
+    private void jackpotChanged(UUID jackpotId, Long rowVersion) {
+        changeTracker.jackpotChanged(jackpotId);
+        long version = rowVersion != null ? rowVersion : 0;
+        AfterCommit.run(() -> jackpotCache.changed(jackpotId, version));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.jackpot.service;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Monotonic change counters for the jackpot and win read models.
+ * Fed by {@link JackpotChangeListener} for every written row; counters are bumped after
+ * commit, so a version never runs ahead of the data a reader can see. Tags combine the counter with a per-process epoch, which keeps tags from
+ * before a restart from matching again.
+ */
+@Component
+public class JackpotChangeTracker {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong jackpotsVersion = new AtomicLong();
+    private final AtomicLong winsVersion = new AtomicLong();
+    private final ConcurrentHashMap<UUID, AtomicLong> jackpotVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Record a change to a jackpot row.
+     * Inside a transaction the counter is bumped once it commits.
+     *
+     * @param jackpotId the changed jackpot
+     */
+    public void jackpotChanged(UUID jackpotId) {
+        AfterCommit.run(() -> {
+            jackpotVersions.computeIfAbsent(jackpotId, id -> new AtomicLong()).incrementAndGet();
+            jackpotsVersion.incrementAndGet();
+        });
+    }
+
+    /**
+     * Record an inserted or deleted win.
+     * Inside a transaction the counter is bumped once it commits.
+     */
+    public void winsChanged() {
+        AfterCommit.run(winsVersion::incrementAndGet);
+    }
+
+    /**
+     * @return tag of the jackpot list
+     */
+    public String jackpotsTag() {
+        return epoch + "-" + jackpotsVersion.get();
+    }
+
+    /**
+     * @param jackpotId the jackpot ID
+     * @return tag of a single jackpot
+     */
+    public String jackpotTag(UUID jackpotId) {
+        AtomicLong version = jackpotVersions.get(jackpotId);
+        return epoch + "-" + (version != null ? version.get() : 0);
+    }
+
+    /**
+     * @return tag of the win history
+     */
+    public String winsTag() {
+        return epoch + "-" + winsVersion.get();
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.entity.JackpotConfig;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+/**
+ * Immutable, precomputed settlement parameters of a jackpot.
+ * Built once per jackpot from its immutable configuration so that the per-bet path does no parsing,
+ * scale normalization or null handling: the contribution rate is held in fixed-point
+ * basis points, and the common 100% / 0% rates return without any arithmetic. Other rates
+ * multiply the bet's unscaled {@code long} by the basis points and round once.
+ *
+ * <p>Win probability is compiled into an integer threshold on 53 random bits, which
+ * decides exactly like {@code Random.nextDouble() < winProbability}. Must-drop-by
+ * jackpots additionally get a lookup table of thresholds over pot progress from
+ * seed to the must-drop-by amount.
+ */
+public final class JackpotDescriptor {
+
+    /**
+     * Contribution rate resolution: 1 basis point = 0.0001.
+     */
+    static final int RATE_SCALE = 4;
+    static final int FULL_RATE_BASIS_POINTS = 10_000;
+
+    /**
+     * Minimum scale of computed contributions (cents).
+     */
+    static final int MONEY_SCALE = 2;
+
+    /**
+     * Most bits of a bet's unscaled amount computed in a {@code long}: padded to money scale
+     * (at most x100) and multiplied by the basis points (at most x10,000) it stays below
+     * {@link Long#MAX_VALUE}.
+     */
+    static final int MAX_LONG_BITS = 43;
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L};
+
+    /**
+     * Number of random bits compared against thresholds, matching {@code Random.nextDouble()}.
+     */
+    static final int RANDOM_BITS = 53;
+
+    /**
+     * Threshold that every 53-bit value is below, i.e. a certain win.
+     */
+    static final long CERTAIN = 1L << RANDOM_BITS;
+
+    /**
+     * Buckets in the must-drop-by lookup table.
+     */
+    static final int CURVE_BUCKETS = 256;
+
+    /**
+     * Must-drop-by probability is {@code base + (1 - base) * progress^CURVE_EXPONENT}: it stays
+     * close to the base probability for most of the range and reaches certainty at must-drop-by.
+     */
+    static final int CURVE_EXPONENT = 4;
+
+    private final UUID jackpotId;
+    private final Double winProbability;
+    private final int contributionBasisPoints;
+    private final BigDecimal contributionRate;
+    private final BigDecimal seedAmount;
+    private final BigDecimal maxSize;
+    private final BigDecimal mustDropBy;
+    private final long winThreshold;
+    private final long[] curveThresholds;
+    private final double curveOrigin;
+    private final double curveScale;
+
+    private JackpotDescriptor(JackpotConfig jackpot) {
+        this.jackpotId = jackpot.getId();
+        this.winProbability = jackpot.getWinProbability();
+        BigDecimal sourceContributionRate = jackpot.getContributionRate();
+        this.contributionBasisPoints = sourceContributionRate == null
+                ? FULL_RATE_BASIS_POINTS
+                : sourceContributionRate.setScale(RATE_SCALE, RoundingMode.DOWN).unscaledValue().intValueExact();
+        this.contributionRate = BigDecimal.valueOf(contributionBasisPoints, RATE_SCALE);
+        this.seedAmount = jackpot.getSeedAmount() != null ? jackpot.getSeedAmount() : BigDecimal.ZERO;
+        this.maxSize = jackpot.getMaxSize();
+        this.mustDropBy = jackpot.getMustDropBy();
+
+        double baseProbability = winProbability != null ? winProbability : 0.0;
+        this.winThreshold = threshold(baseProbability);
+
+        if (mustDropBy != null && mustDropBy.compareTo(seedAmount) > 0) {
+            this.curveThresholds = new long[CURVE_BUCKETS];
+            for (int i = 0; i < CURVE_BUCKETS; i++) {
+                // Lower edge of each bucket, so the table never exceeds the curve
+                double progress = (double) i / CURVE_BUCKETS;
+                double probability = baseProbability + (1.0 - baseProbability) * Math.pow(progress, CURVE_EXPONENT);
+                curveThresholds[i] = Math.max(winThreshold, threshold(probability));
+            }
+            this.curveOrigin = seedAmount.doubleValue();
+            this.curveScale = CURVE_BUCKETS / (mustDropBy.doubleValue() - curveOrigin);
+        } else {
+            this.curveThresholds = null;
+            this.curveOrigin = 0.0;
+            this.curveScale = 0.0;
+        }
+    }
+
+    /**
+     * Compile a probability into a threshold on 53 uniform random bits.
+     * {@code k * 2^-53 < p} holds exactly when {@code k < ceil(p * 2^53)}, so comparing
+     * the bits against this threshold reproduces {@code nextDouble() < p} decision for decision.
+     *
+     * @param probability win probability (0.0 - 1.0)
+     * @return threshold in [0, 2^53]
+     */
+    static long threshold(double probability) {
+        if (!(probability > 0.0)) {
+            return 0L;
+        }
+        if (probability >= 1.0) {
+            return CERTAIN;
+        }
+        return (long) Math.ceil(probability * CERTAIN);
+    }
+
+    /**
+     * Compile the settlement parameters of a jackpot.
+     *
+     * @param jackpot jackpot configuration
+     * @return descriptor
+     */
+    public static JackpotDescriptor of(JackpotConfig jackpot) {
+        return new JackpotDescriptor(jackpot);
+    }
+
+    /**
+     * Decide whether a bet wins.
+     *
+     * @param random 64 uniformly random bits
+     * @param potSize pot size after the bet's contribution (only used by must-drop-by jackpots)
+     * @return true if the jackpot is won
+     */
+    public boolean isWin(long random, BigDecimal potSize) {
+        long bits = random >>> (Long.SIZE - RANDOM_BITS);
+        if (curveThresholds == null) {
+            return bits < winThreshold;
+        }
+        return bits < curveThreshold(potSize);
+    }
+
+    private long curveThreshold(BigDecimal potSize) {
+        double bucket = (potSize.doubleValue() - curveOrigin) * curveScale;
+        if (bucket < 0.0) {
+            return winThreshold;
+        }
+        if (bucket >= CURVE_BUCKETS) {
+            return CERTAIN;
+        }
+        return curveThresholds[(int) bucket];
+    }
+
+    /**
+     * Compute the share of a bet that goes into the pot, rounded down to the cent
+     * (or to the bet's own scale if finer).
+     * The unscaled amount is multiplied by the basis points and divided by
+     * {@value #FULL_RATE_BASIS_POINTS} in {@code long} arithmetic, a single rounding step;
+     * amounts too large for that fall back to {@code BigDecimal} with the same result.
+     *
+     * @param betAmount positive bet amount
+     * @return contribution before applying the cap
+     */
+    public BigDecimal contribution(BigDecimal betAmount) {
+        if (contributionBasisPoints == FULL_RATE_BASIS_POINTS) {
+            return betAmount;
+        }
+        if (contributionBasisPoints == 0) {
+            return BigDecimal.ZERO;
+        }
+        int scale = betAmount.scale();
+        // Short-lived; once this method is inlined, escape analysis removes the allocation
+        BigInteger unscaled = betAmount.unscaledValue();
+        if (scale < 0 || unscaled.bitLength() > MAX_LONG_BITS) {
+            return betAmount.multiply(contributionRate).setScale(Math.max(scale, MONEY_SCALE), RoundingMode.DOWN);
+        }
+        int padding = Math.max(MONEY_SCALE - scale, 0);
+        long amount = unscaled.longValue() * POWERS_OF_TEN[padding];
+        // Integer division truncates toward zero, i.e. RoundingMode.DOWN
+        return BigDecimal.valueOf(amount * contributionBasisPoints / FULL_RATE_BASIS_POINTS, scale + padding);
+    }
+
+    /**
+     * Check whether a pot size is above the cap.
+     *
+     * @param size candidate pot size
+     * @return true if the jackpot is capped and the size exceeds the cap
+     */
+    public boolean exceedsCap(BigDecimal size) {
+        return maxSize != null && size.compareTo(maxSize) > 0;
+    }
+
+    public UUID getJackpotId() {
+        return jackpotId;
+    }
+
+    public Double getWinProbability() {
+        return winProbability;
+    }
+
+    public BigDecimal getContributionRate() {
+        return contributionRate;
+    }
+
+    public BigDecimal getSeedAmount() {
+        return seedAmount;
+    }
+
+    public BigDecimal getMaxSize() {
+        return maxSize;
+    }
+
+    public BigDecimal getMustDropBy() {
+        return mustDropBy;
+    }
+}
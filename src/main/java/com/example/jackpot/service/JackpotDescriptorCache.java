@@ -0,0 +1,52 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.entity.JackpotConfig;
+import com.example.jackpot.repository.JackpotConfigRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory cache of compiled {@link JackpotDescriptor}s by jackpot ID.
+ * Jackpot configuration never changes, so a descriptor is compiled once per jackpot from the
+ * {@link JackpotConfig} in the second-level cache and kept until evicted; settling a bet reads
+ * no configuration from the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class JackpotDescriptorCache {
+
+    private final JackpotConfigRepository configRepository;
+    private final Map<UUID, JackpotDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    /**
+     * Get the descriptor for a jackpot, compiling it on first use.
+     *
+     * @param jackpotId the jackpot ID
+     * @return descriptor of the jackpot's configuration, or null if the jackpot does not exist
+     */
+    public JackpotDescriptor get(UUID jackpotId) {
+        JackpotDescriptor descriptor = descriptors.get(jackpotId);
+        if (descriptor == null) {
+            descriptor = configRepository.findById(jackpotId)
+                    .map(JackpotDescriptor::of)
+                    .orElse(null);
+            if (descriptor != null) {
+                descriptors.put(jackpotId, descriptor);
+            }
+        }
+        return descriptor;
+    }
+
+    /**
+     * Drop a cached descriptor.
+     *
+     * @param jackpotId the jackpot ID
+     */
+    public void evict(UUID jackpotId) {
+        descriptors.remove(jackpotId);
+    }
+}
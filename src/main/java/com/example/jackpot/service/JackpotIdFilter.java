@@ -0,0 +1,149 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.config.JackpotIdFilterProperties;
+import com.example.jackpot.repository.JackpotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory set of existing jackpot ids, consulted before any lookup by id so that
+ * requests for unknown jackpots are rejected without a database round trip.
+ * Loaded once the application is ready and kept current by {@link JackpotChangeListener}:
+ * inserted ids are added immediately, deleted ids are removed after commit. Jackpots created
+ * outside JPA (plain SQL) are picked up by reloading on a miss, at most once per
+ * {@code miss-refresh-interval}; until that reload they are reported as missing, so such a
+ * jackpot can be rejected for up to one interval after its insert. Otherwise the set only errs
+ * towards "might exist", which merely costs the database lookup it would have saved; until it
+ * is loaded every id might exist.
+ * Disabled in cluster mode, where jackpots created on a peer would be unknown here until the next reload.
+ */
+@Component
+public class JackpotIdFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(JackpotIdFilter.class);
+
+    private final ObjectProvider<JackpotRepository> jackpotRepository;
+    private final boolean enabled;
+    private final long missRefreshIntervalNanos;
+    private final Set<UUID> ids = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextRefreshAt = new AtomicLong();
+    private final Counter known;
+    private final Counter unknown;
+    private final Counter refreshes;
+    private volatile boolean loaded;
+
+    /**
+     * The repository is resolved lazily: the filter is a dependency of the entity listener,
+     * which the entity manager factory behind the repository needs first.
+     */
+    public JackpotIdFilter(ObjectProvider<JackpotRepository> jackpotRepository,
+                           JackpotIdFilterProperties properties,
+                           ClusterProperties clusterProperties,
+                           MeterRegistry meterRegistry) {
+        this.jackpotRepository = jackpotRepository;
+        this.enabled = properties.isEnabled() && !clusterProperties.isEnabled();
+        this.missRefreshIntervalNanos = properties.getMissRefreshInterval().toNanos();
+        this.known = lookupCounter(meterRegistry, "known");
+        this.unknown = lookupCounter(meterRegistry, "unknown");
+        this.refreshes = Counter.builder("jackpot.id.filter.refreshes")
+                .description("Reloads of the jackpot id filter triggered by unknown ids")
+                .register(meterRegistry);
+        Gauge.builder("jackpot.id.filter.size", ids, Set::size)
+                .description("Jackpot ids held by the id filter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load the ids of all jackpots.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        ids.addAll(jackpotRepository.getObject().findAllIds());
+        nextRefreshAt.set(System.nanoTime() + missRefreshIntervalNanos);
+        loaded = true;
+        log.info("Loaded {} jackpot ids into the id filter", ids.size());
+    }
+
+    /**
+     * Check whether a jackpot may exist.
+     * A miss reloads the id set if the last reload is older than the refresh interval.
+     *
+     * @param jackpotId the jackpot ID
+     * @return {@code false} only if the jackpot is known not to exist
+     */
+    public boolean mightExist(UUID jackpotId) {
+        if (jackpotId == null) {
+            return false;
+        }
+        if (!enabled || !loaded || ids.contains(jackpotId) || (refreshOnMiss() && ids.contains(jackpotId))) {
+            known.increment();
+            return true;
+        }
+        unknown.increment();
+        return false;
+    }
+
+    /**
+     * Record an inserted jackpot. Added before commit, so a bet racing the creating
+     * transaction falls through to the database instead of being rejected.
+     *
+     * @param jackpotId the new jackpot
+     */
+    void added(UUID jackpotId) {
+        if (jackpotId != null) {
+            ids.add(jackpotId);
+        }
+    }
+
+    /**
+     * Record a deleted jackpot. Removed after commit, so a rolled-back delete keeps it.
+     *
+     * @param jackpotId the deleted jackpot
+     */
+    void removed(UUID jackpotId) {
+        if (jackpotId != null) {
+            AfterCommit.run(() -> ids.remove(jackpotId));
+        }
+    }
+
+    /**
+     * Reload the id set unless another thread did so within the refresh interval.
+     * Reloads only add ids: removing ids missing from the query result could drop a
+     * jackpot whose creating transaction has not committed yet.
+     *
+     * @return whether this call reloaded the set
+     */
+    private boolean refreshOnMiss() {
+        long now = System.nanoTime();
+        long next = nextRefreshAt.get();
+        if (now - next < 0 || !nextRefreshAt.compareAndSet(next, now + missRefreshIntervalNanos)) {
+            return false;
+        }
+        ids.addAll(jackpotRepository.getObject().findAllIds());
+        refreshes.increment();
+        return true;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jackpot.id.filter")
+                .description("Jackpot id lookups by filter result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
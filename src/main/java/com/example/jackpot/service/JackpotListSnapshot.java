@@ -0,0 +1,89 @@
+package com.example.jackpot.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.config.JackpotListProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps {@code GET /api/jackpots} pre-rendered as JSON and gzip bytes.
+ * The list is re-rendered only when the jackpot version has moved on, by one request
+ * at a time; concurrent callers wait for it and then share the result. In cluster mode
+ * changes made on other nodes are not tracked, so every call renders afresh.
+ */
+@Component
+public class JackpotListSnapshot {
+
+    private final JackpotService jackpotService;
+    private final JackpotChangeTracker changeTracker;
+    private final ObjectMapper objectMapper;
+    private final long maxStalenessNanos;
+    private final int gzipMinSize;
+    private final boolean cacheable;
+    private final ReentrantLock renderLock = new ReentrantLock();
+    private volatile RenderedJson current;
+
+    public JackpotListSnapshot(JackpotService jackpotService, JackpotChangeTracker changeTracker,
+                               ObjectMapper objectMapper, JackpotListProperties properties,
+                               ClusterProperties clusterProperties) {
+        this.jackpotService = jackpotService;
+        this.changeTracker = changeTracker;
+        this.objectMapper = objectMapper;
+        this.maxStalenessNanos = properties.getMaxStaleness().toNanos();
+        this.gzipMinSize = properties.getGzipMinSize();
+        this.cacheable = !clusterProperties.isEnabled();
+    }
+
+    /**
+     * @return the current jackpot list, rendering it first if it is out of date
+     */
+    public RenderedJson current() {
+        if (!cacheable) {
+            return render(null);
+        }
+        RenderedJson rendered = current;
+        if (rendered != null && (rendered.getVersion().equals(changeTracker.jackpotsTag())
+                || System.nanoTime() - rendered.getRenderedAtNanos() < maxStalenessNanos)) {
+            return rendered;
+        }
+
+        renderLock.lock();
+        try {
+            // Read the version before the rows: data may be newer than its tag, never older
+            String version = changeTracker.jackpotsTag();
+            rendered = current;
+            if (rendered == null || !rendered.getVersion().equals(version)) {
+                rendered = render(version);
+                current = rendered;
+            }
+            return rendered;
+        } finally {
+            renderLock.unlock();
+        }
+    }
+
+    private RenderedJson render(String version) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(jackpotService.getAllJackpots());
+            byte[] gzip = json.length >= gzipMinSize ? gzip(json) : null;
+            return new RenderedJson(version, json, gzip, System.nanoTime());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to render jackpot list", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        }
+        return buffer.toByteArray();
+    }
+}
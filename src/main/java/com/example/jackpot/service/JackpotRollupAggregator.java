@@ -0,0 +1,138 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.config.JackpotRollupProperties;
+import com.example.jackpot.entity.JackpotRollup;
+import com.example.jackpot.entity.RollupGranularity;
+import com.example.jackpot.event.BetsPlacedEvent;
+import com.example.jackpot.event.PlacedBet;
+import com.example.jackpot.repository.JackpotRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintains {@code jackpot_rollups} from the bet stream.
+ * Committed bets are folded into per-jackpot minute deltas in memory. A scheduled flush
+ * rolls the pending minute deltas up to hour and day deltas and adds all three to their
+ * rows in one transaction, so every granularity is always complete. Compaction then only
+ * has to delete minute and hour buckets past their retention.
+ */
+@Component
+public class JackpotRollupAggregator implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JackpotRollupAggregator.class);
+
+    private final JackpotRollupRepository rollupRepository;
+    private final JackpotRollupProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<RollupKey, RollupDelta> pending = new ConcurrentHashMap<>();
+
+    public JackpotRollupAggregator(JackpotRollupRepository rollupRepository,
+                                   JackpotRollupProperties properties,
+                                   PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Fold committed bets into the pending minute deltas.
+     */
+    @TransactionalEventListener
+    public void onBetsPlaced(BetsPlacedEvent event) {
+        for (PlacedBet bet : event.getBets()) {
+            RollupKey key = new RollupKey(bet.getJackpotId(), RollupGranularity.MINUTE,
+                    RollupGranularity.MINUTE.bucketStart(bet.getTimestamp()));
+            pending.merge(key, RollupDelta.of(bet), RollupDelta::plus);
+        }
+    }
+
+    /**
+     * Write all pending deltas at every granularity. Deltas of a failed flush are merged
+     * back and retried on the next run.
+     *
+     * @return number of buckets written
+     */
+    @Scheduled(initialDelayString = "${jackpot.rollups.flush-interval:PT10S}",
+            fixedDelayString = "${jackpot.rollups.flush-interval:PT10S}")
+    public synchronized int flush() {
+        Map<RollupKey, RollupDelta> minutes = new HashMap<>();
+        for (RollupKey key : pending.keySet()) {
+            RollupDelta delta = pending.remove(key);
+            if (delta != null) {
+                minutes.put(key, delta);
+            }
+        }
+        if (minutes.isEmpty()) {
+            return 0;
+        }
+
+        Map<RollupKey, RollupDelta> buckets = new HashMap<>(minutes);
+        minutes.forEach((key, delta) -> {
+            buckets.merge(key.rollUp(RollupGranularity.HOUR), delta, RollupDelta::plus);
+            buckets.merge(key.rollUp(RollupGranularity.DAY), delta, RollupDelta::plus);
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(buckets));
+        } catch (RuntimeException ex) {
+            minutes.forEach((key, delta) -> pending.merge(key, delta, RollupDelta::plus));
+            log.warn("Failed to flush {} rollup buckets, will retry", buckets.size(), ex);
+            return 0;
+        }
+        return buckets.size();
+    }
+
+    /**
+     * Delete minute and hour buckets past their retention; coarser buckets still cover them.
+     */
+    @Scheduled(initialDelayString = "${jackpot.rollups.compact-interval:PT1H}",
+            fixedDelayString = "${jackpot.rollups.compact-interval:PT1H}")
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer deleted = transactionTemplate.execute(status ->
+                rollupRepository.deleteOlderThan(RollupGranularity.MINUTE, now.minus(properties.getMinuteRetention()))
+                        + rollupRepository.deleteOlderThan(RollupGranularity.HOUR, now.minus(properties.getHourRetention())));
+        log.debug("Compacted {} rollup buckets", deleted);
+    }
+
+    /**
+     * Flush what is left on shutdown.
+     */
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void write(Map<RollupKey, RollupDelta> buckets) {
+        for (Map.Entry<RollupKey, RollupDelta> entry : buckets.entrySet()) {
+            RollupKey key = entry.getKey();
+            RollupDelta delta = entry.getValue();
+            int updated = rollupRepository.addDelta(key.getJackpotId(), key.getGranularity(), key.getBucketStart(),
+                    delta.getBetCount(), delta.getTurnover(), delta.getContributions(),
+                    delta.getWinCount(), delta.getPayouts());
+            if (updated == 0) {
+                rollupRepository.save(JackpotRollup.builder()
+                        .jackpotId(key.getJackpotId())
+                        .granularity(key.getGranularity())
+                        .bucketStart(key.getBucketStart())
+                        .betCount(delta.getBetCount())
+                        .turnover(delta.getTurnover())
+                        .contributions(delta.getContributions())
+                        .winCount(delta.getWinCount())
+                        .payouts(delta.getPayouts())
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.config.JackpotRollupProperties;
+import com.example.jackpot.dto.JackpotRollupDto;
+import com.example.jackpot.entity.JackpotRollup;
+import com.example.jackpot.entity.RollupGranularity;
+import com.example.jackpot.exception.JackpotNotFoundException;
+import com.example.jackpot.repository.JackpotConfigRepository;
+import com.example.jackpot.repository.JackpotRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service layer for jackpot analytics.
+ * Queries read pre-aggregated buckets only, so their cost depends on the number of
+ * buckets in the range rather than on bet volume.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JackpotRollupService {
+
+    private final JackpotRollupRepository rollupRepository;
+    private final JackpotConfigRepository configRepository;
+    private final JackpotIdFilter idFilter;
+    private final JackpotRollupProperties properties;
+
+    /**
+     * Get the analytics buckets of a jackpot. Empty buckets are omitted, and bets from the
+     * last flush interval may not be included yet.
+     *
+     * @param jackpotId the jackpot ID
+     * @param from inclusive start of the range, rounded down to the bucket start
+     * @param to exclusive end of the range
+     * @param granularity bucket size
+     * @return non-empty buckets in time order
+     * @throws JackpotNotFoundException if the jackpot does not exist
+     * @throws IllegalArgumentException if the range is empty or spans too many buckets
+     */
+    public List<JackpotRollupDto> getRollups(UUID jackpotId, LocalDateTime from, LocalDateTime to,
+                                             RollupGranularity granularity) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        LocalDateTime start = granularity.bucketStart(from);
+        long buckets = Duration.between(start, to).toMinutes() / granularity.getMinutes() + 1;
+        if (buckets > properties.getMaxBuckets()) {
+            throw new IllegalArgumentException("Range spans " + buckets + " buckets, at most "
+                    + properties.getMaxBuckets() + " allowed; use a coarser granularity");
+        }
+        if (!idFilter.mightExist(jackpotId) || configRepository.findById(jackpotId).isEmpty()) {
+            throw new JackpotNotFoundException("Jackpot not found with ID: " + jackpotId);
+        }
+
+        return rollupRepository.findRange(jackpotId, granularity, start, to)
+                .stream()
+                .map(rollup -> mapToDto(rollup, granularity))
+                .toList();
+    }
+
+    /**
+     * Map JackpotRollup entity to DTO.
+     *
+     * @param rollup entity
+     * @param granularity bucket size
+     * @return DTO representation with derived rates
+     */
+    private JackpotRollupDto mapToDto(JackpotRollup rollup, RollupGranularity granularity) {
+        long bets = rollup.getBetCount();
+        return JackpotRollupDto.builder()
+                .bucketStart(rollup.getBucketStart())
+                .betCount(bets)
+                .betsPerMinute((double) bets / granularity.getMinutes())
+                .turnover(rollup.getTurnover())
+                .contributions(rollup.getContributions())
+                .winCount(rollup.getWinCount())
+                .winRate(bets > 0 ? (double) rollup.getWinCount() / bets : 0.0)
+                .payouts(rollup.getPayouts())
+                .build();
+    }
+}
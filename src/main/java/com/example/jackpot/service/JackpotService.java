@@ -1,5 +1,7 @@
 package com.example.jackpot.service;
 
+import com.example.jackpot.cache.JackpotCache;
+import com.example.jackpot.cache.VersionedJackpot;
 import com.example.jackpot.dto.JackpotDto;
 import com.example.jackpot.dto.CreateJackpotRequest;
 import com.example.jackpot.entity.Jackpot;
@@ -7,8 +9,10 @@ import com.example.jackpot.exception.JackpotNotFoundException;
 import com.example.jackpot.repository.JackpotRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -23,17 +27,41 @@ import java.util.stream.Collectors;
 public class JackpotService {
 
     private final JackpotRepository jackpotRepository;
+    private final JackpotIdFilter idFilter;
+    private final JackpotCache jackpotCache;
 
     /**
      * Create a new jackpot.
+     * The pot starts at the seed amount; contribution rate defaults to 100% and seed to zero.
      *
-     * @param request contains jackpot name and win probability
+     * @param request contains jackpot name, win probability and optional contribution settings
      * @return created jackpot DTO
+     * @throws IllegalArgumentException if the seed amount exceeds the maximum size, or the
+     *         must-drop-by amount is not above the seed or is above the maximum size
      */
     public JackpotDto createJackpot(CreateJackpotRequest request) {
+        BigDecimal contributionRate = request.getContributionRate() != null ? request.getContributionRate() : BigDecimal.ONE;
+        BigDecimal seedAmount = request.getSeedAmount() != null ? request.getSeedAmount() : BigDecimal.ZERO;
+        if (request.getMaxSize() != null && seedAmount.compareTo(request.getMaxSize()) > 0) {
+            throw new IllegalArgumentException("seedAmount must not exceed maxSize");
+        }
+        if (request.getMustDropBy() != null) {
+            if (request.getMustDropBy().compareTo(seedAmount) <= 0) {
+                throw new IllegalArgumentException("mustDropBy must be greater than seedAmount");
+            }
+            if (request.getMaxSize() != null && request.getMustDropBy().compareTo(request.getMaxSize()) > 0) {
+                throw new IllegalArgumentException("mustDropBy must not exceed maxSize");
+            }
+        }
+
         Jackpot jackpot = Jackpot.builder()
                 .name(request.getName())
                 .winProbability(request.getWinProbability())
+                .contributionRate(contributionRate)
+                .seedAmount(seedAmount)
+                .maxSize(request.getMaxSize())
+                .mustDropBy(request.getMustDropBy())
+                .currentSize(seedAmount)
                 .build();
 
         Jackpot saved = jackpotRepository.save(jackpot);
@@ -55,25 +83,30 @@ public class JackpotService {
 
     /**
      * Get a jackpot by ID.
+     * Served from the {@link JackpotCache}; no transaction is started, so a cache
+     * hit does not take a database connection.
      *
      * @param jackpotId the jackpot ID
      * @return jackpot DTO
      * @throws IllegalArgumentException if jackpot not found
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public JackpotDto getJackpotById(UUID jackpotId) {
-        Jackpot jackpot = jackpotRepository.findById(jackpotId)
-                .orElseThrow(() -> new JackpotNotFoundException("Jackpot not found with ID: " + jackpotId));
-        return mapToDto(jackpot);
+        if (!idFilter.mightExist(jackpotId)) {
+            throw new JackpotNotFoundException("Jackpot not found with ID: " + jackpotId);
+        }
+        JackpotDto jackpot = jackpotCache.get(jackpotId, this::loadVersioned);
+        if (jackpot == null) {
+            throw new JackpotNotFoundException("Jackpot not found with ID: " + jackpotId);
+        }
+        return jackpot;
     }
 
-    /**
-     * Reset jackpot size to zero (called after a win).
-     *
-     * @param jackpot the jackpot to reset
-     */
-    protected void resetJackpotSize(Jackpot jackpot) {
-        jackpot.setCurrentSize(java.math.BigDecimal.ZERO);
+    private VersionedJackpot loadVersioned(UUID jackpotId) {
+        return jackpotRepository.findById(jackpotId)
+                .map(jackpot -> new VersionedJackpot(mapToDto(jackpot),
+                        jackpot.getVersion() != null ? jackpot.getVersion() : 0, System.currentTimeMillis()))
+                .orElse(null);
     }
 
     /**
@@ -86,6 +119,10 @@ public class JackpotService {
         return JackpotDto.builder()
                 .id(jackpot.getId())
                 .name(jackpot.getName())
+                .contributionRate(jackpot.getContributionRate())
+                .seedAmount(jackpot.getSeedAmount())
+                .maxSize(jackpot.getMaxSize())
+                .mustDropBy(jackpot.getMustDropBy())
                 .currentSize(jackpot.getCurrentSize())
                 .winCount(jackpot.getWinCount())
                 .lastWinTimestamp(jackpot.getLastWinTimestamp())
@@ -0,0 +1,27 @@
+package com.example.jackpot.service;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Jackpot state derived from the event stream up to a bet sequence.
+ */
+@Value
+@Builder
+public class JackpotState {
+
+    UUID jackpotId;
+    BigDecimal currentSize;
+    int winCount;
+    LocalDateTime lastWinTimestamp;
+    LocalDateTime asOf;
+
+    /**
+     * Sequence of the last bet included.
+     */
+    long betSequence;
+}
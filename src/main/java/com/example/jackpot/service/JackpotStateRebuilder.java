@@ -0,0 +1,273 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.config.EventSourcingProperties;
+import com.example.jackpot.entity.JackpotConfig;
+import com.example.jackpot.entity.JackpotCounters;
+import com.example.jackpot.entity.JackpotSnapshot;
+import com.example.jackpot.entity.Win;
+import com.example.jackpot.repository.BetRepository;
+import com.example.jackpot.repository.JackpotConfigRepository;
+import com.example.jackpot.repository.JackpotCountersRepository;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.repository.JackpotSnapshotRepository;
+import com.example.jackpot.repository.WinRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+/**
+ * Rebuilds jackpot state from the bets and wins tables.
+ * Bets and wins are treated as the event stream: a jackpot's state is its latest
+ * snapshot (or its seed) plus the aggregated pot contributions after the snapshot.
+ * Events are ordered by the bet sequence assigned under the jackpot row lock, not by
+ * timestamps, so a win splits its jackpot's bets exactly. Each jackpot is rebuilt up
+ * to the last bet its stored row includes, which excludes bets still in flight. Tail
+ * aggregation runs in the database against the (jackpot_id, bet_sequence) index, and
+ * jackpots are rebuilt in parallel.
+ */
+@Service
+@ConditionalOnProperty(prefix = "jackpot.event-sourcing", name = "enabled", havingValue = "true")
+public class JackpotStateRebuilder implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(JackpotStateRebuilder.class);
+
+    private final JackpotRepository jackpotRepository;
+    private final JackpotConfigRepository configRepository;
+    private final JackpotCountersRepository countersRepository;
+    private final BetRepository betRepository;
+    private final WinRepository winRepository;
+    private final JackpotSnapshotRepository snapshotRepository;
+    private final EventSourcingProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readTemplate;
+
+    public JackpotStateRebuilder(JackpotRepository jackpotRepository,
+                                 JackpotConfigRepository configRepository,
+                                 JackpotCountersRepository countersRepository,
+                                 BetRepository betRepository,
+                                 WinRepository winRepository,
+                                 JackpotSnapshotRepository snapshotRepository,
+                                 EventSourcingProperties properties,
+                                 PlatformTransactionManager transactionManager) {
+        this.jackpotRepository = jackpotRepository;
+        this.configRepository = configRepository;
+        this.countersRepository = countersRepository;
+        this.betRepository = betRepository;
+        this.winRepository = winRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Rebuild and apply all jackpot states before the web server starts taking traffic.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.isApplyOnStartup()) {
+            return;
+        }
+        long start = System.nanoTime();
+        Map<UUID, JackpotState> states = rebuildAll();
+        int applied = apply(states);
+        log.info("Rebuilt {} jackpots from event stream in {} ms, {} stored rows corrected",
+                states.size(), (System.nanoTime() - start) / 1_000_000, applied);
+    }
+
+    /**
+     * Rebuild a single jackpot from its latest snapshot and the events after it.
+     *
+     * @param jackpotId the jackpot ID
+     * @param upTo sequence of the last bet to replay
+     * @return rebuilt state
+     */
+    public JackpotState rebuild(UUID jackpotId, long upTo) {
+        BigDecimal seedAmount = configRepository.findById(jackpotId)
+                .map(JackpotConfig::getSeedAmount)
+                .orElse(null);
+        if (seedAmount == null) {
+            seedAmount = BigDecimal.ZERO;
+        }
+
+        JackpotSnapshot snapshot = snapshotRepository.findFirstByJackpotIdOrderByAsOfDesc(jackpotId)
+                .filter(s -> s.getBetSequence() != null && s.getBetSequence() <= upTo)
+                .orElse(null);
+
+        long from = snapshot != null ? snapshot.getBetSequence() : 0;
+        BigDecimal baseSize = snapshot != null ? snapshot.getCurrentSize() : seedAmount;
+        int baseWinCount = snapshot != null ? snapshot.getWinCount() : 0;
+        LocalDateTime baseLastWin = snapshot != null ? snapshot.getLastWinTimestamp() : null;
+        LocalDateTime asOf = LocalDateTime.now();
+
+        long tailWins = winRepository.countBetween(jackpotId, from, upTo);
+        if (tailWins == 0) {
+            return JackpotState.builder()
+                    .jackpotId(jackpotId)
+                    .currentSize(baseSize.add(betRepository.sumContributionBetween(jackpotId, from, upTo)))
+                    .winCount(baseWinCount)
+                    .lastWinTimestamp(baseLastWin)
+                    .asOf(asOf)
+                    .betSequence(upTo)
+                    .build();
+        }
+
+        // A win resets the pot to its seed, so only bets after the winning bet contribute
+        Win lastWin = winRepository.findLatestBetween(jackpotId, from, upTo, PageRequest.of(0, 1)).get(0);
+        return JackpotState.builder()
+                .jackpotId(jackpotId)
+                .currentSize(seedAmount.add(betRepository.sumContributionBetween(jackpotId, lastWin.getBetSequence(), upTo)))
+                .winCount(baseWinCount + (int) tailWins)
+                .lastWinTimestamp(lastWin.getTimestamp())
+                .asOf(asOf)
+                .betSequence(upTo)
+                .build();
+    }
+
+    /**
+     * Rebuild every jackpot in parallel, each up to the last bet its stored row includes.
+     *
+     * @return rebuilt state by jackpot ID
+     */
+    public Map<UUID, JackpotState> rebuildAll() {
+        return rebuildAll((stored, state) -> state);
+    }
+
+    /**
+     * Rebuild every jackpot in parallel and pass the stored row and the rebuilt state, both at
+     * the same bet sequence, to {@code result}. Runs on the rebuild threads.
+     *
+     * @param result maps stored and rebuilt state to the value to return; {@code null} omits the jackpot
+     * @return non-null results by jackpot ID
+     */
+    public <T> Map<UUID, T> rebuildAll(BiFunction<JackpotCounters, JackpotState, T> result) {
+        List<UUID> jackpotIds = jackpotRepository.findAllIds();
+        if (jackpotIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Callable<T>> tasks = new ArrayList<>(jackpotIds.size());
+        for (UUID jackpotId : jackpotIds) {
+            // The row and the bets it includes are read in one transaction; later bets have higher sequences
+            tasks.add(() -> readTemplate.execute(status -> countersRepository.findById(jackpotId)
+                    .map(stored -> result.apply(stored, rebuild(jackpotId, betSequence(stored))))
+                    .orElse(null)));
+        }
+
+        int threads = Math.max(1, Math.min(properties.getParallelism(), jackpotIds.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Map<UUID, T> results = new HashMap<>();
+            List<Future<T>> futures = executor.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                T value = futures.get(i).get();
+                if (value != null) {
+                    results.put(jackpotIds.get(i), value);
+                }
+            }
+            return results;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Jackpot rebuild interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Jackpot rebuild failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Overwrite stored jackpot state with rebuilt state, one jackpot per transaction.
+     * Each row is locked first; if bets settled on it since {@code states} was rebuilt, the
+     * jackpot is rebuilt again under the lock, so no bet is lost from its pot. Rows that already
+     * match are left alone, and jackpots whose history cannot be replayed (bets without a
+     * sequence and no sequenced snapshot to start from) are skipped.
+     *
+     * @param states rebuilt state by jackpot ID
+     * @return number of rows overwritten
+     */
+    public int apply(Map<UUID, JackpotState> states) {
+        int applied = 0;
+        for (JackpotState rebuilt : states.values()) {
+            Boolean written = transactionTemplate.execute(status -> countersRepository.findForUpdate(rebuilt.getJackpotId())
+                    .map(stored -> apply(stored, rebuilt))
+                    .orElse(false));
+            if (Boolean.TRUE.equals(written)) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private boolean apply(JackpotCounters stored, JackpotState rebuilt) {
+        UUID jackpotId = stored.getId();
+        boolean fromSnapshot = snapshotRepository.findFirstByJackpotIdOrderByAsOfDesc(jackpotId)
+                .map(s -> s.getBetSequence() != null)
+                .orElse(false);
+        if (!fromSnapshot && betRepository.existsUnsequenced(jackpotId)) {
+            log.warn("Not applying rebuilt state to jackpot {}: it has bets without a sequence and no sequenced snapshot",
+                    jackpotId);
+            return false;
+        }
+
+        JackpotState state = rebuilt.getBetSequence() == betSequence(stored)
+                ? rebuilt
+                : rebuild(jackpotId, betSequence(stored));
+        if (stored.getCurrentSize().compareTo(state.getCurrentSize()) == 0
+                && stored.getWinCount() == state.getWinCount()
+                && Objects.equals(stored.getLastWinTimestamp(), state.getLastWinTimestamp())) {
+            return false;
+        }
+        stored.setCurrentSize(state.getCurrentSize());
+        stored.setWinCount(state.getWinCount());
+        stored.setLastWinTimestamp(state.getLastWinTimestamp());
+        return true;
+    }
+
+    /**
+     * Periodically persist a snapshot of every jackpot, so rebuilds only replay a short tail.
+     * Each snapshot covers the bets its jackpot's stored row includes.
+     */
+    @Scheduled(initialDelayString = "${jackpot.event-sourcing.snapshot-interval:PT10M}",
+            fixedDelayString = "${jackpot.event-sourcing.snapshot-interval:PT10M}")
+    public void takeSnapshots() {
+        List<JackpotSnapshot> snapshots = rebuildAll().values().stream()
+                .map(state -> JackpotSnapshot.builder()
+                        .jackpotId(state.getJackpotId())
+                        .currentSize(state.getCurrentSize())
+                        .winCount(state.getWinCount())
+                        .lastWinTimestamp(state.getLastWinTimestamp())
+                        .asOf(state.getAsOf())
+                        .betSequence(state.getBetSequence())
+                        .build())
+                .toList();
+        snapshotRepository.saveAll(snapshots);
+        log.info("Took {} jackpot snapshots", snapshots.size());
+    }
+
+    private static long betSequence(JackpotCounters counters) {
+        return counters.getBetSequence() != null ? counters.getBetSequence() : 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.jackpot.service;
+
+import java.util.Locale;
+
+/**
+ * Time window of the biggest-wins leaderboard.
+ * Days are calendar days in the server time zone; the week is today and the six days before.
+ */
+public enum LeaderboardWindow {
+    DAY, WEEK, ALL;
+
+    /**
+     * Number of daily buckets kept for the day and week windows.
+     */
+    static final int DAYS_KEPT = 7;
+
+    /**
+     * @param value window name, case-insensitive ({@code day}, {@code week} or {@code all})
+     * @return window
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static LeaderboardWindow from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new IllegalArgumentException("Window must be one of day, week, all");
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.cluster.ClusterMembership;
+import com.example.jackpot.cluster.ClusterNode;
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.BetResponse;
+import com.example.jackpot.entity.Bet;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.entity.JackpotCounters;
+import com.example.jackpot.entity.Win;
+import com.example.jackpot.event.BetsPlacedEvent;
+import com.example.jackpot.event.PlacedBet;
+import com.example.jackpot.outbox.WinOutbox;
+import com.example.jackpot.repository.BetRepository;
+import com.example.jackpot.repository.JackpotCountersRepository;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.repository.WinRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory pots of the jackpots this node owns in cluster mode.
+ * A bet on an owned jackpot settles against the pot in memory, without reading or locking the
+ * jackpot row. Settled bets queue on their pot and are persisted asynchronously by flush threads
+ * with group commit: one transaction per flush inserts every queued bet, win and outbox entry of
+ * the pot and writes its jackpot row once. Callers return once their bets are committed, so an
+ * acknowledged bet is never lost.
+ * <p>
+ * The pot remembers the row version it last read or wrote. A flush that finds another version
+ * (the row was written by a previous or fallback owner, or by an administrative change) rolls
+ * back; its bets and every bet settled on top of them fail without being acknowledged, and the
+ * pot is reloaded from the database on the next bet.
+ */
+@Component
+@ConditionalOnExpression("${jackpot.cluster.enabled:false} and ${jackpot.cluster.write-behind:true}")
+public class OwnedJackpotPots implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OwnedJackpotPots.class);
+
+    private final BetService betService;
+    private final JackpotCountersRepository countersRepository;
+    private final JackpotRepository jackpotRepository;
+    private final BetRepository betRepository;
+    private final WinRepository winRepository;
+    private final JackpotDescriptorCache descriptorCache;
+    private final WinOutbox winOutbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterMembership membership;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration flushTimeout;
+    private final ExecutorService flushExecutor;
+    private final Map<UUID, Pot> pots = new ConcurrentHashMap<>();
+    private final Counter flushes;
+    private final Counter conflicts;
+
+    public OwnedJackpotPots(BetService betService,
+                            JackpotCountersRepository countersRepository,
+                            JackpotRepository jackpotRepository,
+                            BetRepository betRepository,
+                            WinRepository winRepository,
+                            JackpotDescriptorCache descriptorCache,
+                            WinOutbox winOutbox,
+                            ApplicationEventPublisher eventPublisher,
+                            ClusterMembership membership,
+                            ClusterProperties properties,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.betService = betService;
+        this.countersRepository = countersRepository;
+        this.jackpotRepository = jackpotRepository;
+        this.betRepository = betRepository;
+        this.winRepository = winRepository;
+        this.descriptorCache = descriptorCache;
+        this.winOutbox = winOutbox;
+        this.eventPublisher = eventPublisher;
+        this.membership = membership;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushTimeout = properties.getFlushTimeout();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.flushExecutor = Executors.newFixedThreadPool(properties.getFlushThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "jackpot-pot-flush-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gaugeMapSize("jackpot.cluster.pots", List.of(), pots);
+        this.flushes = Counter.builder("jackpot.cluster.pot.flushes")
+                .description("Group commits of owned jackpot pots")
+                .register(meterRegistry);
+        this.conflicts = Counter.builder("jackpot.cluster.pot.conflicts")
+                .description("Pot flushes rolled back because the jackpot row was written elsewhere")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Place a bet on an owned jackpot, reporting an unknown jackpot or invalid amount as a
+     * rejected result.
+     *
+     * @param request contains jackpot ID, player alias, and bet amount
+     * @return response once the bet is committed, or the rejection
+     * @throws IllegalStateException if the bet could not be persisted
+     */
+    public BetResult tryPlaceBet(BetRequest request) {
+        if (!BetService.isValidBetAmount(request.getBetAmount())) {
+            return BetResult.rejected(BetRejection.INVALID_AMOUNT, request.getJackpotId());
+        }
+        UUID jackpotId = request.getJackpotId();
+        List<BetResponse> responses = settle(jackpotId, List.of(request));
+        if (responses == null) {
+            return BetResult.rejected(BetRejection.UNKNOWN_JACKPOT, jackpotId);
+        }
+        return BetResult.accepted(responses.get(0));
+    }
+
+    /**
+     * Place a group of bets on an owned jackpot; they are committed together.
+     *
+     * @param jackpotId the jackpot all requests refer to
+     * @param requests bets in submission order
+     * @return one response per request, in the same order, once the bets are committed
+     * @throws com.example.jackpot.exception.BetRejectedException if jackpot not found or any bet is invalid
+     * @throws IllegalStateException if the bets could not be persisted
+     */
+    public List<BetResponse> placeBets(UUID jackpotId, List<BetRequest> requests) {
+        for (BetRequest request : requests) {
+            if (!BetService.isValidBetAmount(request.getBetAmount())) {
+                throw BetRejection.INVALID_AMOUNT.exception(null);
+            }
+        }
+        List<BetResponse> responses = settle(jackpotId, requests);
+        if (responses == null) {
+            throw BetRejection.UNKNOWN_JACKPOT.exception(jackpotId);
+        }
+        return responses;
+    }
+
+    /**
+     * Drop idle pots of jackpots this node no longer owns, so a later return of ownership
+     * starts from the database rather than from a stale pot.
+     */
+    @Scheduled(initialDelayString = "${jackpot.cluster.heartbeat-interval:PT5S}",
+            fixedDelayString = "${jackpot.cluster.heartbeat-interval:PT5S}")
+    public void releaseForeignPots() {
+        for (Pot pot : pots.values()) {
+            ClusterNode owner = membership.owner(pot.jackpotId);
+            if (owner != null && !membership.isSelf(owner)) {
+                synchronized (pot) {
+                    if (pot.pending.isEmpty() && !pot.flushing) {
+                        pot.retired = true;
+                        pots.remove(pot.jackpotId, pot);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Let running flushes finish before the database goes away.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        flushExecutor.shutdown();
+        if (!flushExecutor.awaitTermination(flushTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Pot flushes still running at shutdown; their bets were not acknowledged");
+        }
+    }
+
+    /**
+     * @return responses once committed, or {@code null} if the jackpot does not exist
+     */
+    private List<BetResponse> settle(UUID jackpotId, List<BetRequest> requests) {
+        JackpotDescriptor descriptor = descriptorCache.get(jackpotId);
+        if (descriptor == null) {
+            return null;
+        }
+        PendingBets settled;
+        while (true) {
+            Pot pot = pot(jackpotId);
+            if (pot == null) {
+                return null;
+            }
+            synchronized (pot) {
+                if (pot.retired) {
+                    continue;
+                }
+                settled = new PendingBets(requests.size());
+                for (BetRequest request : requests) {
+                    settled.responses.add(betService.settle(null, pot.counters, descriptor, request,
+                            settled.bets, settled.wins));
+                }
+                pot.pending.add(settled);
+                if (!pot.flushing) {
+                    pot.flushing = true;
+                    flushExecutor.execute(() -> flush(pot));
+                }
+                break;
+            }
+        }
+        return await(jackpotId, settled);
+    }
+
+    private List<BetResponse> await(UUID jackpotId, PendingBets settled) {
+        try {
+            settled.committed.get(flushTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return settled.responses;
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Bets on jackpot " + jackpotId + " were not persisted", ex.getCause());
+        } catch (TimeoutException ex) {
+            // The flush may still commit; retrying could apply the bets twice
+            throw new IllegalStateException("Bets on jackpot " + jackpotId + " not persisted within " + flushTimeout, ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for bets on jackpot " + jackpotId, ex);
+        }
+    }
+
+    private Pot pot(UUID jackpotId) {
+        Pot pot = pots.get(jackpotId);
+        if (pot != null) {
+            return pot;
+        }
+        // Copied so that no persistence context ever sees the in-memory counters
+        JackpotCounters loaded = countersRepository.findById(jackpotId).orElse(null);
+        if (loaded == null) {
+            return null;
+        }
+        Pot created = new Pot(jackpotId, JackpotCounters.builder()
+                .id(jackpotId)
+                .currentSize(loaded.getCurrentSize())
+                .winCount(loaded.getWinCount())
+                .lastWinTimestamp(loaded.getLastWinTimestamp())
+                .betSequence(loaded.getBetSequence())
+                .version(loaded.getVersion())
+                .build());
+        Pot existing = pots.putIfAbsent(jackpotId, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * Commit everything queued on a pot, then keep flushing while bets arrived meanwhile.
+     */
+    private void flush(Pot pot) {
+        List<PendingBets> batch;
+        JackpotCounters state;
+        Long expectedVersion;
+        synchronized (pot) {
+            batch = pot.pending;
+            pot.pending = new ArrayList<>();
+            state = JackpotCounters.builder()
+                    .currentSize(pot.counters.getCurrentSize())
+                    .winCount(pot.counters.getWinCount())
+                    .lastWinTimestamp(pot.counters.getLastWinTimestamp())
+                    .betSequence(pot.counters.getBetSequence())
+                    .build();
+            expectedVersion = pot.counters.getVersion();
+        }
+
+        try {
+            JackpotCounters written = transactionTemplate.execute(status -> write(pot.jackpotId, expectedVersion, state, batch));
+            synchronized (pot) {
+                pot.counters.setVersion(written.getVersion());
+            }
+            flushes.increment();
+            batch.forEach(settled -> settled.committed.complete(null));
+        } catch (RuntimeException ex) {
+            List<PendingBets> dependent;
+            synchronized (pot) {
+                pot.retired = true;
+                pots.remove(pot.jackpotId, pot);
+                dependent = pot.pending;
+                pot.pending = new ArrayList<>();
+            }
+            log.warn("Failed to persist {} bet group(s) on jackpot {}; reloading its pot", batch.size(), pot.jackpotId, ex);
+            batch.forEach(settled -> settled.committed.completeExceptionally(ex));
+            dependent.forEach(settled -> settled.committed.completeExceptionally(ex));
+        }
+
+        synchronized (pot) {
+            if (!pot.retired && !pot.pending.isEmpty()) {
+                flushExecutor.execute(() -> flush(pot));
+            } else {
+                pot.flushing = false;
+            }
+        }
+    }
+
+    private JackpotCounters write(UUID jackpotId, Long expectedVersion, JackpotCounters state, List<PendingBets> batch) {
+        JackpotCounters row = countersRepository.findForUpdate(jackpotId)
+                .orElseThrow(() -> new IllegalStateException("Jackpot " + jackpotId + " no longer exists"));
+        if (!Objects.equals(row.getVersion(), expectedVersion)) {
+            conflicts.increment();
+            throw new IllegalStateException("Jackpot " + jackpotId + " is at version " + row.getVersion()
+                    + " but its pot was built on version " + expectedVersion);
+        }
+
+        Jackpot jackpot = jackpotRepository.getReferenceById(jackpotId);
+        List<Bet> bets = new ArrayList<>();
+        List<Win> wins = new ArrayList<>();
+        for (PendingBets settled : batch) {
+            settled.bets.forEach(bet -> bet.setJackpot(jackpot));
+            settled.wins.forEach(win -> win.setJackpot(jackpot));
+            bets.addAll(settled.bets);
+            wins.addAll(settled.wins);
+        }
+        betRepository.saveAll(bets);
+        if (!wins.isEmpty()) {
+            winRepository.saveAll(wins);
+            winOutbox.record(wins);
+        }
+
+        row.setCurrentSize(state.getCurrentSize());
+        row.setWinCount(state.getWinCount());
+        row.setLastWinTimestamp(state.getLastWinTimestamp());
+        row.setBetSequence(state.getBetSequence());
+        countersRepository.saveAndFlush(row);
+
+        List<PlacedBet> placed = new ArrayList<>(bets.size());
+        for (PendingBets settled : batch) {
+            int winIndex = 0;
+            for (int i = 0; i < settled.bets.size(); i++) {
+                BetResponse response = settled.responses.get(i);
+                Win win = Boolean.TRUE.equals(response.getWon()) ? settled.wins.get(winIndex++) : null;
+                placed.add(PlacedBet.of(settled.bets.get(i), response, win));
+            }
+        }
+        eventPublisher.publishEvent(new BetsPlacedEvent(placed));
+        return row;
+    }
+
+    /**
+     * Pot of one owned jackpot. All fields are guarded by the pot's monitor.
+     */
+    private static final class Pot {
+
+        final UUID jackpotId;
+
+        /**
+         * Counters including every settled bet; the version is the one last read or written.
+         */
+        final JackpotCounters counters;
+
+        List<PendingBets> pending = new ArrayList<>();
+        boolean flushing;
+        boolean retired;
+
+        Pot(UUID jackpotId, JackpotCounters counters) {
+            this.jackpotId = jackpotId;
+            this.counters = counters;
+        }
+    }
+
+    /**
+     * Bets of one call, settled in memory and waiting to be committed.
+     */
+    private static final class PendingBets {
+
+        final List<Bet> bets;
+        final List<Win> wins = new ArrayList<>(1);
+        final List<BetResponse> responses;
+        final CompletableFuture<Void> committed = new CompletableFuture<>();
+
+        PendingBets(int size) {
+            this.bets = new ArrayList<>(size);
+            this.responses = new ArrayList<>(size);
+        }
+    }
+}
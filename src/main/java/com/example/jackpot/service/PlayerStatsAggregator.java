@@ -0,0 +1,196 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.entity.PlayerStats;
+import com.example.jackpot.event.BetsPlacedEvent;
+import com.example.jackpot.event.PlacedBet;
+import com.example.jackpot.repository.PlayerStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maintains {@code player_stats} from the bet stream.
+ * Committed bets are folded into per-player deltas in memory; a scheduled flush
+ * applies all pending deltas in one transaction with one in-place update per player,
+ * so the cost per flush is bounded by active players rather than by bets.
+ * While a {@link PlayerStatsRebuilder rebuild} runs, flushes are paused and the bets folded in
+ * are also captured, so the rebuild can take back the deltas of bets its totals already count.
+ */
+@Component
+public class PlayerStatsAggregator implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerStatsAggregator.class);
+
+    private final PlayerStatsRepository playerStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<String, PlayerStatsDelta> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Held shared while folding bets in, exclusively while a rebuild starts or ends.
+     */
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    /**
+     * Bets folded in since the running rebuild started, {@code null} if none is running.
+     */
+    private List<PlacedBet> captured;
+
+    public PlayerStatsAggregator(PlayerStatsRepository playerStatsRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.playerStatsRepository = playerStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Fold committed bets into the pending deltas.
+     */
+    @TransactionalEventListener
+    public void onBetsPlaced(BetsPlacedEvent event) {
+        rebuildLock.readLock().lock();
+        try {
+            for (PlacedBet bet : event.getBets()) {
+                pending.merge(bet.getPlayerAlias(), PlayerStatsDelta.of(bet), PlayerStatsDelta::plus);
+            }
+            if (captured != null) {
+                synchronized (captured) {
+                    captured.addAll(event.getBets());
+                }
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Flush all pending deltas, then pause flushing and start capturing bets until
+     * {@link #endRebuild}. Afterwards every pending delta belongs to a captured bet.
+     */
+    synchronized void beginRebuild() {
+        flush();
+        rebuildLock.writeLock().lock();
+        try {
+            // Deltas folded in since the flush above belong to no captured bet; write them too
+            Map<String, PlayerStatsDelta> batch = drain();
+            if (!batch.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+            }
+            captured = new ArrayList<>();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stop capturing and resume flushing. Deltas of captured bets that the rebuilt totals
+     * already count are dropped; the others stay pending and are added on the next flush.
+     *
+     * @param countedUpTo per jackpot, sequence of the last bet the rebuilt totals include
+     * @return number of captured bets dropped
+     */
+    synchronized int endRebuild(Map<UUID, Long> countedUpTo) {
+        rebuildLock.writeLock().lock();
+        try {
+            int dropped = 0;
+            if (captured != null) {
+                for (PlacedBet bet : captured) {
+                    Long upTo = countedUpTo.get(bet.getJackpotId());
+                    if (upTo != null && bet.getBetSequence() != null && bet.getBetSequence() <= upTo) {
+                        pending.merge(bet.getPlayerAlias(), PlayerStatsDelta.of(bet), PlayerStatsDelta::minus);
+                        dropped++;
+                    }
+                }
+            }
+            captured = null;
+            return dropped;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param playerAlias the player alias
+     * @return delta not yet written to the database, or {@code null}
+     */
+    public PlayerStatsDelta pending(String playerAlias) {
+        return pending.get(playerAlias);
+    }
+
+    /**
+     * Write all pending deltas. Deltas of a failed flush are merged back and retried on the next run.
+     *
+     * @return number of players written
+     */
+    @Scheduled(initialDelayString = "${jackpot.player-stats.flush-interval:PT1S}",
+            fixedDelayString = "${jackpot.player-stats.flush-interval:PT1S}")
+    public synchronized int flush() {
+        if (captured != null) {
+            return 0;
+        }
+        Map<String, PlayerStatsDelta> batch = drain();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+        } catch (RuntimeException ex) {
+            batch.forEach((playerAlias, delta) -> pending.merge(playerAlias, delta, PlayerStatsDelta::plus));
+            log.warn("Failed to flush stats of {} players, will retry", batch.size(), ex);
+            return 0;
+        }
+        return batch.size();
+    }
+
+    /**
+     * Flush what is left on shutdown.
+     */
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private Map<String, PlayerStatsDelta> drain() {
+        Map<String, PlayerStatsDelta> batch = new HashMap<>();
+        for (String playerAlias : pending.keySet()) {
+            PlayerStatsDelta delta = pending.remove(playerAlias);
+            if (delta != null) {
+                batch.put(playerAlias, delta);
+            }
+        }
+        return batch;
+    }
+
+    private void write(Map<String, PlayerStatsDelta> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<String, PlayerStatsDelta> entry : batch.entrySet()) {
+            PlayerStatsDelta delta = entry.getValue();
+            int updated = playerStatsRepository.addDelta(entry.getKey(), delta.getBetCount(), delta.getWagered(),
+                    delta.getWinCount(), delta.getWon(), now);
+            if (updated == 0) {
+                playerStatsRepository.save(PlayerStats.builder()
+                        .playerAlias(entry.getKey())
+                        .betCount(delta.getBetCount())
+                        .totalWagered(delta.getWagered())
+                        .winCount(delta.getWinCount())
+                        .totalWon(delta.getWon())
+                        .updatedAt(now)
+                        .build());
+            }
+        }
+    }
+}
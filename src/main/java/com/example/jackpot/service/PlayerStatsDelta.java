@@ -0,0 +1,46 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.event.PlacedBet;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable increment to a player's totals, accumulated between flushes.
+ */
+@Value
+public class PlayerStatsDelta {
+
+    long betCount;
+    BigDecimal wagered;
+    long winCount;
+    BigDecimal won;
+
+    /**
+     * @param bet a settled bet
+     * @return delta of that single bet
+     */
+    public static PlayerStatsDelta of(PlacedBet bet) {
+        return bet.isWon()
+                ? new PlayerStatsDelta(1, bet.getBetAmount(), 1, bet.getWinAmount())
+                : new PlayerStatsDelta(1, bet.getBetAmount(), 0, BigDecimal.ZERO);
+    }
+
+    /**
+     * @param other another delta
+     * @return sum of both deltas
+     */
+    public PlayerStatsDelta plus(PlayerStatsDelta other) {
+        return new PlayerStatsDelta(betCount + other.betCount, wagered.add(other.wagered),
+                winCount + other.winCount, won.add(other.won));
+    }
+
+    /**
+     * @param other another delta
+     * @return this delta without the other one
+     */
+    public PlayerStatsDelta minus(PlayerStatsDelta other) {
+        return new PlayerStatsDelta(betCount - other.betCount, wagered.subtract(other.wagered),
+                winCount - other.winCount, won.subtract(other.won));
+    }
+}
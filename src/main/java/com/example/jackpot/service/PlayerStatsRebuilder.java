@@ -0,0 +1,203 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.config.PlayerStatsProperties;
+import com.example.jackpot.dto.PlayerStatsRebuildResponse;
+import com.example.jackpot.entity.PlayerStats;
+import com.example.jackpot.exception.PlayerStatsRebuildInProgressException;
+import com.example.jackpot.repository.BetRepository;
+import com.example.jackpot.repository.JackpotCountersRepository;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.repository.PlayerStatsRepository;
+import com.example.jackpot.repository.PlayerTotals;
+import com.example.jackpot.repository.WinRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Recomputes {@code player_stats} from the bets and wins tables.
+ * Jackpots are aggregated in parallel over the per-jackpot indexes, the partial
+ * totals are merged in memory and written back in chunks of players, each chunk in
+ * its own transaction. Each jackpot is summed up to the bet sequence its row holds;
+ * bets committed while the rebuild runs stay pending in the
+ * {@link PlayerStatsAggregator} and are only flushed afterwards if their sequence is
+ * above that, so no bet is counted twice or lost. Deltas still pending on other
+ * nodes are not covered, so in cluster mode the result is only exact while one node
+ * takes bets. Only one rebuild runs at a time.
+ */
+@Service
+public class PlayerStatsRebuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerStatsRebuilder.class);
+
+    private final JackpotRepository jackpotRepository;
+    private final JackpotCountersRepository countersRepository;
+    private final BetRepository betRepository;
+    private final WinRepository winRepository;
+    private final PlayerStatsRepository playerStatsRepository;
+    private final PlayerStatsAggregator aggregator;
+    private final PlayerStatsProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public PlayerStatsRebuilder(JackpotRepository jackpotRepository,
+                                JackpotCountersRepository countersRepository,
+                                BetRepository betRepository,
+                                WinRepository winRepository,
+                                PlayerStatsRepository playerStatsRepository,
+                                PlayerStatsAggregator aggregator,
+                                PlayerStatsProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.jackpotRepository = jackpotRepository;
+        this.countersRepository = countersRepository;
+        this.betRepository = betRepository;
+        this.winRepository = winRepository;
+        this.playerStatsRepository = playerStatsRepository;
+        this.aggregator = aggregator;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Recompute all player statistics from history.
+     *
+     * @return number of players written and elapsed time
+     * @throws PlayerStatsRebuildInProgressException if a rebuild is already running
+     */
+    public PlayerStatsRebuildResponse rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            throw new PlayerStatsRebuildInProgressException("Player stats rebuild already running");
+        }
+        try {
+            return rebuildExclusively();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private PlayerStatsRebuildResponse rebuildExclusively() {
+        long start = System.nanoTime();
+        aggregator.beginRebuild();
+        Map<UUID, Long> counted = new HashMap<>();
+        List<UUID> jackpotIds;
+        List<PlayerStats> rows;
+        try {
+            jackpotIds = jackpotRepository.findAllIds();
+            rows = new ArrayList<>(aggregate(jackpotIds, counted).values());
+            int chunkSize = Math.max(1, properties.getRebuildChunkSize());
+            for (int from = 0; from < rows.size(); from += chunkSize) {
+                List<PlayerStats> chunk = rows.subList(from, Math.min(rows.size(), from + chunkSize));
+                transactionTemplate.executeWithoutResult(status -> playerStatsRepository.saveAll(chunk));
+            }
+        } catch (RuntimeException ex) {
+            // Keep every captured delta; a partly written rebuild has to be run again
+            counted.clear();
+            throw ex;
+        } finally {
+            int dropped = aggregator.endRebuild(counted);
+            log.debug("Dropped {} pending player stats deltas already counted by the rebuild", dropped);
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Rebuilt stats of {} players from {} jackpots in {} ms", rows.size(), jackpotIds.size(), durationMs);
+        return PlayerStatsRebuildResponse.builder()
+                .players(rows.size())
+                .durationMs(durationMs)
+                .build();
+    }
+
+    /**
+     * Sum bets and wins per player over all jackpots.
+     *
+     * @param counted receives, per jackpot, the sequence of the last bet the totals include
+     */
+    private Map<String, PlayerStats> aggregate(List<UUID> jackpotIds, Map<UUID, Long> counted) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getRebuildParallelism()));
+        Map<String, PlayerStats> totals = new HashMap<>();
+        try {
+            List<Future<JackpotTotals>> futures = new ArrayList<>(jackpotIds.size());
+            for (UUID jackpotId : jackpotIds) {
+                // Every bet up to the row's sequence has committed; later bets have higher sequences
+                Callable<JackpotTotals> task = () -> readTemplate.execute(status -> countersRepository.findBetSequence(jackpotId)
+                        .map(upTo -> new JackpotTotals(jackpotId, upTo,
+                                betRepository.sumByPlayer(jackpotId, upTo),
+                                winRepository.sumByPlayer(jackpotId, upTo)))
+                        .orElse(null));
+                futures.add(executor.submit(task));
+            }
+            for (Future<JackpotTotals> future : futures) {
+                JackpotTotals result = future.get();
+                if (result == null) {
+                    continue;
+                }
+                for (PlayerTotals bets : result.bets) {
+                    PlayerStats stats = totals.computeIfAbsent(bets.getPlayerAlias(), PlayerStatsRebuilder::empty);
+                    stats.setBetCount(stats.getBetCount() + bets.getCount());
+                    stats.setTotalWagered(stats.getTotalWagered().add(bets.getAmount()));
+                }
+                for (PlayerTotals wins : result.wins) {
+                    PlayerStats stats = totals.computeIfAbsent(wins.getPlayerAlias(), PlayerStatsRebuilder::empty);
+                    stats.setWinCount(stats.getWinCount() + wins.getCount());
+                    stats.setTotalWon(stats.getTotalWon().add(wins.getAmount()));
+                }
+                counted.put(result.jackpotId, result.betSequence);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Player stats rebuild interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Player stats rebuild failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return totals;
+    }
+
+    private static PlayerStats empty(String playerAlias) {
+        return PlayerStats.builder()
+                .playerAlias(playerAlias)
+                .betCount(0L)
+                .totalWagered(BigDecimal.ZERO)
+                .winCount(0L)
+                .totalWon(BigDecimal.ZERO)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Totals of one jackpot up to a bet sequence.
+     */
+    private static final class JackpotTotals {
+
+        private final UUID jackpotId;
+        private final long betSequence;
+        private final List<PlayerTotals> bets;
+        private final List<PlayerTotals> wins;
+
+        private JackpotTotals(UUID jackpotId, long betSequence, List<PlayerTotals> bets, List<PlayerTotals> wins) {
+            this.jackpotId = jackpotId;
+            this.betSequence = betSequence;
+            this.bets = bets;
+            this.wins = wins;
+        }
+    }
+}
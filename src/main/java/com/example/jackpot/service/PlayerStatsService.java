@@ -0,0 +1,54 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.dto.PlayerStatsDto;
+import com.example.jackpot.entity.PlayerStats;
+import com.example.jackpot.exception.PlayerNotFoundException;
+import com.example.jackpot.repository.PlayerStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * Service layer for player statistics.
+ * Reads are a primary-key lookup plus the player's not yet flushed delta.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlayerStatsService {
+
+    private final PlayerStatsRepository playerStatsRepository;
+    private final PlayerStatsAggregator aggregator;
+
+    /**
+     * Get lifetime totals of a player.
+     *
+     * @param playerAlias the player alias
+     * @return player statistics, including bets not yet flushed
+     * @throws PlayerNotFoundException if the player has never placed a bet
+     */
+    public PlayerStatsDto getStats(String playerAlias) {
+        PlayerStats stored = playerStatsRepository.findById(playerAlias).orElse(null);
+        PlayerStatsDelta pending = aggregator.pending(playerAlias);
+        if (stored == null && pending == null) {
+            throw new PlayerNotFoundException("No statistics for player: " + playerAlias);
+        }
+
+        PlayerStatsDto dto = PlayerStatsDto.builder()
+                .playerAlias(playerAlias)
+                .betCount(stored != null ? stored.getBetCount() : 0)
+                .totalWagered(stored != null ? stored.getTotalWagered() : BigDecimal.ZERO)
+                .winCount(stored != null ? stored.getWinCount() : 0)
+                .totalWon(stored != null ? stored.getTotalWon() : BigDecimal.ZERO)
+                .build();
+        if (pending != null) {
+            dto.setBetCount(dto.getBetCount() + pending.getBetCount());
+            dto.setTotalWagered(dto.getTotalWagered().add(pending.getWagered()));
+            dto.setWinCount(dto.getWinCount() + pending.getWinCount());
+            dto.setTotalWon(dto.getTotalWon().add(pending.getWon()));
+        }
+        return dto;
+    }
+}
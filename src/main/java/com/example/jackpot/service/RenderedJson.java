@@ -0,0 +1,24 @@
+package com.example.jackpot.service;
+
+import lombok.Value;
+
+/**
+ * A response body serialized ahead of time.
+ */
+@Value
+public class RenderedJson {
+
+    /**
+     * Version the body was rendered at, or {@code null} if it must not be cached.
+     */
+    String version;
+
+    byte[] json;
+
+    /**
+     * Gzip-compressed {@link #json}, or {@code null} if the body is too small to compress.
+     */
+    byte[] gzip;
+
+    long renderedAtNanos;
+}
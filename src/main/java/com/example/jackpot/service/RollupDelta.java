@@ -0,0 +1,39 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.event.PlacedBet;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable increment to a rollup bucket, accumulated between flushes.
+ */
+@Value
+public class RollupDelta {
+
+    long betCount;
+    BigDecimal turnover;
+    BigDecimal contributions;
+    long winCount;
+    BigDecimal payouts;
+
+    /**
+     * @param bet a settled bet
+     * @return delta of that single bet
+     */
+    public static RollupDelta of(PlacedBet bet) {
+        BigDecimal contribution = bet.getContribution() != null ? bet.getContribution() : BigDecimal.ZERO;
+        return bet.isWon()
+                ? new RollupDelta(1, bet.getBetAmount(), contribution, 1, bet.getWinAmount())
+                : new RollupDelta(1, bet.getBetAmount(), contribution, 0, BigDecimal.ZERO);
+    }
+
+    /**
+     * @param other another delta
+     * @return sum of both deltas
+     */
+    public RollupDelta plus(RollupDelta other) {
+        return new RollupDelta(betCount + other.betCount, turnover.add(other.turnover),
+                contributions.add(other.contributions), winCount + other.winCount, payouts.add(other.payouts));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.entity.RollupGranularity;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Identity of a rollup bucket.
+ */
+@Value
+public class RollupKey {
+
+    UUID jackpotId;
+    RollupGranularity granularity;
+    LocalDateTime bucketStart;
+
+    /**
+     * @param granularity coarser or equal granularity
+     * @return key of the bucket containing this one
+     */
+    public RollupKey rollUp(RollupGranularity granularity) {
+        return new RollupKey(jackpotId, granularity, granularity.bucketStart(bucketStart));
+    }
+}
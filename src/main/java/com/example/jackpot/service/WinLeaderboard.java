@@ -0,0 +1,246 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.config.LeaderboardProperties;
+import com.example.jackpot.dto.TopWinDto;
+import com.example.jackpot.entity.Win;
+import com.example.jackpot.event.BetsPlacedEvent;
+import com.example.jackpot.event.PlacedBet;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.repository.WinRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory leaderboard of the biggest wins.
+ * Keeps a bounded min-heap of the top wins per jackpot and across all jackpots, for all
+ * time and for each of the last seven calendar days; the week window merges the daily
+ * heaps at read time. Each heap publishes an immutable ranked copy whenever it changes,
+ * so reads never lock and never touch the database. Seeded from the {@code wins} table
+ * once the application is ready, then fed by committed wins. In cluster mode each node only
+ * sees the wins it settled, so the seed is repeated on a schedule to merge in the wins of its peers.
+ */
+@Component
+public class WinLeaderboard {
+
+    private static final Logger log = LoggerFactory.getLogger(WinLeaderboard.class);
+
+    /**
+     * Heap key for the leaderboard across all jackpots.
+     */
+    private static final UUID ALL_JACKPOTS = new UUID(0, 0);
+
+    /**
+     * Best first: biggest amount, then earliest win.
+     */
+    static final Comparator<TopWinDto> RANKING = Comparator
+            .comparing(TopWinDto::getWinAmount, Comparator.reverseOrder())
+            .thenComparing(TopWinDto::getTimestamp)
+            .thenComparing(TopWinDto::getWinId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final WinRepository winRepository;
+    private final JackpotRepository jackpotRepository;
+    private final int size;
+    private final boolean clustered;
+
+    private final Map<UUID, TopWins> allTime = new ConcurrentHashMap<>();
+    private final Map<LocalDate, Map<UUID, TopWins>> daily = new ConcurrentHashMap<>();
+
+    public WinLeaderboard(WinRepository winRepository,
+                          JackpotRepository jackpotRepository,
+                          LeaderboardProperties properties,
+                          ClusterProperties clusterProperties) {
+        this.winRepository = winRepository;
+        this.jackpotRepository = jackpotRepository;
+        this.size = properties.getSize();
+        this.clustered = clusterProperties.isEnabled();
+    }
+
+    /**
+     * Load the biggest wins of every jackpot, for all time and for each of the last seven days.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        long start = System.nanoTime();
+        int loaded = load();
+        log.info("Seeded win leaderboard with {} wins in {} ms", loaded, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * In cluster mode, merge in wins recorded by other nodes; wins already kept are ignored.
+     */
+    @Scheduled(initialDelayString = "${jackpot.leaderboard.cluster-refresh-interval:PT10S}",
+            fixedDelayString = "${jackpot.leaderboard.cluster-refresh-interval:PT10S}")
+    public void refresh() {
+        if (clustered) {
+            load();
+        }
+    }
+
+    /**
+     * Query only what the heaps can keep: the top {@code size} wins per jackpot for all time
+     * and for each kept day, so the cost does not grow with the number of wins.
+     */
+    private int load() {
+        LocalDate today = LocalDate.now();
+        PageRequest top = PageRequest.of(0, size);
+        int loaded = 0;
+        for (UUID jackpotId : jackpotRepository.findAllIds()) {
+            for (Win win : winRepository.findBiggest(jackpotId, top)) {
+                record(toEntry(win));
+                loaded++;
+            }
+            for (int i = 0; i < LeaderboardWindow.DAYS_KEPT; i++) {
+                LocalDate day = today.minusDays(i);
+                for (Win win : winRepository.findBiggestBetween(jackpotId, day.atStartOfDay(),
+                        day.plusDays(1).atStartOfDay(), top)) {
+                    record(toEntry(win));
+                    loaded++;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Add committed wins.
+     */
+    @TransactionalEventListener
+    public void onBetsPlaced(BetsPlacedEvent event) {
+        for (PlacedBet bet : event.getBets()) {
+            if (bet.isWon()) {
+                record(TopWinDto.builder()
+                        .winId(bet.getWinId())
+                        .jackpotId(bet.getJackpotId())
+                        .playerAlias(bet.getPlayerAlias())
+                        .winAmount(bet.getWinAmount())
+                        .timestamp(bet.getWinTimestamp())
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Add a win to every heap it belongs to. Wins already present (same id) are ignored.
+     *
+     * @param win the win; never modified afterwards
+     */
+    void record(TopWinDto win) {
+        heap(allTime, win.getJackpotId()).offer(win);
+        heap(allTime, ALL_JACKPOTS).offer(win);
+
+        LocalDate day = win.getTimestamp().toLocalDate();
+        LocalDate firstDay = LocalDate.now().minusDays(LeaderboardWindow.DAYS_KEPT - 1);
+        daily.keySet().removeIf(d -> d.isBefore(firstDay));
+        if (day.isBefore(firstDay)) {
+            return;
+        }
+        Map<UUID, TopWins> heaps = daily.computeIfAbsent(day, d -> new ConcurrentHashMap<>());
+        heap(heaps, win.getJackpotId()).offer(win);
+        heap(heaps, ALL_JACKPOTS).offer(win);
+    }
+
+    /**
+     * Get the biggest wins.
+     *
+     * @param window time window
+     * @param jackpotId optional jackpot filter
+     * @param limit maximum number of wins, capped at the configured size
+     * @return wins, biggest first
+     */
+    public List<TopWinDto> top(LeaderboardWindow window, UUID jackpotId, int limit) {
+        UUID key = jackpotId != null ? jackpotId : ALL_JACKPOTS;
+        int n = Math.min(limit, size);
+        LocalDate today = LocalDate.now();
+        switch (window) {
+            case ALL:
+                return top(allTime.get(key), n);
+            case DAY:
+                Map<UUID, TopWins> heaps = daily.get(today);
+                return top(heaps != null ? heaps.get(key) : null, n);
+            default:
+                List<TopWinDto> merged = new ArrayList<>();
+                for (int i = 0; i < LeaderboardWindow.DAYS_KEPT; i++) {
+                    Map<UUID, TopWins> dayHeaps = daily.get(today.minusDays(i));
+                    if (dayHeaps != null) {
+                        merged.addAll(top(dayHeaps.get(key), n));
+                    }
+                }
+                merged.sort(RANKING);
+                return merged.size() <= n ? merged : List.copyOf(merged.subList(0, n));
+        }
+    }
+
+    private TopWins heap(Map<UUID, TopWins> heaps, UUID key) {
+        return heaps.computeIfAbsent(key, k -> new TopWins(size));
+    }
+
+    private static List<TopWinDto> top(TopWins heap, int limit) {
+        if (heap == null) {
+            return List.of();
+        }
+        List<TopWinDto> ranked = heap.ranked;
+        return ranked.size() <= limit ? ranked : ranked.subList(0, limit);
+    }
+
+    private static TopWinDto toEntry(Win win) {
+        return TopWinDto.builder()
+                .winId(win.getId())
+                .jackpotId(win.getJackpot().getId())
+                .playerAlias(win.getPlayerAlias())
+                .winAmount(win.getWinAmount())
+                .timestamp(win.getTimestamp())
+                .build();
+    }
+
+    /**
+     * Bounded min-heap: the head is the smallest of the kept wins, so a new win is
+     * compared once against it and rejected in O(1) when it would not make the list.
+     */
+    private static final class TopWins {
+
+        private final int capacity;
+        private final PriorityQueue<TopWinDto> heap;
+        private volatile List<TopWinDto> ranked = List.of();
+
+        private TopWins(int capacity) {
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>(capacity + 1, RANKING.reversed());
+        }
+
+        synchronized void offer(TopWinDto win) {
+            if (heap.size() >= capacity && RANKING.compare(win, heap.peek()) >= 0) {
+                return;
+            }
+            if (win.getWinId() != null) {
+                for (TopWinDto kept : heap) {
+                    if (win.getWinId().equals(kept.getWinId())) {
+                        return;
+                    }
+                }
+            }
+            heap.add(win);
+            if (heap.size() > capacity) {
+                heap.poll();
+            }
+            List<TopWinDto> sorted = new ArrayList<>(heap);
+            sorted.sort(RANKING);
+            ranked = List.copyOf(sorted);
+        }
+    }
+}
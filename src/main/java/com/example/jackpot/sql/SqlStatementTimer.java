@@ -0,0 +1,127 @@
+package com.example.jackpot.sql;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records JDBC statement latencies.
+ * Every execution is added to a per-statement-type timer; executions above the
+ * slow-query threshold are also written to the {@code jackpot.sql.slow} logger
+ * with literal values redacted.
+ */
+public class SqlStatementTimer {
+
+    /**
+     * Dedicated logger so the slow-query log can be routed to an async appender.
+     */
+    private static final Logger slowLog = LoggerFactory.getLogger("jackpot.sql.slow");
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Coarse statement classification used as the metric tag.
+     */
+    public enum StatementType {
+        SELECT, INSERT, UPDATE, DELETE, OTHER
+    }
+
+    private final long slowThresholdNanos;
+    private final Map<StatementType, Timer> timers;
+
+    /**
+     * @param registry meter registry, or {@code null} to disable histograms
+     * @param slowThresholdNanos executions at or above this duration are logged
+     */
+    public SqlStatementTimer(MeterRegistry registry, long slowThresholdNanos) {
+        this.slowThresholdNanos = slowThresholdNanos;
+        if (registry == null) {
+            this.timers = null;
+        } else {
+            this.timers = new EnumMap<>(StatementType.class);
+            for (StatementType type : StatementType.values()) {
+                timers.put(type, Timer.builder("jackpot.sql.statement")
+                        .description("JDBC statement execution time")
+                        .tag("type", type.name().toLowerCase())
+                        .publishPercentileHistogram()
+                        .register(registry));
+            }
+        }
+    }
+
+    /**
+     * Record one statement execution.
+     *
+     * @param sql SQL text as prepared or executed (may be null for batches of plain statements)
+     * @param type pre-classified statement type
+     * @param elapsedNanos execution time
+     */
+    public void record(String sql, StatementType type, long elapsedNanos) {
+        if (timers != null) {
+            timers.get(type).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        if (elapsedNanos >= slowThresholdNanos && slowLog.isWarnEnabled()) {
+            slowLog.warn("slow_sql type={} elapsed_ms={} sql=\"{}\"",
+                    type.name().toLowerCase(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), redact(sql));
+        }
+    }
+
+    /**
+     * Classify a statement by its leading keyword.
+     *
+     * @param sql SQL text
+     * @return statement type, {@link StatementType#OTHER} if unknown
+     */
+    public static StatementType classify(String sql) {
+        if (sql == null) {
+            return StatementType.OTHER;
+        }
+        int i = 0;
+        int length = sql.length();
+        while (i < length && (Character.isWhitespace(sql.charAt(i)) || sql.charAt(i) == '(')) {
+            i++;
+        }
+        if (startsWithIgnoreCase(sql, i, "select") || startsWithIgnoreCase(sql, i, "with")) {
+            return StatementType.SELECT;
+        }
+        if (startsWithIgnoreCase(sql, i, "insert")) {
+            return StatementType.INSERT;
+        }
+        if (startsWithIgnoreCase(sql, i, "update")) {
+            return StatementType.UPDATE;
+        }
+        if (startsWithIgnoreCase(sql, i, "delete")) {
+            return StatementType.DELETE;
+        }
+        return StatementType.OTHER;
+    }
+
+    /**
+     * Replace string and numeric literals with {@code ?} so bound values never reach the log.
+     * Prepared statement parameters are never captured in the first place.
+     *
+     * @param sql SQL text
+     * @return redacted, whitespace-normalized SQL
+     */
+    public static String redact(String sql) {
+        if (sql == null) {
+            return "<batch>";
+        }
+        String redacted = STRING_LITERAL.matcher(sql).replaceAll("?");
+        redacted = NUMERIC_LITERAL.matcher(redacted).replaceAll("?");
+        return WHITESPACE.matcher(redacted).replaceAll(" ").trim();
+    }
+
+    private static boolean startsWithIgnoreCase(String sql, int offset, String keyword) {
+        return sql.regionMatches(true, offset, keyword, 0, keyword.length());
+    }
+}
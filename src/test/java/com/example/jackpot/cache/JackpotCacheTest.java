@@ -0,0 +1,197 @@
+package com.example.jackpot.cache;
+
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.config.JackpotCacheProperties;
+import com.example.jackpot.dto.JackpotDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JackpotCache.
+ * Tests lookups, invalidation across two nodes sharing an in-memory bus, rejection of
+ * stale copies and the bound on cached copies and floors.
+ */
+class JackpotCacheTest {
+
+    private final UUID jackpotId = UUID.randomUUID();
+
+    private InMemoryJackpotInvalidationBus bus;
+    private JackpotCacheProperties properties;
+    private AtomicReference<VersionedJackpot> row;
+    private AtomicInteger loads;
+    private Function<UUID, VersionedJackpot> loader;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InMemoryJackpotInvalidationBus();
+        properties = new JackpotCacheProperties();
+        row = new AtomicReference<>(copy(0, "10"));
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return row.get();
+        };
+    }
+
+    // ========== Lookup Tests ==========
+
+    @Test
+    void testGet_ShouldLoadOnceThenServeFromL1() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JackpotCache cache = node(registry);
+
+        assertEquals(new BigDecimal("10"), cache.get(jackpotId, loader).getCurrentSize());
+        cache.get(jackpotId, loader);
+        cache.get(jackpotId, loader);
+
+        assertEquals(1, loads.get());
+        assertEquals(2, registry.get("jackpot.cache.gets").tag("result", "l1_hit").counter().count());
+        assertEquals(1, registry.get("jackpot.cache.gets").tag("result", "miss").counter().count());
+        assertEquals(2.0 / 3, registry.get("jackpot.cache.hit.ratio").tag("level", "l1").gauge().value(), 1e-9);
+        assertEquals(2, registry.get("jackpot.cache.staleness").timer().count());
+    }
+
+    @Test
+    void testGet_WithExpiredEntry_ShouldLoadAgain() {
+        properties.setL1Ttl(Duration.ZERO);
+        JackpotCache cache = node(new SimpleMeterRegistry());
+
+        cache.get(jackpotId, loader);
+        cache.get(jackpotId, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGet_WhenLoaderFindsNothing_ShouldReturnNullAndCacheNothing() {
+        row.set(null);
+        JackpotCache cache = node(new SimpleMeterRegistry());
+
+        assertNull(cache.get(jackpotId, loader));
+        assertNull(cache.get(jackpotId, loader));
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testGet_WhenDisabled_ShouldAlwaysLoad() {
+        properties.setEnabled(false);
+        JackpotCache cache = node(new SimpleMeterRegistry());
+
+        cache.get(jackpotId, loader);
+        cache.get(jackpotId, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGet_InClusterModeWithLocalBus_ShouldAlwaysLoad() {
+        ClusterProperties cluster = new ClusterProperties();
+        cluster.setEnabled(true);
+        JackpotCache cache = new JackpotCache(bus, properties, cluster, new SimpleMeterRegistry());
+
+        cache.get(jackpotId, loader);
+        cache.get(jackpotId, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGet_InClusterModeWithSharedBus_ShouldCache() {
+        ClusterProperties cluster = new ClusterProperties();
+        cluster.setEnabled(true);
+        JackpotInvalidationBus sharedBus = new InMemoryJackpotInvalidationBus() {
+            @Override
+            public boolean isShared() {
+                return true;
+            }
+        };
+        JackpotCache cache = new JackpotCache(sharedBus, properties, cluster, new SimpleMeterRegistry());
+
+        cache.get(jackpotId, loader);
+        cache.get(jackpotId, loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    // ========== Invalidation Tests ==========
+
+    @Test
+    void testChanged_ShouldInvalidateEveryNode() {
+        JackpotCache writer = node(new SimpleMeterRegistry());
+        JackpotCache reader = node(new SimpleMeterRegistry());
+        writer.get(jackpotId, loader);
+        reader.get(jackpotId, loader);
+
+        row.set(copy(1, "25"));
+        writer.changed(jackpotId, 1);
+
+        assertEquals(new BigDecimal("25"), reader.get(jackpotId, loader).getCurrentSize());
+        assertEquals(new BigDecimal("25"), writer.get(jackpotId, loader).getCurrentSize());
+        // Each node loaded once before and once after the change
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testGet_WithCopyLoadedBeforeChange_ShouldNotStoreIt() {
+        JackpotCache cache = node(new SimpleMeterRegistry());
+        // A reader loads version 0, the writer commits version 1 before the reader stores its copy
+        Function<UUID, VersionedJackpot> slowLoader = id -> {
+            VersionedJackpot stale = row.get();
+            row.set(copy(1, "25"));
+            cache.changed(jackpotId, 1);
+            return stale;
+        };
+
+        assertEquals(new BigDecimal("10"), cache.get(jackpotId, slowLoader).getCurrentSize());
+        assertEquals(new BigDecimal("25"), cache.get(jackpotId, loader).getCurrentSize());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testChanged_OnManyJackpots_ShouldBoundFloors() {
+        properties.setL1MaxEntries(10);
+        JackpotCache cache = node(new SimpleMeterRegistry());
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.changed(UUID.randomUUID(), i);
+        }
+
+        assertTrue(cache.size() <= 10);
+    }
+
+    @Test
+    void testChanged_WithDeletedJackpot_ShouldNeverCacheItAgain() {
+        JackpotCache cache = node(new SimpleMeterRegistry());
+        cache.get(jackpotId, loader);
+
+        cache.changed(jackpotId, Long.MAX_VALUE);
+        cache.get(jackpotId, loader);
+        cache.get(jackpotId, loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    private JackpotCache node(SimpleMeterRegistry registry) {
+        return new JackpotCache(bus, properties, new ClusterProperties(), registry);
+    }
+
+    private VersionedJackpot copy(long version, String size) {
+        JackpotDto jackpot = JackpotDto.builder()
+                .id(jackpotId)
+                .name("Cached")
+                .currentSize(new BigDecimal(size))
+                .build();
+        return new VersionedJackpot(jackpot, version, System.currentTimeMillis());
+    }
+}
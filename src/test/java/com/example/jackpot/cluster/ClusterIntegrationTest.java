@@ -0,0 +1,247 @@
+package com.example.jackpot.cluster;
+
+import com.example.jackpot.JackpotApplication;
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.cache.JackpotInvalidationBus;
+import com.example.jackpot.cache.JdbcJackpotInvalidationBus;
+import com.example.jackpot.dto.BetResponse;
+import com.example.jackpot.dto.JackpotDto;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.exception.ErrorResponse;
+import com.example.jackpot.repository.BetRepository;
+import com.example.jackpot.repository.ClusterMemberRepository;
+import com.example.jackpot.repository.JackpotCountersRepository;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.service.BetService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two application nodes in one JVM against a shared in-memory database and
+ * checks that bets are settled by the node owning the jackpot, against its in-memory pot.
+ */
+class ClusterIntegrationTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:cluster;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    private final TestRestTemplate http = new TestRestTemplate();
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+        // Node A joined before B existed; let it pick up the new member
+        nodeA.getBean(ClusterMembership.class).heartbeat();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void membership_ShouldAgreeOnOwnerAcrossNodes() {
+        assertThat(nodeA.getBean(ClusterMemberRepository.class).count()).isEqualTo(2);
+
+        for (int i = 0; i < 50; i++) {
+            UUID jackpotId = UUID.randomUUID();
+            assertThat(membership(nodeA).owner(jackpotId)).isEqualTo(membership(nodeB).owner(jackpotId));
+        }
+    }
+
+    @Test
+    void placeBet_OnNonOwner_ShouldBeForwardedAndSettledByOwner() {
+        Jackpot jackpot = nodeA.getBean(JackpotRepository.class).save(Jackpot.builder()
+                .name("Clustered Jackpot")
+                .currentSize(BigDecimal.ZERO)
+                .winProbability(0.0)
+                .build());
+        ClusterNode owner = membership(nodeA).owner(jackpot.getId());
+        ConfigurableApplicationContext ownerNode = membership(nodeA).isSelf(owner) ? nodeA : nodeB;
+        ConfigurableApplicationContext otherNode = ownerNode == nodeA ? nodeB : nodeA;
+
+        double forwardedBefore = routeCount(otherNode, "forwarded");
+        double ownerReceivedBefore = routeCount(ownerNode, "received");
+
+        ResponseEntity<BetResponse> response = http.postForEntity(url(otherNode) + "/api/bets",
+                bet(jackpot.getId(), "25.00"), BetResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getNewJackpotSize()).isEqualByComparingTo("25.00");
+        assertThat(routeCount(otherNode, "forwarded")).isEqualTo(forwardedBefore + 1);
+        assertThat(routeCount(ownerNode, "received")).isEqualTo(ownerReceivedBefore + 1);
+        assertThat(nodeA.getBean(BetRepository.class).findAll())
+                .anyMatch(b -> b.getJackpot().getId().equals(jackpot.getId()));
+    }
+
+    @Test
+    void placeBet_UnknownJackpotOnNonOwner_ShouldReturnOwnersError() {
+        UUID jackpotId = UUID.randomUUID();
+        ClusterNode owner = membership(nodeA).owner(jackpotId);
+        ConfigurableApplicationContext otherNode = membership(nodeA).isSelf(owner) ? nodeB : nodeA;
+
+        ResponseEntity<ErrorResponse> response = http.postForEntity(url(otherNode) + "/api/bets",
+                bet(jackpotId, "10.00"), ErrorResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).isEqualTo("Jackpot not found with ID: " + jackpotId);
+    }
+
+    @Test
+    void placeBets_BatchOnEitherNode_ShouldReturnResponsesInOrder() {
+        JackpotRepository jackpotRepository = nodeA.getBean(JackpotRepository.class);
+        Jackpot first = jackpotRepository.save(Jackpot.builder()
+                .name("Batch One").currentSize(BigDecimal.ZERO).winProbability(0.0).build());
+        Jackpot second = jackpotRepository.save(Jackpot.builder()
+                .name("Batch Two").currentSize(BigDecimal.ZERO).winProbability(0.0).build());
+
+        ResponseEntity<BetResponse[]> response = http.postForEntity(url(nodeB) + "/api/bets/batch",
+                List.of(bet(first.getId(), "1.00"), bet(second.getId(), "5.00"), bet(first.getId(), "2.00")),
+                BetResponse[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(BetResponse::getNewJackpotSize)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("1.00"), new BigDecimal("5.00"), new BigDecimal("3.00"));
+    }
+
+    @Test
+    void placeBet_ConcurrentlyOnOwner_ShouldGroupCommitEveryBet() throws Exception {
+        Jackpot jackpot = nodeA.getBean(JackpotRepository.class).save(Jackpot.builder()
+                .name("Write-Behind Jackpot").currentSize(BigDecimal.ZERO).winProbability(0.0).build());
+        ConfigurableApplicationContext ownerNode = ownerOf(jackpot.getId());
+        double flushesBefore = flushCount(ownerNode);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ResponseEntity<BetResponse>>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                ConfigurableApplicationContext node = i % 2 == 0 ? nodeA : nodeB;
+                futures.add(executor.submit(() -> http.postForEntity(url(node) + "/api/bets",
+                        bet(jackpot.getId(), "1.00"), BetResponse.class)));
+            }
+            for (Future<ResponseEntity<BetResponse>> future : futures) {
+                assertThat(future.get().getStatusCode()).isEqualTo(HttpStatus.OK);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(nodeA.getBean(JackpotCountersRepository.class).findById(jackpot.getId()).orElseThrow()
+                .getCurrentSize()).isEqualByComparingTo("40.00");
+        assertThat(nodeA.getBean(BetRepository.class).findAll())
+                .filteredOn(b -> b.getJackpot().getId().equals(jackpot.getId()))
+                .hasSize(40);
+        assertThat(flushCount(ownerNode) - flushesBefore).isBetween(1.0, 40.0);
+    }
+
+    @Test
+    void placeBet_AfterRowWrittenElsewhere_ShouldFailOnceAndReloadPot() {
+        Jackpot jackpot = nodeA.getBean(JackpotRepository.class).save(Jackpot.builder()
+                .name("Conflicting Jackpot").currentSize(BigDecimal.ZERO).winProbability(0.0).build());
+        ConfigurableApplicationContext ownerNode = ownerOf(jackpot.getId());
+        ConfigurableApplicationContext otherNode = ownerNode == nodeA ? nodeB : nodeA;
+
+        assertThat(http.postForEntity(url(ownerNode) + "/api/bets", bet(jackpot.getId(), "10.00"), BetResponse.class)
+                .getBody().getNewJackpotSize()).isEqualByComparingTo("10.00");
+
+        // As when the owner is unreachable: a peer settles on the row directly
+        otherNode.getBean(BetService.class).placeBets(jackpot.getId(), List.of(bet(jackpot.getId(), "5.00")));
+
+        ResponseEntity<ErrorResponse> conflicting = http.postForEntity(url(ownerNode) + "/api/bets",
+                bet(jackpot.getId(), "100.00"), ErrorResponse.class);
+        assertThat(conflicting.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        ResponseEntity<BetResponse> reloaded = http.postForEntity(url(ownerNode) + "/api/bets",
+                bet(jackpot.getId(), "1.00"), BetResponse.class);
+        assertThat(reloaded.getBody().getNewJackpotSize()).isEqualByComparingTo("16.00");
+        assertThat(nodeA.getBean(JackpotCountersRepository.class).findById(jackpot.getId()).orElseThrow()
+                .getCurrentSize()).isEqualByComparingTo("16.00");
+    }
+
+    @Test
+    void getJackpot_AfterBetOnOtherNode_ShouldServeNewPotOncePolled() {
+        Jackpot jackpot = nodeA.getBean(JackpotRepository.class).save(Jackpot.builder()
+                .name("Cached Jackpot").currentSize(BigDecimal.ZERO).winProbability(0.0).build());
+        ConfigurableApplicationContext ownerNode = ownerOf(jackpot.getId());
+        ConfigurableApplicationContext otherNode = ownerNode == nodeA ? nodeB : nodeA;
+        String jackpotUrl = url(otherNode) + "/api/jackpots/" + jackpot.getId();
+        assertThat(http.getForObject(jackpotUrl, JackpotDto.class).getCurrentSize()).isEqualByComparingTo("0.00");
+
+        http.postForEntity(url(ownerNode) + "/api/bets", bet(jackpot.getId(), "7.00"), BetResponse.class);
+        JdbcJackpotInvalidationBus bus = (JdbcJackpotInvalidationBus) otherNode.getBean(JackpotInvalidationBus.class);
+        assertThat(bus.poll()).isPositive();
+
+        assertThat(http.getForObject(jackpotUrl, JackpotDto.class).getCurrentSize()).isEqualByComparingTo("7.00");
+    }
+
+    private static ConfigurableApplicationContext ownerOf(UUID jackpotId) {
+        return membership(nodeA).isSelf(membership(nodeA).owner(jackpotId)) ? nodeA : nodeB;
+    }
+
+    private static double flushCount(ConfigurableApplicationContext node) {
+        return node.getBean(MeterRegistry.class).get("jackpot.cluster.pot.flushes").counter().count();
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        return new SpringApplicationBuilder(JackpotApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + DB_URL,
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--jackpot.cluster.enabled=true",
+                "--jackpot.cluster.node-id=" + nodeId,
+                "--jackpot.cluster.advertised-host=localhost",
+                // Concurrent tests on a small machine would trip the adaptive limit
+                "--jackpot.load-shedding.enabled=false");
+    }
+
+    private static ClusterMembership membership(ConfigurableApplicationContext node) {
+        return node.getBean(ClusterMembership.class);
+    }
+
+    private static String url(ConfigurableApplicationContext node) {
+        return "http://localhost:" + ((WebServerApplicationContext) node).getWebServer().getPort();
+    }
+
+    private static double routeCount(ConfigurableApplicationContext node, String route) {
+        return node.getBean(MeterRegistry.class).get("jackpot.cluster.bets").tag("route", route).counter().count();
+    }
+
+    private static BetRequest bet(UUID jackpotId, String amount) {
+        return BetRequest.builder()
+                .jackpotId(jackpotId)
+                .playerAlias("player")
+                .betAmount(new BigDecimal(amount))
+                .build();
+    }
+}
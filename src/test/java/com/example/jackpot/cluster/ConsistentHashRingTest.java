@@ -0,0 +1,100 @@
+package com.example.jackpot.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConsistentHashRing.
+ * Tests determinism, balance and minimal movement on membership changes.
+ */
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 20_000;
+
+    private final List<UUID> keys = randomKeys();
+
+    // ========== Ownership Tests ==========
+
+    @Test
+    void testOwner_SingleNode_ShouldOwnEverything() {
+        ClusterNode node = node("a");
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of(node), 16);
+
+        for (UUID key : keys.subList(0, 100)) {
+            assertEquals(node, ring.owner(key));
+        }
+    }
+
+    @Test
+    void testOwner_ShouldNotDependOnMembershipOrder() {
+        ConsistentHashRing ring1 = ConsistentHashRing.of(List.of(node("a"), node("b"), node("c")), 128);
+        ConsistentHashRing ring2 = ConsistentHashRing.of(List.of(node("c"), node("a"), node("b")), 128);
+
+        for (UUID key : keys) {
+            assertEquals(ring1.owner(key), ring2.owner(key));
+        }
+    }
+
+    @Test
+    void testOwner_ShouldSpreadKeysEvenly() {
+        List<ClusterNode> nodes = List.of(node("a"), node("b"), node("c"), node("d"));
+        ConsistentHashRing ring = ConsistentHashRing.of(nodes, 128);
+
+        Map<ClusterNode, Integer> counts = new HashMap<>();
+        for (UUID key : keys) {
+            counts.merge(ring.owner(key), 1, Integer::sum);
+        }
+
+        double expected = (double) KEYS / nodes.size();
+        for (ClusterNode node : nodes) {
+            assertEquals(expected, counts.get(node), expected * 0.2, "share of " + node.getNodeId());
+        }
+    }
+
+    @Test
+    void testOwner_NodeAdded_ShouldOnlyMoveKeysToNewNode() {
+        ConsistentHashRing before = ConsistentHashRing.of(List.of(node("a"), node("b"), node("c")), 128);
+        ClusterNode added = node("d");
+        ConsistentHashRing after = ConsistentHashRing.of(List.of(node("a"), node("b"), node("c"), added), 128);
+
+        int moved = 0;
+        for (UUID key : keys) {
+            ClusterNode previousOwner = before.owner(key);
+            ClusterNode newOwner = after.owner(key);
+            if (!previousOwner.equals(newOwner)) {
+                assertEquals(added, newOwner);
+                moved++;
+            }
+        }
+        // Roughly a quarter of the keys move to the fourth node
+        assertEquals(KEYS / 4.0, moved, KEYS * 0.05);
+    }
+
+    // ========== Validation Tests ==========
+
+    @Test
+    void testOf_NoNodes_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> ConsistentHashRing.of(new ArrayList<>(), 128));
+    }
+
+    private static ClusterNode node(String id) {
+        return new ClusterNode(id, "http://" + id + ":8080");
+    }
+
+    private static List<UUID> randomKeys() {
+        Random random = new Random(42);
+        List<UUID> result = new ArrayList<>(KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            result.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        return result;
+    }
+}
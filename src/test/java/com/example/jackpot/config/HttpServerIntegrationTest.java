@@ -0,0 +1,125 @@
+package com.example.jackpot.config;
+
+import com.example.jackpot.dto.WinDto;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.entity.Win;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.repository.WinRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.coyote.http2.Http2Protocol;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the embedded Tomcat on a real port and checks the HTTP/2 and compression settings.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class HttpServerIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JackpotRepository jackpotRepository;
+
+    @Autowired
+    private WinRepository winRepository;
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:httpserver;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("spring.datasource.driverClassName", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.H2Dialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("jackpot.http2.max-concurrent-streams", () -> "64");
+    }
+
+    @Test
+    void getWins_ShouldUseH2cAndGzip_WhenAccepted() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Compressed Wins")
+                .winProbability(0.1)
+                .currentSize(BigDecimal.ZERO)
+                .build());
+        List<Win> wins = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            wins.add(Win.builder()
+                    .jackpot(jackpot)
+                    .playerAlias("player-" + i)
+                    .winAmount(BigDecimal.valueOf(100 + i))
+                    .timestamp(LocalDateTime.now().minusMinutes(i))
+                    .build());
+        }
+        winRepository.saveAll(wins);
+
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri("/api/wins?limit=50"))
+                        .header("Accept-Encoding", "gzip")
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.version()).isEqualTo(HttpClient.Version.HTTP_2);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            List<WinDto> body = objectMapper.readValue(in.readAllBytes(), new TypeReference<List<WinDto>>() {});
+            assertThat(body).hasSize(50);
+        }
+    }
+
+    @Test
+    void smallResponse_ShouldNotBeCompressed() throws Exception {
+        // The pre-rendered jackpot list has a Content-Length, so the size threshold applies
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/api/jackpots"))
+                        .header("Accept-Encoding", "gzip")
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(response.body()).startsWith("[");
+    }
+
+    @Test
+    void connector_ShouldApplyHttp2Properties() {
+        TomcatWebServer server = (TomcatWebServer) context.getWebServer();
+
+        assertThat(server.getTomcat().getConnector().findUpgradeProtocols())
+                .singleElement()
+                .isInstanceOfSatisfying(Http2Protocol.class,
+                        http2 -> assertThat(http2.getMaxConcurrentStreams()).isEqualTo(64));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
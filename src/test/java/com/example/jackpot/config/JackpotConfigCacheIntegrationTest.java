@@ -0,0 +1,178 @@
+package com.example.jackpot.config;
+
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.entity.JackpotConfig;
+import com.example.jackpot.entity.JackpotCounters;
+import com.example.jackpot.repository.JackpotConfigRepository;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.service.BetBatchService;
+import com.example.jackpot.service.BetService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that jackpot configurations are served from the second-level cache region,
+ * that bets settle without loading configuration columns, that batched bets confirm their jackpots from it, and that the cache statistics are
+ * published as metrics.
+ */
+@SpringBootTest
+class JackpotConfigCacheIntegrationTest {
+
+    @Autowired
+    private JackpotRepository jackpotRepository;
+
+    @Autowired
+    private JackpotConfigRepository configRepository;
+
+    @Autowired
+    private BetBatchService betBatchService;
+
+    @Autowired
+    private BetService betService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:configcache;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("spring.datasource.driverClassName", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.H2Dialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("jackpot.rate-limit.enabled", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findById_ShouldServeConfigurationFromCache_WithoutStatements() {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Cached Config")
+                .winProbability(0.25)
+                .seedAmount(new BigDecimal("100.00"))
+                .build());
+        statistics.clear();
+
+        JackpotConfig loaded = configRepository.findById(jackpot.getId()).orElseThrow();
+        long statementsAfterLoad = statistics.getPrepareStatementCount();
+        JackpotConfig cached = configRepository.findById(jackpot.getId()).orElseThrow();
+
+        assertThat(statementsAfterLoad).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(cached.getName()).isEqualTo("Cached Config");
+        assertThat(cached.getWinProbability()).isEqualTo(0.25);
+        assertThat(cached.getSeedAmount()).isEqualByComparingTo(loaded.getSeedAmount());
+        assertThat(region().getMissCount()).isEqualTo(1);
+        assertThat(region().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_ShouldNotCacheUnknownJackpot() {
+        statistics.clear();
+
+        assertThat(configRepository.findById(UUID.randomUUID())).isEmpty();
+
+        assertThat(region().getPutCount()).isZero();
+    }
+
+    @Test
+    void placeBets_ShouldConfirmJackpotsFromCache_AndKeepCountersCurrent() {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Batched")
+                .winProbability(0.0)
+                .build());
+        // Compiles the jackpot's descriptor, so only the existence checks below read the cache
+        betBatchService.placeBets(List.of(bet(jackpot.getId())));
+        statistics.clear();
+
+        betBatchService.placeBets(List.of(bet(jackpot.getId()), bet(jackpot.getId())));
+        betBatchService.placeBets(List.of(bet(jackpot.getId())));
+
+        assertThat(region().getHitCount()).isEqualTo(2);
+        assertThat(region().getMissCount()).isZero();
+        assertThat(jackpotRepository.findById(jackpot.getId()).orElseThrow().getCurrentSize())
+                .isEqualByComparingTo("40.00");
+    }
+
+    @Test
+    void placeBet_ShouldLoadOnlyCounters() {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Counters Only")
+                .winProbability(0.0)
+                .build());
+        betService.placeBet(bet(jackpot.getId()));
+        statistics.clear();
+
+        betService.placeBet(bet(jackpot.getId()));
+        betService.placeBet(bet(jackpot.getId()));
+
+        assertThat(statistics.getEntityStatistics(JackpotCounters.class.getName()).getLoadCount()).isEqualTo(2);
+        assertThat(statistics.getEntityStatistics(JackpotCounters.class.getName()).getUpdateCount()).isEqualTo(2);
+        assertThat(statistics.getEntityStatistics(Jackpot.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(JackpotConfig.class.getName()).getLoadCount()).isZero();
+        assertThat(jackpotRepository.findById(jackpot.getId()).orElseThrow().getCurrentSize())
+                .isEqualByComparingTo("30.00");
+    }
+
+    @Test
+    void metrics_ShouldPublishSecondLevelCacheRequests() {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Metered")
+                .winProbability(0.0)
+                .build());
+        configRepository.findById(jackpot.getId());
+        double hitsBefore = cacheRequests("hit").count();
+
+        configRepository.findById(jackpot.getId());
+
+        assertThat(cacheRequests("hit").count()).isEqualTo(hitsBefore + 1);
+        assertThat(cacheRequests("miss")).isNotNull();
+    }
+
+    private CacheRegionStatistics region() {
+        return statistics.getDomainDataRegionStatistics(JackpotConfig.CACHE_REGION);
+    }
+
+    private FunctionCounter cacheRequests(String result) {
+        return meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", JackpotConfig.CACHE_REGION)
+                .tag("result", result)
+                .functionCounter();
+    }
+
+    private static BetRequest bet(UUID jackpotId) {
+        return BetRequest.builder()
+                .jackpotId(jackpotId)
+                .playerAlias("config-cache-player")
+                .betAmount(new BigDecimal("10.00"))
+                .build();
+    }
+}
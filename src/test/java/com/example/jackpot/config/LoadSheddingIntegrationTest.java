@@ -0,0 +1,206 @@
+package com.example.jackpot.config;
+
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.ratelimit.ConcurrencyLimitFilter;
+import com.example.jackpot.repository.JackpotCountersRepository;
+import com.example.jackpot.repository.JackpotRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Holds the jackpot row lock in another transaction, as a stand-in for a slow database, and checks that excess bets are shed with 503 while
+ * reads keep being served from their own bulkhead.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class LoadSheddingIntegrationTest {
+
+    private static final int CALLERS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JackpotRepository jackpotRepository;
+
+    @Autowired
+    private JackpotCountersRepository countersRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("betConcurrencyLimitFilter")
+    private FilterRegistrationBean<ConcurrencyLimitFilter> betFilter;
+
+    @Autowired
+    @Qualifier("batchConcurrencyLimitFilter")
+    private FilterRegistrationBean<ConcurrencyLimitFilter> batchFilter;
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:loadshedding;MODE=PostgreSQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("spring.datasource.driverClassName", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.H2Dialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("jackpot.load-shedding.bets.initial-limit", () -> "2");
+        registry.add("jackpot.load-shedding.bets.min-limit", () -> "1");
+        registry.add("jackpot.load-shedding.bets.max-limit", () -> "2");
+        registry.add("jackpot.load-shedding.bets.latency-threshold", () -> "100ms");
+        registry.add("jackpot.load-shedding.batches.max-concurrent", () -> "1");
+    }
+
+    @Test
+    void placeBet_WithSlowDatabase_ShouldShedExcessBetsAndKeepServingReads() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Slow Jackpot")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS + 1);
+        try {
+            holdRowLock(executor, jackpot.getId());
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<MockHttpServletResponse>> bets = IntStream.range(0, CALLERS)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return mockMvc.perform(post("/api/bets")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(BetRequest.builder()
+                                                .jackpotId(jackpot.getId())
+                                                .playerAlias("player-" + i)
+                                                .betAmount(BigDecimal.ONE)
+                                                .build())))
+                                .andReturn()
+                                .getResponse();
+                    }))
+                    .toList();
+            start.countDown();
+
+            mockMvc.perform(get("/api/jackpots"))
+                    .andExpect(status().isOk());
+
+            int accepted = 0;
+            int shed = 0;
+            for (Future<MockHttpServletResponse> bet : bets) {
+                MockHttpServletResponse response = bet.get();
+                if (response.getStatus() == 200) {
+                    accepted++;
+                } else {
+                    assertThat(response.getStatus()).isEqualTo(503);
+                    assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+                    shed++;
+                }
+            }
+            assertThat(accepted).isBetween(1, 2);
+            assertThat(shed).isEqualTo(CALLERS - accepted);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(betFilter.getFilter().getLimiter().getLimit()).isEqualTo(1);
+        assertThat(betFilter.getFilter().getLimiter().getInFlight()).isZero();
+    }
+
+    @Test
+    void placeBets_WithSlowDatabase_ShouldShedExcessBatchesWithoutShrinkingBetLimit() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Slow Batch Jackpot")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .build());
+        int betLimit = betFilter.getFilter().getLimiter().getLimit();
+        String batch = objectMapper.writeValueAsString(IntStream.range(0, 10)
+                .mapToObj(i -> BetRequest.builder()
+                        .jackpotId(jackpot.getId())
+                        .playerAlias("batch-player-" + i)
+                        .betAmount(BigDecimal.ONE)
+                        .build())
+                .toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS + 1);
+        try {
+            holdRowLock(executor, jackpot.getId());
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<MockHttpServletResponse>> batches = IntStream.range(0, CALLERS)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return mockMvc.perform(post("/api/bets/batch")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(batch))
+                                .andReturn()
+                                .getResponse();
+                    }))
+                    .toList();
+            start.countDown();
+
+            int accepted = 0;
+            for (Future<MockHttpServletResponse> response : batches) {
+                int status = response.get().getStatus();
+                if (status == 200) {
+                    accepted++;
+                } else {
+                    assertThat(status).isEqualTo(503);
+                }
+            }
+            assertThat(accepted).isBetween(1, CALLERS - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(betFilter.getFilter().getLimiter().getLimit()).isEqualTo(betLimit);
+        assertThat(betFilter.getFilter().getLimiter().getInFlight()).isZero();
+        assertThat(batchFilter.getFilter().getLimiter().getInFlight()).isZero();
+    }
+
+    /**
+     * Lock the jackpot row in another transaction and keep it for 500 ms, so bets on it are slow
+     * without failing. Returns once the lock is held.
+     */
+    private void holdRowLock(ExecutorService executor, UUID jackpotId) throws InterruptedException {
+        CountDownLatch locked = new CountDownLatch(1);
+        executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            countersRepository.findForUpdate(jackpotId);
+            locked.countDown();
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        locked.await();
+    }
+}
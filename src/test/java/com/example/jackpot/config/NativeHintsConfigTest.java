@@ -0,0 +1,45 @@
+package com.example.jackpot.config;
+
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.repository.WinRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the native-image runtime hints.
+ */
+class NativeHintsConfigTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHintsConfig.JackpotRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testRegisterHints_ShouldCoverEntitiesDtosAndRepositories() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Jackpot.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(BetRequest.class.getMethod("getBetAmount")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(WinRepository.class.getMethod("findWithFilters", String.class, java.util.UUID.class,
+                        org.springframework.data.domain.Pageable.class))
+                .test(hints));
+    }
+
+    @Test
+    void testRegisterHints_ShouldCoverTimingProxies() {
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("logback-spring.xml").test(hints));
+    }
+}
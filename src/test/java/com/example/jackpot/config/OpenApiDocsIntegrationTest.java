@@ -0,0 +1,58 @@
+package com.example.jackpot.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the spec that {@link OpenApiSpecGenerator} packages at build time.
+ * Runs the application with the "docs" profile and renders the springdoc output the same way
+ * the generator does; it writes nothing.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("docs")
+class OpenApiDocsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:openapi;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("spring.datasource.driverClassName", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.H2Dialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Test
+    void render_ShouldProduceSpecWithConfiguredMetadataAndNoServers() throws Exception {
+        String apiDocs = mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode root = objectMapper.readTree(OpenApiSpecGenerator.render(objectMapper, apiDocs));
+
+        assertThat(root.has("servers")).isFalse();
+        assertThat(root.path("info").path("title").asText()).isEqualTo("Jackpot Service API");
+        assertThat(root.path("info").path("contact").path("email").asText()).isEqualTo("support@jackpot.example.com");
+        assertThat(root.path("paths").has("/api/bets")).isTrue();
+        assertThat(root.path("paths").has("/api/jackpots")).isTrue();
+    }
+}
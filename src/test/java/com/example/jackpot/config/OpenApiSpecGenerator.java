@@ -0,0 +1,78 @@
+package com.example.jackpot.config;
+
+import com.example.jackpot.JackpotApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generates the build-time OpenAPI spec. Not a test; the build runs it in the
+ * {@code prepare-package} phase (so {@code -DskipTests} still packages the spec):
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.example.jackpot.config.OpenApiSpecGenerator [target/classes/static/openapi.json]
+ * </pre>
+ *
+ * Starts the application with the "docs" profile against an in-memory H2 database, fetches the
+ * springdoc output and writes it where it is packaged and served as a static resource by nodes
+ * that run without runtime scanning.
+ */
+public class OpenApiSpecGenerator {
+
+    public static void main(String[] args) throws Exception {
+        Path output = Path.of(args.length > 0 ? args[0] : "target/classes/static/openapi.json");
+
+        String spec;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JackpotApplication.class)
+                .profiles("docs")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:openapi;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN")) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v3/api-docs")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("GET /v3/api-docs returned " + response.statusCode());
+            }
+            spec = render(context.getBean(ObjectMapper.class), response.body());
+        }
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.writeString(output, spec);
+        System.out.println("OpenAPI spec written to " + output);
+        System.exit(0);
+    }
+
+    /**
+     * Turn the springdoc output into the packaged spec.
+     *
+     * @param objectMapper the application's mapper
+     * @param apiDocs JSON served at {@code /v3/api-docs}
+     * @return the pretty-printed spec without the generating server's URL
+     */
+    static String render(ObjectMapper objectMapper, String apiDocs) throws IOException {
+        ObjectNode root = (ObjectNode) objectMapper.readTree(apiDocs);
+        // The generating server's URL is meaningless for the packaged spec; clients resolve paths against its origin
+        root.remove("servers");
+        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(root);
+    }
+}
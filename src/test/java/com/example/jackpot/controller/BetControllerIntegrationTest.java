@@ -3,6 +3,7 @@ package com.example.jackpot.controller;
 import com.example.jackpot.dto.BetRequest;
 import com.example.jackpot.dto.BetResponse;
 import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.protocol.BetCodec;
 import com.example.jackpot.repository.BetRepository;
 import com.example.jackpot.repository.JackpotRepository;
 import com.example.jackpot.repository.WinRepository;
@@ -12,20 +13,30 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@Import(FailingBetRouterConfig.class)
 class BetControllerIntegrationTest {
 
     @Autowired
@@ -37,6 +48,9 @@ class BetControllerIntegrationTest {
     @Autowired
     private JackpotRepository jackpotRepository;
 
+    @Autowired
+    private FailingBetRouterConfig.FailingBetRouter betRouter;
+
         @Autowired
         private BetRepository betRepository;
 
@@ -48,6 +62,7 @@ class BetControllerIntegrationTest {
                 winRepository.deleteAll();
                 betRepository.deleteAll();
                 jackpotRepository.deleteAll();
+                betRouter.reset();
     }
 
     @DynamicPropertySource
@@ -58,6 +73,9 @@ class BetControllerIntegrationTest {
         registry.add("spring.datasource.password", () -> "");
         registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.H2Dialect");
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        // Slow refill so the limit test does not depend on timing; other tests stay within the burst
+        registry.add("jackpot.rate-limit.player.rate", () -> "0.1");
+        registry.add("jackpot.rate-limit.player.burst", () -> "20");
     }
 
     @Test
@@ -93,6 +111,32 @@ class BetControllerIntegrationTest {
         assertThat(updated.getCurrentSize()).isEqualByComparingTo(BigDecimal.valueOf(50));
     }
 
+    @Test
+    void placeBet_ShouldReturn429WithRetryAfter_WhenPlayerExceedsRateLimit() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Limited Jackpot")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .winCount(0)
+                .build());
+        String body = objectMapper.writeValueAsString(BetRequest.builder()
+                .jackpotId(jackpot.getId())
+                .playerAlias("bot")
+                .betAmount(BigDecimal.ONE)
+                .build());
+
+        for (int i = 0; i < 20; i++) {
+            mockMvc.perform(post("/api/bets").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(post("/api/bets").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, matchesPattern("\\d+")))
+                .andExpect(jsonPath("$.message").value("Bet rate limit exceeded for player bot"));
+
+        assertThat(betRepository.count()).isEqualTo(20);
+    }
+
     @Test
     void placeBet_ShouldReturn400_WhenJackpotNotFound() throws Exception {
         BetRequest request = BetRequest.builder()
@@ -128,6 +172,27 @@ class BetControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void placeBet_ShouldReturn400_WhenJackpotUnknown() throws Exception {
+        UUID unknown = UUID.randomUUID();
+        BetRequest request = BetRequest.builder()
+                .jackpotId(unknown)
+                .playerAlias("alice")
+                .betAmount(BigDecimal.TEN)
+                .build();
+
+        mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.error").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value("Jackpot not found with ID: " + unknown))
+                .andExpect(jsonPath("$.timestamp").value(matchesPattern("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}")));
+
+        assertThat(betRepository.count()).isZero();
+    }
+
     @Test
     void placeBet_ShouldWin_WhenProbabilityIsOne() throws Exception {
         Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
@@ -162,4 +227,225 @@ class BetControllerIntegrationTest {
         assertThat(updated.getWinCount()).isEqualTo(1);
         assertThat(updated.getLastWinTimestamp()).isNotNull();
     }
+
+    @Test
+    void placeBets_ShouldGroupPerJackpotAndKeepOrder() throws Exception {
+        Jackpot first = jackpotRepository.save(Jackpot.builder()
+                .name("Batch One")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .winCount(0)
+                .build());
+        Jackpot second = jackpotRepository.save(Jackpot.builder()
+                .name("Batch Two")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.valueOf(100))
+                .winCount(0)
+                .build());
+
+        List<BetRequest> requests = List.of(
+                BetRequest.builder().jackpotId(first.getId()).playerAlias("alice").betAmount(BigDecimal.valueOf(10)).build(),
+                BetRequest.builder().jackpotId(second.getId()).playerAlias("bob").betAmount(BigDecimal.valueOf(5)).build(),
+                BetRequest.builder().jackpotId(first.getId()).playerAlias("carol").betAmount(BigDecimal.valueOf(20)).build());
+
+        String responseBody = mockMvc.perform(post("/api/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<BetResponse> responses = objectMapper.readValue(responseBody, new TypeReference<List<BetResponse>>() {});
+
+        assertThat(responses).extracting(BetResponse::getNewJackpotSize)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(BigDecimal.valueOf(10), BigDecimal.valueOf(105), BigDecimal.valueOf(30));
+        assertThat(betRepository.count()).isEqualTo(3);
+        assertThat(jackpotRepository.findById(first.getId()).orElseThrow().getCurrentSize()).isEqualByComparingTo(BigDecimal.valueOf(30));
+        assertThat(jackpotRepository.findById(second.getId()).orElseThrow().getCurrentSize()).isEqualByComparingTo(BigDecimal.valueOf(105));
+    }
+
+    @Test
+    void placeBets_WhenOneJackpotFails_ShouldPlaceTheOthersAndReturn207() throws Exception {
+        Jackpot first = jackpotRepository.save(Jackpot.builder()
+                .name("Batch One")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .winCount(0)
+                .build());
+        Jackpot second = jackpotRepository.save(Jackpot.builder()
+                .name("Batch Two")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .winCount(0)
+                .build());
+        betRouter.failOn(second.getId(), new IllegalStateException("Database unavailable"));
+
+        List<BetRequest> requests = List.of(
+                BetRequest.builder().jackpotId(first.getId()).playerAlias("alice").betAmount(BigDecimal.valueOf(10)).build(),
+                BetRequest.builder().jackpotId(second.getId()).playerAlias("bob").betAmount(BigDecimal.valueOf(5)).build(),
+                BetRequest.builder().jackpotId(first.getId()).playerAlias("carol").betAmount(BigDecimal.valueOf(20)).build());
+
+        String responseBody = mockMvc.perform(post("/api/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[0].error").doesNotExist())
+                .andExpect(jsonPath("$[1].error").value("Database unavailable"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<BetResponse> responses = objectMapper.readValue(responseBody, new TypeReference<List<BetResponse>>() {});
+
+        assertThat(responses.get(2).getNewJackpotSize()).isEqualByComparingTo(BigDecimal.valueOf(30));
+        assertThat(responses.get(1).getNewJackpotSize()).isNull();
+        assertThat(betRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void placeBets_WhenEveryJackpotFails_ShouldReturnErrorWithoutWrites() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Batch One")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .winCount(0)
+                .build());
+        betRouter.failOn(jackpot.getId(), new IllegalArgumentException("Bet rejected"));
+
+        List<BetRequest> requests = List.of(
+                BetRequest.builder().jackpotId(jackpot.getId()).playerAlias("alice").betAmount(BigDecimal.valueOf(10)).build());
+
+        mockMvc.perform(post("/api/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest());
+
+        assertThat(betRepository.count()).isZero();
+    }
+
+    @Test
+    void placeBets_ShouldAcceptNdjson() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("NDJSON Jackpot")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .winCount(0)
+                .build());
+
+        String body = objectMapper.writeValueAsString(BetRequest.builder()
+                        .jackpotId(jackpot.getId()).playerAlias("alice").betAmount(BigDecimal.valueOf(1)).build())
+                + "\n"
+                + objectMapper.writeValueAsString(BetRequest.builder()
+                        .jackpotId(jackpot.getId()).playerAlias("bob").betAmount(BigDecimal.valueOf(2)).build())
+                + "\n";
+
+        String responseBody = mockMvc.perform(post("/api/bets/batch")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<BetResponse> responses = objectMapper.readValue(responseBody, new TypeReference<List<BetResponse>>() {});
+
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(1).getNewJackpotSize()).isEqualByComparingTo(BigDecimal.valueOf(3));
+    }
+
+    @Test
+    void placeBet_ShouldAcceptBinaryFrames() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Binary Jackpot")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .winCount(0)
+                .build());
+
+        byte[] body = BetCodec.encodeRequests(List.of(
+                BetRequest.builder().jackpotId(jackpot.getId()).playerAlias("alice").betAmount(new BigDecimal("1.50")).build(),
+                BetRequest.builder().jackpotId(jackpot.getId()).playerAlias("bob").betAmount(new BigDecimal("2.25")).build()));
+
+        byte[] responseBody = mockMvc.perform(post("/api/bets")
+                        .contentType(BetCodec.MEDIA_TYPE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BetCodec.MEDIA_TYPE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        List<BetResponse> responses = BetCodec.decodeResponses(responseBody);
+
+        assertThat(responses).extracting(BetResponse::getNewJackpotSize)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("1.50"), new BigDecimal("3.75"));
+        assertThat(betRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void placeBet_ShouldApplyBetRequestValidation_ToBinaryFrames() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Binary Jackpot")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .winCount(0)
+                .build());
+
+        byte[] body = BetCodec.encodeRequests(List.of(
+                BetRequest.builder().jackpotId(jackpot.getId()).playerAlias(" ").betAmount(BigDecimal.ONE).build()));
+
+        mockMvc.perform(post("/api/bets")
+                        .contentType(BetCodec.MEDIA_TYPE)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("bets[0].playerAlias: playerAlias is required"));
+        mockMvc.perform(post("/api/bets")
+                        .contentType(BetCodec.MEDIA_TYPE)
+                        .content(new byte[] {BetCodec.VERSION, 0, 40, 1}))
+                .andExpect(status().isBadRequest());
+
+        assertThat(betRepository.count()).isZero();
+    }
+
+    @Test
+    void placeBets_ShouldReturn400WithoutWrites_WhenAnyJackpotUnknown() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Known")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .winCount(0)
+                .build());
+
+        List<BetRequest> requests = List.of(
+                BetRequest.builder().jackpotId(jackpot.getId()).playerAlias("alice").betAmount(BigDecimal.valueOf(10)).build(),
+                BetRequest.builder().jackpotId(UUID.randomUUID()).playerAlias("bob").betAmount(BigDecimal.valueOf(5)).build());
+
+        mockMvc.perform(post("/api/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest());
+
+        assertThat(betRepository.count()).isZero();
+    }
+
+    @Test
+    void placeBets_ShouldReturn400_WhenBetInvalid() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Known")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .winCount(0)
+                .build());
+
+        List<BetRequest> requests = List.of(
+                BetRequest.builder().jackpotId(jackpot.getId()).playerAlias("").betAmount(BigDecimal.valueOf(10)).build());
+
+        mockMvc.perform(post("/api/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest());
+    }
 }
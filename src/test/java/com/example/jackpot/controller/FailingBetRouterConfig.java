@@ -0,0 +1,79 @@
+package com.example.jackpot.controller;
+
+import com.example.jackpot.cluster.BetRouter;
+import com.example.jackpot.cluster.ClusterMembership;
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.BetResponse;
+import com.example.jackpot.service.BetService;
+import com.example.jackpot.service.OwnedJackpotPots;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replaces the bet router with a {@link FailingBetRouter}, so tests can make bets on chosen
+ * jackpots fail without a mocking framework (which native tests cannot use).
+ */
+@TestConfiguration
+public class FailingBetRouterConfig {
+
+    @Bean
+    @Primary
+    public FailingBetRouter failingBetRouter(BetService betService,
+                                             ObjectProvider<ClusterMembership> membership,
+                                             ObjectProvider<OwnedJackpotPots> pots,
+                                             ClusterProperties properties,
+                                             RestClient.Builder restClientBuilder,
+                                             MeterRegistry meterRegistry) {
+        return new FailingBetRouter(betService, membership, pots, properties, restClientBuilder, meterRegistry);
+    }
+
+    /**
+     * Bet router that throws a preset exception for bet groups on chosen jackpots.
+     */
+    public static class FailingBetRouter extends BetRouter {
+
+        private final Map<UUID, RuntimeException> failures = new ConcurrentHashMap<>();
+
+        public FailingBetRouter(BetService betService,
+                                ObjectProvider<ClusterMembership> membership,
+                                ObjectProvider<OwnedJackpotPots> pots,
+                                ClusterProperties properties,
+                                RestClient.Builder restClientBuilder,
+                                MeterRegistry meterRegistry) {
+            super(betService, membership, pots, properties, restClientBuilder, meterRegistry);
+        }
+
+        /**
+         * Make every group of bets on a jackpot fail with {@code failure}.
+         */
+        public void failOn(UUID jackpotId, RuntimeException failure) {
+            failures.put(jackpotId, failure);
+        }
+
+        /**
+         * Let bets on every jackpot through again.
+         */
+        public void reset() {
+            failures.clear();
+        }
+
+        @Override
+        public List<BetResponse> placeBets(UUID jackpotId, List<BetRequest> requests) {
+            RuntimeException failure = failures.get(jackpotId);
+            if (failure != null) {
+                throw failure;
+            }
+            return super.placeBets(jackpotId, requests);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.jackpot.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Accept-Encoding parsing of HttpCachePolicy.
+ */
+class HttpCachePolicyTest {
+
+    // ========== Accepted Tests ==========
+
+    @Test
+    void testAcceptsGzip_WithGzipAmongCodings_ShouldAccept() {
+        assertTrue(HttpCachePolicy.acceptsGzip("gzip"));
+        assertTrue(HttpCachePolicy.acceptsGzip("deflate, gzip, br"));
+        assertTrue(HttpCachePolicy.acceptsGzip(" GZip ;q=0.5"));
+    }
+
+    @Test
+    void testAcceptsGzip_WithWildcard_ShouldAccept() {
+        assertTrue(HttpCachePolicy.acceptsGzip("br;q=1.0, *;q=0.1"));
+    }
+
+    @Test
+    void testAcceptsGzip_WithNonZeroQuality_ShouldAccept() {
+        assertTrue(HttpCachePolicy.acceptsGzip("gzip;q=0.001"));
+        assertTrue(HttpCachePolicy.acceptsGzip("gzip;q=1"));
+        assertTrue(HttpCachePolicy.acceptsGzip("gzip;level=1;q=0.5"));
+    }
+
+    // ========== Refused Tests ==========
+
+    @Test
+    void testAcceptsGzip_WithZeroQuality_ShouldRefuse() {
+        assertFalse(HttpCachePolicy.acceptsGzip("gzip;q=0"));
+        assertFalse(HttpCachePolicy.acceptsGzip("gzip; q = 0.000"));
+        assertFalse(HttpCachePolicy.acceptsGzip("deflate, gzip;Q=0., *;q=0"));
+    }
+
+    @Test
+    void testAcceptsGzip_WithoutGzipOrWildcard_ShouldRefuse() {
+        assertFalse(HttpCachePolicy.acceptsGzip(""));
+        assertFalse(HttpCachePolicy.acceptsGzip("identity"));
+        assertFalse(HttpCachePolicy.acceptsGzip("x-gzip, gzipped, deflate"));
+    }
+}
@@ -1,28 +1,44 @@
 package com.example.jackpot.controller;
 
+import com.example.jackpot.dto.BetRequest;
 import com.example.jackpot.dto.CreateJackpotRequest;
 import com.example.jackpot.dto.JackpotDto;
+import com.example.jackpot.dto.JackpotRollupDto;
 import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.entity.JackpotRollup;
+import com.example.jackpot.entity.RollupGranularity;
+import com.example.jackpot.repository.BetRepository;
 import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.repository.JackpotRollupRepository;
+import com.example.jackpot.repository.WinRepository;
+import com.example.jackpot.service.JackpotRollupAggregator;
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.MeterRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -38,6 +54,21 @@ class JackpotControllerIntegrationTest {
     @Autowired
     private JackpotRepository jackpotRepository;
 
+    @Autowired
+    private BetRepository betRepository;
+
+    @Autowired
+    private WinRepository winRepository;
+
+    @Autowired
+    private JackpotRollupRepository rollupRepository;
+
+    @Autowired
+    private JackpotRollupAggregator rollupAggregator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @DynamicPropertySource
     static void configureDatasource(DynamicPropertyRegistry registry) {
         registry.add("spring.datasource.url", () -> "jdbc:h2:mem:testdb3;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
@@ -46,10 +77,18 @@ class JackpotControllerIntegrationTest {
         registry.add("spring.datasource.password", () -> "");
         registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.H2Dialect");
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        // Flushed explicitly by the tests
+        registry.add("jackpot.rollups.flush-interval", () -> "PT1H");
+        registry.add("jackpot.jackpot-list.max-staleness", () -> "PT0S");
+        registry.add("jackpot.jackpot-list.gzip-min-size", () -> "0");
     }
 
     @BeforeEach
     void clean() {
+        rollupAggregator.flush();
+        rollupRepository.deleteAll();
+        winRepository.deleteAll();
+        betRepository.deleteAll();
         jackpotRepository.deleteAll();
     }
 
@@ -106,6 +145,31 @@ class JackpotControllerIntegrationTest {
         assertThat(jackpots).extracting(JackpotDto::getName).containsExactlyInAnyOrder("J1", "J2");
     }
 
+    @Test
+    void getAllJackpots_ShouldServeGzip_WhenAccepted() throws Exception {
+        jackpotRepository.save(Jackpot.builder()
+                .name("Compressed")
+                .winProbability(0.1)
+                .currentSize(BigDecimal.valueOf(40))
+                .build());
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/jackpots")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn()
+                .getResponse();
+
+        byte[] json;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            json = in.readAllBytes();
+        }
+        List<JackpotDto> jackpots = objectMapper.readValue(json, new TypeReference<List<JackpotDto>>() {});
+
+        assertThat(jackpots).extracting(JackpotDto::getName).containsExactly("Compressed");
+    }
+
     @Test
     void getJackpot_ShouldReturn200() throws Exception {
         Jackpot saved = jackpotRepository.save(Jackpot.builder()
@@ -128,6 +192,87 @@ class JackpotControllerIntegrationTest {
         assertThat(dto.getCurrentSize()).isEqualByComparingTo(BigDecimal.valueOf(25));
     }
 
+    @Test
+    void getJackpot_ShouldServeCachedCopy_UntilPotChanges() throws Exception {
+        Jackpot saved = jackpotRepository.save(Jackpot.builder()
+                .name("Cached")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.valueOf(25))
+                .build());
+        double l1HitsBefore = meterRegistry.get("jackpot.cache.gets").tag("result", "l1_hit").counter().count();
+
+        assertThat(getJackpot(saved.getId()).getCurrentSize()).isEqualByComparingTo("25");
+        assertThat(getJackpot(saved.getId()).getCurrentSize()).isEqualByComparingTo("25");
+        assertThat(meterRegistry.get("jackpot.cache.gets").tag("result", "l1_hit").counter().count())
+                .isEqualTo(l1HitsBefore + 1);
+
+        BetRequest bet = BetRequest.builder()
+                .jackpotId(saved.getId())
+                .playerAlias("cache-buster")
+                .betAmount(new BigDecimal("10.00"))
+                .build();
+        mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bet)))
+                .andExpect(status().isOk());
+
+        assertThat(getJackpot(saved.getId()).getCurrentSize()).isEqualByComparingTo("35");
+        assertThat(jackpotRepository.findById(saved.getId()).orElseThrow().getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void getAllJackpots_ShouldReturn304_UntilJackpotChanges() throws Exception {
+        String body = mockMvc.perform(post("/api/jackpots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateJackpotRequest.builder()
+                                .name("Polled Jackpot")
+                                .winProbability(0.0)
+                                .build())))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        UUID jackpotId = objectMapper.readValue(body, JackpotDto.class).getId();
+
+        String listTag = mockMvc.perform(get("/api/jackpots"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        String jackpotTag = mockMvc.perform(get("/api/jackpots/" + jackpotId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/jackpots").header(HttpHeaders.IF_NONE_MATCH, listTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/jackpots/" + jackpotId).header(HttpHeaders.IF_NONE_MATCH, jackpotTag))
+                .andExpect(status().isNotModified());
+
+        BetRequest bet = BetRequest.builder()
+                .jackpotId(jackpotId)
+                .playerAlias("poller")
+                .betAmount(BigDecimal.TEN)
+                .build();
+        mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bet)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/jackpots").header(HttpHeaders.IF_NONE_MATCH, listTag))
+                .andExpect(status().isOk());
+        String jackpotBody = mockMvc.perform(get("/api/jackpots/" + jackpotId).header(HttpHeaders.IF_NONE_MATCH, jackpotTag))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(objectMapper.readValue(jackpotBody, JackpotDto.class).getCurrentSize()).isEqualByComparingTo("10");
+    }
+
     @Test
     void getJackpot_ShouldReturn404_WhenNotFound() throws Exception {
         mockMvc.perform(get("/api/jackpots/" + UUID.randomUUID())
@@ -135,6 +280,35 @@ class JackpotControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getJackpot_ShouldUseIdFilter_ForUnknownAndNewJackpots() throws Exception {
+        double unknownBefore = meterRegistry.get("jackpot.id.filter").tag("result", "unknown").counter().count();
+
+        mockMvc.perform(get("/api/jackpots/" + UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+        assertThat(meterRegistry.get("jackpot.id.filter").tag("result", "unknown").counter().count())
+                .isEqualTo(unknownBefore + 1);
+
+        String body = mockMvc.perform(post("/api/jackpots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateJackpotRequest.builder()
+                                .name("Fresh")
+                                .winProbability(0.1)
+                                .build())))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        UUID jackpotId = objectMapper.readValue(body, JackpotDto.class).getId();
+
+        mockMvc.perform(get("/api/jackpots/" + jackpotId))
+                .andExpect(status().isOk());
+
+        jackpotRepository.deleteById(jackpotId);
+        mockMvc.perform(get("/api/jackpots/" + jackpotId))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void createJackpot_ShouldReturn400_WhenInvalidPayload() throws Exception {
         // Missing name and probability
@@ -145,4 +319,117 @@ class JackpotControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void apiDocs_ShouldReturn404_WhenDocsProfileInactive() throws Exception {
+        mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/swagger-ui.html"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getJackpotStats_ShouldReturnFlushedBetsAtEveryGranularity() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Analytics Jackpot")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .build());
+        for (String amount : List.of("10.00", "20.00", "30.00")) {
+            BetRequest bet = BetRequest.builder()
+                    .jackpotId(jackpot.getId())
+                    .playerAlias("analyst")
+                    .betAmount(new BigDecimal(amount))
+                    .build();
+            mockMvc.perform(post("/api/bets")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(bet)))
+                    .andExpect(status().isOk());
+        }
+        rollupAggregator.flush();
+
+        LocalDateTime from = LocalDateTime.now().minusDays(1);
+        LocalDateTime to = LocalDateTime.now().plusMinutes(1);
+        for (String granularity : List.of("minute", "hour", "day")) {
+            List<JackpotRollupDto> buckets = getStats(jackpot.getId(), from, to, granularity);
+
+            assertThat(buckets.stream().mapToLong(JackpotRollupDto::getBetCount).sum()).isEqualTo(3);
+            assertThat(buckets.stream().map(JackpotRollupDto::getTurnover).reduce(BigDecimal.ZERO, BigDecimal::add))
+                    .isEqualByComparingTo("60.00");
+            assertThat(buckets).allSatisfy(bucket -> assertThat(bucket.getWinRate()).isZero());
+        }
+    }
+
+    @Test
+    void compact_ShouldDeleteExpiredMinuteBucketsOnly() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Old Jackpot")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .build());
+        LocalDateTime old = LocalDateTime.now().minusDays(3).withMinute(0).withSecond(0).withNano(0);
+        rollupRepository.save(rollup(jackpot, RollupGranularity.MINUTE, old));
+        rollupRepository.save(rollup(jackpot, RollupGranularity.HOUR, old));
+
+        rollupAggregator.compact();
+
+        LocalDateTime from = old.minusHours(1);
+        LocalDateTime to = old.plusHours(1);
+        assertThat(getStats(jackpot.getId(), from, to, "minute")).isEmpty();
+        List<JackpotRollupDto> hours = getStats(jackpot.getId(), from, to, "hour");
+        assertThat(hours).hasSize(1);
+        assertThat(hours.get(0).getBetCount()).isEqualTo(120);
+        assertThat(hours.get(0).getBetsPerMinute()).isEqualTo(2.0);
+        assertThat(hours.get(0).getWinRate()).isEqualTo(0.025);
+    }
+
+    @Test
+    void getJackpotStats_ShouldRejectInvalidQueries() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Query Jackpot")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .build());
+
+        mockMvc.perform(get("/api/jackpots/" + jackpot.getId() + "/stats").param("granularity", "week"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/jackpots/" + jackpot.getId() + "/stats")
+                        .param("granularity", "minute")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2025-03-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/jackpots/" + UUID.randomUUID() + "/stats"))
+                .andExpect(status().isNotFound());
+    }
+
+    private JackpotDto getJackpot(UUID jackpotId) throws Exception {
+        String body = mockMvc.perform(get("/api/jackpots/" + jackpotId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, JackpotDto.class);
+    }
+
+    private List<JackpotRollupDto> getStats(UUID jackpotId, LocalDateTime from, LocalDateTime to,
+                                            String granularity) throws Exception {
+        String body = mockMvc.perform(get("/api/jackpots/" + jackpotId + "/stats")
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+                        .param("granularity", granularity))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, new TypeReference<List<JackpotRollupDto>>() {});
+    }
+
+    private static JackpotRollup rollup(Jackpot jackpot, RollupGranularity granularity, LocalDateTime bucketStart) {
+        return JackpotRollup.builder()
+                .jackpotId(jackpot.getId())
+                .granularity(granularity)
+                .bucketStart(bucketStart)
+                .betCount(120L)
+                .turnover(new BigDecimal("1200.00"))
+                .contributions(new BigDecimal("120.00"))
+                .winCount(3L)
+                .payouts(new BigDecimal("900.00"))
+                .build();
+    }
 }
@@ -0,0 +1,236 @@
+package com.example.jackpot.controller;
+
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.PlayerStatsDto;
+import com.example.jackpot.dto.PlayerStatsRebuildResponse;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.repository.BetRepository;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.repository.PlayerStatsRepository;
+import com.example.jackpot.repository.WinRepository;
+import com.example.jackpot.service.PlayerStatsAggregator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PlayerControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JackpotRepository jackpotRepository;
+
+    @Autowired
+    private BetRepository betRepository;
+
+    @Autowired
+    private WinRepository winRepository;
+
+    @Autowired
+    private PlayerStatsRepository playerStatsRepository;
+
+    @Autowired
+    private PlayerStatsAggregator aggregator;
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:players;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("spring.datasource.driverClassName", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.H2Dialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        // Flushed explicitly by the tests
+        registry.add("jackpot.player-stats.flush-interval", () -> "PT1H");
+        registry.add("management.endpoints.web.exposure.include", () -> "playerstats");
+        // The concurrent test places bets for one player as fast as it can
+        registry.add("jackpot.rate-limit.enabled", () -> "false");
+    }
+
+    @BeforeEach
+    void clean() {
+        aggregator.flush();
+        winRepository.deleteAll();
+        betRepository.deleteAll();
+        jackpotRepository.deleteAll();
+        playerStatsRepository.deleteAll();
+    }
+
+    @Test
+    void getStats_ShouldIncludePendingAndFlushedBets() throws Exception {
+        Jackpot losing = saveJackpot(0.0);
+        Jackpot winning = saveJackpot(1.0);
+
+        placeBet(losing, "alice", "10.00");
+        assertThat(getStats("alice").getBetCount()).isEqualTo(1);
+
+        aggregator.flush();
+        placeBet(losing, "alice", "5.00");
+        placeBet(winning, "alice", "20.00");
+
+        PlayerStatsDto stats = getStats("alice");
+        assertThat(stats.getBetCount()).isEqualTo(3);
+        assertThat(stats.getTotalWagered()).isEqualByComparingTo("35.00");
+        assertThat(stats.getWinCount()).isEqualTo(1);
+        assertThat(stats.getTotalWon()).isEqualByComparingTo("20.00");
+
+        aggregator.flush();
+        assertThat(playerStatsRepository.findById("alice")).get()
+                .satisfies(row -> {
+                    assertThat(row.getBetCount()).isEqualTo(3);
+                    assertThat(row.getTotalWagered()).isEqualByComparingTo("35.00");
+                });
+    }
+
+    @Test
+    void getStats_ShouldReturn404_WhenPlayerUnknown() throws Exception {
+        mockMvc.perform(get("/api/players/nobody/stats"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void rebuildStats_ShouldRecomputeFromHistory() throws Exception {
+        Jackpot first = saveJackpot(0.0);
+        Jackpot second = saveJackpot(1.0);
+        placeBet(first, "bob", "10.00");
+        placeBet(second, "bob", "15.00");
+        placeBet(first, "carol", "7.00");
+        aggregator.flush();
+        playerStatsRepository.deleteAll();
+
+        String body = mockMvc.perform(post("/actuator/playerstats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(objectMapper.readValue(body, PlayerStatsRebuildResponse.class).getPlayers()).isEqualTo(2);
+        PlayerStatsDto bob = getStats("bob");
+        assertThat(bob.getBetCount()).isEqualTo(2);
+        assertThat(bob.getTotalWagered()).isEqualByComparingTo("25.00");
+        assertThat(bob.getWinCount()).isEqualTo(1);
+        assertThat(bob.getTotalWon()).isEqualByComparingTo("15.00");
+        assertThat(getStats("carol").getTotalWagered()).isEqualByComparingTo("7.00");
+    }
+
+    @Test
+    void rebuildStats_ShouldNotCountBetsTwice_WhenBetsArePlacedConcurrently() throws Exception {
+        Jackpot losing = saveJackpot(0.0);
+        Jackpot winning = saveJackpot(1.0);
+        placeBet(losing, "dave", "1.00");
+        aggregator.flush();
+
+        AtomicBoolean stop = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> placers = new ArrayList<>();
+            for (Jackpot jackpot : List.of(losing, winning)) {
+                placers.add(executor.submit(() -> {
+                    while (!stop.get()) {
+                        placeBet(jackpot, "dave", "1.00");
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < 5; i++) {
+                mockMvc.perform(post("/actuator/playerstats"))
+                        .andExpect(status().isOk());
+            }
+            stop.set(true);
+            for (Future<?> placer : placers) {
+                placer.get();
+            }
+        } finally {
+            stop.set(true);
+            executor.shutdownNow();
+        }
+        aggregator.flush();
+
+        long bets = betRepository.count();
+        assertThat(playerStatsRepository.findById("dave")).get()
+                .satisfies(row -> {
+                    assertThat(row.getBetCount()).isEqualTo(bets);
+                    assertThat(row.getTotalWagered()).isEqualByComparingTo(BigDecimal.valueOf(bets));
+                    assertThat(row.getWinCount()).isEqualTo(winRepository.count());
+                });
+    }
+
+    @Test
+    void rebuildStats_ShouldReturn409_WhenRebuildAlreadyRunning() throws Exception {
+        placeBet(saveJackpot(0.0), "erin", "3.00");
+
+        Thread first;
+        // The running rebuild blocks on the aggregator until it is released
+        synchronized (aggregator) {
+            first = new Thread(() -> {
+                try {
+                    mockMvc.perform(post("/actuator/playerstats"))
+                            .andExpect(status().isOk());
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            });
+            first.start();
+            while (first.getState() != Thread.State.BLOCKED) {
+                Thread.sleep(10);
+            }
+
+            mockMvc.perform(post("/actuator/playerstats"))
+                    .andExpect(status().isConflict());
+        }
+        first.join();
+
+        assertThat(getStats("erin").getBetCount()).isEqualTo(1);
+    }
+
+    private Jackpot saveJackpot(double winProbability) {
+        return jackpotRepository.save(Jackpot.builder()
+                .name("Stats Jackpot")
+                .currentSize(BigDecimal.ZERO)
+                .winProbability(winProbability)
+                .build());
+    }
+
+    private void placeBet(Jackpot jackpot, String playerAlias, String amount) throws Exception {
+        BetRequest request = BetRequest.builder()
+                .jackpotId(jackpot.getId())
+                .playerAlias(playerAlias)
+                .betAmount(new BigDecimal(amount))
+                .build();
+        mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+    }
+
+    private PlayerStatsDto getStats(String playerAlias) throws Exception {
+        String body = mockMvc.perform(get("/api/players/" + playerAlias + "/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, PlayerStatsDto.class);
+    }
+}
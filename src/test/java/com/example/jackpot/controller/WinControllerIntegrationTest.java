@@ -1,8 +1,11 @@
 package com.example.jackpot.controller;
 
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.TopWinDto;
 import com.example.jackpot.dto.WinDto;
 import com.example.jackpot.entity.Jackpot;
 import com.example.jackpot.entity.Win;
+import com.example.jackpot.repository.BetRepository;
 import com.example.jackpot.repository.JackpotRepository;
 import com.example.jackpot.repository.WinRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -24,6 +28,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -42,6 +48,9 @@ class WinControllerIntegrationTest {
     @Autowired
     private JackpotRepository jackpotRepository;
 
+    @Autowired
+    private BetRepository betRepository;
+
     @DynamicPropertySource
     static void configureDatasource(DynamicPropertyRegistry registry) {
         registry.add("spring.datasource.url", () -> "jdbc:h2:mem:testdb2;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
@@ -50,11 +59,13 @@ class WinControllerIntegrationTest {
         registry.add("spring.datasource.password", () -> "");
         registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.H2Dialect");
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("jackpot.http-cache.cache-control.wins", () -> "private, max-age=5");
     }
 
     @BeforeEach
     void clean() {
         winRepository.deleteAll();
+        betRepository.deleteAll();
         jackpotRepository.deleteAll();
     }
 
@@ -175,4 +186,86 @@ class WinControllerIntegrationTest {
         // By timestamp desc, this should be the middle record
         assertThat(wins.get(0).getWinAmount()).isEqualByComparingTo(BigDecimal.valueOf(200));
     }
+
+    @Test
+    void getTopWins_ShouldIncludeCommittedWin() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Leaderboard Jackpot")
+                .winProbability(1.0)
+                .currentSize(BigDecimal.valueOf(500))
+                .winCount(0)
+                .build());
+        BetRequest bet = BetRequest.builder()
+                .jackpotId(jackpot.getId())
+                .playerAlias("lucky")
+                .betAmount(BigDecimal.valueOf(10))
+                .build();
+        mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bet)))
+                .andExpect(status().isOk());
+
+        String body = mockMvc.perform(get("/api/wins/top")
+                        .param("window", "week")
+                        .param("jackpotId", jackpot.getId().toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<TopWinDto> wins = objectMapper.readValue(body, new TypeReference<List<TopWinDto>>() {});
+
+        assertThat(wins).hasSize(1);
+        assertThat(wins.get(0).getPlayerAlias()).isEqualTo("lucky");
+        assertThat(wins.get(0).getWinAmount()).isEqualByComparingTo(BigDecimal.valueOf(510));
+        assertThat(wins.get(0).getWinId()).isEqualTo(winRepository.findAll().get(0).getId());
+    }
+
+    @Test
+    void getWins_ShouldReturn304_UntilNextWin() throws Exception {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Polled Jackpot")
+                .winProbability(1.0)
+                .currentSize(BigDecimal.valueOf(100))
+                .winCount(0)
+                .build());
+
+        String etag = mockMvc.perform(get("/api/wins"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, max-age=5"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+
+        mockMvc.perform(get("/api/wins").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        BetRequest bet = BetRequest.builder()
+                .jackpotId(jackpot.getId())
+                .playerAlias("poller")
+                .betAmount(BigDecimal.valueOf(10))
+                .build();
+        mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bet)))
+                .andExpect(status().isOk());
+
+        String body = mockMvc.perform(get("/api/wins").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        List<WinDto> wins = objectMapper.readValue(body, new TypeReference<List<WinDto>>() {});
+
+        assertThat(wins).extracting(WinDto::getPlayerAlias).containsExactly("poller");
+    }
+
+    @Test
+    void getTopWins_ShouldReturn400_WhenWindowUnknown() throws Exception {
+        mockMvc.perform(get("/api/wins/top").param("window", "month"))
+                .andExpect(status().isBadRequest());
+    }
 }
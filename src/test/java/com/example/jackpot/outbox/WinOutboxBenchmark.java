@@ -0,0 +1,92 @@
+package com.example.jackpot.outbox;
+
+import com.example.jackpot.JackpotApplication;
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.service.BetService;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Compares bet latency with the win outbox off and on, when every bet wins and the webhook
+ * sink takes 200 ms per batch. The relay runs concurrently every 100 ms, so a slow consumer
+ * would show up in the bet percentiles if it were on the bet path.
+ * Not a test; run after {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.example.jackpot.outbox.WinOutboxBenchmark
+ * </pre>
+ */
+public class WinOutboxBenchmark {
+
+    private static final int WARMUP_BETS = 5_000;
+    private static final int BETS = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        HttpServer webhook = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        webhook.createContext("/wins", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        webhook.start();
+        try {
+            run(false, webhook.getAddress().getPort());
+            run(true, webhook.getAddress().getPort());
+        } finally {
+            webhook.stop(0);
+        }
+    }
+
+    private static void run(boolean outbox, int webhookPort) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JackpotApplication.class).run(
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:outbox-bench-" + outbox + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--logging.level.root=WARN",
+                "--jackpot.win-outbox.enabled=" + outbox,
+                "--jackpot.win-outbox.log.enabled=false",
+                "--jackpot.win-outbox.poll-interval=PT0.1S",
+                "--jackpot.win-outbox.webhook.url=http://localhost:" + webhookPort + "/wins")) {
+            UUID jackpotId = context.getBean(JackpotRepository.class).save(Jackpot.builder()
+                    .name("Always Wins")
+                    .winProbability(1.0)
+                    .currentSize(BigDecimal.ZERO)
+                    .build()).getId();
+            BetService betService = context.getBean(BetService.class);
+            BetRequest request = new BetRequest(jackpotId, "bench", BigDecimal.ONE);
+
+            for (int i = 0; i < WARMUP_BETS; i++) {
+                betService.placeBet(request);
+            }
+            long[] latencies = new long[BETS];
+            for (int i = 0; i < BETS; i++) {
+                long start = System.nanoTime();
+                betService.placeBet(request);
+                latencies[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(latencies);
+
+            System.out.printf("outbox=%s bets=%d p50_us=%.1f p99_us=%.1f p999_us=%.1f max_us=%.1f%n",
+                    outbox, BETS, latencies[BETS / 2] / 1e3, latencies[BETS * 99 / 100] / 1e3,
+                    latencies[BETS * 999 / 1000] / 1e3, latencies[BETS - 1] / 1e3);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.jackpot.outbox;
+
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.WinNotification;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.entity.Win;
+import com.example.jackpot.entity.WinOutboxEntry;
+import com.example.jackpot.repository.BetRepository;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.repository.WinOutboxRepository;
+import com.example.jackpot.repository.WinRepository;
+import com.example.jackpot.service.BetService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Places winning bets and relays their notifications to a local webhook stand-in
+ * (JDK HTTP server) and the in-process queue.
+ */
+@SpringBootTest
+class WinOutboxIntegrationTest {
+
+    private static final HttpServer webhook = startWebhook();
+    private static final List<byte[]> deliveries = new CopyOnWriteArrayList<>();
+    private static volatile int webhookStatus = 200;
+
+    @Autowired
+    private BetService betService;
+
+    @Autowired
+    private WinOutboxRelay relay;
+
+    @Autowired
+    private QueueWinNotificationSink queue;
+
+    @Autowired
+    private WinOutboxRepository outboxRepository;
+
+    @Autowired
+    private JackpotRepository jackpotRepository;
+
+    @Autowired
+    private BetRepository betRepository;
+
+    @Autowired
+    private WinRepository winRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:outbox;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("spring.datasource.driverClassName", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.H2Dialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        // Relayed explicitly by the tests
+        registry.add("jackpot.win-outbox.poll-interval", () -> "PT1H");
+        registry.add("jackpot.win-outbox.initial-backoff", () -> "PT0S");
+        registry.add("jackpot.win-outbox.queue.enabled", () -> "true");
+        registry.add("jackpot.win-outbox.webhook.url",
+                () -> "http://localhost:" + webhook.getAddress().getPort() + "/wins");
+    }
+
+    @AfterAll
+    static void stopWebhook() {
+        webhook.stop(0);
+    }
+
+    @BeforeEach
+    void clean() throws InterruptedException {
+        outboxRepository.deleteAll();
+        winRepository.deleteAll();
+        betRepository.deleteAll();
+        jackpotRepository.deleteAll();
+        deliveries.clear();
+        webhookStatus = 200;
+        while (queue.poll(0, TimeUnit.MILLISECONDS) != null) {
+            // Drain notifications left by another test
+        }
+    }
+
+    @Test
+    void placeBet_WithWin_ShouldWriteOutboxAndRelayToSinks() throws Exception {
+        Jackpot jackpot = winningJackpot();
+
+        betService.placeBet(new BetRequest(jackpot.getId(), "lucky", new BigDecimal("10.00")));
+
+        Win win = winRepository.findAll().get(0);
+        List<WinOutboxEntry> pending = outboxRepository.findAll();
+        assertThat(pending).singleElement().satisfies(entry -> {
+            assertThat(entry.getWinId()).isEqualTo(win.getId());
+            assertThat(entry.getWinAmount()).isEqualByComparingTo("10.00");
+        });
+
+        assertThat(relay.relay()).isEqualTo(1);
+
+        assertThat(deliveries).hasSize(1);
+        WinNotification[] delivered = objectMapper.readValue(deliveries.get(0), WinNotification[].class);
+        assertThat(delivered).singleElement().satisfies(notification -> {
+            assertThat(notification.getId()).isEqualTo(pending.get(0).getId());
+            assertThat(notification.getWinId()).isEqualTo(win.getId());
+            assertThat(notification.getJackpotId()).isEqualTo(jackpot.getId());
+            assertThat(notification.getPlayerAlias()).isEqualTo("lucky");
+        });
+        assertThat(queue.poll(1, TimeUnit.SECONDS).getWinId()).isEqualTo(win.getId());
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void relay_WhenWebhookFails_ShouldKeepEntryAndRetry() {
+        Jackpot jackpot = winningJackpot();
+        betService.placeBets(jackpot.getId(), List.of(
+                new BetRequest(jackpot.getId(), "first", BigDecimal.ONE),
+                new BetRequest(jackpot.getId(), "second", BigDecimal.ONE)));
+        webhookStatus = 503;
+
+        assertThat(relay.relay()).isZero();
+
+        assertThat(outboxRepository.findAll()).hasSize(2).allSatisfy(entry -> {
+            assertThat(entry.getAttempts()).isEqualTo(1);
+            assertThat(entry.getLastError()).startsWith("webhook: ");
+        });
+
+        webhookStatus = 200;
+        assertThat(relay.relay()).isEqualTo(2);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void placeBet_WithoutWin_ShouldNotWriteOutbox() {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Never Wins")
+                .winProbability(0.0)
+                .currentSize(BigDecimal.ZERO)
+                .build());
+
+        betService.placeBet(new BetRequest(jackpot.getId(), "unlucky", BigDecimal.ONE));
+
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void relay_WhileAnotherRelayHoldsEntries_ShouldSkipThem() throws Exception {
+        Jackpot jackpot = winningJackpot();
+        betService.placeBet(new BetRequest(jackpot.getId(), "lucky", BigDecimal.ONE));
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate otherNode = new TransactionTemplate(transactionManager);
+
+        Thread holder = new Thread(() -> otherNode.executeWithoutResult(status -> {
+            assertThat(outboxRepository.claimDue(LocalDateTime.now(), 20, 100)).hasSize(1);
+            claimed.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        try {
+            assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(relay.relay()).isZero();
+            assertThat(deliveries).isEmpty();
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+
+        assertThat(relay.relay()).isEqualTo(1);
+        assertThat(deliveries).hasSize(1);
+    }
+
+    private Jackpot winningJackpot() {
+        return jackpotRepository.save(Jackpot.builder()
+                .name("Always Wins")
+                .winProbability(1.0)
+                .currentSize(BigDecimal.ZERO)
+                .build());
+    }
+
+    private static HttpServer startWebhook() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/wins", exchange -> {
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                int status = webhookStatus;
+                if (status == 200) {
+                    deliveries.add(body);
+                }
+                exchange.sendResponseHeaders(status, -1);
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
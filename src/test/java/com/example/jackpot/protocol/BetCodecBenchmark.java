@@ -0,0 +1,80 @@
+package com.example.jackpot.protocol;
+
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.BetResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compares decode + encode cost per bet of the JSON and binary bet formats,
+ * i.e. the work the controller does around the bet engine for each format.
+ * Not a test; run after {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.example.jackpot.protocol.BetCodecBenchmark
+ * </pre>
+ */
+public class BetCodecBenchmark {
+
+    private static final int BATCH = 100;
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int ROUNDS = 50_000;
+    private static final TypeReference<List<BetRequest>> REQUESTS = new TypeReference<>() {};
+
+    public static void main(String[] args) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<BetRequest> requests = new ArrayList<>(BATCH);
+        List<BetResponse> responses = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            requests.add(new BetRequest(UUID.randomUUID(), "player-" + i, new BigDecimal("25.00")));
+            responses.add(new BetResponse(false, BigDecimal.ZERO, new BigDecimal("1234.56"), "Better luck next time!", null));
+        }
+        byte[] json = objectMapper.writeValueAsBytes(requests);
+        byte[] binary = BetCodec.encodeRequests(requests);
+
+        Codec jsonCodec = () -> {
+            List<BetRequest> decoded = objectMapper.readValue(json, REQUESTS);
+            return objectMapper.writeValueAsBytes(responses).length + decoded.size();
+        };
+        Codec binaryCodec = () -> {
+            List<BetRequest> decoded = BetCodec.decodeRequests(binary);
+            return BetCodec.encodeResponses(responses).length + decoded.size();
+        };
+
+        run("json", json.length, objectMapper.writeValueAsBytes(responses).length, jsonCodec);
+        run("binary", binary.length, BetCodec.encodeResponses(responses).length, binaryCodec);
+    }
+
+    private static void run(String name, int requestBytes, int responseBytes, Codec codec) throws Exception {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += codec.roundTrip();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += codec.roundTrip();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        long bets = (long) ROUNDS * BATCH;
+
+        System.out.printf("format=%s bets_per_sec=%.0f ns_per_bet=%.1f alloc_bytes_per_bet=%d "
+                        + "request_bytes_per_bet=%d response_bytes_per_bet=%d (sink %d)%n",
+                name, bets * 1e9 / elapsed, (double) elapsed / bets, allocated / bets,
+                requestBytes / BATCH, responseBytes / BATCH, sink);
+    }
+
+    @FunctionalInterface
+    private interface Codec {
+        int roundTrip() throws Exception;
+    }
+}
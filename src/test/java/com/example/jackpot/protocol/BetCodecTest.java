@@ -0,0 +1,107 @@
+package com.example.jackpot.protocol;
+
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.BetResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BetCodec.
+ * Tests request and response round trips and rejection of malformed bodies.
+ */
+class BetCodecTest {
+
+    private final UUID jackpotId = UUID.randomUUID();
+
+    // ========== Request Tests ==========
+
+    @Test
+    void testDecodeRequests_ShouldRoundTripFrames() {
+        List<BetRequest> requests = List.of(
+                new BetRequest(jackpotId, "spieler-ü", new BigDecimal("12.34")),
+                new BetRequest(UUID.randomUUID(), "p", new BigDecimal("5")));
+
+        List<BetRequest> decoded = BetCodec.decodeRequests(BetCodec.encodeRequests(requests));
+
+        assertEquals(requests, decoded);
+        assertEquals(2, decoded.get(0).getBetAmount().scale());
+    }
+
+    @Test
+    void testDecodeRequests_WithNegativeScale_ShouldKeepValue() {
+        List<BetRequest> decoded = BetCodec.decodeRequests(BetCodec.encodeRequests(
+                List.of(new BetRequest(jackpotId, "p", new BigDecimal("1E+3")))));
+
+        assertEquals(0, decoded.get(0).getBetAmount().compareTo(BigDecimal.valueOf(1000)));
+    }
+
+    @Test
+    void testDecodeRequests_WithTruncatedFrame_ShouldThrowException() {
+        byte[] body = BetCodec.encodeRequests(List.of(new BetRequest(jackpotId, "player", BigDecimal.ONE)));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> BetCodec.decodeRequests(Arrays.copyOf(body, body.length - 3)));
+        assertTrue(ex.getMessage().contains("frame 0"));
+    }
+
+    @Test
+    void testDecodeRequests_WithShortFrameLength_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BetCodec.decodeRequests(new byte[] {BetCodec.VERSION, 0, 4, 1, 2, 3, 4}));
+    }
+
+    @Test
+    void testDecodeRequests_WithUnknownVersionOrEmptyBody_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> BetCodec.decodeRequests(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> BetCodec.decodeRequests(new byte[] {9}));
+    }
+
+    @Test
+    void testEncodeRequests_WithAmountTooLarge_ShouldThrowException() {
+        BetRequest request = new BetRequest(jackpotId, "p", new BigDecimal("1E+30"));
+
+        assertThrows(IllegalArgumentException.class, () -> BetCodec.encodeRequests(List.of(request)));
+    }
+
+    // ========== Response Tests ==========
+
+    @Test
+    void testDecodeResponses_ShouldRoundTripResults() {
+        List<BetResponse> responses = List.of(
+                new BetResponse(true, new BigDecimal("150.00"), new BigDecimal("10.00"), "Congratulations! You won!", null),
+                new BetResponse(false, BigDecimal.ZERO, new BigDecimal("11.50"), "Better luck next time!", null));
+
+        byte[] body = BetCodec.encodeResponses(responses);
+        List<BetResponse> decoded = BetCodec.decodeResponses(body);
+
+        assertEquals(1 + 2 * BetCodec.RESULT_LENGTH, body.length);
+        assertTrue(decoded.get(0).getWon());
+        assertEquals(new BigDecimal("150.00"), decoded.get(0).getWinAmount());
+        assertFalse(decoded.get(1).getWon());
+        assertEquals(new BigDecimal("11.50"), decoded.get(1).getNewJackpotSize());
+        assertNull(decoded.get(1).getMessage());
+    }
+
+    @Test
+    void testDecodeResponses_WithBetNotPlaced_ShouldKeepErrorFlag() {
+        BetResponse notPlaced = BetResponse.builder().error("Jackpot not found").build();
+
+        List<BetResponse> decoded = BetCodec.decodeResponses(BetCodec.encodeResponses(List.of(notPlaced)));
+
+        assertFalse(decoded.get(0).getWon());
+        assertNotNull(decoded.get(0).getError());
+    }
+
+    @Test
+    void testDecodeResponses_WithTruncatedResult_ShouldThrowException() {
+        byte[] body = BetCodec.encodeResponses(List.of(new BetResponse(false, BigDecimal.ZERO, BigDecimal.ONE, null, null)));
+
+        assertThrows(IllegalArgumentException.class, () -> BetCodec.decodeResponses(Arrays.copyOf(body, body.length - 1)));
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.jackpot.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AimdLimiter and Bulkhead.
+ * Tests limit adaptation to call latency and shedding against a store with injected latency.
+ */
+class AimdLimiterTest {
+
+    private static final long THRESHOLD = 50_000_000L;
+
+    // ========== Adaptation Tests ==========
+
+    @Test
+    void testRelease_WithSlowCalls_ShouldBackOffToMinimum() {
+        AimdLimiter limiter = new AimdLimiter(10, 2, 20, THRESHOLD, 0.5);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(THRESHOLD + 1, false);
+        }
+
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testRelease_WithFastCallsAtHalfLoad_ShouldGrowToMaximum() {
+        AimdLimiter limiter = new AimdLimiter(4, 2, 6, THRESHOLD, 0.5);
+
+        for (int round = 0; round < 5; round++) {
+            int slots = limiter.getLimit();
+            for (int i = 0; i < slots; i++) {
+                assertTrue(limiter.tryAcquire());
+            }
+            for (int i = 0; i < slots; i++) {
+                limiter.release(1_000_000, false);
+            }
+        }
+
+        assertEquals(6, limiter.getLimit());
+    }
+
+    @Test
+    void testRelease_WithFastCallsAtLowLoad_ShouldKeepLimit() {
+        AimdLimiter limiter = new AimdLimiter(10, 2, 20, THRESHOLD, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(1_000_000, false);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void testRelease_WithFailure_ShouldBackOff() {
+        AimdLimiter limiter = new AimdLimiter(10, 2, 20, THRESHOLD, 0.5);
+
+        limiter.tryAcquire();
+        limiter.release(1_000_000, true);
+
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void testTryAcquire_AtLimit_ShouldRefuse() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 4, THRESHOLD, 0.5);
+        Bulkhead bulkhead = new Bulkhead(1);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+        assertEquals(1, bulkhead.getInFlight());
+    }
+
+    @Test
+    void testConstructor_WithInconsistentBounds_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(1, 2, 4, THRESHOLD, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(2, 1, 4, THRESHOLD, 1.0));
+    }
+
+    // ========== Shedding Tests ==========
+
+    @Test
+    void testSlowStore_ShouldShedExcessCallsWithoutWaiting() throws Exception {
+        AimdLimiter limiter = new AimdLimiter(4, 1, 8, THRESHOLD, 0.5);
+        SlowStore store = new SlowStore(200);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger served = new AtomicInteger();
+        AtomicInteger shed = new AtomicInteger();
+        List<Thread> callers = new ArrayList<>();
+
+        for (int i = 0; i < 12; i++) {
+            Thread caller = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    return;
+                }
+                if (!limiter.tryAcquire()) {
+                    shed.incrementAndGet();
+                    return;
+                }
+                long begin = System.nanoTime();
+                store.read();
+                limiter.release(System.nanoTime() - begin, false);
+                served.incrementAndGet();
+            });
+            caller.start();
+            callers.add(caller);
+        }
+        start.countDown();
+        for (Thread caller : callers) {
+            caller.join();
+        }
+
+        assertEquals(12, served.get() + shed.get());
+        assertTrue(shed.get() > 0);
+        assertTrue(store.maxConcurrent.get() <= 4, "no more than the initial limit may reach the store at once");
+        assertTrue(limiter.getLimit() < 4);
+    }
+
+    /**
+     * Stand-in for a repository whose every call takes a fixed time.
+     */
+    private static final class SlowStore {
+
+        private final long latencyMillis;
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        private SlowStore(long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        void read() {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+}
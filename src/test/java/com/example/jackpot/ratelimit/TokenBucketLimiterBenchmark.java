@@ -0,0 +1,87 @@
+package com.example.jackpot.ratelimit;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the cost of one limiter check at high key cardinality: single-threaded with
+ * allocation per check, then with several threads drawing random keys concurrently.
+ * Not a test; run after {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.example.jackpot.ratelimit.TokenBucketLimiterBenchmark
+ * </pre>
+ */
+public class TokenBucketLimiterBenchmark {
+
+    private static final int[] KEY_COUNTS = {10_000, 1_000_000};
+    private static final int CHECKS = 20_000_000;
+    private static final int THREADS = 8;
+
+    public static void main(String[] args) throws Exception {
+        RateLimit limit = RateLimit.of(20, 40);
+        for (int keyCount : KEY_COUNTS) {
+            String[] keys = new String[keyCount];
+            for (int i = 0; i < keyCount; i++) {
+                keys[i] = "player-" + i;
+            }
+            TokenBucketLimiter<String> limiter = new TokenBucketLimiter<>(keyCount, Duration.ofMinutes(1));
+
+            // Warm-up also creates every bucket, so the measured checks hit known keys
+            for (String key : keys) {
+                limiter.tryAcquire(key, limit, 1);
+            }
+            runSingleThreaded(limiter, keys, limit);
+            runSingleThreaded(limiter, keys, limit);
+            runConcurrent(limiter, keys, limit);
+        }
+    }
+
+    private static void runSingleThreaded(TokenBucketLimiter<String> limiter, String[] keys, RateLimit limit) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long refused = 0;
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < CHECKS; i++) {
+            if (limiter.tryAcquire(keys[(int) ((i * 2_654_435_761L) % keys.length)], limit, 1) > 0) {
+                refused++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        System.out.printf("threads=1 keys=%d checks_per_sec=%.0f ns_per_check=%.1f alloc_bytes_per_check=%.2f refused=%d%n",
+                limiter.size(), CHECKS * 1e9 / elapsed, (double) elapsed / CHECKS, (double) allocated / CHECKS, refused);
+    }
+
+    private static void runConcurrent(TokenBucketLimiter<String> limiter, String[] keys, RateLimit limit) throws Exception {
+        LongAdder refused = new LongAdder();
+        Thread[] workers = new Thread[THREADS];
+        int perThread = CHECKS / THREADS;
+        for (int t = 0; t < THREADS; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < perThread; i++) {
+                    if (limiter.tryAcquire(keys[random.nextInt(keys.length)], limit, 1) > 0) {
+                        refused.increment();
+                    }
+                }
+            });
+        }
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        long checks = (long) perThread * THREADS;
+
+        System.out.printf("threads=%d keys=%d checks_per_sec=%.0f ns_per_check_per_thread=%.1f refused=%d%n",
+                THREADS, limiter.size(), checks * 1e9 / elapsed, (double) elapsed * THREADS / checks, refused.sum());
+    }
+}
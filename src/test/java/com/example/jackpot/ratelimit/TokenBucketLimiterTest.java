@@ -0,0 +1,164 @@
+package com.example.jackpot.ratelimit;
+
+import com.example.jackpot.config.RateLimitProperties;
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.exception.RateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TokenBucketLimiter and BetRateLimiter.
+ * Tests burst and refill behaviour, key bounding, batch charging and per-jackpot overrides.
+ */
+class TokenBucketLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(42 * SECOND);
+    private TokenBucketLimiter<String> limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new TokenBucketLimiter<>(100, Duration.ofSeconds(10), clock::get);
+    }
+
+    // ========== Token Bucket Tests ==========
+
+    @Test
+    void testTryAcquire_ShouldAdmitBurstThenRefuse() {
+        RateLimit limit = RateLimit.of(10, 3);
+
+        assertEquals(0, limiter.tryAcquire("alice", limit, 1));
+        assertEquals(0, limiter.tryAcquire("alice", limit, 1));
+        assertEquals(0, limiter.tryAcquire("alice", limit, 1));
+
+        assertEquals(SECOND / 10, limiter.tryAcquire("alice", limit, 1));
+        assertEquals(0, limiter.tryAcquire("bob", limit, 1));
+    }
+
+    @Test
+    void testTryAcquire_ShouldRefillAtRate() {
+        RateLimit limit = RateLimit.of(10, 2);
+        limiter.tryAcquire("alice", limit, 2);
+        assertTrue(limiter.tryAcquire("alice", limit, 1) > 0);
+
+        clock.addAndGet(SECOND / 10);
+
+        assertEquals(0, limiter.tryAcquire("alice", limit, 1));
+        assertTrue(limiter.tryAcquire("alice", limit, 1) > 0);
+    }
+
+    @Test
+    void testTryAcquire_RefusedCall_ShouldNotConsumePermits() {
+        RateLimit limit = RateLimit.of(1, 2);
+        limiter.tryAcquire("alice", limit, 2);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("alice", limit, 1);
+        }
+
+        clock.addAndGet(SECOND);
+
+        assertEquals(0, limiter.tryAcquire("alice", limit, 1));
+    }
+
+    @Test
+    void testRateLimitOf_WithNonPositiveValues_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> RateLimit.of(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> RateLimit.of(1, 0));
+    }
+
+    // ========== Bounding Tests ==========
+
+    @Test
+    void testCleanUp_ShouldExpireIdleBuckets() {
+        limiter.tryAcquire("idle", RateLimit.of(1, 10), 5);
+        clock.addAndGet(5 * SECOND);
+        limiter.tryAcquire("active", RateLimit.of(1, 10), 5);
+
+        clock.addAndGet(6 * SECOND);
+        limiter.cleanUp();
+
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void testTryAcquire_AtCapacity_ShouldGiveNewKeysTheirOwnBucket() {
+        TokenBucketLimiter<String> small = new TokenBucketLimiter<>(2, Duration.ofSeconds(10), clock::get);
+        RateLimit limit = RateLimit.of(1, 1);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, small.tryAcquire("player-" + i, limit, 1));
+        }
+        small.cleanUp();
+
+        assertTrue(small.size() <= 2);
+    }
+
+    // ========== Bet Limiter Tests ==========
+
+    @Test
+    void testBetRateLimiter_ShouldApplyJackpotOverride() {
+        UUID limitedJackpot = UUID.randomUUID();
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getJackpotOverrides().put(limitedJackpot, new RateLimitProperties.Limit(0.5, 1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BetRateLimiter betLimiter = new BetRateLimiter(properties, registry);
+
+        betLimiter.acquire(bet(limitedJackpot, "alice"));
+        RateLimitedException ex = assertThrows(RateLimitedException.class,
+                () -> betLimiter.acquire(bet(limitedJackpot, "bob")));
+
+        assertEquals("Bet rate limit exceeded for jackpot " + limitedJackpot, ex.getMessage());
+        assertTrue(ex.getRetryAfter().toMillis() > 1000);
+        assertEquals(1, registry.get("jackpot.ratelimit.rejected").tag("limit", "jackpot").counter().count());
+
+        UUID otherJackpot = UUID.randomUUID();
+        betLimiter.acquire(List.of(bet(otherJackpot, "carol"), bet(otherJackpot, "carol")));
+    }
+
+    @Test
+    void testBetRateLimiter_Batch_ShouldTakeOnePermitPerBet() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPlayer(new RateLimitProperties.Limit(1, 10));
+        BetRateLimiter betLimiter = new BetRateLimiter(properties, new SimpleMeterRegistry());
+        UUID jackpotId = UUID.randomUUID();
+        List<BetRequest> batch = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            batch.add(bet(jackpotId, "alice"));
+        }
+
+        betLimiter.acquire(batch);
+
+        assertThrows(RateLimitedException.class, () -> betLimiter.acquire(batch));
+        betLimiter.acquire(batch.subList(0, 4));
+        assertThrows(RateLimitedException.class, () -> betLimiter.acquire(bet(jackpotId, "alice")));
+    }
+
+    @Test
+    void testBetRateLimiter_BatchOverBurst_ShouldBeRefused() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPlayer(new RateLimitProperties.Limit(1, 2));
+        BetRateLimiter betLimiter = new BetRateLimiter(properties, new SimpleMeterRegistry());
+        UUID jackpotId = UUID.randomUUID();
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> betLimiter.acquire(
+                List.of(bet(jackpotId, "alice"), bet(jackpotId, "alice"), bet(jackpotId, "alice"))));
+
+        assertEquals("Batch holds 3 bets for player alice, more than the 2 admitted at once", ex.getMessage());
+        betLimiter.acquire(bet(jackpotId, "alice"));
+    }
+
+    private static BetRequest bet(UUID jackpotId, String playerAlias) {
+        return BetRequest.builder().jackpotId(jackpotId).playerAlias(playerAlias).betAmount(BigDecimal.ONE).build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.JackpotApplication;
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.repository.JackpotRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compares bet throughput of single bets with batches of increasing size, spread over
+ * {@value #JACKPOTS} jackpots, so a batch of n bets costs up to {@value #JACKPOTS} group
+ * transactions instead of n. Runs against an in-memory H2 database, which understates
+ * the round trips a batch saves on a networked database.
+ * Not a test; run after {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.example.jackpot.service.BetBatchBenchmark
+ * </pre>
+ */
+public class BetBatchBenchmark {
+
+    private static final int JACKPOTS = 10;
+    private static final int WARMUP_BETS = 10_000;
+    private static final int BETS = 50_000;
+    private static final int[] BATCH_SIZES = {1, 10, 100, 1000};
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JackpotApplication.class).run(
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:batch-bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--logging.level.root=WARN",
+                "--logging.level.jackpot.sql.slow=ERROR",
+                "--jackpot.win-outbox.log.enabled=false")) {
+            JackpotRepository jackpotRepository = context.getBean(JackpotRepository.class);
+            List<UUID> jackpotIds = new ArrayList<>();
+            for (int i = 0; i < JACKPOTS; i++) {
+                jackpotIds.add(jackpotRepository.save(Jackpot.builder()
+                        .name("Batch Bench " + i)
+                        .winProbability(0.001)
+                        .currentSize(BigDecimal.ZERO)
+                        .build()).getId());
+            }
+            BetService betService = context.getBean(BetService.class);
+            BetBatchService batchService = context.getBean(BetBatchService.class);
+
+            for (int batchSize : BATCH_SIZES) {
+                run(betService, batchService, jackpotIds, batchSize, WARMUP_BETS);
+                long elapsed = run(betService, batchService, jackpotIds, batchSize, BETS);
+                System.out.printf("batch=%d bets=%d elapsed_ms=%d bets_per_s=%.0f%n",
+                        batchSize, BETS, elapsed / 1_000_000, BETS / (elapsed / 1e9));
+            }
+        }
+    }
+
+    /**
+     * @return elapsed nanoseconds
+     */
+    private static long run(BetService betService, BetBatchService batchService, List<UUID> jackpotIds,
+                            int batchSize, int bets) {
+        long start = System.nanoTime();
+        for (int placed = 0; placed < bets; placed += batchSize) {
+            List<BetRequest> batch = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                batch.add(new BetRequest(jackpotIds.get((placed + i) % JACKPOTS), "player-" + ((placed + i) % 1000), BigDecimal.ONE));
+            }
+            if (batchSize == 1) {
+                betService.placeBet(batch.get(0));
+            } else {
+                batchService.placeBets(batch);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
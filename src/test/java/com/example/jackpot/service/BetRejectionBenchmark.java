@@ -0,0 +1,91 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.exception.BetRejectedException;
+import com.example.jackpot.exception.ErrorResponse;
+import org.springframework.http.HttpStatus;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Compares the cost of answering a bet for an unknown jackpot, i.e. 100% invalid traffic:
+ * a thrown exception with a stack trace and per-error timestamp formatting (the previous
+ * path), the rejection result, and the stackless exception still used by batch paths.
+ * Rejections are produced {@value #STACK_DEPTH} frames below the handler to approximate the
+ * servlet, Spring MVC and transaction proxy frames of a real request. The jackpot lookup
+ * itself is not included. Not a test; run after {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.example.jackpot.service.BetRejectionBenchmark
+ * </pre>
+ */
+public class BetRejectionBenchmark {
+
+    private static final int STACK_DEPTH = 120;
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int ROUNDS = 1_000_000;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+
+    private static final UUID[] JACKPOT_IDS = new UUID[1024];
+
+    public static void main(String[] args) {
+        for (int i = 0; i < JACKPOT_IDS.length; i++) {
+            JACKPOT_IDS[i] = UUID.randomUUID();
+        }
+
+        run("exception_with_stack", i -> {
+            try {
+                return descend(STACK_DEPTH, () -> {
+                    throw new IllegalArgumentException("Jackpot not found with ID: " + JACKPOT_IDS[i & 1023]);
+                });
+            } catch (IllegalArgumentException ex) {
+                return ErrorResponse.builder()
+                        .status(HttpStatus.BAD_REQUEST.value())
+                        .message(ex.getMessage())
+                        .error("BAD_REQUEST")
+                        .timestamp(LocalDateTime.now().format(FORMATTER))
+                        .build();
+            }
+        });
+        run("stackless_exception", i -> {
+            try {
+                return descend(STACK_DEPTH, () -> {
+                    throw BetRejection.UNKNOWN_JACKPOT.exception(JACKPOT_IDS[i & 1023]);
+                });
+            } catch (BetRejectedException ex) {
+                return ErrorResponse.of(HttpStatus.BAD_REQUEST, ex.getMessage());
+            }
+        });
+        run("rejection_result", i -> {
+            BetResult result = descend(STACK_DEPTH, () -> BetResult.rejected(BetRejection.UNKNOWN_JACKPOT, JACKPOT_IDS[i & 1023]));
+            return ErrorResponse.of(HttpStatus.BAD_REQUEST, result.rejectionMessage());
+        });
+    }
+
+    private static <T> T descend(int depth, Supplier<T> action) {
+        return depth == 0 ? action.get() : descend(depth - 1, action);
+    }
+
+    private static void run(String name, IntFunction<Object> rejection) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += rejection.apply(i).hashCode();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += rejection.apply(i).hashCode();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        System.out.printf("path=%s rejections_per_sec=%.0f ns_per_rejection=%.1f alloc_bytes_per_rejection=%d (sink %d)%n",
+                name, ROUNDS * 1e9 / elapsed, (double) elapsed / ROUNDS, allocated / ROUNDS, sink);
+    }
+}
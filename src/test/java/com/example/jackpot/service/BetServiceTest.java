@@ -4,24 +4,37 @@ import com.example.jackpot.dto.BetRequest;
 import com.example.jackpot.dto.BetResponse;
 import com.example.jackpot.entity.Bet;
 import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.entity.JackpotConfig;
+import com.example.jackpot.entity.JackpotCounters;
 import com.example.jackpot.entity.Win;
+import com.example.jackpot.event.BetsPlacedEvent;
+import com.example.jackpot.event.PlacedBet;
+import com.example.jackpot.exception.BetRejectedException;
+import com.example.jackpot.outbox.WinOutbox;
 import com.example.jackpot.repository.BetRepository;
+import com.example.jackpot.repository.JackpotCountersRepository;
 import com.example.jackpot.repository.JackpotRepository;
 import com.example.jackpot.repository.WinRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -37,14 +50,33 @@ class BetServiceTest {
     @Mock
     private JackpotRepository jackpotRepository;
 
+    @Mock
+    private JackpotCountersRepository countersRepository;
+
     @Mock
     private WinRepository winRepository;
 
+    @Mock
+    private JackpotDescriptorCache descriptorCache;
+
+    @Spy
+    private SeededBetRandom random = new SeededBetRandom();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JackpotIdFilter idFilter;
+
+    @Mock
+    private WinOutbox winOutbox;
+
     @InjectMocks
     private BetService betService;
 
     private UUID jackpotId;
     private Jackpot testJackpot;
+    private JackpotCounters testCounters;
     private BetRequest betRequest;
 
     @BeforeEach
@@ -61,11 +93,22 @@ class BetServiceTest {
                 .lastWinTimestamp(null)
                 .build();
 
+        testCounters = JackpotCounters.builder()
+                .id(jackpotId)
+                .currentSize(BigDecimal.valueOf(100))
+                .winCount(0)
+                .build();
+
         // Create test bet request
         betRequest = new BetRequest();
         betRequest.setJackpotId(jackpotId);
         betRequest.setPlayerAlias("TestPlayer");
         betRequest.setBetAmount(BigDecimal.valueOf(50));
+
+        lenient().when(idFilter.mightExist(any())).thenReturn(true);
+        lenient().when(jackpotRepository.getReferenceById(jackpotId)).thenReturn(testJackpot);
+        // Configuration is read when the descriptor is compiled, after each test has set it up
+        lenient().when(descriptorCache.get(jackpotId)).thenAnswer(invocation -> JackpotDescriptor.of(config(testJackpot)));
     }
 
     // ========== Validation Tests ==========
@@ -74,7 +117,7 @@ class BetServiceTest {
     void testPlaceBet_WithNegativeBetAmount_ShouldThrowException() {
         betRequest.setBetAmount(BigDecimal.valueOf(-10));
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+        BetRejectedException exception = assertThrows(BetRejectedException.class, () -> {
             betService.placeBet(betRequest);
         });
 
@@ -86,7 +129,7 @@ class BetServiceTest {
     void testPlaceBet_WithZeroBetAmount_ShouldThrowException() {
         betRequest.setBetAmount(BigDecimal.ZERO);
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+        BetRejectedException exception = assertThrows(BetRejectedException.class, () -> {
             betService.placeBet(betRequest);
         });
 
@@ -98,7 +141,7 @@ class BetServiceTest {
     void testPlaceBet_WithNullBetAmount_ShouldThrowException() {
         betRequest.setBetAmount(null);
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+        BetRejectedException exception = assertThrows(BetRejectedException.class, () -> {
             betService.placeBet(betRequest);
         });
 
@@ -108,9 +151,9 @@ class BetServiceTest {
 
     @Test
     void testPlaceBet_WithMissingJackpot_ShouldThrowException() {
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.empty());
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.empty());
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+        BetRejectedException exception = assertThrows(BetRejectedException.class, () -> {
             betService.placeBet(betRequest);
         });
 
@@ -118,34 +161,98 @@ class BetServiceTest {
         verify(betRepository, never()).save(any());
     }
 
+    // ========== Rejection Tests ==========
+
+    @Test
+    void testTryPlaceBet_WithMissingJackpot_ShouldReturnRejection() {
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.empty());
+
+        BetResult result = betService.tryPlaceBet(betRequest);
+
+        assertFalse(result.isAccepted());
+        assertEquals(BetRejection.UNKNOWN_JACKPOT, result.getRejection());
+        assertEquals("Jackpot not found with ID: " + jackpotId, result.rejectionMessage());
+        verify(betRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testTryPlaceBet_WithInvalidAmount_ShouldReturnRejectionWithoutLookup() {
+        betRequest.setBetAmount(BigDecimal.ZERO);
+
+        BetResult result = betService.tryPlaceBet(betRequest);
+
+        assertEquals(BetRejection.INVALID_AMOUNT, result.getRejection());
+        verify(countersRepository, never()).findForUpdate(any());
+    }
+
+    @Test
+    void testTryPlaceBet_WithFilteredJackpot_ShouldRejectWithoutLookup() {
+        when(idFilter.mightExist(jackpotId)).thenReturn(false);
+
+        BetResult result = betService.tryPlaceBet(betRequest);
+
+        assertEquals(BetRejection.UNKNOWN_JACKPOT, result.getRejection());
+        verify(countersRepository, never()).findForUpdate(any());
+    }
+
+    @Test
+    void testPlaceBets_WithFilteredJackpot_ShouldThrowWithoutLookup() {
+        when(idFilter.mightExist(jackpotId)).thenReturn(false);
+
+        assertThrows(BetRejectedException.class, () -> betService.placeBets(jackpotId, List.of(betRequest)));
+        verify(countersRepository, never()).findForUpdate(any());
+    }
+
+    @Test
+    void testPlaceBet_WithMissingJackpot_ShouldThrowStacklessException() {
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.empty());
+
+        BetRejectedException exception = assertThrows(BetRejectedException.class, () -> betService.placeBet(betRequest));
+
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void testPlaceBet_WithInvalidAmount_ShouldThrowSharedExceptionWithoutSuppression() {
+        betRequest.setBetAmount(BigDecimal.ZERO);
+
+        BetRejectedException first = assertThrows(BetRejectedException.class, () -> betService.placeBet(betRequest));
+        first.addSuppressed(new IllegalStateException("cleanup failed"));
+        BetRejectedException second = assertThrows(BetRejectedException.class, () -> betService.placeBet(betRequest));
+
+        assertSame(first, second);
+        assertEquals(0, second.getSuppressed().length);
+    }
+
     // ========== Bet Placement Tests ==========
 
     @Test
     void testPlaceBet_WithValidBet_ShouldSaveBet() {
         testJackpot.setWinProbability(0.0); // Force no win
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         betService.placeBet(betRequest);
 
         verify(betRepository, times(1)).save(any(Bet.class));
-        verify(jackpotRepository, times(1)).save(testJackpot);
+        verify(countersRepository, times(1)).save(testCounters);
     }
 
     @Test
     void testPlaceBet_ShouldIncreaseJackpotSize() {
         testJackpot.setWinProbability(0.0); // Force no win
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        BigDecimal initialSize = testJackpot.getCurrentSize();
+        BigDecimal initialSize = testCounters.getCurrentSize();
         BigDecimal betAmount = betRequest.getBetAmount();
 
         BetResponse response = betService.placeBet(betRequest);
 
         BigDecimal expectedNewSize = initialSize.add(betAmount);
         assertEquals(expectedNewSize, response.getNewJackpotSize());
-        assertEquals(expectedNewSize, testJackpot.getCurrentSize());
+        assertEquals(expectedNewSize, testCounters.getCurrentSize());
     }
 
     // ========== Win Logic Tests ==========
@@ -155,7 +262,7 @@ class BetServiceTest {
         // Setup: Force a win by using a high probability jackpot
         testJackpot.setWinProbability(1.0); // 100% win probability
 
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(winRepository.save(any(Win.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -166,39 +273,62 @@ class BetServiceTest {
         verify(winRepository, times(1)).save(any(Win.class));
     }
 
+    @Test
+    void testPlaceBet_WhenJackpotWon_ShouldRecordWinInOutbox() {
+        testJackpot.setWinProbability(1.0);
+
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+        when(winRepository.save(any(Win.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        betService.placeBet(betRequest);
+
+        verify(winOutbox).record(argThat(wins -> wins.size() == 1 && wins.get(0).getPlayerAlias().equals("TestPlayer")));
+    }
+
+    @Test
+    void testPlaceBet_WhenJackpotLost_ShouldNotTouchOutbox() {
+        testJackpot.setWinProbability(0.0);
+
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+
+        betService.placeBet(betRequest);
+
+        verifyNoInteractions(winOutbox);
+    }
+
     @Test
     void testPlaceBet_WhenJackpotWon_ShouldResetJackpotSize() {
         testJackpot.setWinProbability(1.0);
 
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(winRepository.save(any(Win.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         BetResponse response = betService.placeBet(betRequest);
 
         assertTrue(response.getWon());
-        assertEquals(BigDecimal.ZERO, testJackpot.getCurrentSize());
+        assertEquals(BigDecimal.ZERO, testCounters.getCurrentSize());
     }
 
     @Test
     void testPlaceBet_WhenJackpotWon_ShouldIncrementWinCount() {
         testJackpot.setWinProbability(1.0);
-        int initialWinCount = testJackpot.getWinCount();
+        int initialWinCount = testCounters.getWinCount();
 
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(winRepository.save(any(Win.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         betService.placeBet(betRequest);
 
-        assertEquals(initialWinCount + 1, testJackpot.getWinCount());
+        assertEquals(initialWinCount + 1, testCounters.getWinCount());
     }
 
     @Test
     void testPlaceBet_WhenJackpotWon_ShouldUpdateLastWinTimestamp() {
         testJackpot.setWinProbability(1.0);
 
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(winRepository.save(any(Win.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -206,17 +336,17 @@ class BetServiceTest {
         betService.placeBet(betRequest);
         LocalDateTime afterBet = LocalDateTime.now();
 
-        assertNotNull(testJackpot.getLastWinTimestamp());
-        assertTrue(testJackpot.getLastWinTimestamp().isAfter(beforeBet.minusSeconds(1)));
-        assertTrue(testJackpot.getLastWinTimestamp().isBefore(afterBet.plusSeconds(1)));
+        assertNotNull(testCounters.getLastWinTimestamp());
+        assertTrue(testCounters.getLastWinTimestamp().isAfter(beforeBet.minusSeconds(1)));
+        assertTrue(testCounters.getLastWinTimestamp().isBefore(afterBet.plusSeconds(1)));
     }
 
     @Test
     void testPlaceBet_WhenJackpotWon_ShouldReturnWinAmount() {
         testJackpot.setWinProbability(1.0);
-        BigDecimal expectedWinAmount = testJackpot.getCurrentSize().add(betRequest.getBetAmount());
+        BigDecimal expectedWinAmount = testCounters.getCurrentSize().add(betRequest.getBetAmount());
 
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(winRepository.save(any(Win.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -232,7 +362,7 @@ class BetServiceTest {
         // Setup: Force a loss
         testJackpot.setWinProbability(0.0); // 0% win probability
 
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         BetResponse response = betService.placeBet(betRequest);
@@ -245,35 +375,35 @@ class BetServiceTest {
     @Test
     void testPlaceBet_WhenJackpotNotWon_ShouldNotResetJackpotSize() {
         testJackpot.setWinProbability(0.0);
-        BigDecimal initialSize = testJackpot.getCurrentSize();
+        BigDecimal initialSize = testCounters.getCurrentSize();
 
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         betService.placeBet(betRequest);
 
         BigDecimal expectedSize = initialSize.add(betRequest.getBetAmount());
-        assertEquals(expectedSize, testJackpot.getCurrentSize());
+        assertEquals(expectedSize, testCounters.getCurrentSize());
     }
 
     @Test
     void testPlaceBet_WhenJackpotNotWon_ShouldNotIncrementWinCount() {
         testJackpot.setWinProbability(0.0);
-        int initialWinCount = testJackpot.getWinCount();
+        int initialWinCount = testCounters.getWinCount();
 
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         betService.placeBet(betRequest);
 
-        assertEquals(initialWinCount, testJackpot.getWinCount());
+        assertEquals(initialWinCount, testCounters.getWinCount());
     }
 
     @Test
     void testPlaceBet_WhenJackpotNotWon_ShouldReturnZeroWinAmount() {
         testJackpot.setWinProbability(0.0);
 
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         BetResponse response = betService.placeBet(betRequest);
@@ -286,10 +416,10 @@ class BetServiceTest {
     @Test
     void testPlaceBet_MultipleBetsWithoutWin_ShouldAccumulateSize() {
         testJackpot.setWinProbability(0.0);
-        BigDecimal initialSize = testJackpot.getCurrentSize();
+        BigDecimal initialSize = testCounters.getCurrentSize();
         BigDecimal betAmount = betRequest.getBetAmount();
 
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Place 3 bets
@@ -298,25 +428,248 @@ class BetServiceTest {
         betService.placeBet(betRequest);
 
         BigDecimal expectedSize = initialSize.add(betAmount.multiply(BigDecimal.valueOf(3)));
-        assertEquals(expectedSize, testJackpot.getCurrentSize());
-        assertEquals(0, testJackpot.getWinCount());
+        assertEquals(expectedSize, testCounters.getCurrentSize());
+        assertEquals(0, testCounters.getWinCount());
     }
 
     @Test
     void testPlaceBet_AfterWin_JackpotResetForNextBet() {
         testJackpot.setWinProbability(1.0);
 
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
         when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(winRepository.save(any(Win.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // First bet wins
         BetResponse response1 = betService.placeBet(betRequest);
         assertTrue(response1.getWon());
-        assertEquals(BigDecimal.ZERO, testJackpot.getCurrentSize());
+        assertEquals(BigDecimal.ZERO, testCounters.getCurrentSize());
 
         // Second bet after win
         BetResponse response2 = betService.placeBet(betRequest);
         assertEquals(betRequest.getBetAmount(), response2.getNewJackpotSize());
     }
+
+    // ========== Contribution Tests ==========
+
+    @Test
+    void testPlaceBet_WithContributionRate_ShouldAddOnlyShareOfBet() {
+        testJackpot.setWinProbability(0.0);
+        testJackpot.setContributionRate(new BigDecimal("0.1"));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+        when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        betRequest.setBetAmount(new BigDecimal("12.35"));
+        BetResponse response = betService.placeBet(betRequest);
+
+        // 10% of 12.35 rounded down to the cent
+        assertEquals(0, new BigDecimal("101.23").compareTo(response.getNewJackpotSize()));
+        verify(betRepository).save(argThat(bet -> bet.getContribution().compareTo(new BigDecimal("1.23")) == 0
+                && bet.getBetAmount().compareTo(new BigDecimal("12.35")) == 0));
+    }
+
+    @Test
+    void testPlaceBet_WithMaxSize_ShouldCapPotAndRecordAppliedContribution() {
+        testJackpot.setWinProbability(0.0);
+        testJackpot.setMaxSize(BigDecimal.valueOf(120));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+        when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BetResponse response = betService.placeBet(betRequest);
+
+        assertEquals(0, BigDecimal.valueOf(120).compareTo(response.getNewJackpotSize()));
+        verify(betRepository).save(argThat(bet -> bet.getContribution().compareTo(BigDecimal.valueOf(20)) == 0));
+    }
+
+    @Test
+    void testPlaceBet_WhenJackpotWon_ShouldResetToSeed() {
+        testJackpot.setWinProbability(1.0);
+        testJackpot.setSeedAmount(BigDecimal.valueOf(30));
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+        when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(winRepository.save(any(Win.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BetResponse response = betService.placeBet(betRequest);
+
+        assertEquals(BigDecimal.valueOf(150), response.getWinAmount());
+        assertEquals(BigDecimal.valueOf(30), testCounters.getCurrentSize());
+    }
+
+    @Test
+    void testPlaceBet_WithLegacyNullSettings_ShouldContributeFullyAndResetToZero() {
+        testJackpot.setWinProbability(1.0);
+        testJackpot.setContributionRate(null);
+        testJackpot.setSeedAmount(null);
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+        when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(winRepository.save(any(Win.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BetResponse response = betService.placeBet(betRequest);
+
+        assertEquals(BigDecimal.valueOf(150), response.getWinAmount());
+        assertEquals(BigDecimal.ZERO, testCounters.getCurrentSize());
+    }
+
+    // ========== Batch Tests ==========
+
+    @Test
+    void testPlaceBets_ShouldSettleInOrderAndWriteJackpotOnce() {
+        testJackpot.setWinProbability(0.0);
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+
+        BetRequest second = BetRequest.builder()
+                .jackpotId(jackpotId)
+                .playerAlias("OtherPlayer")
+                .betAmount(BigDecimal.valueOf(25))
+                .build();
+
+        List<BetResponse> responses = betService.placeBets(jackpotId, List.of(betRequest, second));
+
+        assertEquals(2, responses.size());
+        assertEquals(BigDecimal.valueOf(150), responses.get(0).getNewJackpotSize());
+        assertEquals(BigDecimal.valueOf(175), responses.get(1).getNewJackpotSize());
+        assertEquals(BigDecimal.valueOf(175), testCounters.getCurrentSize());
+        verify(betRepository, times(1)).saveAll(argThat(bets -> bets.spliterator().getExactSizeIfKnown() == 2));
+        verify(betRepository, never()).save(any());
+        verify(winRepository, never()).saveAll(any());
+        verify(countersRepository, times(1)).save(testCounters);
+    }
+
+    @Test
+    void testPlaceBets_WhenEveryBetWins_ShouldBatchWins() {
+        testJackpot.setWinProbability(1.0);
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+
+        List<BetResponse> responses = betService.placeBets(jackpotId, List.of(betRequest, betRequest));
+
+        assertTrue(responses.get(0).getWon());
+        assertEquals(BigDecimal.valueOf(150), responses.get(0).getWinAmount());
+        assertEquals(BigDecimal.valueOf(50), responses.get(1).getWinAmount());
+        assertEquals(2, testCounters.getWinCount());
+        verify(winRepository, times(1)).saveAll(argThat(wins -> wins.spliterator().getExactSizeIfKnown() == 2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPlaceBets_ShouldSequenceBetsAndTagWinsWithWinningBet() {
+        testJackpot.setWinProbability(1.0);
+        testCounters.setBetSequence(41L);
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+
+        betService.placeBets(jackpotId, List.of(betRequest, betRequest));
+
+        ArgumentCaptor<List<Bet>> bets = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Win>> wins = ArgumentCaptor.forClass(List.class);
+        verify(betRepository).saveAll(bets.capture());
+        verify(winRepository).saveAll(wins.capture());
+        assertEquals(List.of(42L, 43L), bets.getValue().stream().map(Bet::getBetSequence).toList());
+        assertEquals(List.of(42L, 43L), wins.getValue().stream().map(Win::getBetSequence).toList());
+        assertEquals(43L, testCounters.getBetSequence());
+    }
+
+    @Test
+    void testPlaceBets_WithInvalidAmount_ShouldRejectWholeGroup() {
+        BetRequest invalid = BetRequest.builder()
+                .jackpotId(jackpotId)
+                .playerAlias("TestPlayer")
+                .betAmount(BigDecimal.ZERO)
+                .build();
+
+        assertThrows(BetRejectedException.class, () -> betService.placeBets(jackpotId, List.of(betRequest, invalid)));
+        verify(countersRepository, never()).findForUpdate(any());
+        verify(betRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testPlaceBet_ShouldWriteOnlyCounters() {
+        testJackpot.setWinProbability(0.0);
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+
+        betService.placeBet(betRequest);
+
+        verify(countersRepository).save(testCounters);
+        verify(jackpotRepository, never()).save(any());
+        verify(betRepository).save(argThat(bet -> bet.getJackpot() == testJackpot));
+    }
+
+    @Test
+    void testTryPlaceBet_WithoutConfiguration_ShouldReturnRejection() {
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+        when(descriptorCache.get(jackpotId)).thenReturn(null);
+
+        BetResult result = betService.tryPlaceBet(betRequest);
+
+        assertEquals(BetRejection.UNKNOWN_JACKPOT, result.getRejection());
+        verify(countersRepository, never()).save(any());
+    }
+
+    // ========== Event Tests ==========
+
+    @Test
+    void testPlaceBet_ShouldPublishPlacedBet() {
+        testJackpot.setWinProbability(1.0);
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+
+        betService.placeBet(betRequest);
+
+        ArgumentCaptor<BetsPlacedEvent> captor = ArgumentCaptor.forClass(BetsPlacedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        PlacedBet placed = captor.getValue().getBets().get(0);
+        assertEquals(jackpotId, placed.getJackpotId());
+        assertEquals("TestPlayer", placed.getPlayerAlias());
+        assertEquals(BigDecimal.valueOf(50), placed.getBetAmount());
+        assertTrue(placed.isWon());
+        assertEquals(BigDecimal.valueOf(150), placed.getWinAmount());
+    }
+
+    @Test
+    void testPlaceBets_ShouldPublishOneEventPerGroup() {
+        testJackpot.setWinProbability(0.0);
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+
+        betService.placeBets(jackpotId, List.of(betRequest, betRequest, betRequest));
+
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+                event instanceof BetsPlacedEvent placed && placed.getBets().size() == 3));
+    }
+
+    @Test
+    void testPlaceBet_WithMissingJackpot_ShouldNotPublishEvent() {
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.empty());
+
+        assertThrows(BetRejectedException.class, () -> betService.placeBet(betRequest));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    // ========== Seeded Random Tests ==========
+
+    @Test
+    void testPlaceBets_WithSameSeed_ShouldDrawSameOutcomes() {
+        testJackpot.setWinProbability(0.3);
+        when(countersRepository.findForUpdate(jackpotId)).thenReturn(Optional.of(testCounters));
+        List<BetRequest> requests = Collections.nCopies(200, betRequest);
+
+        random.reseed(42L);
+        List<Boolean> first = betService.placeBets(jackpotId, requests).stream().map(BetResponse::getWon).toList();
+        random.reseed(42L);
+        List<Boolean> second = betService.placeBets(jackpotId, requests).stream().map(BetResponse::getWon).toList();
+        random.reseed(7L);
+        List<Boolean> other = betService.placeBets(jackpotId, requests).stream().map(BetResponse::getWon).toList();
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertTrue(first.contains(true) && first.contains(false));
+    }
+
+    private static JackpotConfig config(Jackpot jackpot) {
+        return JackpotConfig.builder()
+                .id(jackpot.getId())
+                .name(jackpot.getName())
+                .winProbability(jackpot.getWinProbability())
+                .contributionRate(jackpot.getContributionRate())
+                .seedAmount(jackpot.getSeedAmount())
+                .maxSize(jackpot.getMaxSize())
+                .mustDropBy(jackpot.getMustDropBy())
+                .build();
+    }
 }
@@ -0,0 +1,123 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.JackpotApplication;
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.entity.JackpotConfig;
+import com.example.jackpot.repository.JackpotRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+/**
+ * Measures the contribution math on its own, fixed-point {@code long} against
+ * {@code BigDecimal} multiply-and-round, and then {@code placeBet} throughput with a 100%
+ * contribution rate (no arithmetic) against a partial rate.
+ * Not a test; run after {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.example.jackpot.service.ContributionBenchmark
+ * </pre>
+ */
+public class ContributionBenchmark {
+
+    private static final BigDecimal RATE = new BigDecimal("0.0150");
+    private static final int WARMUP_ROUNDS = 2_000_000;
+    private static final int ROUNDS = 20_000_000;
+    private static final int WARMUP_BETS = 10_000;
+    private static final int BETS = 30_000;
+
+    private static final BigDecimal[] AMOUNTS = new BigDecimal[1024];
+
+    public static void main(String[] args) {
+        for (int i = 0; i < AMOUNTS.length; i++) {
+            AMOUNTS[i] = BigDecimal.valueOf(100 + i * 37L, 2);
+        }
+        JackpotDescriptor descriptor = JackpotDescriptor.of(JackpotConfig.builder()
+                .id(UUID.randomUUID())
+                .contributionRate(RATE)
+                .build());
+
+        for (int run = 0; run < 3; run++) {
+            bigDecimal();
+            fixedPoint(descriptor);
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JackpotApplication.class).run(
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:contribution-bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--logging.level.root=WARN",
+                "--logging.level.jackpot.sql.slow=ERROR",
+                "--jackpot.win-outbox.log.enabled=false")) {
+            // The first round also warms up the rest of the bet path
+            for (int run = 0; run < 2; run++) {
+                placeBets(context, BigDecimal.ONE);
+                placeBets(context, RATE);
+            }
+        }
+    }
+
+    private static void bigDecimal() {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += legacyContribution(AMOUNTS[i & 1023]).signum();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += legacyContribution(AMOUNTS[i & 1023]).signum();
+        }
+        report("bigdecimal", System.nanoTime() - start, sink);
+    }
+
+    private static void fixedPoint(JackpotDescriptor descriptor) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += descriptor.contribution(AMOUNTS[i & 1023]).signum();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += descriptor.contribution(AMOUNTS[i & 1023]).signum();
+        }
+        report("fixed_point", System.nanoTime() - start, sink);
+    }
+
+    /**
+     * The previous implementation: exact product at scale + 4, then rounded down.
+     */
+    private static BigDecimal legacyContribution(BigDecimal amount) {
+        return amount.multiply(RATE).setScale(Math.max(amount.scale(), 2), RoundingMode.DOWN);
+    }
+
+    private static void report(String name, long elapsed, long sink) {
+        System.out.printf("math=%s ns_per_op=%.1f (sink=%d)%n", name, (double) elapsed / ROUNDS, sink);
+    }
+
+    private static void placeBets(ConfigurableApplicationContext context, BigDecimal rate) {
+        UUID jackpotId = context.getBean(JackpotRepository.class).save(Jackpot.builder()
+                .name("Contribution " + rate)
+                .winProbability(0.0)
+                .contributionRate(rate)
+                .currentSize(BigDecimal.ZERO)
+                .build()).getId();
+        BetService betService = context.getBean(BetService.class);
+
+        for (int i = 0; i < WARMUP_BETS; i++) {
+            betService.placeBet(new BetRequest(jackpotId, "bench", AMOUNTS[i & 1023]));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < BETS; i++) {
+            betService.placeBet(new BetRequest(jackpotId, "bench", AMOUNTS[i & 1023]));
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("place_bet rate=%s bets=%d bets_per_s=%.0f%n", rate, BETS, BETS / (elapsed / 1e9));
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.entity.JackpotConfig;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JackpotDescriptor.
+ * Tests the precomputed contribution math and the integer win thresholds.
+ */
+class JackpotDescriptorTest {
+
+    /**
+     * Chi-square critical value for 1 degree of freedom at significance 0.001.
+     */
+    private static final double CHI_SQUARE_CRITICAL_1DF = 10.828;
+
+    private static final int TRIALS = 200_000;
+
+    // ========== Flat Probability Tests ==========
+
+    @Test
+    void testIsWin_ShouldDecideExactlyLikeNextDouble() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (double probability : new double[] {0.0, 1e-9, 0.001, 0.1, 0.3333333333333333, 0.5, 0.999, 1.0}) {
+            JackpotDescriptor descriptor = JackpotDescriptor.of(jackpot(probability, null).build());
+            for (int i = 0; i < TRIALS; i++) {
+                long bits = random.nextLong();
+                // Same construction as Random.nextDouble(): top 53 bits scaled by 2^-53
+                boolean legacy = (bits >>> 11) * 0x1.0p-53 < probability;
+                assertEquals(legacy, descriptor.isWin(bits, BigDecimal.ZERO), "p=" + probability);
+            }
+        }
+    }
+
+    @Test
+    void testIsWin_ShouldMatchProbabilityByChiSquare() {
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (double probability : new double[] {0.01, 0.1, 0.5}) {
+            JackpotDescriptor descriptor = JackpotDescriptor.of(jackpot(probability, null).build());
+            long wins = 0;
+            for (int i = 0; i < TRIALS; i++) {
+                if (descriptor.isWin(random.nextLong(), BigDecimal.ZERO)) {
+                    wins++;
+                }
+            }
+
+            double expectedWins = TRIALS * probability;
+            double expectedLosses = TRIALS - expectedWins;
+            double chiSquare = Math.pow(wins - expectedWins, 2) / expectedWins
+                    + Math.pow((TRIALS - wins) - expectedLosses, 2) / expectedLosses;
+            assertTrue(chiSquare < CHI_SQUARE_CRITICAL_1DF, "p=" + probability + " chi2=" + chiSquare);
+        }
+    }
+
+    @Test
+    void testIsWin_WithEdgeProbabilities_ShouldNeverOrAlwaysWin() {
+        JackpotDescriptor never = JackpotDescriptor.of(jackpot(0.0, null).build());
+        JackpotDescriptor always = JackpotDescriptor.of(jackpot(1.0, null).build());
+
+        for (long bits : new long[] {0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertFalse(never.isWin(bits, BigDecimal.ZERO));
+            assertTrue(always.isWin(bits, BigDecimal.ZERO));
+        }
+    }
+
+    // ========== Must-Drop-By Tests ==========
+
+    @Test
+    void testIsWin_WithMustDropBy_ShouldRiseWithPotAndDropAtLimit() {
+        JackpotDescriptor descriptor = JackpotDescriptor.of(jackpot(0.0, BigDecimal.valueOf(1000)).build());
+        // Just below the certain threshold: only wins once the curve reaches certainty
+        long almostCertain = -1L;
+
+        assertFalse(descriptor.isWin(1L << 11, BigDecimal.ZERO));
+        assertFalse(descriptor.isWin(almostCertain, BigDecimal.valueOf(999)));
+        assertTrue(descriptor.isWin(almostCertain, BigDecimal.valueOf(1000)));
+        assertTrue(descriptor.isWin(almostCertain, BigDecimal.valueOf(1500)));
+
+        SplittableRandom random = new SplittableRandom(3);
+        double previousRate = -1.0;
+        for (int pot : new int[] {0, 500, 800, 950}) {
+            long wins = 0;
+            for (int i = 0; i < TRIALS; i++) {
+                if (descriptor.isWin(random.nextLong(), BigDecimal.valueOf(pot))) {
+                    wins++;
+                }
+            }
+            double rate = (double) wins / TRIALS;
+            assertTrue(rate >= previousRate, "win rate should not fall as the pot grows");
+            previousRate = rate;
+        }
+        assertTrue(previousRate > 0.5);
+    }
+
+    @Test
+    void testIsWin_WithMustDropBy_ShouldUseBaseProbabilityBelowSeed() {
+        JackpotDescriptor descriptor = JackpotDescriptor.of(jackpot(1.0, BigDecimal.valueOf(1000))
+                .seedAmount(BigDecimal.valueOf(100))
+                .build());
+
+        assertTrue(descriptor.isWin(-1L, BigDecimal.valueOf(50)));
+    }
+
+    // ========== Contribution Tests ==========
+
+    @Test
+    void testContribution_WithFullRate_ShouldReturnSameInstance() {
+        BigDecimal betAmount = new BigDecimal("12.34");
+
+        assertSame(betAmount, JackpotDescriptor.of(jackpot(0.1, null).build()).contribution(betAmount));
+    }
+
+    @Test
+    void testContribution_WithPartialRate_ShouldRoundDownToCents() {
+        JackpotConfig jackpot = jackpot(0.1, null)
+                .contributionRate(new BigDecimal("0.0333"))
+                .build();
+
+        assertEquals(new BigDecimal("0.33"), JackpotDescriptor.of(jackpot).contribution(BigDecimal.TEN));
+    }
+
+    @Test
+    void testContribution_ShouldMatchBigDecimalRounding() {
+        SplittableRandom random = new SplittableRandom(29);
+
+        for (String rate : new String[] {"0.0001", "0.0150", "0.3333", "0.5", "0.9999"}) {
+            JackpotDescriptor descriptor = JackpotDescriptor.of(jackpot(0.1, null).contributionRate(new BigDecimal(rate)).build());
+            for (int i = 0; i < TRIALS; i++) {
+                BigDecimal betAmount = BigDecimal.valueOf(random.nextLong(1, 10_000_000_000L), random.nextInt(0, 5));
+                BigDecimal expected = betAmount.multiply(new BigDecimal(rate))
+                        .setScale(Math.max(betAmount.scale(), 2), RoundingMode.DOWN);
+                assertEquals(expected, descriptor.contribution(betAmount), "rate=" + rate + " bet=" + betAmount);
+            }
+        }
+    }
+
+    @Test
+    void testContribution_WithAmountBeyondLongRange_ShouldFallBackToBigDecimal() {
+        JackpotConfig jackpot = jackpot(0.1, null)
+                .contributionRate(new BigDecimal("0.5"))
+                .build();
+
+        assertEquals(new BigDecimal("500000000000000000000.00"),
+                JackpotDescriptor.of(jackpot).contribution(new BigDecimal("1000000000000000000000")));
+        assertEquals(new BigDecimal("500.00"), JackpotDescriptor.of(jackpot).contribution(new BigDecimal("1E+3")));
+    }
+
+    private JackpotConfig.JackpotConfigBuilder jackpot(double probability, BigDecimal mustDropBy) {
+        return JackpotConfig.builder()
+                .id(UUID.randomUUID())
+                .name("Descriptor Jackpot")
+                .winProbability(probability)
+                .mustDropBy(mustDropBy);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.config.JackpotIdFilterProperties;
+import com.example.jackpot.repository.JackpotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for JackpotIdFilter.
+ * Tests membership, listener updates, rate-limited reloads on misses and metrics.
+ */
+@ExtendWith(MockitoExtension.class)
+class JackpotIdFilterTest {
+
+    @Mock
+    private JackpotRepository jackpotRepository;
+
+    @Mock
+    private ObjectProvider<JackpotRepository> repositoryProvider;
+
+    private SimpleMeterRegistry registry;
+    private JackpotIdFilterProperties properties;
+    private ClusterProperties clusterProperties;
+
+    private final UUID existingId = UUID.randomUUID();
+    private final UUID unknownId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new JackpotIdFilterProperties();
+        clusterProperties = new ClusterProperties();
+        properties.setMissRefreshInterval(Duration.ofHours(1));
+        lenient().when(repositoryProvider.getObject()).thenReturn(jackpotRepository);
+    }
+
+    // ========== Membership Tests ==========
+
+    @Test
+    void testMightExist_BeforeLoad_ShouldAcceptEveryId() {
+        JackpotIdFilter filter = filter();
+
+        assertTrue(filter.mightExist(unknownId));
+        verify(jackpotRepository, never()).findAllIds();
+    }
+
+    @Test
+    void testMightExist_AfterLoad_ShouldRejectUnknownIdsWithoutQuery() {
+        when(jackpotRepository.findAllIds()).thenReturn(List.of(existingId));
+        JackpotIdFilter filter = filter();
+        filter.load();
+
+        assertTrue(filter.mightExist(existingId));
+        assertFalse(filter.mightExist(unknownId));
+        assertFalse(filter.mightExist(unknownId));
+        assertFalse(filter.mightExist(null));
+
+        verify(jackpotRepository, times(1)).findAllIds();
+        assertEquals(1, registry.get("jackpot.id.filter").tag("result", "known").counter().count());
+        assertEquals(2, registry.get("jackpot.id.filter").tag("result", "unknown").counter().count());
+        assertEquals(1, registry.get("jackpot.id.filter.size").gauge().value());
+    }
+
+    @Test
+    void testMightExist_WhenDisabled_ShouldAcceptEveryId() {
+        properties.setEnabled(false);
+        JackpotIdFilter filter = filter();
+        filter.load();
+
+        assertTrue(filter.mightExist(unknownId));
+        verify(jackpotRepository, never()).findAllIds();
+    }
+
+    @Test
+    void testMightExist_InClusterMode_ShouldAcceptEveryId() {
+        clusterProperties.setEnabled(true);
+        JackpotIdFilter filter = filter();
+        filter.load();
+
+        assertTrue(filter.mightExist(unknownId));
+        verify(jackpotRepository, never()).findAllIds();
+    }
+
+    // ========== Update Tests ==========
+
+    @Test
+    void testAddedAndRemoved_ShouldUpdateMembership() {
+        when(jackpotRepository.findAllIds()).thenReturn(List.of());
+        JackpotIdFilter filter = filter();
+        filter.load();
+
+        filter.added(existingId);
+        assertTrue(filter.mightExist(existingId));
+
+        filter.removed(existingId);
+        assertFalse(filter.mightExist(existingId));
+    }
+
+    @Test
+    void testMightExist_OnMissAfterInterval_ShouldReloadOnce() {
+        properties.setMissRefreshInterval(Duration.ZERO);
+        when(jackpotRepository.findAllIds()).thenReturn(List.of(), List.of(existingId));
+        JackpotIdFilter filter = filter();
+        filter.load();
+
+        assertTrue(filter.mightExist(existingId));
+        assertTrue(filter.mightExist(existingId));
+
+        verify(jackpotRepository, times(2)).findAllIds();
+        assertEquals(1, registry.get("jackpot.id.filter.refreshes").counter().count());
+    }
+
+    private JackpotIdFilter filter() {
+        return new JackpotIdFilter(repositoryProvider, properties, clusterProperties, registry);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.config.JackpotListProperties;
+import com.example.jackpot.dto.JackpotDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for JackpotListSnapshot.
+ * Tests re-rendering on version changes, bounded staleness and compression.
+ */
+@ExtendWith(MockitoExtension.class)
+class JackpotListSnapshotTest {
+
+    @Mock
+    private JackpotService jackpotService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private JackpotChangeTracker changeTracker;
+    private JackpotListProperties properties;
+    private ClusterProperties clusterProperties;
+
+    private final UUID jackpotId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        changeTracker = new JackpotChangeTracker();
+        properties = new JackpotListProperties();
+        clusterProperties = new ClusterProperties();
+        when(jackpotService.getAllJackpots()).thenReturn(List.of(JackpotDto.builder()
+                .id(jackpotId)
+                .name("Snapshot")
+                .currentSize(BigDecimal.TEN)
+                .winCount(0)
+                .build()));
+    }
+
+    // ========== Rendering Tests ==========
+
+    @Test
+    void testCurrent_ShouldRenderOnce_WhileVersionUnchanged() throws Exception {
+        JackpotListSnapshot snapshot = snapshot();
+
+        RenderedJson first = snapshot.current();
+        RenderedJson second = snapshot.current();
+
+        assertSame(first, second);
+        assertEquals(changeTracker.jackpotsTag(), first.getVersion());
+        assertEquals("Snapshot", objectMapper.readTree(first.getJson()).get(0).get("name").asText());
+        verify(jackpotService, times(1)).getAllJackpots();
+    }
+
+    @Test
+    void testCurrent_ShouldRerender_WhenJackpotChanged() {
+        JackpotListSnapshot snapshot = snapshot();
+        RenderedJson first = snapshot.current();
+
+        changeTracker.jackpotChanged(jackpotId);
+        RenderedJson second = snapshot.current();
+
+        assertNotEquals(first.getVersion(), second.getVersion());
+        assertEquals(changeTracker.jackpotsTag(), second.getVersion());
+        verify(jackpotService, times(2)).getAllJackpots();
+    }
+
+    @Test
+    void testCurrent_ShouldServeStaleList_WithinMaxStaleness() {
+        properties.setMaxStaleness(Duration.ofHours(1));
+        JackpotListSnapshot snapshot = snapshot();
+        RenderedJson first = snapshot.current();
+
+        changeTracker.jackpotChanged(jackpotId);
+
+        assertSame(first, snapshot.current());
+        verify(jackpotService, times(1)).getAllJackpots();
+    }
+
+    @Test
+    void testCurrent_InClusterMode_ShouldRenderEveryCallWithoutVersion() {
+        clusterProperties.setEnabled(true);
+        JackpotListSnapshot snapshot = snapshot();
+
+        assertNull(snapshot.current().getVersion());
+        snapshot.current();
+
+        verify(jackpotService, times(2)).getAllJackpots();
+    }
+
+    // ========== Compression Tests ==========
+
+    @Test
+    void testCurrent_ShouldGzipOnlyAboveMinSize() throws Exception {
+        RenderedJson small = snapshot().current();
+        assertNull(small.getGzip());
+
+        properties.setGzipMinSize(0);
+        RenderedJson compressed = snapshot().current();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.getGzip()))) {
+            assertArrayEquals(compressed.getJson(), in.readAllBytes());
+        }
+    }
+
+    private JackpotListSnapshot snapshot() {
+        return new JackpotListSnapshot(jackpotService, changeTracker, objectMapper, properties, clusterProperties);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.jackpot.service;
 
+import com.example.jackpot.cache.JackpotCache;
+import com.example.jackpot.cache.VersionedJackpot;
 import com.example.jackpot.dto.CreateJackpotRequest;
 import com.example.jackpot.dto.JackpotDto;
 import com.example.jackpot.entity.Jackpot;
@@ -18,9 +20,11 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,6 +37,12 @@ class JackpotServiceTest {
     @Mock
     private JackpotRepository jackpotRepository;
 
+    @Mock
+    private JackpotIdFilter idFilter;
+
+    @Mock
+    private JackpotCache jackpotCache;
+
     @InjectMocks
     private JackpotService jackpotService;
 
@@ -58,6 +68,14 @@ class JackpotServiceTest {
         createRequest = new CreateJackpotRequest();
         createRequest.setName("New Jackpot");
         createRequest.setWinProbability(0.3);
+
+        lenient().when(idFilter.mightExist(any())).thenReturn(true);
+        // Cache misses: every lookup goes through the loader
+        lenient().when(jackpotCache.get(any(), any())).thenAnswer(invocation -> {
+            Function<UUID, VersionedJackpot> loader = invocation.getArgument(1);
+            VersionedJackpot loaded = loader.apply(invocation.getArgument(0));
+            return loaded != null ? loaded.getJackpot() : null;
+        });
     }
 
     // ========== Create Jackpot Tests ==========
@@ -150,6 +168,50 @@ class JackpotServiceTest {
         assertEquals(0, result.getWinCount());
     }
 
+    @Test
+    void testCreateJackpot_WithSeed_ShouldStartAtSeed() {
+        when(jackpotRepository.save(any(Jackpot.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        createRequest.setContributionRate(new BigDecimal("0.05"));
+        createRequest.setSeedAmount(BigDecimal.valueOf(1000));
+        createRequest.setMaxSize(BigDecimal.valueOf(5000));
+
+        JackpotDto result = jackpotService.createJackpot(createRequest);
+
+        assertEquals(BigDecimal.valueOf(1000), result.getCurrentSize());
+        assertEquals(new BigDecimal("0.05"), result.getContributionRate());
+        assertEquals(BigDecimal.valueOf(1000), result.getSeedAmount());
+        assertEquals(BigDecimal.valueOf(5000), result.getMaxSize());
+    }
+
+    @Test
+    void testCreateJackpot_WithoutContributionSettings_ShouldUseDefaults() {
+        when(jackpotRepository.save(any(Jackpot.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        JackpotDto result = jackpotService.createJackpot(createRequest);
+
+        assertEquals(BigDecimal.ONE, result.getContributionRate());
+        assertEquals(BigDecimal.ZERO, result.getSeedAmount());
+        assertNull(result.getMaxSize());
+    }
+
+    @Test
+    void testCreateJackpot_WithMustDropByNotAboveSeed_ShouldThrowException() {
+        createRequest.setSeedAmount(BigDecimal.valueOf(100));
+        createRequest.setMustDropBy(BigDecimal.valueOf(100));
+
+        assertThrows(IllegalArgumentException.class, () -> jackpotService.createJackpot(createRequest));
+        verify(jackpotRepository, never()).save(any());
+    }
+
+    @Test
+    void testCreateJackpot_WithSeedAboveMaxSize_ShouldThrowException() {
+        createRequest.setSeedAmount(BigDecimal.valueOf(100));
+        createRequest.setMaxSize(BigDecimal.valueOf(50));
+
+        assertThrows(IllegalArgumentException.class, () -> jackpotService.createJackpot(createRequest));
+        verify(jackpotRepository, never()).save(any());
+    }
+
     // ========== Get All Jackpots Tests ==========
 
     @Test
@@ -258,6 +320,38 @@ class JackpotServiceTest {
         assertTrue(exception.getMessage().contains(invalidId.toString()));
     }
 
+    @Test
+    void testGetJackpotById_WithFilteredId_ShouldThrowWithoutLookup() {
+        UUID unknownId = UUID.randomUUID();
+        when(idFilter.mightExist(unknownId)).thenReturn(false);
+
+        assertThrows(JackpotNotFoundException.class, () -> jackpotService.getJackpotById(unknownId));
+        verify(jackpotRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetJackpotById_WithCachedJackpot_ShouldNotQueryRepository() {
+        JackpotDto cached = JackpotDto.builder().id(jackpotId).name("Cached").build();
+        doReturn(cached).when(jackpotCache).get(eq(jackpotId), any());
+
+        assertSame(cached, jackpotService.getJackpotById(jackpotId));
+        verify(jackpotRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetJackpotById_ShouldLoadWithRowVersion() {
+        testJackpot.setVersion(7L);
+        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(testJackpot));
+        doAnswer(invocation -> {
+            Function<UUID, VersionedJackpot> loader = invocation.getArgument(1);
+            VersionedJackpot loaded = loader.apply(jackpotId);
+            assertEquals(7L, loaded.getVersion());
+            return loaded.getJackpot();
+        }).when(jackpotCache).get(eq(jackpotId), any());
+
+        assertEquals(jackpotId, jackpotService.getJackpotById(jackpotId).getId());
+    }
+
     // ========== DTO Mapping Tests ==========
 
     @Test
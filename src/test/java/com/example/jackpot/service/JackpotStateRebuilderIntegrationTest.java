@@ -0,0 +1,244 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.entity.Bet;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.entity.JackpotCounters;
+import com.example.jackpot.entity.Win;
+import com.example.jackpot.repository.BetRepository;
+import com.example.jackpot.repository.JackpotCountersRepository;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.repository.JackpotSnapshotRepository;
+import com.example.jackpot.repository.WinRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class JackpotStateRebuilderIntegrationTest {
+
+    @Autowired
+    private JackpotStateRebuilder rebuilder;
+
+    @Autowired
+    private JackpotStateVerifier verifier;
+
+    @Autowired
+    private JackpotRepository jackpotRepository;
+
+    @Autowired
+    private JackpotCountersRepository countersRepository;
+
+    @Autowired
+    private BetRepository betRepository;
+
+    @Autowired
+    private WinRepository winRepository;
+
+    @Autowired
+    private JackpotSnapshotRepository snapshotRepository;
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:testdb-rebuild;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("spring.datasource.driverClassName", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.H2Dialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("jackpot.event-sourcing.enabled", () -> "true");
+        registry.add("jackpot.event-sourcing.apply-on-startup", () -> "false");
+    }
+
+    @BeforeEach
+    void clean() {
+        snapshotRepository.deleteAll();
+        winRepository.deleteAll();
+        betRepository.deleteAll();
+        jackpotRepository.deleteAll();
+    }
+
+    @Test
+    void rebuild_WithoutWins_ShouldSumAllBets() {
+        LocalDateTime start = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        Jackpot jackpot = saveJackpot();
+        saveBet(jackpot, "10", start.plusMinutes(1));
+        long last = saveBet(jackpot, "15", start.plusMinutes(2));
+
+        JackpotState state = rebuilder.rebuild(jackpot.getId(), last);
+
+        assertThat(state.getCurrentSize()).isEqualByComparingTo("25");
+        assertThat(state.getWinCount()).isZero();
+        assertThat(state.getLastWinTimestamp()).isNull();
+        assertThat(state.getBetSequence()).isEqualTo(last);
+    }
+
+    @Test
+    void rebuild_AfterWin_ShouldOnlyCountBetsSinceLastWin() {
+        LocalDateTime start = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        Jackpot jackpot = saveJackpot();
+        saveBet(jackpot, "10", start.plusMinutes(1));
+        long winning = saveBet(jackpot, "20", start.plusMinutes(2));
+        saveWin(jackpot, "30", winning, start.plusMinutes(3));
+        long last = saveBet(jackpot, "5", start.plusMinutes(4));
+
+        JackpotState state = rebuilder.rebuild(jackpot.getId(), last);
+
+        assertThat(state.getCurrentSize()).isEqualByComparingTo("5");
+        assertThat(state.getWinCount()).isEqualTo(1);
+        assertThat(state.getLastWinTimestamp()).isEqualTo(start.plusMinutes(3));
+    }
+
+    @Test
+    void rebuild_ShouldSplitBetsAtWinningBet_WhenTimestampsDisagree() {
+        LocalDateTime start = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        Jackpot jackpot = saveJackpot();
+        // The winning bet was created later than the bet settled after it, and the win carries the same time
+        saveBet(jackpot, "10", start.plusMinutes(1));
+        long winning = saveBet(jackpot, "20", start.plusMinutes(3));
+        saveWin(jackpot, "30", winning, start.plusMinutes(2));
+        long last = saveBet(jackpot, "5", start.plusMinutes(2));
+
+        JackpotState state = rebuilder.rebuild(jackpot.getId(), last);
+
+        assertThat(state.getCurrentSize()).isEqualByComparingTo("5");
+        assertThat(state.getWinCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuild_ShouldContinueFromLatestSnapshot() {
+        LocalDateTime start = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        Jackpot jackpot = saveJackpot();
+        long winning = saveBet(jackpot, "10", start.plusMinutes(1));
+        saveWin(jackpot, "10", winning, start.plusMinutes(2));
+        saveBet(jackpot, "7", start.plusMinutes(3));
+
+        rebuilder.takeSnapshots();
+        // Events before the snapshot are no longer replayed
+        betRepository.deleteAll();
+        winRepository.deleteAll();
+        long last = saveBet(jackpot, "3", LocalDateTime.now());
+
+        JackpotState state = rebuilder.rebuild(jackpot.getId(), last);
+
+        assertThat(state.getCurrentSize()).isEqualByComparingTo("10");
+        assertThat(state.getWinCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildAll_AndApply_ShouldOverwriteDriftedState() {
+        LocalDateTime start = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        Jackpot first = saveJackpot();
+        Jackpot second = saveJackpot();
+        saveBet(first, "40", start.plusMinutes(1));
+        saveBet(second, "60", start.plusMinutes(1));
+
+        first.setCurrentSize(BigDecimal.valueOf(999));
+        jackpotRepository.save(first);
+        second.setCurrentSize(BigDecimal.valueOf(60));
+        jackpotRepository.save(second);
+
+        assertThat(verifier.verify()).containsExactly(first.getId());
+
+        Map<UUID, JackpotState> states = rebuilder.rebuildAll();
+
+        assertThat(rebuilder.apply(states)).isEqualTo(1);
+        assertThat(jackpotRepository.findById(first.getId()).orElseThrow().getCurrentSize()).isEqualByComparingTo("40");
+        assertThat(jackpotRepository.findById(second.getId()).orElseThrow().getCurrentSize()).isEqualByComparingTo("60");
+        assertThat(verifier.verify()).isEmpty();
+    }
+
+    @Test
+    void apply_ShouldRebuildAgain_WhenBetsSettledSinceRebuild() {
+        Jackpot jackpot = saveJackpot();
+        saveBet(jackpot, "40", LocalDateTime.now());
+        Map<UUID, JackpotState> states = rebuilder.rebuildAll();
+
+        saveBet(jackpot, "15", LocalDateTime.now());
+        rebuilder.apply(states);
+
+        JackpotCounters stored = countersRepository.findById(jackpot.getId()).orElseThrow();
+        assertThat(stored.getCurrentSize()).isEqualByComparingTo("55");
+        assertThat(verifier.verify()).isEmpty();
+    }
+
+    @Test
+    void apply_ShouldSkipJackpot_WhenUnsequencedBetsAndNoSnapshot() {
+        Jackpot jackpot = saveJackpot();
+        betRepository.save(Bet.builder()
+                .jackpot(jackpot)
+                .playerAlias("alice")
+                .betAmount(BigDecimal.valueOf(30))
+                .build());
+        jackpot.setCurrentSize(BigDecimal.valueOf(30));
+        jackpotRepository.save(jackpot);
+
+        assertThat(rebuilder.apply(rebuilder.rebuildAll())).isZero();
+        assertThat(jackpotRepository.findById(jackpot.getId()).orElseThrow().getCurrentSize()).isEqualByComparingTo("30");
+    }
+
+    @Test
+    void verify_ShouldIgnoreBetsNotYetInStoredRow() {
+        Jackpot jackpot = saveJackpot();
+        saveBet(jackpot, "25", LocalDateTime.now());
+        jackpot.setCurrentSize(BigDecimal.valueOf(25));
+        jackpotRepository.save(jackpot);
+
+        // A bet whose transaction has inserted its row but not yet written the jackpot row
+        long stored = countersRepository.findById(jackpot.getId()).orElseThrow().getBetSequence();
+        betRepository.save(Bet.builder()
+                .jackpot(jackpot)
+                .playerAlias("alice")
+                .betAmount(BigDecimal.TEN)
+                .betSequence(stored + 1)
+                .build());
+
+        assertThat(verifier.verify()).isEmpty();
+    }
+
+    private Jackpot saveJackpot() {
+        return jackpotRepository.save(Jackpot.builder()
+                .name("Rebuild Jackpot")
+                .winProbability(0.1)
+                .build());
+    }
+
+    /**
+     * Save a bet with the next sequence of its jackpot and advance the stored row to it.
+     *
+     * @return sequence of the bet
+     */
+    private long saveBet(Jackpot jackpot, String amount, LocalDateTime createdAt) {
+        JackpotCounters counters = countersRepository.findById(jackpot.getId()).orElseThrow();
+        long sequence = counters.nextBetSequence();
+        countersRepository.save(counters);
+        betRepository.save(Bet.builder()
+                .jackpot(jackpot)
+                .playerAlias("alice")
+                .betAmount(new BigDecimal(amount))
+                .betSequence(sequence)
+                .createdAt(createdAt)
+                .build());
+        return sequence;
+    }
+
+    private void saveWin(Jackpot jackpot, String amount, long betSequence, LocalDateTime timestamp) {
+        winRepository.save(Win.builder()
+                .jackpot(jackpot)
+                .playerAlias("alice")
+                .winAmount(new BigDecimal(amount))
+                .betSequence(betSequence)
+                .timestamp(timestamp)
+                .build());
+    }
+}
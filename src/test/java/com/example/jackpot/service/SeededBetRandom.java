@@ -0,0 +1,28 @@
+package com.example.jackpot.service;
+
+import java.util.Random;
+
+/**
+ * Reproducible {@link BetRandom} for tests and simulations.
+ * A seeded source is one shared sequence, so outcomes repeat as long as bets are placed one
+ * after another in the same order. Unseeded, it draws like the production source.
+ */
+public class SeededBetRandom extends BetRandom {
+
+    private volatile Random seeded;
+
+    @Override
+    public long nextLong() {
+        Random random = seeded;
+        return random != null ? random.nextLong() : super.nextLong();
+    }
+
+    /**
+     * Restart from a seed, or switch back to unseeded draws.
+     *
+     * @param seed the new seed, or {@code null}
+     */
+    public void reseed(Long seed) {
+        seeded = seed != null ? new Random(seed) : null;
+    }
+}
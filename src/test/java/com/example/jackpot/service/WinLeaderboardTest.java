@@ -0,0 +1,193 @@
+package com.example.jackpot.service;
+
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.config.LeaderboardProperties;
+import com.example.jackpot.dto.TopWinDto;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.entity.Win;
+import com.example.jackpot.event.BetsPlacedEvent;
+import com.example.jackpot.event.PlacedBet;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.repository.WinRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for WinLeaderboard.
+ * Tests bounded ranking, time windows, per-jackpot filtering and seeding.
+ */
+@ExtendWith(MockitoExtension.class)
+class WinLeaderboardTest {
+
+    @Mock
+    private WinRepository winRepository;
+
+    @Mock
+    private JackpotRepository jackpotRepository;
+
+    private WinLeaderboard leaderboard;
+
+    private final UUID jackpot1 = UUID.randomUUID();
+    private final UUID jackpot2 = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        LeaderboardProperties properties = new LeaderboardProperties();
+        properties.setSize(3);
+        leaderboard = new WinLeaderboard(winRepository, jackpotRepository, properties, new ClusterProperties());
+    }
+
+    // ========== Ranking Tests ==========
+
+    @Test
+    void testTop_ShouldKeepOnlyBiggestWinsInOrder() {
+        leaderboard.record(win(jackpot1, "10", now));
+        leaderboard.record(win(jackpot1, "50", now));
+        leaderboard.record(win(jackpot1, "30", now));
+        leaderboard.record(win(jackpot1, "5", now));
+        leaderboard.record(win(jackpot1, "40", now));
+
+        assertEquals(List.of("50", "40", "30"), amounts(leaderboard.top(LeaderboardWindow.ALL, null, 10)));
+        assertEquals(List.of("50", "40"), amounts(leaderboard.top(LeaderboardWindow.ALL, null, 2)));
+    }
+
+    @Test
+    void testTop_WithJackpotId_ShouldOnlyReturnThatJackpot() {
+        leaderboard.record(win(jackpot1, "10", now));
+        leaderboard.record(win(jackpot2, "20", now));
+
+        assertEquals(List.of("10"), amounts(leaderboard.top(LeaderboardWindow.DAY, jackpot1, 10)));
+        assertEquals(List.of("20", "10"), amounts(leaderboard.top(LeaderboardWindow.DAY, null, 10)));
+        assertTrue(leaderboard.top(LeaderboardWindow.DAY, UUID.randomUUID(), 10).isEmpty());
+    }
+
+    @Test
+    void testRecord_SameWinTwice_ShouldKeepOneEntry() {
+        TopWinDto win = win(jackpot1, "10", now);
+        leaderboard.record(win);
+        leaderboard.record(win(jackpot1, "10", now, win.getWinId()));
+
+        assertEquals(1, leaderboard.top(LeaderboardWindow.ALL, jackpot1, 10).size());
+    }
+
+    // ========== Window Tests ==========
+
+    @Test
+    void testTop_ShouldSeparateDayWeekAndAllTime() {
+        leaderboard.record(win(jackpot1, "10", now));
+        leaderboard.record(win(jackpot1, "20", now.minusDays(3)));
+        leaderboard.record(win(jackpot1, "30", now.minusDays(30)));
+
+        assertEquals(List.of("10"), amounts(leaderboard.top(LeaderboardWindow.DAY, null, 10)));
+        assertEquals(List.of("20", "10"), amounts(leaderboard.top(LeaderboardWindow.WEEK, null, 10)));
+        assertEquals(List.of("30", "20", "10"), amounts(leaderboard.top(LeaderboardWindow.ALL, null, 10)));
+    }
+
+    @Test
+    void testFrom_UnknownWindow_ShouldThrowException() {
+        assertEquals(LeaderboardWindow.WEEK, LeaderboardWindow.from("Week"));
+        assertThrows(IllegalArgumentException.class, () -> LeaderboardWindow.from("month"));
+    }
+
+    // ========== Feed Tests ==========
+
+    @Test
+    void testSeed_ShouldLoadWinsFromDatabase() {
+        Jackpot jackpot = Jackpot.builder().id(jackpot1).build();
+        Win old = Win.builder().id(UUID.randomUUID()).jackpot(jackpot).playerAlias("a")
+                .winAmount(new BigDecimal("100")).timestamp(now.minusDays(60)).build();
+        Win recent = Win.builder().id(UUID.randomUUID()).jackpot(jackpot).playerAlias("b")
+                .winAmount(new BigDecimal("7")).timestamp(now).build();
+        when(jackpotRepository.findAllIds()).thenReturn(List.of(jackpot1));
+        when(winRepository.findBiggest(eq(jackpot1), any())).thenReturn(List.of(old, recent));
+        when(winRepository.findBiggestBetween(eq(jackpot1), any(), any(), any())).thenReturn(List.of());
+        when(winRepository.findBiggestBetween(jackpot1, now.toLocalDate().atStartOfDay(),
+                now.toLocalDate().plusDays(1).atStartOfDay(), PageRequest.of(0, 3))).thenReturn(List.of(recent));
+
+        leaderboard.seed();
+
+        assertEquals(List.of("100", "7"), amounts(leaderboard.top(LeaderboardWindow.ALL, jackpot1, 10)));
+        assertEquals(List.of("7"), amounts(leaderboard.top(LeaderboardWindow.DAY, jackpot1, 10)));
+        // One bounded query per kept day instead of every win of the week
+        verify(winRepository, times(LeaderboardWindow.DAYS_KEPT))
+                .findBiggestBetween(eq(jackpot1), any(), any(), eq(PageRequest.of(0, 3)));
+    }
+
+    @Test
+    void testRefresh_InClusterMode_ShouldMergeWinsOfOtherNodes() {
+        LeaderboardProperties properties = new LeaderboardProperties();
+        properties.setSize(3);
+        ClusterProperties clusterProperties = new ClusterProperties();
+        clusterProperties.setEnabled(true);
+        leaderboard = new WinLeaderboard(winRepository, jackpotRepository, properties, clusterProperties);
+        Win local = Win.builder().id(UUID.randomUUID()).jackpot(Jackpot.builder().id(jackpot1).build())
+                .playerAlias("a").winAmount(new BigDecimal("20")).timestamp(now).build();
+        Win peer = Win.builder().id(UUID.randomUUID()).jackpot(Jackpot.builder().id(jackpot1).build())
+                .playerAlias("b").winAmount(new BigDecimal("30")).timestamp(now).build();
+        leaderboard.record(win(jackpot1, "20", now, local.getId()));
+        when(jackpotRepository.findAllIds()).thenReturn(List.of(jackpot1));
+        when(winRepository.findBiggest(eq(jackpot1), any())).thenReturn(List.of(peer, local));
+        when(winRepository.findBiggestBetween(eq(jackpot1), any(), any(), any())).thenReturn(List.of(peer, local));
+
+        leaderboard.refresh();
+
+        assertEquals(List.of("30", "20"), amounts(leaderboard.top(LeaderboardWindow.DAY, jackpot1, 10)));
+    }
+
+    @Test
+    void testRefresh_OnSingleNode_ShouldNotQuery() {
+        leaderboard.refresh();
+
+        verify(jackpotRepository, never()).findAllIds();
+    }
+
+    @Test
+    void testOnBetsPlaced_ShouldRecordOnlyWins() {
+        PlacedBet lost = PlacedBet.builder().jackpotId(jackpot1).playerAlias("a").won(false)
+                .winAmount(BigDecimal.ZERO).timestamp(now).build();
+        PlacedBet won = PlacedBet.builder().jackpotId(jackpot1).playerAlias("b").won(true)
+                .winAmount(new BigDecimal("250")).timestamp(now).winId(UUID.randomUUID()).winTimestamp(now).build();
+
+        leaderboard.onBetsPlaced(new BetsPlacedEvent(List.of(lost, won)));
+
+        List<TopWinDto> top = leaderboard.top(LeaderboardWindow.DAY, jackpot1, 10);
+        assertEquals(1, top.size());
+        assertEquals("b", top.get(0).getPlayerAlias());
+    }
+
+    private static TopWinDto win(UUID jackpotId, String amount, LocalDateTime timestamp) {
+        return win(jackpotId, amount, timestamp, UUID.randomUUID());
+    }
+
+    private static TopWinDto win(UUID jackpotId, String amount, LocalDateTime timestamp, UUID winId) {
+        return TopWinDto.builder()
+                .winId(winId)
+                .jackpotId(jackpotId)
+                .playerAlias("player")
+                .winAmount(new BigDecimal(amount))
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private static List<String> amounts(List<TopWinDto> wins) {
+        return wins.stream().map(w -> w.getWinAmount().toPlainString()).toList();
+    }
+}
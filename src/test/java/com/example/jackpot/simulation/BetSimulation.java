@@ -0,0 +1,92 @@
+package com.example.jackpot.simulation;
+
+import com.example.jackpot.JackpotApplication;
+import com.example.jackpot.service.BetService;
+import com.example.jackpot.service.JackpotService;
+import com.example.jackpot.service.SeededBetRandom;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Runs a {@link BetSimulator} against an in-memory H2 database and optionally diffs its
+ * trace with one from another build. Not a test; run after {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.example.jackpot.simulation.BetSimulation --seed=42 --bets=1000000 --trace=target/sim.trace \
+ *     [--players=10000] [--mix=standard|flat|must_drop] [--batch=500] [--checkpoint=10000] [--baseline=old.trace]
+ * </pre>
+ *
+ * Exits with 1 if the books do not balance or the trace differs from the baseline.
+ */
+public class BetSimulation {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (!arg.startsWith("--") || split < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        SimulationSettings settings = new SimulationSettings()
+                .seed(Long.parseLong(options.getOrDefault("seed", "42")))
+                .bets(Long.parseLong(options.getOrDefault("bets", "100000")))
+                .players(Integer.parseInt(options.getOrDefault("players", "10000")))
+                .mix(JackpotMix.valueOf(options.getOrDefault("mix", "standard").toUpperCase(Locale.ROOT)))
+                .batchSize(Integer.parseInt(options.getOrDefault("batch", "500")))
+                .checkpointEvery(Long.parseLong(options.getOrDefault("checkpoint", "10000")));
+        Path tracePath = Path.of(options.getOrDefault("trace", "target/simulation.trace"));
+        if (tracePath.getParent() != null) {
+            Files.createDirectories(tracePath.getParent());
+        }
+
+        SimulationResult result;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JackpotApplication.class, SeededRandomConfig.class).run(
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:simulation;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--logging.level.root=WARN",
+                "--logging.level.jackpot.sql.slow=ERROR",
+                "--jackpot.win-outbox.log.enabled=false");
+             Writer trace = Files.newBufferedWriter(tracePath, StandardCharsets.UTF_8)) {
+            BetSimulator simulator = new BetSimulator(context.getBean(JackpotService.class),
+                    context.getBean(BetService.class), context.getBean(SeededBetRandom.class),
+                    context.getBean(JdbcTemplate.class));
+            result = simulator.run(settings, trace);
+        }
+
+        System.out.printf("%s%nbets=%d wins=%d wagered=%s payouts=%s digest=%x%nelapsed_s=%.1f bets_per_min=%.0f%ntrace=%s%n",
+                settings, result.getBets(), result.getWins(), result.getWagered(), result.getPayouts(),
+                result.getDigest(), result.getElapsedNanos() / 1e9, result.getBetsPerMinute(), tracePath);
+        boolean failed = false;
+        for (String violation : result.getViolations()) {
+            System.out.println("BOOKS DO NOT BALANCE: " + violation);
+            failed = true;
+        }
+        if (options.containsKey("baseline")) {
+            try (Reader baseline = Files.newBufferedReader(Path.of(options.get("baseline")), StandardCharsets.UTF_8);
+                 Reader actual = Files.newBufferedReader(tracePath, StandardCharsets.UTF_8)) {
+                String difference = TraceDiff.firstDifference(baseline, actual);
+                System.out.println(difference == null ? "trace matches baseline" : "TRACE DIFFERS at " + difference);
+                failed |= difference != null;
+            }
+        }
+        System.exit(failed ? 1 : 0);
+    }
+}
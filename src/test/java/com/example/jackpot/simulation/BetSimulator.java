@@ -0,0 +1,246 @@
+package com.example.jackpot.simulation;
+
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.BetResponse;
+import com.example.jackpot.dto.CreateJackpotRequest;
+import com.example.jackpot.service.SeededBetRandom;
+import com.example.jackpot.service.BetService;
+import com.example.jackpot.service.JackpotService;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Drives {@link BetService} with a synthetic player population against a jackpot mix and
+ * writes a reproducible outcome trace.
+ * Bets are generated from the settings' seed and placed one round at a time on the calling
+ * thread, and {@link SeededBetRandom} is reseeded with the same seed, so the outcome stream depends
+ * only on the settings and the build. The trace holds every win and a checkpoint (running
+ * digest plus pot sizes) every {@code checkpointEvery} bets; it contains no ids or timestamps,
+ * so traces of two builds can be compared line by line with {@link TraceDiff}.
+ * After the run every jackpot's books are checked against the database:
+ * opening seed + contributions + reseeds after wins = current pot + payouts.
+ */
+public class BetSimulator {
+
+    private static final BigDecimal[] STAKES = {
+            new BigDecimal("0.10"), new BigDecimal("0.50"), new BigDecimal("1.00"), new BigDecimal("2.00"),
+            new BigDecimal("5.00"), new BigDecimal("10.00"), new BigDecimal("25.00"), new BigDecimal("100.00")};
+    private static final int[] MULTIPLIERS = {1, 1, 1, 2, 5};
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final JackpotService jackpotService;
+    private final BetService betService;
+    private final SeededBetRandom betRandom;
+    private final JdbcTemplate jdbcTemplate;
+
+    public BetSimulator(JackpotService jackpotService, BetService betService, SeededBetRandom betRandom,
+                        JdbcTemplate jdbcTemplate) {
+        this.jackpotService = jackpotService;
+        this.betService = betService;
+        this.betRandom = betRandom;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Create the jackpots of the mix and place the configured number of bets on them.
+     *
+     * @param settings run parameters
+     * @param trace receives the outcome trace
+     * @return totals and accounting violations
+     * @throws IOException if the trace cannot be written
+     */
+    public SimulationResult run(SimulationSettings settings, Writer trace) throws IOException {
+        List<JackpotMix.Spec> specs = settings.getMix().getJackpots();
+        int jackpotCount = specs.size();
+        UUID[] ids = new UUID[jackpotCount];
+        BigDecimal[] pots = new BigDecimal[jackpotCount];
+        double[] cumulativeWeights = new double[jackpotCount];
+        double totalWeight = 0;
+        trace.write("# simulation " + settings + "\n");
+        for (int j = 0; j < jackpotCount; j++) {
+            JackpotMix.Spec spec = specs.get(j);
+            ids[j] = jackpotService.createJackpot(CreateJackpotRequest.builder()
+                    .name("sim-" + spec.getName())
+                    .winProbability(spec.getWinProbability())
+                    .contributionRate(spec.getContributionRate())
+                    .seedAmount(spec.getSeedAmount())
+                    .maxSize(spec.getMaxSize())
+                    .mustDropBy(spec.getMustDropBy())
+                    .build()).getId();
+            pots[j] = spec.getSeedAmount();
+            totalWeight += spec.getWeight();
+            cumulativeWeights[j] = totalWeight;
+            trace.write("jackpot " + spec.getName() + " p=" + spec.getWinProbability()
+                    + " rate=" + spec.getContributionRate() + " seed=" + spec.getSeedAmount()
+                    + " max=" + spec.getMaxSize() + " mustDropBy=" + spec.getMustDropBy() + "\n");
+        }
+
+        SplittableRandom workload = new SplittableRandom(settings.getSeed());
+        betRandom.reseed(settings.getSeed());
+
+        long[] wins = new long[jackpotCount];
+        BigDecimal[] wagered = new BigDecimal[jackpotCount];
+        BigDecimal[] payouts = new BigDecimal[jackpotCount];
+        for (int j = 0; j < jackpotCount; j++) {
+            wagered[j] = BigDecimal.ZERO;
+            payouts[j] = BigDecimal.ZERO;
+        }
+        List<List<BetRequest>> rounds = new ArrayList<>(jackpotCount);
+        for (int j = 0; j < jackpotCount; j++) {
+            rounds.add(new ArrayList<>(settings.getBatchSize()));
+        }
+
+        long digest = 0xcbf29ce484222325L;
+        long placed = 0;
+        long start = System.nanoTime();
+        try {
+            while (placed < settings.getBets()) {
+                int roundSize = (int) Math.min(settings.getBatchSize(), settings.getBets() - placed);
+                for (int i = 0; i < roundSize; i++) {
+                    int jackpot = pick(cumulativeWeights, workload.nextDouble() * totalWeight);
+                    int player = (int) (settings.getPlayers() * square(workload.nextDouble()));
+                    BigDecimal stake = STAKES[Math.floorMod(Long.hashCode(player * 0x9E3779B97F4A7C15L), STAKES.length)];
+                    BigDecimal amount = stake.multiply(BigDecimal.valueOf(MULTIPLIERS[workload.nextInt(MULTIPLIERS.length)]));
+                    rounds.get(jackpot).add(new BetRequest(ids[jackpot], "sim-" + player, amount));
+                }
+
+                for (int j = 0; j < jackpotCount; j++) {
+                    List<BetRequest> requests = rounds.get(j);
+                    if (requests.isEmpty()) {
+                        continue;
+                    }
+                    List<BetResponse> responses = requests.size() == 1
+                            ? List.of(betService.placeBet(requests.get(0)))
+                            : betService.placeBets(ids[j], requests);
+                    for (int i = 0; i < responses.size(); i++) {
+                        BetRequest request = requests.get(i);
+                        BetResponse response = responses.get(i);
+                        placed++;
+                        wagered[j] = wagered[j].add(request.getBetAmount());
+                        boolean won = Boolean.TRUE.equals(response.getWon());
+                        digest = mix(mix(mix(mix(digest, placed), j), won ? 1 : 0), response.getNewJackpotSize());
+                        if (won) {
+                            wins[j]++;
+                            payouts[j] = payouts[j].add(response.getWinAmount());
+                            pots[j] = specs.get(j).getSeedAmount();
+                            trace.write("win bet=" + placed + " jackpot=" + specs.get(j).getName()
+                                    + " player=" + request.getPlayerAlias() + " amount=" + response.getWinAmount() + "\n");
+                        } else {
+                            pots[j] = response.getNewJackpotSize();
+                        }
+                        if (placed % settings.getCheckpointEvery() == 0) {
+                            writeCheckpoint(trace, placed, digest, specs, pots);
+                        }
+                    }
+                    requests.clear();
+                }
+            }
+        } finally {
+            betRandom.reseed(null);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long totalWins = 0;
+        BigDecimal totalWagered = BigDecimal.ZERO;
+        BigDecimal totalPayouts = BigDecimal.ZERO;
+        List<String> violations = new ArrayList<>();
+        for (int j = 0; j < jackpotCount; j++) {
+            totalWins += wins[j];
+            totalWagered = totalWagered.add(wagered[j]);
+            totalPayouts = totalPayouts.add(payouts[j]);
+            checkBooks(specs.get(j), ids[j], wins[j], wagered[j], payouts[j], violations);
+        }
+        trace.write("end bets=" + placed + " wins=" + totalWins + " wagered=" + totalWagered
+                + " payouts=" + totalPayouts + " digest=" + Long.toHexString(digest) + "\n");
+        trace.flush();
+        return new SimulationResult(placed, totalWins, totalWagered, totalPayouts, elapsed, digest, violations);
+    }
+
+    /**
+     * Compare one jackpot's database state with the bets and wins that produced it.
+     */
+    private void checkBooks(JackpotMix.Spec spec, UUID jackpotId, long wins, BigDecimal wagered,
+                            BigDecimal payouts, List<String> violations) {
+        String name = spec.getName();
+        Map<String, Object> bets = jdbcTemplate.queryForMap(
+                "SELECT COALESCE(SUM(bet_amount), 0) AS wagered, COALESCE(SUM(COALESCE(contribution, bet_amount)), 0) AS contributions"
+                        + " FROM bets WHERE jackpot_id = ?", jackpotId);
+        Map<String, Object> paid = jdbcTemplate.queryForMap(
+                "SELECT COALESCE(SUM(win_amount), 0) AS payouts, COUNT(*) AS wins FROM wins WHERE jackpot_id = ?", jackpotId);
+        Map<String, Object> jackpot = jdbcTemplate.queryForMap(
+                "SELECT current_size, seed_amount, win_count FROM jackpots WHERE id = ?", jackpotId);
+
+        BigDecimal dbWagered = decimal(bets, "wagered");
+        BigDecimal contributions = decimal(bets, "contributions");
+        BigDecimal dbPayouts = decimal(paid, "payouts");
+        long dbWins = ((Number) paid.get("wins")).longValue();
+        BigDecimal pot = decimal(jackpot, "current_size");
+        long winCount = ((Number) jackpot.get("win_count")).longValue();
+
+        BigDecimal funded = spec.getSeedAmount().add(contributions)
+                .add(decimal(jackpot, "seed_amount").multiply(BigDecimal.valueOf(winCount)));
+        BigDecimal held = pot.add(dbPayouts);
+        if (funded.compareTo(held) != 0) {
+            violations.add(name + ": seed + contributions + reseeds = " + funded + " but pot + payouts = " + held);
+        }
+        if (dbWagered.compareTo(wagered) != 0) {
+            violations.add(name + ": placed " + wagered + " but bets table holds " + dbWagered);
+        }
+        if (contributions.compareTo(wagered) > 0) {
+            violations.add(name + ": contributions " + contributions + " exceed wagered " + wagered);
+        }
+        if (dbPayouts.compareTo(payouts) != 0) {
+            violations.add(name + ": paid " + payouts + " but wins table holds " + dbPayouts);
+        }
+        if (dbWins != wins || winCount != wins) {
+            violations.add(name + ": " + wins + " wins placed, " + dbWins + " in wins table, win_count " + winCount);
+        }
+    }
+
+    private static void writeCheckpoint(Writer trace, long placed, long digest, List<JackpotMix.Spec> specs,
+                                        BigDecimal[] pots) throws IOException {
+        StringBuilder line = new StringBuilder("checkpoint bet=").append(placed)
+                .append(" digest=").append(Long.toHexString(digest)).append(" pots=");
+        for (int j = 0; j < specs.size(); j++) {
+            line.append(j == 0 ? "" : ",").append(specs.get(j).getName()).append(':').append(pots[j]);
+        }
+        trace.write(line.append('\n').toString());
+    }
+
+    private static int pick(double[] cumulativeWeights, double point) {
+        for (int j = 0; j < cumulativeWeights.length - 1; j++) {
+            if (point < cumulativeWeights[j]) {
+                return j;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    /**
+     * Skews activity towards low player numbers: a few players place most bets.
+     */
+    private static double square(double uniform) {
+        return uniform * uniform;
+    }
+
+    private static long mix(long digest, long value) {
+        return (digest ^ value) * FNV_PRIME;
+    }
+
+    private static long mix(long digest, BigDecimal value) {
+        return mix(mix(digest, value.unscaledValue().longValue()), value.scale());
+    }
+
+    private static BigDecimal decimal(Map<String, Object> row, String column) {
+        Object value = row.get(column);
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+}
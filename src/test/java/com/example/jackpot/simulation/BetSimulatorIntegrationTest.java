@@ -0,0 +1,96 @@
+package com.example.jackpot.simulation;
+
+import com.example.jackpot.service.BetService;
+import com.example.jackpot.service.JackpotService;
+import com.example.jackpot.service.SeededBetRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs small simulations against H2: equal settings must give equal traces, and the
+ * books must balance for every jackpot mix.
+ */
+@SpringBootTest
+@Import(SeededRandomConfig.class)
+class BetSimulatorIntegrationTest {
+
+    @Autowired
+    private JackpotService jackpotService;
+
+    @Autowired
+    private BetService betService;
+
+    @Autowired
+    private SeededBetRandom betRandom;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BetSimulator simulator;
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:simulation;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("spring.datasource.driverClassName", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.H2Dialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("jackpot.win-outbox.log.enabled", () -> "false");
+    }
+
+    @BeforeEach
+    void setUp() {
+        simulator = new BetSimulator(jackpotService, betService, betRandom, jdbcTemplate);
+    }
+
+    @Test
+    void run_ShouldReproduceTrace_ForSameSeed() throws Exception {
+        SimulationSettings settings = new SimulationSettings().seed(7).bets(3000).players(200).batchSize(100).checkpointEvery(500);
+
+        StringWriter first = new StringWriter();
+        SimulationResult firstResult = simulator.run(settings, first);
+        StringWriter second = new StringWriter();
+        SimulationResult secondResult = simulator.run(settings, second);
+        StringWriter other = new StringWriter();
+        simulator.run(settings.seed(8), other);
+
+        assertThat(firstResult.getBets()).isEqualTo(3000);
+        assertThat(firstResult.getViolations()).isEmpty();
+        assertThat(secondResult.getDigest()).isEqualTo(firstResult.getDigest());
+        assertThat(TraceDiff.firstDifference(new StringReader(first.toString()), new StringReader(second.toString()))).isNull();
+        assertThat(TraceDiff.firstDifference(new StringReader(first.toString()), new StringReader(other.toString())))
+                .startsWith("line 1:");
+        assertThat(first.toString()).contains("checkpoint bet=3000 ", "end bets=3000 ");
+    }
+
+    @Test
+    void run_ShouldBalanceBooks_ForEveryMix() throws Exception {
+        for (JackpotMix mix : JackpotMix.values()) {
+            SimulationResult result = simulator.run(
+                    new SimulationSettings().mix(mix).bets(2000).players(50).batchSize(50), new StringWriter());
+
+            assertThat(result.getViolations()).as(mix.name()).isEmpty();
+        }
+    }
+
+    @Test
+    void run_ShouldPlaceBetsOneByOne_WhenBatchSizeIsOne() throws Exception {
+        SimulationResult result = simulator.run(
+                new SimulationSettings().mix(JackpotMix.FLAT).bets(500).players(20).batchSize(1), new StringWriter());
+
+        assertThat(result.getBets()).isEqualTo(500);
+        assertThat(result.getViolations()).isEmpty();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.jackpot.simulation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Jackpot configurations a simulation runs against, with the share of bets each receives.
+ */
+public enum JackpotMix {
+
+    /**
+     * One of each settlement feature: flat odds, seeded and capped, must-drop, and a rare progressive.
+     */
+    STANDARD(List.of(
+            new Spec("flat", 0.40, 0.001, "1", "0", null, null),
+            new Spec("seeded-capped", 0.30, 0.0005, "0.05", "100", "5000", null),
+            new Spec("must-drop", 0.20, 0.0001, "0.02", "50", null, "500"),
+            new Spec("progressive", 0.10, 0.00001, "0.01", "10000", null, null))),
+
+    /**
+     * A single jackpot with full contribution and no seed, where wagered equals pot plus payouts.
+     */
+    FLAT(List.of(
+            new Spec("flat", 1.0, 0.001, "1", "0", null, null))),
+
+    /**
+     * Must-drop jackpots only, which exercise the rising win probability curve.
+     */
+    MUST_DROP(List.of(
+            new Spec("must-drop-small", 0.70, 0.0, "0.05", "10", null, "100"),
+            new Spec("must-drop-large", 0.30, 0.0, "0.01", "100", null, "2500")));
+
+    private final List<Spec> jackpots;
+
+    JackpotMix(List<Spec> jackpots) {
+        this.jackpots = jackpots;
+    }
+
+    public List<Spec> getJackpots() {
+        return jackpots;
+    }
+
+    /**
+     * One jackpot of a mix. Amounts are decimal strings; {@code maxSize} and {@code mustDropBy} may be null.
+     */
+    public static final class Spec {
+
+        private final String name;
+        private final double weight;
+        private final double winProbability;
+        private final BigDecimal contributionRate;
+        private final BigDecimal seedAmount;
+        private final BigDecimal maxSize;
+        private final BigDecimal mustDropBy;
+
+        Spec(String name, double weight, double winProbability, String contributionRate,
+             String seedAmount, String maxSize, String mustDropBy) {
+            this.name = name;
+            this.weight = weight;
+            this.winProbability = winProbability;
+            this.contributionRate = new BigDecimal(contributionRate);
+            this.seedAmount = new BigDecimal(seedAmount);
+            this.maxSize = maxSize != null ? new BigDecimal(maxSize) : null;
+            this.mustDropBy = mustDropBy != null ? new BigDecimal(mustDropBy) : null;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+
+        public double getWinProbability() {
+            return winProbability;
+        }
+
+        public BigDecimal getContributionRate() {
+            return contributionRate;
+        }
+
+        public BigDecimal getSeedAmount() {
+            return seedAmount;
+        }
+
+        public BigDecimal getMaxSize() {
+            return maxSize;
+        }
+
+        public BigDecimal getMustDropBy() {
+            return mustDropBy;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.jackpot.simulation;
+
+import com.example.jackpot.service.SeededBetRandom;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Replaces the win draws of the bet engine with a {@link SeededBetRandom} for simulations.
+ */
+@TestConfiguration
+public class SeededRandomConfig {
+
+    @Bean
+    @Primary
+    public SeededBetRandom seededBetRandom() {
+        return new SeededBetRandom();
+    }
+}
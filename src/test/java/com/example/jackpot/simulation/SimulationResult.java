@@ -0,0 +1,67 @@
+package com.example.jackpot.simulation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Totals and accounting check of one simulation run.
+ */
+public class SimulationResult {
+
+    private final long bets;
+    private final long wins;
+    private final BigDecimal wagered;
+    private final BigDecimal payouts;
+    private final long elapsedNanos;
+    private final long digest;
+    private final List<String> violations;
+
+    SimulationResult(long bets, long wins, BigDecimal wagered, BigDecimal payouts, long elapsedNanos,
+                     long digest, List<String> violations) {
+        this.bets = bets;
+        this.wins = wins;
+        this.wagered = wagered;
+        this.payouts = payouts;
+        this.elapsedNanos = elapsedNanos;
+        this.digest = digest;
+        this.violations = violations;
+    }
+
+    public long getBets() {
+        return bets;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public BigDecimal getWagered() {
+        return wagered;
+    }
+
+    public BigDecimal getPayouts() {
+        return payouts;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return hash over every bet outcome in order; equal digests mean equal outcome streams
+     */
+    public long getDigest() {
+        return digest;
+    }
+
+    /**
+     * @return accounting mismatches found after the run; empty if the books balance
+     */
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    public double getBetsPerMinute() {
+        return elapsedNanos == 0 ? 0 : bets * 60e9 / elapsedNanos;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.jackpot.simulation;
+
+/**
+ * Parameters of one simulation run. The seed drives both the generated bets and the
+ * win draws, so two runs with equal settings produce the same trace on the same build.
+ */
+public class SimulationSettings {
+
+    private long seed = 42;
+    private long bets = 100_000;
+    private int players = 10_000;
+    private JackpotMix mix = JackpotMix.STANDARD;
+    private int batchSize = 500;
+    private long checkpointEvery = 10_000;
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public SimulationSettings seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public long getBets() {
+        return bets;
+    }
+
+    public SimulationSettings bets(long bets) {
+        this.bets = bets;
+        return this;
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    public SimulationSettings players(int players) {
+        this.players = players;
+        return this;
+    }
+
+    public JackpotMix getMix() {
+        return mix;
+    }
+
+    public SimulationSettings mix(JackpotMix mix) {
+        this.mix = mix;
+        return this;
+    }
+
+    /**
+     * Bets generated per round; each round is placed as one {@code placeBets} call per jackpot,
+     * or bet by bet through {@code placeBet} when 1.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public SimulationSettings batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Bets between checkpoint lines in the trace; 1 records every bet.
+     */
+    public long getCheckpointEvery() {
+        return checkpointEvery;
+    }
+
+    public SimulationSettings checkpointEvery(long checkpointEvery) {
+        this.checkpointEvery = checkpointEvery;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "seed=" + seed + " bets=" + bets + " players=" + players + " mix=" + mix
+                + " batch=" + batchSize + " checkpoint=" + checkpointEvery;
+    }
+}
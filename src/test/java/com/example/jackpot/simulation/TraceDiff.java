@@ -0,0 +1,40 @@
+package com.example.jackpot.simulation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * Line-by-line comparison of two simulation traces.
+ */
+public final class TraceDiff {
+
+    private TraceDiff() {
+    }
+
+    /**
+     * Find the first line where two traces differ. The header line, which holds the
+     * settings, is compared like any other.
+     *
+     * @param expected baseline trace
+     * @param actual trace of the run under test
+     * @return description of the first difference, or {@code null} if the traces are equal
+     * @throws IOException if a trace cannot be read
+     */
+    public static String firstDifference(Reader expected, Reader actual) throws IOException {
+        BufferedReader expectedLines = new BufferedReader(expected);
+        BufferedReader actualLines = new BufferedReader(actual);
+        for (int line = 1; ; line++) {
+            String e = expectedLines.readLine();
+            String a = actualLines.readLine();
+            if (e == null && a == null) {
+                return null;
+            }
+            if (!Objects.equals(e, a)) {
+                return "line " + line + ":\n  expected: " + (e != null ? e : "<end of trace>")
+                        + "\n  actual:   " + (a != null ? a : "<end of trace>");
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.jackpot.sql;
+
+import com.example.jackpot.sql.SqlStatementTimer.StatementType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TimedDataSource and SqlStatementTimer.
+ * Tests statement classification, literal redaction and per-type timing.
+ */
+class TimedDataSourceTest {
+
+    private SimpleMeterRegistry registry;
+    private TimedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:timing;DB_CLOSE_DELAY=-1");
+        h2.setUser("sa");
+
+        dataSource = new TimedDataSource(h2, new SqlStatementTimer(registry, Long.MAX_VALUE));
+    }
+
+    // ========== Classification Tests ==========
+
+    @Test
+    void testClassify_ShouldUseLeadingKeyword() {
+        assertEquals(StatementType.SELECT, SqlStatementTimer.classify("  select * from jackpots"));
+        assertEquals(StatementType.SELECT, SqlStatementTimer.classify("(SELECT 1)"));
+        assertEquals(StatementType.INSERT, SqlStatementTimer.classify("insert into bets values (?)"));
+        assertEquals(StatementType.UPDATE, SqlStatementTimer.classify("UPDATE jackpots set current_size=?"));
+        assertEquals(StatementType.DELETE, SqlStatementTimer.classify("delete from wins"));
+        assertEquals(StatementType.OTHER, SqlStatementTimer.classify("create table t (id int)"));
+        assertEquals(StatementType.OTHER, SqlStatementTimer.classify(null));
+    }
+
+    // ========== Redaction Tests ==========
+
+    @Test
+    void testRedact_ShouldReplaceLiterals() {
+        String redacted = SqlStatementTimer.redact(
+                "select *  from bets where player_alias = 'o''brien' and bet_amount > 10.50 and t1.id = ?");
+
+        assertEquals("select * from bets where player_alias = ? and bet_amount > ? and t1.id = ?", redacted);
+    }
+
+    // ========== Timing Tests ==========
+
+    @Test
+    void testPreparedStatement_ShouldRecordPerTypeTimers() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement ddl = connection.createStatement()) {
+            ddl.execute("create table if not exists timing_test (id int)");
+            ddl.execute("delete from timing_test");
+
+            try (PreparedStatement insert = connection.prepareStatement("insert into timing_test values (?)")) {
+                insert.setInt(1, 1);
+                insert.executeUpdate();
+                insert.setInt(1, 2);
+                insert.executeUpdate();
+            }
+            try (PreparedStatement select = connection.prepareStatement("select count(*) from timing_test")) {
+                select.executeQuery().close();
+            }
+        }
+
+        assertEquals(2, timer("insert").count());
+        assertEquals(1, timer("select").count());
+        assertEquals(1, timer("delete").count());
+        assertEquals(1, timer("other").count());
+    }
+
+    @Test
+    void testUnwrap_ShouldReachTargetDataSource() throws Exception {
+        assertTrue(dataSource.isWrapperFor(JdbcDataSource.class));
+        assertNotNull(dataSource.unwrap(JdbcDataSource.class));
+    }
+
+    private Timer timer(String type) {
+        return registry.get("jackpot.sql.statement").tag("type", type).timer();
+    }
+}
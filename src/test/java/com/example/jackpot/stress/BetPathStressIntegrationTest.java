@@ -0,0 +1,239 @@
+package com.example.jackpot.stress;
+
+import com.example.jackpot.dto.BetRequest;
+import com.example.jackpot.dto.BetResponse;
+import com.example.jackpot.entity.Jackpot;
+import com.example.jackpot.repository.BetRepository;
+import com.example.jackpot.repository.JackpotRepository;
+import com.example.jackpot.repository.WinRepository;
+import com.example.jackpot.service.BetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers three jackpots from hundreds of threads through {@link BetService} (single bets
+ * and groups) while an observer polls the jackpot rows, then checks the invariants of the
+ * bet path against what the threads were told:
+ * <ul>
+ *   <li>no lost contributions: every accepted bet is stored and the pot equals opening seed
+ *       + contributions + reseeds after wins - payouts</li>
+ *   <li>no double wins: the threads were told of exactly the wins stored, and a pot paid out
+ *       twice would break the balance above</li>
+ *   <li>{@code winCount} never decreases and ends equal to the recorded wins</li>
+ *   <li>{@code lastWinTimestamp} never moves backwards</li>
+ * </ul>
+ * Throughput is printed so a regression in either direction is visible in the build log.
+ */
+@SpringBootTest
+class BetPathStressIntegrationTest {
+
+    private static final int THREADS = 200;
+    private static final int ROUNDS_PER_THREAD = 10;
+    private static final int GROUP_SIZE = 5;
+
+    @Autowired
+    private BetService betService;
+
+    @Autowired
+    private JackpotRepository jackpotRepository;
+
+    @Autowired
+    private BetRepository betRepository;
+
+    @Autowired
+    private WinRepository winRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:stress;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("spring.datasource.driverClassName", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.H2Dialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("jackpot.win-outbox.log.enabled", () -> "false");
+    }
+
+    @BeforeEach
+    void clean() {
+        betRepository.deleteAll();
+        winRepository.deleteAll();
+        jackpotRepository.deleteAll();
+    }
+
+    @Test
+    void placeBet_FromHundredsOfThreads_ShouldKeepBetPathInvariants() throws Exception {
+        List<Jackpot> jackpots = List.of(
+                jackpotRepository.save(Jackpot.builder()
+                        .name("Stress Flat").winProbability(0.02).currentSize(BigDecimal.ZERO).build()),
+                jackpotRepository.save(Jackpot.builder()
+                        .name("Stress Seeded").winProbability(0.01).contributionRate(new BigDecimal("0.1"))
+                        .seedAmount(new BigDecimal("100")).maxSize(new BigDecimal("400"))
+                        .currentSize(new BigDecimal("100")).build()),
+                jackpotRepository.save(Jackpot.builder()
+                        .name("Stress Must-Drop").winProbability(0.0).contributionRate(new BigDecimal("0.5"))
+                        .seedAmount(new BigDecimal("10")).mustDropBy(new BigDecimal("150"))
+                        .currentSize(new BigDecimal("10")).build()));
+        Map<UUID, Tally> tallies = new ConcurrentHashMap<>();
+        jackpots.forEach(jackpot -> tallies.put(jackpot.getId(), new Tally()));
+
+        Observer observer = new Observer(jackpots.stream().map(Jackpot::getId).toList());
+        observer.start();
+        long elapsed;
+        try {
+            elapsed = Race.run(THREADS, thread -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int round = 0; round < ROUNDS_PER_THREAD; round++) {
+                    UUID jackpotId = jackpots.get(random.nextInt(jackpots.size())).getId();
+                    List<BetRequest> requests = new ArrayList<>();
+                    int size = thread % 4 == 0 ? GROUP_SIZE : 1;
+                    for (int i = 0; i < size; i++) {
+                        requests.add(new BetRequest(jackpotId, "stress-" + thread,
+                                BigDecimal.valueOf(random.nextInt(100, 2001), 2)));
+                    }
+                    List<BetResponse> responses = size == 1
+                            ? List.of(betService.placeBet(requests.get(0)))
+                            : betService.placeBets(jackpotId, requests);
+                    tallies.get(jackpotId).record(requests, responses);
+                }
+            });
+        } finally {
+            observer.halt();
+        }
+
+        long bets = tallies.values().stream().mapToLong(tally -> tally.bets.get()).sum();
+        System.out.printf("bet path stress: threads=%d bets=%d elapsed_ms=%d bets_per_s=%.0f%n",
+                THREADS, bets, elapsed / 1_000_000, bets * 1e9 / elapsed);
+
+        assertThat(observer.violations).isEmpty();
+        assertThat(observer.samples.get()).isPositive();
+        for (Jackpot jackpot : jackpots) {
+            checkBooks(jackpot, tallies.get(jackpot.getId()));
+        }
+    }
+
+    private void checkBooks(Jackpot opening, Tally tally) {
+        String name = opening.getName();
+        Jackpot jackpot = jackpotRepository.findById(opening.getId()).orElseThrow();
+        Map<String, Object> bets = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) AS bets, COALESCE(SUM(bet_amount), 0) AS wagered, COALESCE(SUM(contribution), 0) AS contributions"
+                        + " FROM bets WHERE jackpot_id = ?", opening.getId());
+        Map<String, Object> wins = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) AS wins, COALESCE(SUM(win_amount), 0) AS payouts FROM wins WHERE jackpot_id = ?",
+                opening.getId());
+        BigDecimal contributions = new BigDecimal(bets.get("contributions").toString());
+        BigDecimal payouts = new BigDecimal(wins.get("payouts").toString());
+
+        // No lost contributions
+        assertThat(((Number) bets.get("bets")).longValue()).as(name + " stored bets").isEqualTo(tally.bets.get());
+        assertThat(new BigDecimal(bets.get("wagered").toString())).as(name + " wagered").isEqualByComparingTo(tally.wagered());
+        BigDecimal funded = opening.getCurrentSize().add(contributions)
+                .add(opening.getSeedAmount().multiply(BigDecimal.valueOf(jackpot.getWinCount())));
+        assertThat(jackpot.getCurrentSize().add(payouts)).as(name + " pot + payouts").isEqualByComparingTo(funded);
+
+        // No double wins
+        assertThat(jackpot.getWinCount()).as(name + " win count").isEqualTo(tally.wins.get());
+        assertThat(((Number) wins.get("wins")).longValue()).as(name + " stored wins").isEqualTo(tally.wins.get());
+        assertThat(payouts).as(name + " payouts").isEqualByComparingTo(tally.payouts());
+    }
+
+    /**
+     * What the betting threads were told about one jackpot.
+     */
+    private static final class Tally {
+
+        private final AtomicLong bets = new AtomicLong();
+        private final AtomicLong wins = new AtomicLong();
+        private final AtomicLong wageredCents = new AtomicLong();
+        private final AtomicLong payoutCents = new AtomicLong();
+
+        void record(List<BetRequest> requests, List<BetResponse> responses) {
+            for (int i = 0; i < responses.size(); i++) {
+                BetResponse response = responses.get(i);
+                bets.incrementAndGet();
+                wageredCents.addAndGet(cents(requests.get(i).getBetAmount()));
+                if (Boolean.TRUE.equals(response.getWon())) {
+                    wins.incrementAndGet();
+                    payoutCents.addAndGet(cents(response.getWinAmount()));
+                }
+            }
+        }
+
+        BigDecimal wagered() {
+            return BigDecimal.valueOf(wageredCents.get(), 2);
+        }
+
+        BigDecimal payouts() {
+            return BigDecimal.valueOf(payoutCents.get(), 2);
+        }
+
+        private static long cents(BigDecimal amount) {
+            return amount.movePointRight(2).longValueExact();
+        }
+    }
+
+    /**
+     * Polls the jackpot rows while bets are placed and records any backwards move of
+     * {@code winCount} or {@code lastWinTimestamp}.
+     */
+    private final class Observer extends Thread {
+
+        private final List<UUID> jackpotIds;
+        private final Map<UUID, Integer> lastWinCounts = new ConcurrentHashMap<>();
+        private final Map<UUID, LocalDateTime> lastWinTimes = new ConcurrentHashMap<>();
+        private final ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+        private final AtomicLong samples = new AtomicLong();
+        private volatile boolean running = true;
+
+        private Observer(List<UUID> jackpotIds) {
+            super("stress-observer");
+            this.jackpotIds = jackpotIds;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                for (UUID jackpotId : jackpotIds) {
+                    Jackpot jackpot = jackpotRepository.findById(jackpotId).orElseThrow();
+                    Integer previousCount = lastWinCounts.put(jackpotId, jackpot.getWinCount());
+                    if (previousCount != null && jackpot.getWinCount() < previousCount) {
+                        violations.add(jackpot.getName() + " winCount went from " + previousCount + " to " + jackpot.getWinCount());
+                    }
+                    LocalDateTime winTime = jackpot.getLastWinTimestamp();
+                    LocalDateTime previousTime = winTime != null ? lastWinTimes.put(jackpotId, winTime) : lastWinTimes.get(jackpotId);
+                    if (previousTime != null && (winTime == null || winTime.isBefore(previousTime))) {
+                        violations.add(jackpot.getName() + " lastWinTimestamp went from " + previousTime + " to " + winTime);
+                    }
+                    samples.incrementAndGet();
+                }
+            }
+        }
+
+        void halt() throws InterruptedException {
+            running = false;
+            join();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.jackpot.stress;
+
+import com.example.jackpot.cache.InMemoryJackpotInvalidationBus;
+import com.example.jackpot.cache.JackpotCache;
+import com.example.jackpot.cache.VersionedJackpot;
+import com.example.jackpot.config.ClusterProperties;
+import com.example.jackpot.config.JackpotCacheProperties;
+import com.example.jackpot.dto.JackpotDto;
+import com.example.jackpot.event.BetsPlacedEvent;
+import com.example.jackpot.event.PlacedBet;
+import com.example.jackpot.ratelimit.AimdLimiter;
+import com.example.jackpot.ratelimit.RateLimit;
+import com.example.jackpot.ratelimit.TokenBucketLimiter;
+import com.example.jackpot.repository.PlayerStatsRepository;
+import com.example.jackpot.service.PlayerStatsAggregator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stress tests for the in-memory components on the bet and read paths.
+ * Tests that limiter admission, stats aggregation and cache versions stay exact when
+ * many threads race on the same keys.
+ */
+class InMemoryComponentsStressTest {
+
+    private static final int THREADS = 100;
+
+    // ========== Token Bucket Tests ==========
+
+    @Test
+    void testTryAcquire_UnderContention_ShouldAdmitExactlyBurst() throws Exception {
+        TokenBucketLimiter<String> limiter = new TokenBucketLimiter<>(1000, Duration.ofHours(1));
+        // One permit per 1000 s: nothing refills during the race
+        RateLimit limit = RateLimit.of(0.001, 50);
+        AtomicInteger admitted = new AtomicInteger();
+
+        Race.run(THREADS, thread -> {
+            for (int i = 0; i < 10; i++) {
+                if (limiter.tryAcquire("player", limit, 1) == 0) {
+                    admitted.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(50, admitted.get());
+    }
+
+    // ========== AIMD Limiter Tests ==========
+
+    @Test
+    void testAimdLimiter_UnderContention_ShouldNeverExceedMaxLimit() throws Exception {
+        AimdLimiter limiter = new AimdLimiter(10, 2, 20, 1_000_000, 0.9);
+        AtomicInteger holders = new AtomicInteger();
+        AtomicInteger maxHolders = new AtomicInteger();
+
+        Race.run(THREADS, thread -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < 1000; i++) {
+                if (limiter.tryAcquire()) {
+                    maxHolders.accumulateAndGet(holders.incrementAndGet(), Math::max);
+                    holders.decrementAndGet();
+                    limiter.release(random.nextLong(2_000_000), random.nextInt(50) == 0);
+                }
+            }
+        });
+
+        assertTrue(maxHolders.get() <= 20, "max concurrent holders " + maxHolders.get());
+        assertEquals(0, limiter.getInFlight());
+        assertTrue(limiter.getLimit() >= 2 && limiter.getLimit() <= 20);
+    }
+
+    // ========== Player Stats Tests ==========
+
+    @Test
+    void testPlayerStatsAggregator_WithConcurrentFlushes_ShouldLoseNoDelta() throws Exception {
+        PlayerStatsRepository repository = mock(PlayerStatsRepository.class);
+        AtomicLong flushedBets = new AtomicLong();
+        AtomicLong flushedCents = new AtomicLong();
+        when(repository.addDelta(anyString(), anyLong(), any(), anyLong(), any(), any())).thenAnswer(invocation -> {
+            flushedBets.addAndGet(invocation.getArgument(1, Long.class));
+            flushedCents.addAndGet(invocation.getArgument(2, BigDecimal.class).movePointRight(2).longValueExact());
+            return 1;
+        });
+        PlayerStatsAggregator aggregator = new PlayerStatsAggregator(repository, mock(PlatformTransactionManager.class));
+        UUID jackpotId = UUID.randomUUID();
+        int bettors = THREADS - 1;
+        int betsPerThread = 2000;
+        AtomicBoolean betting = new AtomicBoolean(true);
+        AtomicInteger finished = new AtomicInteger();
+
+        Race.run(THREADS, thread -> {
+            if (thread == bettors) {
+                // One flusher racing the bettors
+                while (betting.get()) {
+                    aggregator.flush();
+                }
+                return;
+            }
+            for (int i = 0; i < betsPerThread; i++) {
+                PlacedBet bet = PlacedBet.builder()
+                        .jackpotId(jackpotId)
+                        .playerAlias("player-" + (i % 7))
+                        .betAmount(new BigDecimal("1.25"))
+                        .contribution(new BigDecimal("1.25"))
+                        .winAmount(BigDecimal.ZERO)
+                        .build();
+                aggregator.onBetsPlaced(new BetsPlacedEvent(List.of(bet)));
+            }
+            if (finished.incrementAndGet() == bettors) {
+                betting.set(false);
+            }
+        });
+        aggregator.flush();
+
+        assertEquals((long) bettors * betsPerThread, flushedBets.get());
+        assertEquals((long) bettors * betsPerThread * 125, flushedCents.get());
+    }
+
+    // ========== Jackpot Cache Tests ==========
+
+    @Test
+    void testJackpotCache_WithConcurrentChanges_ShouldNeverServeOlderVersion() throws Exception {
+        JackpotCache cache = new JackpotCache(new InMemoryJackpotInvalidationBus(), new JackpotCacheProperties(),
+                new ClusterProperties(), new SimpleMeterRegistry());
+        UUID jackpotId = UUID.randomUUID();
+        AtomicLong row = new AtomicLong();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        int finalVersion = 2000;
+
+        Race.run(THREADS, thread -> {
+            if (thread == 0) {
+                for (int version = 1; version <= finalVersion; version++) {
+                    row.set(version);
+                    cache.changed(jackpotId, version);
+                }
+                writing.set(false);
+                return;
+            }
+            long seen = 0;
+            while (writing.get()) {
+                long version = cache.get(jackpotId, id -> copy(id, row.get())).getCurrentSize().longValue();
+                assertTrue(version >= seen, "read version " + version + " after " + seen);
+                seen = version;
+            }
+        });
+
+        assertEquals(finalVersion, cache.get(jackpotId, id -> copy(id, row.get())).getCurrentSize().longValue());
+    }
+
+    /**
+     * The version doubles as the pot size, so readers can see which copy they were served.
+     */
+    private static VersionedJackpot copy(UUID jackpotId, long version) {
+        JackpotDto jackpot = JackpotDto.builder().id(jackpotId).currentSize(BigDecimal.valueOf(version)).build();
+        return new VersionedJackpot(jackpot, version, System.currentTimeMillis());
+    }
+}
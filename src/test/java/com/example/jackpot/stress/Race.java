@@ -0,0 +1,74 @@
+package com.example.jackpot.stress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Starts a number of threads at the same instant and waits for all of them, in the style of
+ * a jcstress actor group: the body of each thread is given its index, and the first failure
+ * of any thread is rethrown to the test.
+ */
+final class Race {
+
+    private static final long TIMEOUT_SECONDS = 120;
+
+    /**
+     * Body of one racing thread.
+     */
+    interface Actor {
+        void run(int thread) throws Exception;
+    }
+
+    private Race() {
+    }
+
+    /**
+     * @param threads number of threads
+     * @param actor body run by every thread
+     * @return wall-clock nanoseconds from the start signal until the last thread finished
+     * @throws Exception the first failure of any thread
+     */
+    static long run(int threads, Actor actor) throws Exception {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            Thread worker = new Thread(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    actor.run(index);
+                } catch (Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                } finally {
+                    done.countDown();
+                }
+            }, "race-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+        ready.await();
+        long startNanos = System.nanoTime();
+        start.countDown();
+        if (!done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            workers.forEach(Thread::interrupt);
+            throw new AssertionError("Race did not finish within " + TIMEOUT_SECONDS + "s");
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        Throwable thrown = failure.get();
+        if (thrown instanceof Exception ex) {
+            throw ex;
+        }
+        if (thrown instanceof Error error) {
+            throw error;
+        }
+        return elapsed;
+    }
+}